@@ -59,6 +59,20 @@ tasks.test {
     useJUnitPlatform()
 }
 
+// Reference implementations and benchmarks run by hand, kept out of the script jar
+sourceSets {
+    create("bench") {
+        compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+        runtimeClasspath += sourceSets.main.get().output + sourceSets.main.get().runtimeClasspath
+    }
+}
+
+tasks.register<JavaExec>("benchQuestGuideParser") {
+    classpath = sourceSets["bench"].runtimeClasspath
+    mainClass.set("net.botwithus.tasks.QuestGuideParserBench")
+    jvmArgs("--enable-preview")
+}
+
 tasks.withType<KotlinCompile> {
     kotlinOptions.jvmTarget = "20"
 }
\ No newline at end of file
@@ -0,0 +1,384 @@
+package net.botwithus.tasks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import net.botwithus.tasks.QuestDialogFetcher.DialogOption;
+import net.botwithus.tasks.QuestDialogFetcher.DialogSequence;
+import net.botwithus.tasks.QuestDialogFetcher.QuestGuide;
+import net.botwithus.tasks.QuestDialogFetcher.QuestSection;
+import net.botwithus.tasks.QuestDialogFetcher.QuestStep;
+
+/**
+ * Checks QuestGuideParser against the regex parser it replaced and times both, on saved quick guide pages.
+ *
+ * The regex parser below is the one QuestDialogFetcher used before, kept here as the reference rather than
+ * in the script. Run with the saved pages as arguments, e.g. gradlew benchQuestGuideParser --args="page.html".
+ */
+final class QuestGuideParserBench {
+    private static final int ITERATIONS = 20;
+    // Differences printed per page before the rest are only counted
+    private static final int MAX_REPORTED_DIFFERENCES = 10;
+
+    private QuestGuideParserBench() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        boolean identical = true;
+        for (String arg : args) {
+            Path file = Paths.get(arg);
+            String html = Files.readString(file, StandardCharsets.UTF_8);
+            QuestGuide streamed = new QuestGuide(file.getFileName().toString());
+            QuestGuideParser.parse(new StringReader(html), streamed);
+            QuestGuide regex = new QuestGuide(file.getFileName().toString());
+            parseQuestGuideRegex(html, regex);
+            List<String> differences = new ArrayList<>();
+            compare(streamed, regex, differences);
+
+            for (int i = 0; i < ITERATIONS / 2; i++) {
+                QuestGuideParser.parse(new StringReader(html), new QuestGuide("warmup"));
+                parseQuestGuideRegex(html, new QuestGuide("warmup"));
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                QuestGuideParser.parse(new StringReader(html), new QuestGuide("bench"));
+            }
+            double streamedMs = (System.nanoTime() - start) / 1e6 / ITERATIONS;
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                parseQuestGuideRegex(html, new QuestGuide("bench"));
+            }
+            double regexMs = (System.nanoTime() - start) / 1e6 / ITERATIONS;
+
+            System.out.printf("%s (%d KB): streaming %.2f ms, regex %.2f ms | %d sections, %d steps | %s%n",
+                    file.getFileName(), html.length() / 1024, streamedMs, regexMs,
+                    regex.getSections().size(), regex.getTotalSteps(),
+                    differences.isEmpty() ? "identical" : differences.size() + " differences");
+            for (int i = 0; i < Math.min(differences.size(), MAX_REPORTED_DIFFERENCES); i++) {
+                System.out.println("  " + differences.get(i));
+            }
+            identical &= differences.isEmpty();
+        }
+        if (!identical) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Compare two guides section by section, step by step and option by option
+     * @param differences receives a line for each field that differs
+     */
+    static void compare(QuestGuide actual, QuestGuide expected, List<String> differences) {
+        List<QuestSection> actualSections = actual.getSections();
+        List<QuestSection> expectedSections = expected.getSections();
+        check(differences, "section count", actualSections.size(), expectedSections.size());
+        for (int s = 0; s < Math.min(actualSections.size(), expectedSections.size()); s++) {
+            QuestSection actualSection = actualSections.get(s);
+            QuestSection expectedSection = expectedSections.get(s);
+            String sectionPath = "section " + s;
+            check(differences, sectionPath + " name", actualSection.getSectionName(), expectedSection.getSectionName());
+            List<QuestStep> actualSteps = actualSection.getSteps();
+            List<QuestStep> expectedSteps = expectedSection.getSteps();
+            check(differences, sectionPath + " step count", actualSteps.size(), expectedSteps.size());
+            for (int i = 0; i < Math.min(actualSteps.size(), expectedSteps.size()); i++) {
+                QuestStep actualStep = actualSteps.get(i);
+                QuestStep expectedStep = expectedSteps.get(i);
+                String stepPath = sectionPath + " step " + i;
+                check(differences, stepPath + " text", actualStep.getStepText(), expectedStep.getStepText());
+                List<DialogSequence> actualDialogs = actualStep.getDialogs();
+                List<DialogSequence> expectedDialogs = expectedStep.getDialogs();
+                check(differences, stepPath + " dialog count", actualDialogs.size(), expectedDialogs.size());
+                for (int d = 0; d < Math.min(actualDialogs.size(), expectedDialogs.size()); d++) {
+                    DialogSequence actualDialog = actualDialogs.get(d);
+                    DialogSequence expectedDialog = expectedDialogs.get(d);
+                    String dialogPath = stepPath + " dialog " + d;
+                    check(differences, dialogPath + " context", actualDialog.getContext(), expectedDialog.getContext());
+                    List<DialogOption> actualOptions = actualDialog.getOptions();
+                    List<DialogOption> expectedOptions = expectedDialog.getOptions();
+                    check(differences, dialogPath + " option count", actualOptions.size(), expectedOptions.size());
+                    for (int o = 0; o < Math.min(actualOptions.size(), expectedOptions.size()); o++) {
+                        String optionPath = dialogPath + " option " + o;
+                        check(differences, optionPath + " number",
+                                actualOptions.get(o).getOptionNumber(), expectedOptions.get(o).getOptionNumber());
+                        check(differences, optionPath + " text",
+                                actualOptions.get(o).getOptionText(), expectedOptions.get(o).getOptionText());
+                    }
+                }
+            }
+        }
+    }
+
+    private static void check(List<String> differences, String field, Object actual, Object expected) {
+        if (!Objects.equals(actual, expected)) {
+            differences.add(field + ": streaming \"" + actual + "\", regex \"" + expected + "\"");
+        }
+    }
+
+    /**
+     * Parses the HTML content to extract quest sections and steps with regexes over the whole page.
+     */
+    static void parseQuestGuideRegex(String htmlContent, QuestGuide guide) {
+        Pattern sectionPattern = Pattern.compile(
+            "<h2><span class=\"mw-headline\"[^>]*id=\"([^\"]+)\"[^>]*>([^<]+)</span>.*?</h2>",
+            Pattern.DOTALL | Pattern.CASE_INSENSITIVE
+        );
+        Matcher sectionMatcher = sectionPattern.matcher(htmlContent);
+
+        while (sectionMatcher.find()) {
+            String sectionName = QuestDialogFetcher.cleanSectionName(sectionMatcher.group(2));
+            int sectionEnd = sectionMatcher.end();
+
+            String sectionContent;
+            Matcher nextSectionMatcher = sectionPattern.matcher(htmlContent);
+            nextSectionMatcher.region(sectionEnd, htmlContent.length());
+            if (nextSectionMatcher.find()) {
+                sectionContent = htmlContent.substring(sectionEnd, nextSectionMatcher.start());
+            } else {
+                sectionContent = htmlContent.substring(sectionEnd);
+            }
+
+            QuestSection section = new QuestSection(sectionName);
+
+            int searchIdx = 0;
+            String checklistMarker = "<div class=\"lighttable checklist";
+            while (searchIdx < sectionContent.length()) {
+                int divIdx = sectionContent.indexOf(checklistMarker, searchIdx);
+                if (divIdx == -1) break;
+
+                int divOpenEnd = sectionContent.indexOf('>', divIdx);
+                if (divOpenEnd == -1) break;
+
+                String divFragment = sectionContent.substring(divOpenEnd + 1);
+                String checklistContent = extractOuterUlContent(divFragment);
+                if (checklistContent != null && !checklistContent.isEmpty()) {
+                    parseStepsFromChecklist(checklistContent, section);
+                }
+
+                int closingDiv = sectionContent.indexOf("</div>", divOpenEnd);
+                searchIdx = closingDiv != -1 ? closingDiv + 6 : divOpenEnd + 1;
+            }
+
+            if (section.getTotalSteps() > 0) {
+                guide.addSection(section);
+            }
+        }
+    }
+
+    /**
+     * Extracts the top-level <ul>...</ul> block from the provided HTML fragment and returns its inner HTML.
+     * Uses tag depth tracking so nested lists do not prematurely terminate extraction.
+     */
+    private static String extractOuterUlContent(String html) {
+        if (html == null) return "";
+        int ulStart = html.indexOf("<ul");
+        if (ulStart == -1) return "";
+
+        int openTagEnd = html.indexOf('>', ulStart);
+        if (openTagEnd == -1) return "";
+
+        int depth = 1;
+        int index = openTagEnd + 1;
+        Pattern tagPattern = Pattern.compile("<ul[^>]*>|</ul>", Pattern.CASE_INSENSITIVE);
+        Matcher tagMatcher = tagPattern.matcher(html);
+        tagMatcher.region(index, html.length());
+
+        while (tagMatcher.find()) {
+            String tag = tagMatcher.group().toLowerCase();
+            if (tag.startsWith("<ul")) {
+                depth++;
+            } else { 
+                depth--;
+                if (depth == 0) {
+                    return html.substring(openTagEnd + 1, tagMatcher.start());
+                }
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Parses steps from checklist content using improved regex parsing.
+     */
+    private static void parseStepsFromChecklist(String checklistContent, QuestSection section) {
+        String cleanedContent = removeNestedUlBlocks(checklistContent);
+
+        Pattern liPattern = Pattern.compile("<li>(.*?)</li>", Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
+        Matcher matcher = liPattern.matcher(cleanedContent);
+
+        int stepCount = 0;
+        while (matcher.find()) {
+            stepCount++;
+            String stepContent = matcher.group(1);
+
+            if (!stepContent.trim().isEmpty()) {
+                String cleanStepText = extractCleanStepText(stepContent);
+
+                QuestStep step = new QuestStep(cleanStepText);
+                String originalStepHtml = extractOriginalStepHtml(checklistContent, stepContent, stepCount);
+                parseDialogsInStep(originalStepHtml, step);
+
+                section.addStep(step);
+            }
+        }
+    }
+
+    /**
+     * Extracts clean step text by removing dialog elements and other unwanted content.
+     */
+    private static String extractCleanStepText(String stepContent) {
+        if (stepContent == null || stepContent.trim().isEmpty()) {
+            return "";
+        }
+
+        String cleanText = stepContent;
+
+        cleanText = cleanText.replaceAll("<span class=\"chat-options\"[^>]*>.*?</span>", "");
+        cleanText = cleanText.replaceAll("<div[^>]*data-tooltip-for=\"[^\"]+\"[^>]*>.*?</div>", "");
+
+        cleanText = cleanText.replaceAll("<[^>]+>", "");
+
+        cleanText = cleanText.replace("&quot;", "\"")
+                            .replace("&amp;", "&")
+                            .replace("&lt;", "<")
+                            .replace("&gt;", ">")
+                            .replace("&#39;", "'")
+                            .replace("&nbsp;", " ")
+                            .replace("&#x2713;", "✓")
+                            .replace("&#8226;", "•")
+                            .replace("&#8230;", "...")
+                            .replace("&#x27;", "'")
+                            .replace("&#x3A;", ":")
+                            .replace("&#91;", "[")
+                            .replace("&#93;", "]")
+                            .replace("&lsquo;", "'")
+                            .replace("&rsquo;", "'")
+                            .replace("&ldquo;", "\"")
+                            .replace("&rdquo;", "\"")
+                            .replace("&hellip;", "...")
+                            .replace("&mdash;", "—")
+                            .replace("&ndash;", "–")
+                            .replaceAll("&#x([0-9A-Fa-f]+);", "")
+                            .replaceAll("&#([0-9]+);", "");
+
+        cleanText = cleanText.replaceAll("\\s+", " ").trim();
+
+        return cleanText;
+    }
+
+    /**
+     * Removes nested <ul>...</ul> blocks while preserving the main structure.
+     */
+    private static String removeNestedUlBlocks(String content) {
+        if (content == null || !content.contains("<ul")) {
+            return content;
+        }
+
+        String result = content;
+        Pattern nestedUlPattern = Pattern.compile("<ul[^>]*>.*?</ul>", Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
+
+        while (nestedUlPattern.matcher(result).find()) {
+            result = nestedUlPattern.matcher(result).replaceAll("");
+        }
+
+        return result;
+    }
+
+    /**
+     * Extracts the original HTML for a specific step to preserve dialog parsing.
+     */
+    private static String extractOriginalStepHtml(String originalContent, String stepText, int stepNumber) {
+        return stepText;
+    }
+
+    /**
+     * Parses dialog options within a specific step.
+     */
+    private static void parseDialogsInStep(String stepContent, QuestStep step) {
+        Pattern chatOptionsPattern = Pattern.compile(
+            "<span class=\"chat-options\">.*?data-tooltip-name=\"([^\"]+)\".*?</span>",
+            Pattern.DOTALL | Pattern.CASE_INSENSITIVE
+        );
+
+        Pattern tooltipPattern = Pattern.compile(
+            "<div[^>]*data-tooltip-for=\"([^\"]+)\"[^>]*>.*?<table><tbody>(.*?)</tbody></table>.*?</div>",
+            Pattern.DOTALL | Pattern.CASE_INSENSITIVE
+        );
+
+        Pattern tableRowPattern = Pattern.compile(
+            "<tr><td><b>([^<]+)</b></td><td>([^<]+)</td></tr>",
+            Pattern.CASE_INSENSITIVE
+        );
+
+        Pattern sequenceDisplayPattern = Pattern.compile(
+            "<span class=\"chat-options-underline\"[^>]*>([^<]+)</span>",
+            Pattern.CASE_INSENSITIVE
+        );
+
+        Matcher chatMatcher = chatOptionsPattern.matcher(stepContent);
+        while (chatMatcher.find()) {
+            String tooltipName = chatMatcher.group(1);
+            String chatOptionsContent = chatMatcher.group(0);
+
+            List<String> sequenceParts = new ArrayList<>();
+            Matcher seqMatcher = sequenceDisplayPattern.matcher(chatOptionsContent);
+            while (seqMatcher.find()) {
+                String part = seqMatcher.group(1).trim();
+                part = QuestDialogFetcher.cleanOptionText(part);
+                if (!part.isEmpty() && !part.equals("?")) {
+                    sequenceParts.add(part);
+                }
+            }
+
+            if (sequenceParts.isEmpty()) {
+                continue;
+            }
+
+            String sequenceDisplay = String.join(" → ", sequenceParts);
+
+            if (sequenceDisplay.trim().isEmpty() || sequenceDisplay.matches("^[?\\s→]+$")) {
+                continue;
+            }
+
+            Matcher tooltipMatcher = tooltipPattern.matcher(stepContent);
+            while (tooltipMatcher.find()) {
+                String divTooltipName = tooltipMatcher.group(1);
+
+                if (divTooltipName.equals(tooltipName)) {
+                    String tableContent = tooltipMatcher.group(2);
+
+                    DialogSequence dialogSeq = new DialogSequence("Step dialog: " + sequenceDisplay);
+
+                    Matcher rowMatcher = tableRowPattern.matcher(tableContent);
+                    while (rowMatcher.find()) {
+                        String optionNum = rowMatcher.group(1).trim();
+                        String optionText = rowMatcher.group(2).trim();
+
+                        optionNum = QuestDialogFetcher.cleanOptionText(optionNum);
+                        optionText = QuestDialogFetcher.cleanOptionText(optionText);
+
+                        if (optionNum.equals("?") || optionNum.isEmpty() || 
+                            optionText.equals("?") || optionText.isEmpty()) {
+                            continue;
+                        }
+
+                        dialogSeq.addOption(new DialogOption(optionNum, optionText));
+                    }
+
+                    if (!dialogSeq.getOptions().isEmpty()) {
+                        step.addDialog(dialogSeq);
+                    }
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package net.botwithus;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import net.botwithus.CoaezUtility.BotState;
+
+/**
+ * Routes chat messages to the handlers that registered a phrase for them.
+ *
+ * Every registered phrase is compiled into one Aho-Corasick automaton, so a message is scanned once
+ * no matter how many routes exist. A route matches when its phrase appears anywhere in the message
+ * (the same as String.contains) and can be limited to a single BotState.
+ * Routes are registered from the script thread and dispatched from the event thread; each registration
+ * publishes a freshly compiled automaton so dispatch never locks.
+ */
+public class ChatRouter {
+    private static final Log LOG = Log.get("ChatRouter");
+
+    private final List<Route> routes = new ArrayList<>();
+    private volatile Automaton automaton = Automaton.compile(new ArrayList<>());
+
+    /**
+     * Handle messages containing a phrase, whatever the current state
+     */
+    public void register(String phrase, Consumer<String> handler) {
+        register(phrase, null, handler);
+    }
+
+    /**
+     * Handle messages containing a phrase while the script is in the given state
+     * @param state the state the route is active in, or null for every state
+     */
+    public synchronized void register(String phrase, BotState state, Consumer<String> handler) {
+        if (phrase == null || phrase.isEmpty()) {
+            throw new IllegalArgumentException("Chat route phrase must not be empty");
+        }
+        routes.add(new Route(phrase, state, handler));
+        automaton = Automaton.compile(routes);
+        LOG.debug(() -> "Registered chat route \"" + phrase + "\"" + (state != null ? " for " + state : ""));
+    }
+
+    /**
+     * Run every route whose phrase appears in the message, in registration order.
+     * A handler runs at most once per message even if several of its phrases match.
+     */
+    public void dispatch(String message, BotState currentState) {
+        if (message == null || message.isEmpty()) {
+            return;
+        }
+        Automaton current = automaton;
+        boolean[] matched = current.match(message);
+        if (matched == null) {
+            return;
+        }
+        List<Consumer<String>> called = new ArrayList<>(2);
+        for (int i = 0; i < matched.length; i++) {
+            if (!matched[i]) {
+                continue;
+            }
+            Route route = current.routes[i];
+            if (route.state != null && route.state != currentState) {
+                continue;
+            }
+            if (!called.contains(route.handler)) {
+                called.add(route.handler);
+                try {
+                    route.handler.accept(message);
+                } catch (RuntimeException e) {
+                    LOG.error("Chat route \"" + route.phrase + "\" failed", e);
+                }
+            }
+        }
+    }
+
+    private static final class Route {
+        private final String phrase;
+        private final BotState state;
+        private final Consumer<String> handler;
+
+        private Route(String phrase, BotState state, Consumer<String> handler) {
+            this.phrase = phrase;
+            this.state = state;
+            this.handler = handler;
+        }
+    }
+
+    /**
+     * Immutable Aho-Corasick automaton over the route phrases
+     */
+    private static final class Automaton {
+        private final Route[] routes;
+        private final List<Map<Character, Integer>> transitions;
+        private final int[] fail;
+        // Route indexes ending at each node, including those reached through fail links
+        private final int[][] outputs;
+
+        private Automaton(Route[] routes, List<Map<Character, Integer>> transitions, int[] fail, int[][] outputs) {
+            this.routes = routes;
+            this.transitions = transitions;
+            this.fail = fail;
+            this.outputs = outputs;
+        }
+
+        static Automaton compile(List<Route> routeList) {
+            Route[] routes = routeList.toArray(new Route[0]);
+            List<Map<Character, Integer>> transitions = new ArrayList<>();
+            List<List<Integer>> terminals = new ArrayList<>();
+            transitions.add(new HashMap<>());
+            terminals.add(new ArrayList<>());
+
+            for (int i = 0; i < routes.length; i++) {
+                int node = 0;
+                for (char c : routes[i].phrase.toCharArray()) {
+                    Integer next = transitions.get(node).get(c);
+                    if (next == null) {
+                        next = transitions.size();
+                        transitions.add(new HashMap<>());
+                        terminals.add(new ArrayList<>());
+                        transitions.get(node).put(c, next);
+                    }
+                    node = next;
+                }
+                terminals.get(node).add(i);
+            }
+
+            int[] fail = new int[transitions.size()];
+            int[][] outputs = new int[transitions.size()][];
+            outputs[0] = toArray(terminals.get(0));
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            for (int child : transitions.get(0).values()) {
+                fail[child] = 0;
+                outputs[child] = toArray(terminals.get(child));
+                queue.add(child);
+            }
+            // Breadth-first so every fail target is finished before the nodes that point at it
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                for (Map.Entry<Character, Integer> edge : transitions.get(node).entrySet()) {
+                    char c = edge.getKey();
+                    int child = edge.getValue();
+                    int f = fail[node];
+                    while (f != 0 && !transitions.get(f).containsKey(c)) {
+                        f = fail[f];
+                    }
+                    Integer target = transitions.get(f).get(c);
+                    fail[child] = target != null && target != child ? target : 0;
+                    outputs[child] = merge(toArray(terminals.get(child)), outputs[fail[child]]);
+                    queue.add(child);
+                }
+            }
+            return new Automaton(routes, transitions, fail, outputs);
+        }
+
+        /**
+         * @return which routes matched, indexed like the routes array, or null if none did
+         */
+        boolean[] match(String message) {
+            if (routes.length == 0) {
+                return null;
+            }
+            boolean[] matched = null;
+            int node = 0;
+            for (int i = 0; i < message.length(); i++) {
+                char c = message.charAt(i);
+                Integer next = transitions.get(node).get(c);
+                while (next == null && node != 0) {
+                    node = fail[node];
+                    next = transitions.get(node).get(c);
+                }
+                node = next != null ? next : 0;
+                for (int route : outputs[node]) {
+                    if (matched == null) {
+                        matched = new boolean[routes.length];
+                    }
+                    matched[route] = true;
+                }
+            }
+            return matched;
+        }
+
+        private static int[] toArray(List<Integer> values) {
+            int[] result = new int[values.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = values.get(i);
+            }
+            return result;
+        }
+
+        private static int[] merge(int[] own, int[] inherited) {
+            if (inherited.length == 0) {
+                return own;
+            }
+            int[] result = Arrays.copyOf(own, own.length + inherited.length);
+            System.arraycopy(inherited, 0, result, own.length, inherited.length);
+            return result;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package net.botwithus;
 
 import java.util.Random;
+import java.util.function.Consumer;
 
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.internal.scripts.ScriptDefinition;
@@ -9,11 +10,9 @@ import net.botwithus.model.Disassembly;
 import net.botwithus.model.POSD;
 import net.botwithus.rs3.events.impl.ChatMessageEvent;
 import net.botwithus.rs3.events.impl.InventoryUpdateEvent;
-import net.botwithus.rs3.game.Client;
 import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
 import net.botwithus.rs3.script.Execution;
 import net.botwithus.rs3.script.LoopingScript;
-import net.botwithus.rs3.script.ScriptConsole;
 import net.botwithus.rs3.script.config.ScriptConfig;
 import net.botwithus.tasks.AlchemyTask;
 import net.botwithus.tasks.BeachEventTask;
@@ -42,6 +41,7 @@ import net.botwithus.tasks.POSDTask;
 import net.botwithus.tasks.PenguinTrackingTask;
 import net.botwithus.tasks.PortableTask;
 import net.botwithus.tasks.PowderOfBurialsTask;
+import net.botwithus.tasks.QuestGuidePrefetcher;
 import net.botwithus.tasks.QuestHelper;
 import net.botwithus.tasks.SandyCluesTask;
 import net.botwithus.tasks.ScreenMeshTask;
@@ -52,67 +52,56 @@ import net.botwithus.tasks.SimpleCombatTask;
 import net.botwithus.tasks.SiphonTarget;
 import net.botwithus.tasks.SoftClayTask;
 import net.botwithus.tasks.SummerPinata;
+import net.botwithus.tasks.SteppedTask;
+import net.botwithus.tasks.Task;
+import net.botwithus.tasks.TaskStep;
+import net.botwithus.tasks.TickContext;
 import net.botwithus.tasks.TeleportToCamelot;
 import net.botwithus.tasks.TurnInSqirkjuiceTask;
+import net.botwithus.tasks.sorceressgarden.GardenScheduler;
 import net.botwithus.tasks.sorceressgarden.SorceressGardenTask;
 
 public class CoaezUtility extends LoopingScript {
+    private static final Log LOG = Log.get("CoaezUtility");
     private BotState botState = BotState.SORCERESS_GARDEN;
     private Random random = new Random();
     private ScriptConfig config;
     private volatile boolean noBonesLeft = false;
+    // Between onActivation and onDeactivation
+    private volatile boolean activated;
     private boolean waitingForPreset = false;
     private boolean presetLoaded = false;
+    private BotState lastLoggedState;
+
+    // Tick budgets for tasks that legitimately block on long crafting/travel waits
+    private static final long CRAFTING_TICK_BUDGET_MS = 15000;
+    private static final long TRAVEL_TICK_BUDGET_MS = 35000;
+    /** Longest a waiting stepped task holds the loop before the safety checks run again */
+    private static final long SAFETY_CHECK_INTERVAL_MS = 600;
+
+    // Pending wake-up of the current stepped task
+    private TaskStep pendingStep;
+    private BotState pendingStepState;
+    private long pendingStepIssuedAt;
+
+    private final TaskRegistry taskRegistry = new TaskRegistry();
+    private final StartupReport startupReport = new StartupReport();
+    private final ChatRouter chatRouter = new ChatRouter();
+    private final InventoryTracker inventoryTracker = new InventoryTracker();
+    private final JobScheduler jobScheduler = new JobScheduler(this);
+    private final GardenScheduler gardenScheduler = new GardenScheduler();
+    private final QuestGuidePrefetcher questGuidePrefetcher = new QuestGuidePrefetcher();
     
     // Model instances
     private final Alchemy alchemy;
     private final Disassembly disassembly;
     private final POSD posd;
-    private final QuestHelper questHelper;
     
-    // Task instances
-    private final PowderOfBurialsTask powderOfBurialsTask;
-    private final SiftSoilTask siftSoilTask;
-    private final ScreenMeshTask screenMeshTask;
-    private final AlchemyTask alchemyTask;
-    private final DisassemblyTask disassemblyTask;
-    private final GemCraftingTask gemCraftingTask;
-    private final POSDTask posdTask;
-    private final InventionTask inventionTask;
-    private final EnchantingTask enchantingTask;
+    // Tasks that run every tick regardless of state
     private final DrinkPerfectPlusJujuTask drinkPerfectPlusJujuTask;
-    private final FungalBowstrings fungalBowstringsTask;
-    private final PortableTask portableTask;
-    //private final SmithingTask smithingTask;
-    private final SheepShearingTask sheepShearingTask;
-    private final PenguinTrackingTask penguinTrackingTask;
-    private final BeachEventTask beachEventTask;
-    private final SoftClayTask softClayTask;
-    private final LimestoneTask limestoneTask;
-    private final LimestoneBrickTask limestoneBrickTask;
-    private final MapNavigatorTask mapNavigatorTask;
-    private final DeployDummyTask deployDummyTask;
-    private final SandyCluesTask sandyCluesTask;
-    private final SummerPinata summerPinata;
-    private final TeleportToCamelot southFeldipeHillsTeleportTask;
-    private final SorceressGardenTask sorceressGardenTask;
-    private final BeerCraftingTask beerCraftingTask;
-    private final CreateSqirkJuiceTask winterSqirkjuiceTask;
-    private final TurnInSqirkjuiceTask turnInSqirkjuiceTask;
-    private final ClayUrnTask clayUrnTask;
-    private final GnomeShopTask gnomeShopTask;
-    private final SiphonTarget siphonTarget;
-    private final SimpleCombatTask simpleCombatTask;
-    private final MonsterCombatTask monsterCombatTask;
-    private final ChaosBones chaosBones;
-    private final ShopDisassemblyTask shopDisassemblyTask;
-    private final BuyBucketsWaterTask buyBucketsWaterTask;
-    private final InventionGizmoTask inventionGizmoTask;
-    private final FlaxPickerTask flaxPickerTask;
-    private final NearbyNPCTrackerTask nearbyNPCTrackerTask;
+    
     // GUI reference
     private CoaezUtilityGUI gui;
-    private final NPCLoggerTask npcLoggerTask;
 
     public enum BotState {
         IDLE,
@@ -162,54 +151,67 @@ public class CoaezUtility extends LoopingScript {
     public CoaezUtility(String s, ScriptConfig scriptConfig, ScriptDefinition scriptDefinition) {
         super(s, scriptConfig, scriptDefinition);
         this.config = scriptConfig;
-
-        this.alchemy = new Alchemy(this);
-        this.disassembly = new Disassembly(this);
-        this.posd = new POSD(this);
-        this.questHelper = new QuestHelper(this);
-        
-        // Initialize tasks
-        this.powderOfBurialsTask = new PowderOfBurialsTask(this);
-        this.siftSoilTask = new SiftSoilTask(this);
-        this.screenMeshTask = new ScreenMeshTask(this);
-        this.alchemyTask = new AlchemyTask(this);
-        this.disassemblyTask = new DisassemblyTask(this);
-        this.gemCraftingTask = new GemCraftingTask(this);
-        this.posdTask = new POSDTask(this);
-        this.inventionTask = new InventionTask(this);
-        this.enchantingTask = new EnchantingTask(this);
-        this.drinkPerfectPlusJujuTask = new DrinkPerfectPlusJujuTask(this);
-        this.fungalBowstringsTask = new FungalBowstrings(this);
-        this.portableTask = new PortableTask(this);
+        applyLogLevel();
+
+        this.alchemy = startupReport.time("Alchemy", () -> new Alchemy(this));
+        this.disassembly = startupReport.time("Disassembly", () -> new Disassembly(this));
+        this.posd = startupReport.time("POSD", () -> new POSD(this));
+        this.drinkPerfectPlusJujuTask = startupReport.time("Perfect plus juju", () -> new DrinkPerfectPlusJujuTask(this));
+
+        Consumer<String> outOfBones = message -> noBonesLeft = true;
+        chatRouter.register("You don't have any left!", outOfBones);
+        chatRouter.register("You don't have any bones", outOfBones);
+        chatRouter.register("Your preset is being withdrawn", message -> {
+            if (waitingForPreset) {
+                presetLoaded = true;
+            }
+        });
+
+        // Register tasks; each one is only constructed the first time it is needed
+        taskRegistry.register(BotState.POWDER_OF_BURIALS, "Powder of burials", () -> new PowderOfBurialsTask(this));
+        taskRegistry.register(BotState.SIFT_SOIL, "Sift soil", () -> new SiftSoilTask(this));
+        taskRegistry.register(BotState.SCREEN_MESH, "Screen mesh", () -> new ScreenMeshTask(this));
+        taskRegistry.register(BotState.ALCHEMY, "Alchemy", () -> new AlchemyTask(this));
+        taskRegistry.register(BotState.DISASSEMBLY, "Disassembly", () -> new DisassemblyTask(this));
+        taskRegistry.register(BotState.GEM_CRAFTING, "Gem crafting", CRAFTING_TICK_BUDGET_MS, () -> new GemCraftingTask(this));
+        taskRegistry.register(BotState.POSD, "POSD", () -> new POSDTask(this));
+        taskRegistry.register(BotState.INVENTION, "Invention", () -> new InventionTask(this));
+        taskRegistry.register(BotState.ENCHANTING, "Enchanting", CRAFTING_TICK_BUDGET_MS, () -> new EnchantingTask(this));
+        taskRegistry.register(BotState.FUNGAL_BOWSTRINGS, "Fungal bowstrings", CRAFTING_TICK_BUDGET_MS, () -> new FungalBowstrings(this));
+        taskRegistry.register(BotState.PORTABLES, "Portables", CRAFTING_TICK_BUDGET_MS, () -> new PortableTask(this));
         //this.smithingTask = new SmithingTask(this);
-        this.sheepShearingTask = new SheepShearingTask(this);
-        this.penguinTrackingTask = new PenguinTrackingTask(this);
-        this.beachEventTask = new BeachEventTask(this);
-        this.softClayTask = new SoftClayTask(this);
-        this.limestoneTask = new LimestoneTask(this);
-        this.limestoneBrickTask = new LimestoneBrickTask(this);
-        this.mapNavigatorTask = new MapNavigatorTask(this);
-        this.deployDummyTask = new DeployDummyTask(this);
-        this.sandyCluesTask = new SandyCluesTask(this);
-        this.summerPinata = new SummerPinata(this);
-        this.southFeldipeHillsTeleportTask = new TeleportToCamelot(this);
-        this.sorceressGardenTask = new SorceressGardenTask(this);
-        this.beerCraftingTask = new BeerCraftingTask(this);
-        this.winterSqirkjuiceTask = new CreateSqirkJuiceTask(this);
-        this.turnInSqirkjuiceTask = new TurnInSqirkjuiceTask(this);
-        this.clayUrnTask = new ClayUrnTask(this);
-        this.gnomeShopTask = new GnomeShopTask(this);
-        this.npcLoggerTask = new NPCLoggerTask(this);
-        this.siphonTarget = new SiphonTarget();
-        this.simpleCombatTask = new SimpleCombatTask();
-        this.monsterCombatTask = new MonsterCombatTask();
-        this.chaosBones = new ChaosBones();
-        this.shopDisassemblyTask = new ShopDisassemblyTask(this);
-        this.buyBucketsWaterTask = new BuyBucketsWaterTask(this);
-        this.inventionGizmoTask = new InventionGizmoTask(this);
-        this.flaxPickerTask = new FlaxPickerTask(this);
-        this.nearbyNPCTrackerTask = new NearbyNPCTrackerTask();
-        this.sgc = new CoaezUtilityGUI(this.getConsole(), this);
+        taskRegistry.register(BotState.SHEEP_SHEARING, "Sheep shearing", () -> new SheepShearingTask(this));
+        taskRegistry.register(BotState.PENGUIN_TRACKING, "Penguin tracking", () -> new PenguinTrackingTask(this));
+        taskRegistry.register(BotState.BEACH_EVENT, "Beach event", () -> new BeachEventTask(this));
+        taskRegistry.register(BotState.SOFTCLAY, "Soft clay", CRAFTING_TICK_BUDGET_MS, () -> new SoftClayTask(this));
+        taskRegistry.register(BotState.LIMESTONE, "Limestone", () -> new LimestoneTask(this));
+        taskRegistry.register(BotState.LIMESTONE_BRICK, "Limestone brick", CRAFTING_TICK_BUDGET_MS, () -> new LimestoneBrickTask(this));
+        taskRegistry.register(BotState.QUESTS, "Quests helper", () -> new QuestHelper(this));
+        taskRegistry.register(BotState.MAP_NAVIGATOR, "Map navigator", TRAVEL_TICK_BUDGET_MS, () -> new MapNavigatorTask(this));
+        taskRegistry.register(BotState.DEPLOY_DUMMY, "Deploy dummy", () -> new DeployDummyTask(this));
+        taskRegistry.register(BotState.SANDY_CLUES, "Sandy clues", () -> new SandyCluesTask(this));
+        taskRegistry.register(BotState.SUMMER_PINATA, "Attack/deploy pinata", () -> new SummerPinata(this));
+        taskRegistry.register(BotState.SOUTH_FELDIPE_HILLS_TELEPORT, "Teleport to Camelot", TRAVEL_TICK_BUDGET_MS, () -> new TeleportToCamelot(this));
+        taskRegistry.register(BotState.SORCERESS_GARDEN, "Sorceress Garden", TRAVEL_TICK_BUDGET_MS, () -> new SorceressGardenTask(this));
+        taskRegistry.register(BotState.BEER_CRAFTING, "Beer crafting", CRAFTING_TICK_BUDGET_MS, () -> new BeerCraftingTask(this));
+        taskRegistry.register(BotState.WINTER_SQIRKJUICE, "Winter Sq'irkjuice", CRAFTING_TICK_BUDGET_MS, () -> new CreateSqirkJuiceTask(this));
+        taskRegistry.register(BotState.TURN_IN_SQIRKJUICE, "Turn in Sq'irkjuice", TRAVEL_TICK_BUDGET_MS, () -> new TurnInSqirkjuiceTask(this));
+        taskRegistry.register(BotState.CLAY_URN, "Clay urn", CRAFTING_TICK_BUDGET_MS, () -> new ClayUrnTask(this));
+        taskRegistry.register(BotState.GNOME_SHOP, "Gnome shop", () -> new GnomeShopTask(this));
+        taskRegistry.register(BotState.NPC_LOGGER, "NPC logger", () -> new NPCLoggerTask(this));
+        taskRegistry.register(BotState.SIPHON_TARGET, "Siphon target", TRAVEL_TICK_BUDGET_MS, SiphonTarget::new);
+        taskRegistry.register(BotState.SIMPLE_COMBAT, "Simple combat", SimpleCombatTask::new);
+        taskRegistry.register(BotState.MONSTER_COMBAT, "Monster combat", MonsterCombatTask::new);
+        taskRegistry.register(BotState.CHAOS_BONES, "Chaos bones", ChaosBones::new);
+        taskRegistry.register(BotState.SHOP_DISASSEMBLY, "Shop disassembly", () -> new ShopDisassemblyTask(this));
+        taskRegistry.register(BotState.BUY_BUCKETS_WATER, "Buy buckets of water", () -> new BuyBucketsWaterTask(this));
+        taskRegistry.register(BotState.INVENTION_GIZMO, "Invention gizmo crafting", CRAFTING_TICK_BUDGET_MS, () -> new InventionGizmoTask(this));
+        taskRegistry.register(BotState.FLAX_PICKER, "Flax picker", () -> new FlaxPickerTask(this));
+        taskRegistry.register(BotState.NEARBY_NPC_TRACKER, "Nearby NPC tracker", NearbyNPCTrackerTask::new);
+        // Warm the guide cache once the quest helper is loaded; while the script is stopped this does nothing
+        // and onActivation prefetches instead
+        taskRegistry.whenCreated(BotState.QUESTS, QuestHelper.class, QuestHelper::prefetchQuestGuides);
+        this.sgc = startupReport.time("GUI", () -> new CoaezUtilityGUI(this.getConsole(), this));
     }
 
     public BotState getBotState() {
@@ -220,6 +222,30 @@ public class CoaezUtility extends LoopingScript {
         this.botState = botState;
     }
 
+    public TaskRegistry getTaskRegistry() {
+        return taskRegistry;
+    }
+
+    public ChatRouter getChatRouter() {
+        return chatRouter;
+    }
+
+    public InventoryTracker getInventoryTracker() {
+        return inventoryTracker;
+    }
+
+    public JobScheduler getJobScheduler() {
+        return jobScheduler;
+    }
+
+    public GardenScheduler getGardenScheduler() {
+        return gardenScheduler;
+    }
+
+    public QuestGuidePrefetcher getQuestGuidePrefetcher() {
+        return questGuidePrefetcher;
+    }
+
     public ScriptConfig getConfig() {
         return config;
     }
@@ -247,6 +273,13 @@ public class CoaezUtility extends LoopingScript {
     public boolean isNoBonesLeft() {
         return noBonesLeft;
     }
+
+    /**
+     * Whether the script has been started and not stopped since
+     */
+    public boolean isActivated() {
+        return activated;
+    }
     
     public void setNoBonesLeft(boolean noBonesLeft) {
         this.noBonesLeft = noBonesLeft;
@@ -255,29 +288,52 @@ public class CoaezUtility extends LoopingScript {
     @Override
     public void onActivation() {
         super.onActivation();
-        ScriptConsole.println("CoaezUtility script activated!");
-        ScriptConsole.println("Current bot state: " + botState);
+        Log.start();
+        WaitScheduler.reset();
+        inventoryTracker.resync();
+        LOG.info("CoaezUtility script activated!");
+        LOG.info(() -> "Current bot state: " + botState);
+        startupReport.print(taskRegistry);
         sgc.setOpen(true);
         subscribe(ChatMessageEvent.class, this::onChatMessage);
         subscribe(InventoryUpdateEvent.class, this::onInventoryUpdate);
+        activated = true;
+        // A quest helper opened while the script was stopped skipped its prefetch
+        QuestHelper questHelper = taskRegistry.peekTask(BotState.QUESTS, QuestHelper.class);
+        if (questHelper != null) {
+            questHelper.prefetchQuestGuides();
+        }
     }
 
     @Override
     public void onDeactivation() {
         super.onDeactivation();
-        ScriptConsole.println("CoaezUtility script deactivated!");
+        LOG.info("CoaezUtility script deactivated!");
+        activated = false;
+        WaitScheduler.cancelAll();
+        questGuidePrefetcher.cancel();
+        SorceressGardenTask gardenTask = taskRegistry.peekTask(BotState.SORCERESS_GARDEN, SorceressGardenTask.class);
+        if (gardenTask != null) {
+            gardenTask.onDeactivation();
+        }
+        resetSteppedTask();
         sgc.setOpen(false);
         unsubscribeAll();
+        Log.stop();
     }
 
     @Override
     public void onLoop() {
         try {
-            LocalPlayer player = Client.getLocalPlayer();
-            ScriptConsole.println("Current bot state: " + botState);
+            TickSnapshot.beginTick();
+            LocalPlayer player = TickSnapshot.player();
+            if (botState != lastLoggedState) {
+                LOG.info(() -> "Current bot state: " + botState);
+                lastLoggedState = botState;
+            }
 
             if (player == null) {
-                ScriptConsole.println("Player is null, waiting...");
+                LOG.info("Player is null, waiting...");
                 Execution.delay(1200);
                 return;
             }
@@ -287,211 +343,99 @@ public class CoaezUtility extends LoopingScript {
                 return;
             }
 
+            inventoryTracker.verify();
             drinkPerfectPlusJujuTask.execute();
+            jobScheduler.onTick();
+            if (pendingStepState != null && pendingStepState != botState) {
+                resetSteppedTask();
+            }
 
-            switch (botState) {
-                case IDLE -> ScriptConsole.println("Bot is idle");
-                case ALCHEMY -> {
-                    ScriptConsole.println("Executing alchemy task");
-                    alchemyTask.execute();
-                }
-                case DISASSEMBLY -> {
-                    ScriptConsole.println("Executing disassembly task");
-                    disassemblyTask.execute();
-                }
-                case POWDER_OF_BURIALS -> {
-                    ScriptConsole.println("Executing powder of burials task");
-                    powderOfBurialsTask.execute();
-                }
-                case SIFT_SOIL -> {
-                    ScriptConsole.println("Executing sift soil task");
-                    siftSoilTask.execute();
-                }
-                case SCREEN_MESH -> {
-                    ScriptConsole.println("Executing screen mesh task");
-                    screenMeshTask.execute();
-                }
-                case GEM_CRAFTING -> {
-                    ScriptConsole.println("Executing gem crafting task");
-                    gemCraftingTask.execute();
-                }
-                case POSD -> {
-                    ScriptConsole.println("Executing POSD task");
-                    posdTask.execute();
-                }
-                case INVENTION -> {
-                    ScriptConsole.println("Executing invention task");
-                    inventionTask.execute();
-                }
-                case ENCHANTING -> {
-                    ScriptConsole.println("Executing enchanting task");
-                    enchantingTask.execute();
-                }
-                case FUNGAL_BOWSTRINGS -> {
-                    ScriptConsole.println("Executing fungal bowstrings task");
-                    fungalBowstringsTask.execute();
-                }
-                case PORTABLES -> {
-                    ScriptConsole.println("Executing portables task");
-                    portableTask.execute();
-                }
-                case SHEEP_SHEARING -> {
-                    ScriptConsole.println("Executing sheep shearing task");
-                    sheepShearingTask.execute();
-                }
-                case PENGUIN_TRACKING -> {
-                    ScriptConsole.println("Executing penguin tracking task");
-                    penguinTrackingTask.execute();
-                }
-                case BEACH_EVENT -> {
-                    ScriptConsole.println("Executing beach event task");
-                    beachEventTask.execute();
-                }
-                case SOFTCLAY -> {
-                    ScriptConsole.println("Executing soft clay task");
-                    softClayTask.execute();
-                }
-                case LIMESTONE -> {
-                    ScriptConsole.println("Executing limestone task");
-                    limestoneTask.execute();
-                }
-                case LIMESTONE_BRICK -> {
-                    ScriptConsole.println("Executing limestone brick task");
-                    limestoneBrickTask.execute();
-                }
-                case QUESTS -> {
-                    ScriptConsole.println("Executing quests helper");
-                    questHelper.execute();
-                }
-                case MAP_NAVIGATOR -> {
-                    ScriptConsole.println("Executing map navigator task");
-                    mapNavigatorTask.execute();
-                }
-                case DEPLOY_DUMMY -> {
-                    ScriptConsole.println("Executing deploy dummy task");
-                    deployDummyTask.execute();
-                }
-                case SANDY_CLUES -> {
-                    ScriptConsole.println("Executing sandy clues task");
-                    sandyCluesTask.execute();
-                }
-                case SUMMER_PINATA -> {
-                    ScriptConsole.println("Executing attack deploy task");
-                    summerPinata.execute();
-                }
-                case SOUTH_FELDIPE_HILLS_TELEPORT -> {
-                    ScriptConsole.println("Executing south Feldip Hills teleport task");
-                    southFeldipeHillsTeleportTask.execute();
-                }
-                case SORCERESS_GARDEN -> {
-                    ScriptConsole.println("Executing Sorceress Garden task");
-                    sorceressGardenTask.execute();
-                }
-                case NPC_LOGGER -> {
-                    ScriptConsole.println("Executing NPC Logger task");
-                    npcLoggerTask.execute();
-                }
-                case BEER_CRAFTING -> {
-                    ScriptConsole.println("Executing beer crafting task");
-                    beerCraftingTask.execute();
-                }
-                case WINTER_SQIRKJUICE -> {
-                    ScriptConsole.println("Executing Winter Sq'irkjuice task");
-                    winterSqirkjuiceTask.execute();
-                }
-                case TURN_IN_SQIRKJUICE -> {
-                    ScriptConsole.println("Executing Turn In Sq'irkjuice task");
-                    turnInSqirkjuiceTask.execute();
-                }
-                case CLAY_URN -> {
-                    ScriptConsole.println("Executing Clay Urn task");
-                    clayUrnTask.execute();
-                }
-                case GNOME_SHOP -> {
-                    ScriptConsole.println("Executing Gnome Shop task");
-                    gnomeShopTask.execute();
-                }
-                case SIPHON_TARGET -> {
-                    ScriptConsole.println("Executing SiphonTarget task");
-                    siphonTarget.execute();
-                }
-                case SIMPLE_COMBAT -> {
-                    ScriptConsole.println("Executing Simple Combat task");
-                    simpleCombatTask.execute();
-                }
-                case MONSTER_COMBAT -> {
-                    ScriptConsole.println("Executing Monster Combat task");
-                    monsterCombatTask.execute();
-                }
-                case CHAOS_BONES -> {
-                    ScriptConsole.println("Executing chaos bones");
-                    chaosBones.execute();
-                }
-                case SHOP_DISASSEMBLY -> {
-                    ScriptConsole.println("Executing shop disassembly");
-                    shopDisassemblyTask.execute();
-                }
-                case BUY_BUCKETS_WATER -> {
-                    ScriptConsole.println("Executing buy buckets of water");
-                    buyBucketsWaterTask.execute();
-                }
-                case INVENTION_GIZMO -> {
-                    ScriptConsole.println("Executing invention gizmo crafting");
-                    inventionGizmoTask.execute();
-                }
-                case FLAX_PICKER -> {
-                    ScriptConsole.println("Executing flax picker task");
-                    flaxPickerTask.execute();
-                }
-                case NEARBY_NPC_TRACKER -> {
-                    ScriptConsole.println("Executing nearby NPC tracker task");
-                    nearbyNPCTrackerTask.execute();
-                }
-                case STOPPED -> stopScript();
-                default -> ScriptConsole.println("Unknown bot state: " + botState);
+            if (botState == BotState.STOPPED) {
+                stopScript();
+                return;
+            }
+
+            TaskRegistry.Entry entry = taskRegistry.get(botState);
+            if (entry == null || !entry.isEnabled()) {
+                return;
+            }
+
+            Task task = entry.getTask();
+            if (task instanceof SteppedTask && pendingStep != null && pendingStepState == botState
+                    && !pendingStep.isDue(pendingStepIssuedAt)) {
+                // Wait in short slices so the health check and juju upkeep above keep running
+                pendingStep.awaitSlice(pendingStepIssuedAt, SAFETY_CHECK_INTERVAL_MS);
+                return;
+            }
+
+            TickProfiler.beginTick(botState);
+            long elapsedMs;
+            try {
+                if (task instanceof SteppedTask stepped) {
+                    // Cleared first so a step that throws is retried on the next loop
+                    pendingStep = null;
+                    pendingStep = stepped.step(new TickContext(System.currentTimeMillis(), player));
+                    pendingStepState = botState;
+                    pendingStepIssuedAt = System.currentTimeMillis();
+                } else {
+                    task.execute();
+                }
+            } finally {
+                elapsedMs = TickProfiler.endTick();
+            }
+            jobScheduler.onTaskRan(botState);
+            if (entry.recordTick(elapsedMs)) {
+                LOG.warn(() -> entry.getName() + " tick took " + elapsedMs + "ms (budget " + entry.getTickBudgetMs() + "ms)");
             }
         } catch (Exception e) {
-            ScriptConsole.println("Error in main loop: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error in main loop", e);
             Execution.delay(100);
         }
     }
 
+    /**
+     * Drop the pending step and let the stepped task that issued it forget its half-finished interaction
+     */
+    private void resetSteppedTask() {
+        if (pendingStepState != null) {
+            Task previous = taskRegistry.peekTask(pendingStepState, Task.class);
+            if (previous instanceof SteppedTask stepped) {
+                stepped.reset();
+            }
+        }
+        pendingStep = null;
+        pendingStepState = null;
+    }
+
+    /**
+     * Apply the "logLevel" config property, e.g. DEBUG to see per-tick detail or WARN to keep the console quiet
+     */
+    private void applyLogLevel() {
+        config.load();
+        String logLevel = config.getProperty("logLevel");
+        if (logLevel == null) {
+            return;
+        }
+        try {
+            Log.setDefaultLevel(Log.Level.valueOf(logLevel.toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            LOG.warn(() -> "Unknown log level in config: " + logLevel);
+        }
+    }
+
     private void stopScript() {
         setActive(false);
     }
 
     private void onChatMessage(ChatMessageEvent event) {
-        String message = event.getMessage();
-        if (message.contains("You don't have any left!") || message.contains("You don't have any bones")) {
-            noBonesLeft = true;
-        }
-        if (waitingForPreset && message.contains("Your preset is being withdrawn")) {
-            presetLoaded = true;
-        }
-        
-        if (botState == BotState.BEACH_EVENT) {
-            beachEventTask.handleBattleshipMessage(message);
-        }
+        chatRouter.dispatch(event.getMessage(), botState);
+        WaitScheduler.signal();
     }
 
     private void onInventoryUpdate(InventoryUpdateEvent event) {
-        if (botState != BotState.CLAY_URN) return;
-        var oldItem = event.getOldItem();
-        var newItem = event.getNewItem();
-        // Check if an urn was added to this slot
-        if (newItem != null && newItem.getName() != null && newItem.getName().toLowerCase().contains("urn")) {
-            boolean wasNotUrn = oldItem == null || oldItem.getName() == null || !oldItem.getName().toLowerCase().contains("urn");
-            if (wasNotUrn) {
-                for (ClayUrnTask.UrnType urnType : clayUrnTask.getAllAvailableUrns()) {
-                    if (newItem.getId() == urnType.getId()) {
-                        clayUrnTask.onUrnCrafted(urnType);
-                        ScriptConsole.println("[CoaezUtility] Urn crafted: " + urnType.getDisplayName() + ", updated queue.");
-                        break;
-                    }
-                }
-            }
-        }
+        TickSnapshot.invalidateBackpack();
+        inventoryTracker.onInventoryUpdate(event);
+        WaitScheduler.signal();
     }
 
     public Alchemy getAlchemy() {
@@ -507,115 +451,115 @@ public class CoaezUtility extends LoopingScript {
     }
     
     public QuestHelper getQuestHelper() {
-        return questHelper;
+        return taskRegistry.getTask(BotState.QUESTS, QuestHelper.class);
     }
 
     public AlchemyTask getAlchemyTask() {
-        return alchemyTask;
+        return taskRegistry.getTask(BotState.ALCHEMY, AlchemyTask.class);
     }
     
     public DisassemblyTask getDisassemblyTask() {
-        return disassemblyTask;
+        return taskRegistry.getTask(BotState.DISASSEMBLY, DisassemblyTask.class);
     }
     
     public POSDTask getPOSDTask() {
-        return posdTask;
+        return taskRegistry.getTask(BotState.POSD, POSDTask.class);
     }
 
     public PortableTask getPortableTask() {
-        return portableTask;
+        return taskRegistry.getTask(BotState.PORTABLES, PortableTask.class);
     }
 
     public PenguinTrackingTask getPenguinTrackingTask() {
-        return penguinTrackingTask;
+        return taskRegistry.getTask(BotState.PENGUIN_TRACKING, PenguinTrackingTask.class);
     }
 
     public BeachEventTask getBeachEventTask() {
-        return beachEventTask;
+        return taskRegistry.getTask(BotState.BEACH_EVENT, BeachEventTask.class);
     }
 
     public SoftClayTask getSoftClayTask() {
-        return softClayTask;
+        return taskRegistry.getTask(BotState.SOFTCLAY, SoftClayTask.class);
     }
 
     public LimestoneTask getLimestoneTask() {
-        return limestoneTask;
+        return taskRegistry.getTask(BotState.LIMESTONE, LimestoneTask.class);
     }
 
     public LimestoneBrickTask getLimestoneBrickTask() {
-        return limestoneBrickTask;
+        return taskRegistry.getTask(BotState.LIMESTONE_BRICK, LimestoneBrickTask.class);
     }
 
     public MapNavigatorTask getMapNavigatorTask() {
-        return mapNavigatorTask;
+        return taskRegistry.getTask(BotState.MAP_NAVIGATOR, MapNavigatorTask.class);
     }
 
     public DeployDummyTask getDeployDummyTask() {
-        return deployDummyTask;
+        return taskRegistry.getTask(BotState.DEPLOY_DUMMY, DeployDummyTask.class);
     }
 
     public SummerPinata getSummerPinata() {
-        return summerPinata;
+        return taskRegistry.getTask(BotState.SUMMER_PINATA, SummerPinata.class);
     }
 
     public TeleportToCamelot getSouthFeldipeHillsTeleportTask() {
-        return southFeldipeHillsTeleportTask;
+        return taskRegistry.getTask(BotState.SOUTH_FELDIPE_HILLS_TELEPORT, TeleportToCamelot.class);
     }
 
     public SorceressGardenTask getSorceressGardenTask() {
-        return sorceressGardenTask;
+        return taskRegistry.getTask(BotState.SORCERESS_GARDEN, SorceressGardenTask.class);
     }
     
     public NPCLoggerTask getNPCLoggerTask() {
-        return npcLoggerTask;
+        return taskRegistry.getTask(BotState.NPC_LOGGER, NPCLoggerTask.class);
     }
     
     public BeerCraftingTask getBeerCraftingTask() {
-        return beerCraftingTask;
+        return taskRegistry.getTask(BotState.BEER_CRAFTING, BeerCraftingTask.class);
     }
 
     public CreateSqirkJuiceTask getWinterSqirkjuiceTask() {
-        return winterSqirkjuiceTask;
+        return taskRegistry.getTask(BotState.WINTER_SQIRKJUICE, CreateSqirkJuiceTask.class);
     }
 
     public TurnInSqirkjuiceTask getTurnInSqirkjuiceTask() {
-        return turnInSqirkjuiceTask;
+        return taskRegistry.getTask(BotState.TURN_IN_SQIRKJUICE, TurnInSqirkjuiceTask.class);
     }
 
     public ClayUrnTask getClayUrnTask() {
-        return clayUrnTask;
+        return taskRegistry.getTask(BotState.CLAY_URN, ClayUrnTask.class);
     }
 
     public GnomeShopTask getGnomeShopTask() {
-        return gnomeShopTask;
+        return taskRegistry.getTask(BotState.GNOME_SHOP, GnomeShopTask.class);
     }
 
     public SiphonTarget getSiphonTarget() {
-        return siphonTarget;
+        return taskRegistry.getTask(BotState.SIPHON_TARGET, SiphonTarget.class);
     }
 
     public MonsterCombatTask getMonsterCombatTask() {
-        return monsterCombatTask;
+        return taskRegistry.getTask(BotState.MONSTER_COMBAT, MonsterCombatTask.class);
     }
 
     public ShopDisassemblyTask getShopDisassemblyTask() {
-        return shopDisassemblyTask;
+        return taskRegistry.getTask(BotState.SHOP_DISASSEMBLY, ShopDisassemblyTask.class);
     }
 
     public BuyBucketsWaterTask getBuyBucketsWaterTask() {
-        return buyBucketsWaterTask;
+        return taskRegistry.getTask(BotState.BUY_BUCKETS_WATER, BuyBucketsWaterTask.class);
     }
 
     public InventionGizmoTask getInventionGizmoTask() {
-        return inventionGizmoTask;
+        return taskRegistry.getTask(BotState.INVENTION_GIZMO, InventionGizmoTask.class);
     }
 
     public FlaxPickerTask getFlaxPickerTask() {
-        return flaxPickerTask;
+        return taskRegistry.getTask(BotState.FLAX_PICKER, FlaxPickerTask.class);
     }
 
     public NearbyNPCTrackerTask getNearbyNPCTrackerTask() {
-        return nearbyNPCTrackerTask;
+        return taskRegistry.getTask(BotState.NEARBY_NPC_TRACKER, NearbyNPCTrackerTask.class);
     }
 
     /* public SmithingTask getSmithingTask() {
@@ -631,19 +575,22 @@ public class CoaezUtility extends LoopingScript {
         if (maximumHealth == 0.0) return false;
 
         double healthPercentage = (currentHealth / maximumHealth) * 100.0;
-        println("Health %: " + healthPercentage);
-        return healthPercentage < 50.0;
+        if (healthPercentage < 50.0) {
+            println("Health %: " + healthPercentage);
+            return true;
+        }
+        return false;
     }
 
     private void teleportUsingArchJournal() {
-        ScriptConsole.println("[CoaezUtility] Health is below 50%, attempting to teleport using Archaeology journal");
+        LOG.info("Health is below 50%, attempting to teleport using Archaeology journal");
 
         boolean success = Backpack.interact("Archaeology journal", "Teleport");
         if (success) {
-            ScriptConsole.println("[CoaezUtility] Successfully clicked Archaeology journal teleport option");
+            LOG.info("Successfully clicked Archaeology journal teleport option");
             Execution.delay(3000);
         } else {
-            ScriptConsole.println("[CoaezUtility] Failed to interact with Archaeology journal or journal not found in backpack");
+            LOG.warn("Failed to interact with Archaeology journal or journal not found in backpack");
         }
     }
 }
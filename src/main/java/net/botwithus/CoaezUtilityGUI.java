@@ -29,14 +29,19 @@ import net.botwithus.tasks.NearbyNPCTrackerTask;
 import net.botwithus.tasks.Portable;
 import net.botwithus.tasks.PortableCrafter;
 import net.botwithus.tasks.PortableSawmill;
+import net.botwithus.tasks.PortableTask;
 import net.botwithus.tasks.PortableType;
 import net.botwithus.tasks.PortableWorkbench;
 import net.botwithus.tasks.Product;
 import net.botwithus.tasks.QuestDialogFetcher;
+import net.botwithus.tasks.QuestGuideCache;
 import net.botwithus.tasks.QuestHelper;
 import net.botwithus.tasks.SawmillPlank;
 import net.botwithus.tasks.SimplePortable;
 import net.botwithus.tasks.SiphonTarget;
+import net.botwithus.tasks.sorceressgarden.GardenRunRecorder;
+import net.botwithus.tasks.sorceressgarden.GardenScheduler;
+import net.botwithus.tasks.sorceressgarden.SorceressGardenTask;
 import net.botwithus.tasks.sorceressgarden.models.GardenType;
 
 public class CoaezUtilityGUI extends ScriptGraphicsContext {
@@ -148,83 +153,96 @@ public class CoaezUtilityGUI extends ScriptGraphicsContext {
     private int selectedNpcTrackerIndex = -1;
     private List<String> nearbyNpcNames = new ArrayList<>();
 
+    // Job queue state
+    private static final CoaezUtility.BotState[] JOB_STATES = Arrays.stream(CoaezUtility.BotState.values())
+            .filter(state -> state != CoaezUtility.BotState.IDLE && state != CoaezUtility.BotState.STOPPED)
+            .toArray(CoaezUtility.BotState[]::new);
+    private static final String[] JOB_STATE_NAMES = Arrays.stream(JOB_STATES).map(Enum::name).toArray(String[]::new);
+    private static final String[] JOB_CONDITION_NAMES = {"Task complete", "Backpack full", "Time limit"};
+    private int jobStateIndex = 0;
+    private int jobConditionIndex = 0;
+    private int jobMinutes = 30;
+
     public CoaezUtilityGUI(ScriptConsole scriptConsole, CoaezUtility coaezUtility) {
         super(scriptConsole);
         this.coaezUtility = coaezUtility;
         
         if (this.coaezUtility != null) {
             lastBotState = this.coaezUtility.getBotState();
-            loadConfig(); // This calls updateActivePortableType internally
-            updateBeachEventSettings(); // Apply loaded beach event settings to task
+            loadConfig(); // Defers task-specific settings until each task is first created
 
             // Initialize GUI state based on current task state AFTER loadConfig
             // This section should align the GUI with whatever state was set by loadConfig
             // or the default state if loadConfig didn't set a portable.
-            if (this.coaezUtility.getPortableTask() != null && this.coaezUtility.getPortableTask().getActivePortable() != null) {
-                PortableType currentTaskType = this.coaezUtility.getPortableTask().getActivePortable().getType();
-                 
-                for (int i = 0; i < portableTypes.length; i++) {
-                    if (portableTypes[i] == currentTaskType) {
-                        selectedPortableTypeIndex = i;
-                        break;
-                    }
+            this.coaezUtility.getTaskRegistry().whenCreated(CoaezUtility.BotState.PORTABLES, PortableTask.class, portableTask -> syncPortableSelectionFromTask());
+
+            // Initialize urn data
+            this.coaezUtility.getTaskRegistry().whenCreated(CoaezUtility.BotState.CLAY_URN, ClayUrnTask.class, clayUrnTask -> initializeUrnData());
+        } else {
+             // ScriptConsole.println("[CoaezUtilityGUI] CRITICAL: CoaezUtility instance is null in GUI constructor.");
+        }
+        
+    }
+
+    private void syncPortableSelectionFromTask() {
+        if (this.coaezUtility.getPortableTask() != null && this.coaezUtility.getPortableTask().getActivePortable() != null) {
+            PortableType currentTaskType = this.coaezUtility.getPortableTask().getActivePortable().getType();
+             
+            for (int i = 0; i < portableTypes.length; i++) {
+                if (portableTypes[i] == currentTaskType) {
+                    selectedPortableTypeIndex = i;
+                    break;
                 }
+            }
 
-                if (currentTaskType == PortableType.WORKBENCH && this.coaezUtility.getPortableTask().getActivePortable() instanceof PortableWorkbench) {
-                    PortableWorkbench wbInstance = (PortableWorkbench) this.coaezUtility.getPortableTask().getActivePortable();
+            if (currentTaskType == PortableType.WORKBENCH && this.coaezUtility.getPortableTask().getActivePortable() instanceof PortableWorkbench) {
+                PortableWorkbench wbInstance = (PortableWorkbench) this.coaezUtility.getPortableTask().getActivePortable();
 
-                    // Update group lists from the workbench instance
-                    this.currentGroupIds = wbInstance.getGroupEnumIds();
-                    if (this.currentGroupIds != null && !this.currentGroupIds.isEmpty()) {
-                        this.currentGroupNames = this.currentGroupIds.stream()
-                                                               .map(wbInstance::getGroupName)
-                                                               .collect(Collectors.toList());
-                        // selectedGroupIndex would have been set by loadConfig or defaults to 0
-                        if(selectedGroupIndex >= this.currentGroupIds.size()) selectedGroupIndex = 0;
-                        
-                        // Update product list for the current group
-                        int activeGroupId = this.currentGroupIds.get(selectedGroupIndex);
-                        this.currentWorkbenchProducts = wbInstance.getProductsForGroup(activeGroupId);
-
-                        Product taskSelectedProduct = this.coaezUtility.getPortableTask().getSelectedProduct();
-                        if (taskSelectedProduct != null && !this.currentWorkbenchProducts.isEmpty()) {
-                            boolean found = false;
-                            for (int i = 0; i < this.currentWorkbenchProducts.size(); i++) {
-                                if (this.currentWorkbenchProducts.get(i).getId() == taskSelectedProduct.getId()) {
-                                    selectedWorkbenchProductIndex = i;
-                                    found = true;
-                                    break;
-                                }
+                // Update group lists from the workbench instance
+                this.currentGroupIds = wbInstance.getGroupEnumIds();
+                if (this.currentGroupIds != null && !this.currentGroupIds.isEmpty()) {
+                    this.currentGroupNames = this.currentGroupIds.stream()
+                                                           .map(wbInstance::getGroupName)
+                                                           .collect(Collectors.toList());
+                    // selectedGroupIndex would have been set by loadConfig or defaults to 0
+                    if(selectedGroupIndex >= this.currentGroupIds.size()) selectedGroupIndex = 0;
+                    
+                    // Update product list for the current group
+                    int activeGroupId = this.currentGroupIds.get(selectedGroupIndex);
+                    this.currentWorkbenchProducts = wbInstance.getProductsForGroup(activeGroupId);
+
+                    Product taskSelectedProduct = this.coaezUtility.getPortableTask().getSelectedProduct();
+                    if (taskSelectedProduct != null && !this.currentWorkbenchProducts.isEmpty()) {
+                        boolean found = false;
+                        for (int i = 0; i < this.currentWorkbenchProducts.size(); i++) {
+                            if (this.currentWorkbenchProducts.get(i).getId() == taskSelectedProduct.getId()) {
+                                selectedWorkbenchProductIndex = i;
+                                found = true;
+                                break;
                             }
-                            if (!found) selectedWorkbenchProductIndex = 0; // Default to first if not found in current list
-                        } else {
-                            selectedWorkbenchProductIndex = 0;
                         }
-                         
+                        if (!found) selectedWorkbenchProductIndex = 0; // Default to first if not found in current list
                     } else {
-                         
-                        this.currentGroupNames.clear();
-                        this.currentWorkbenchProducts.clear();
-                        selectedGroupIndex = 0;
                         selectedWorkbenchProductIndex = 0;
                     }
+                     
+                } else {
+                     
+                    this.currentGroupNames.clear();
+                    this.currentWorkbenchProducts.clear();
+                    selectedGroupIndex = 0;
+                    selectedWorkbenchProductIndex = 0;
                 }
-            } else {
-                 
-                 // Reset workbench specific state if no active portable
-                this.currentGroupIds.clear();
-                this.currentGroupNames.clear();
-                this.currentWorkbenchProducts.clear();
-                selectedGroupIndex = 0;
-                selectedWorkbenchProductIndex = 0;
             }
-            
-            // Initialize urn data
-            initializeUrnData();
         } else {
-             // ScriptConsole.println("[CoaezUtilityGUI] CRITICAL: CoaezUtility instance is null in GUI constructor.");
+             
+             // Reset workbench specific state if no active portable
+            this.currentGroupIds.clear();
+            this.currentGroupNames.clear();
+            this.currentWorkbenchProducts.clear();
+            selectedGroupIndex = 0;
+            selectedWorkbenchProductIndex = 0;
         }
-        
     }
 
     public boolean hasStateChanged() {
@@ -354,6 +372,14 @@ public class CoaezUtilityGUI extends ScriptGraphicsContext {
                         renderNearbyNPCTrackerTab();
                         ImGui.EndTabItem();
                     }
+                    if (ImGui.BeginTabItem("Jobs", 0)) {
+                        renderJobsTab();
+                        ImGui.EndTabItem();
+                    }
+                    if (ImGui.BeginTabItem("Metrics", 0)) {
+                        renderMetricsTab();
+                        ImGui.EndTabItem();
+                    }
                     /* if (ImGui.BeginTabItem("Smithing", 0)) {
                         renderSmithingTab();
                         ImGui.EndTabItem();
@@ -1025,14 +1051,12 @@ public class CoaezUtilityGUI extends ScriptGraphicsContext {
         
         ImGui.Separator();
         
-        List<String> questDisplayNames = questHelper.getQuestDisplayNames();
-        if (!questDisplayNames.isEmpty()) {
-            String[] questNames = questDisplayNames.toArray(new String[0]);
+        QuestHelper.QuestList questList = questHelper.getQuestList();
+        if (!questList.getNames().isEmpty()) {
+            String[] questNames = questList.getNames().toArray(new String[0]);
             
-            int selectedQuestIndex = questHelper.getSelectedQuestIndex();
-            if (selectedQuestIndex >= questNames.length) {
-                selectedQuestIndex = 0;
-            }
+            // -1 when the selected quest is filtered out, the combo then shows no selection
+            int selectedQuestIndex = questList.getSelectedIndex();
             
             if (questNames.length == 1 && questHelper.getSelectedQuest() == null) {
                 questHelper.selectQuestByIndex(0);
@@ -1047,6 +1071,12 @@ public class CoaezUtilityGUI extends ScriptGraphicsContext {
             ImGui.Text("No quests available with current filters.");
         }
         
+        boolean offlineGuides = QuestGuideCache.isOffline();
+        if (ImGui.Checkbox("Offline guides (cached only)", offlineGuides) != offlineGuides) {
+            QuestGuideCache.setOffline(!offlineGuides);
+            saveConfig();
+        }
+        
         Quest selectedQuest = questHelper.getSelectedQuest();
         if (selectedQuest != null) {
             if (ImGui.Button("Show Quest ID Lookup")) {
@@ -1407,8 +1437,11 @@ public class CoaezUtilityGUI extends ScriptGraphicsContext {
             config.addProperty("disassemblyItems", String.join(",", disassemblyItems));
         }
 
-        if (coaezUtility.getPortableTask() != null && coaezUtility.getPortableTask().getActivePortable() != null) {
-            Portable currentPortable = coaezUtility.getPortableTask().getActivePortable();
+        // Only save settings for tasks that have been created; the rest keep their previously loaded values
+        TaskRegistry taskRegistry = coaezUtility.getTaskRegistry();
+        PortableTask portableTask = taskRegistry.peekTask(CoaezUtility.BotState.PORTABLES, PortableTask.class);
+        if (portableTask != null && portableTask.getActivePortable() != null) {
+            Portable currentPortable = portableTask.getActivePortable();
             config.addProperty("selectedPortableType", currentPortable.getType().name());
 
             if (currentPortable instanceof PortableWorkbench) {
@@ -1441,8 +1474,8 @@ public class CoaezUtilityGUI extends ScriptGraphicsContext {
         // TODO: Save SmithingTask selections (selectedCategoryEnum.name() and selectedProduct.getId())
 
         // Save Quest filter settings into QuestHelper
-        if (coaezUtility.getQuestHelper() != null) {
-            QuestHelper questHelper = coaezUtility.getQuestHelper();
+        QuestHelper questHelper = taskRegistry.peekTask(CoaezUtility.BotState.QUESTS, QuestHelper.class);
+        if (questHelper != null) {
             config.addProperty("showCompletedQuests", String.valueOf(questHelper.isShowCompletedQuests()));
             config.addProperty("showInProgressQuests", String.valueOf(questHelper.isShowInProgressQuests()));
             config.addProperty("showNotStartedQuests", String.valueOf(questHelper.isShowNotStartedQuests()));
@@ -1450,9 +1483,11 @@ public class CoaezUtilityGUI extends ScriptGraphicsContext {
             config.addProperty("showMembersQuests", String.valueOf(questHelper.isShowMembersQuests()));
         }
 
+        config.addProperty("questGuidesOffline", String.valueOf(QuestGuideCache.isOffline()));
+
         // Save selected quest
-        if (coaezUtility.getQuestHelper() != null && coaezUtility.getQuestHelper().getSelectedQuest() != null) {
-            Quest selectedQuest = coaezUtility.getQuestHelper().getSelectedQuest();
+        if (questHelper != null && questHelper.getSelectedQuest() != null) {
+            Quest selectedQuest = questHelper.getSelectedQuest();
             int questId = getQuestId(selectedQuest);
             if (questId != -1) {
                 config.addProperty("selectedQuestId", String.valueOf(questId));
@@ -1481,23 +1516,26 @@ public class CoaezUtilityGUI extends ScriptGraphicsContext {
         config.addProperty("guiUseUglyDuckling", String.valueOf(guiUseUglyDuckling));
 
         // Save Sorceress Garden selection
-        Set<GardenType> sgSelected = coaezUtility.getSorceressGardenTask() != null ? coaezUtility.getSorceressGardenTask().getSelectedGardens() : new HashSet<>();
-        config.addProperty("sg_winterGardenSelected", String.valueOf(sgSelected.contains(GardenType.WINTER)));
-        config.addProperty("sg_springGardenSelected", String.valueOf(sgSelected.contains(GardenType.SPRING)));
-        config.addProperty("sg_summerGardenSelected", String.valueOf(sgSelected.contains(GardenType.SUMMER)));
-        config.addProperty("sg_autumnGardenSelected", String.valueOf(sgSelected.contains(GardenType.AUTUMN)));
+        SorceressGardenTask sorceressGardenTask = taskRegistry.peekTask(CoaezUtility.BotState.SORCERESS_GARDEN, SorceressGardenTask.class);
+        if (sorceressGardenTask != null) {
+            Set<GardenType> sgSelected = sorceressGardenTask.getSelectedGardens();
+            config.addProperty("sg_winterGardenSelected", String.valueOf(sgSelected.contains(GardenType.WINTER)));
+            config.addProperty("sg_springGardenSelected", String.valueOf(sgSelected.contains(GardenType.SPRING)));
+            config.addProperty("sg_summerGardenSelected", String.valueOf(sgSelected.contains(GardenType.SUMMER)));
+            config.addProperty("sg_autumnGardenSelected", String.valueOf(sgSelected.contains(GardenType.AUTUMN)));
+            config.addProperty("sg_recordRuns", String.valueOf(GardenRunRecorder.isEnabled()));
+        }
 
         // Save Clay Urn settings
         config.addProperty("selectedUrnCategoryIndex", String.valueOf(selectedUrnCategoryIndex));
         config.addProperty("selectedUrnTypeIndex", String.valueOf(selectedUrnTypeIndex));
         // Save the actual selected urn ID for restoration
-        ClayUrnTask clayUrnTask = coaezUtility.getClayUrnTask();
+        ClayUrnTask clayUrnTask = taskRegistry.peekTask(CoaezUtility.BotState.CLAY_URN, ClayUrnTask.class);
         if (clayUrnTask != null && clayUrnTask.getSelectedUrn() != null) {
             config.addProperty("selectedUrnId", String.valueOf(clayUrnTask.getSelectedUrn().getId()));
         }
 
         // Save ClayUrnTask queue and skip state
-        clayUrnTask = coaezUtility.getClayUrnTask();
         if (clayUrnTask != null) {
             // Serialize queue as urnId:quantity,urnId:quantity,...
             var queue = clayUrnTask.getUrnQueue();
@@ -1549,35 +1587,208 @@ public class CoaezUtilityGUI extends ScriptGraphicsContext {
             }
         }
         
-        // Load Quest filter settings into QuestHelper
-        if (coaezUtility.getQuestHelper() != null) {
-            QuestHelper questHelper = coaezUtility.getQuestHelper();
-            
-            String showCompletedStr = config.getProperty("showCompletedQuests");
-            if (showCompletedStr != null) {
-                questHelper.setShowCompletedQuests(Boolean.parseBoolean(showCompletedStr));
+        QuestGuideCache.setOffline(Boolean.parseBoolean(config.getProperty("questGuidesOffline")));
+
+        // Load Quest filter settings into QuestHelper once it is created
+        coaezUtility.getTaskRegistry().whenCreated(CoaezUtility.BotState.QUESTS, QuestHelper.class, this::applyQuestConfig);
+
+        // Restore the portable selection once the portable task is created
+        coaezUtility.getTaskRegistry().whenCreated(CoaezUtility.BotState.PORTABLES, PortableTask.class, portableTask -> applyPortableConfig());
+
+        // TODO: Load SmithingTask selections from config and update GUI state
+        // (selectedSmithingCategoryIndex, selectedSmithingProductIndex, and call smithingTask.setSelected...)
+        
+        // Load Beach Event settings
+        String selectedBeachActivityIndexStr = config.getProperty("selectedBeachActivityIndex");
+        if (selectedBeachActivityIndexStr != null) {
+            try {
+                int index = Integer.parseInt(selectedBeachActivityIndexStr);
+                if (index >= 0 && index < beachActivities.length) {
+                    selectedBeachActivityIndex = index;
+                }
+            } catch (NumberFormatException e) {
+                selectedBeachActivityIndex = 0;
             }
-            
-            String showInProgressStr = config.getProperty("showInProgressQuests");
-            if (showInProgressStr != null) {
-                questHelper.setShowInProgressQuests(Boolean.parseBoolean(showInProgressStr));
+        }
+        
+        String beachUseCocktailsStr = config.getProperty("beachUseCocktails");
+        if (beachUseCocktailsStr != null) {
+            beachUseCocktails = Boolean.parseBoolean(beachUseCocktailsStr);
+        }
+        
+        String beachFightClawdiaStr = config.getProperty("beachFightClawdia");
+        if (beachFightClawdiaStr != null) {
+            beachFightClawdia = Boolean.parseBoolean(beachFightClawdiaStr);
+        }
+        
+        String beachUseSpotlightStr = config.getProperty("beachUseSpotlight");
+        if (beachUseSpotlightStr != null) {
+            beachUseSpotlight = Boolean.parseBoolean(beachUseSpotlightStr);
+        }
+        
+        String beachUseBattleshipStr = config.getProperty("beachUseBattleship");
+        if (beachUseBattleshipStr != null) {
+            beachUseBattleship = Boolean.parseBoolean(beachUseBattleshipStr);
+        }
+        
+        String beachIsWeekendStr = config.getProperty("beachIsWeekend");
+        if (beachIsWeekendStr != null) {
+            beachIsWeekend = Boolean.parseBoolean(beachIsWeekendStr);
+        }
+
+        String beachSpotlightHappyHourStr = config.getProperty("beachSpotlightHappyHour");
+        if (beachSpotlightHappyHourStr != null) {
+            beachSpotlightHappyHour = beachSpotlightHappyHourStr;
+            // Update the index to match the loaded value
+            for (int i = 0; i < spotlightHappyHourOptions.length; i++) {
+                if (spotlightHappyHourOptions[i].equals(beachSpotlightHappyHour)) {
+                    selectedSpotlightHappyHourIndex = i;
+                    break;
+                }
             }
-            
-            String showNotStartedStr = config.getProperty("showNotStartedQuests");
-            if (showNotStartedStr != null) {
-                questHelper.setShowNotStartedQuests(Boolean.parseBoolean(showNotStartedStr));
+        }
+        
+        String selectedSpotlightHappyHourIndexStr = config.getProperty("selectedSpotlightHappyHourIndex");
+        if (selectedSpotlightHappyHourIndexStr != null) {
+            try {
+                int index = Integer.parseInt(selectedSpotlightHappyHourIndexStr);
+                if (index >= 0 && index < spotlightHappyHourOptions.length) {
+                    selectedSpotlightHappyHourIndex = index;
+                    beachSpotlightHappyHour = spotlightHappyHourOptions[selectedSpotlightHappyHourIndex];
+                }
+            } catch (NumberFormatException e) {
+                selectedSpotlightHappyHourIndex = 3; // Default to "Hunter"
             }
-            
-            String showFreeToPlayStr = config.getProperty("showFreeToPlayQuests");
-            if (showFreeToPlayStr != null) {
-                questHelper.setShowFreeToPlayQuests(Boolean.parseBoolean(showFreeToPlayStr));
+        }
+        
+        // Load individual cocktail settings
+        String guiUsePinkFizzStr = config.getProperty("guiUsePinkFizz");
+        if (guiUsePinkFizzStr != null) {
+            guiUsePinkFizz = Boolean.parseBoolean(guiUsePinkFizzStr);
+        }
+        
+        String guiUsePurpleLumbridgeStr = config.getProperty("guiUsePurpleLumbridge");
+        if (guiUsePurpleLumbridgeStr != null) {
+            guiUsePurpleLumbridge = Boolean.parseBoolean(guiUsePurpleLumbridgeStr);
+        }
+        
+        String guiUsePineappletiniStr = config.getProperty("guiUsePineappletini");
+        if (guiUsePineappletiniStr != null) {
+            guiUsePineappletini = Boolean.parseBoolean(guiUsePineappletiniStr);
+        }
+        
+        String guiUseLemonSourStr = config.getProperty("guiUseLemonSour");
+        if (guiUseLemonSourStr != null) {
+            guiUseLemonSour = Boolean.parseBoolean(guiUseLemonSourStr);
+        }
+        
+        String guiUseFishermanssFriendStr = config.getProperty("guiUseFishermanssFriend");
+        if (guiUseFishermanssFriendStr != null) {
+            guiUseFishermanssFriend = Boolean.parseBoolean(guiUseFishermanssFriendStr);
+        }
+        
+        String guiUseGeorgesPeachDelightStr = config.getProperty("guiUseGeorgesPeachDelight");
+        if (guiUseGeorgesPeachDelightStr != null) {
+            guiUseGeorgesPeachDelight = Boolean.parseBoolean(guiUseGeorgesPeachDelightStr);
+        }
+        
+        String guiUseAHoleInOneStr = config.getProperty("guiUseAHoleInOne");
+        if (guiUseAHoleInOneStr != null) {
+            guiUseAHoleInOne = Boolean.parseBoolean(guiUseAHoleInOneStr);
+        }
+        
+        String guiUsePalmerFarmerStr = config.getProperty("guiUsePalmerFarmer");
+        if (guiUsePalmerFarmerStr != null) {
+            guiUsePalmerFarmer = Boolean.parseBoolean(guiUsePalmerFarmerStr);
+        }
+        
+        String guiUseUglyDucklingStr = config.getProperty("guiUseUglyDuckling");
+        if (guiUseUglyDucklingStr != null) {
+            guiUseUglyDuckling = Boolean.parseBoolean(guiUseUglyDucklingStr);
+        }
+        
+        coaezUtility.getTaskRegistry().whenCreated(CoaezUtility.BotState.BEACH_EVENT, BeachEventTask.class, beachTask -> updateBeachEventSettings());
+        
+        // Load Sorceress Garden selection
+        Set<GardenType> loadedSG = new HashSet<>();
+        String sgWinter = config.getProperty("sg_winterGardenSelected");
+        if (sgWinter != null && Boolean.parseBoolean(sgWinter)) loadedSG.add(GardenType.WINTER);
+        String sgSpring = config.getProperty("sg_springGardenSelected");
+        if (sgSpring != null && Boolean.parseBoolean(sgSpring)) loadedSG.add(GardenType.SPRING);
+        String sgSummer = config.getProperty("sg_summerGardenSelected");
+        if (sgSummer != null && Boolean.parseBoolean(sgSummer)) loadedSG.add(GardenType.SUMMER);
+        String sgAutumn = config.getProperty("sg_autumnGardenSelected");
+        if (sgAutumn != null && Boolean.parseBoolean(sgAutumn)) loadedSG.add(GardenType.AUTUMN);
+        GardenRunRecorder.setEnabled(Boolean.parseBoolean(config.getProperty("sg_recordRuns")));
+        coaezUtility.getTaskRegistry().whenCreated(CoaezUtility.BotState.SORCERESS_GARDEN, SorceressGardenTask.class, sgTask -> sgTask.setSelectedGardens(loadedSG));
+        
+        // Load Clay Urn settings
+        String selectedUrnCategoryIndexStr = config.getProperty("selectedUrnCategoryIndex");
+        if (selectedUrnCategoryIndexStr != null) {
+            try {
+                int index = Integer.parseInt(selectedUrnCategoryIndexStr);
+                if (index >= 0) {
+                    selectedUrnCategoryIndex = index;
+                }
+            } catch (NumberFormatException e) {
+                selectedUrnCategoryIndex = 0;
             }
-            
-            String showMembersStr = config.getProperty("showMembersQuests");
-            if (showMembersStr != null) {
-                questHelper.setShowMembersQuests(Boolean.parseBoolean(showMembersStr));
+        }
+        
+        String selectedUrnTypeIndexStr = config.getProperty("selectedUrnTypeIndex");
+        if (selectedUrnTypeIndexStr != null) {
+            try {
+                int index = Integer.parseInt(selectedUrnTypeIndexStr);
+                if (index >= 0) {
+                    selectedUrnTypeIndex = index;
+                }
+            } catch (NumberFormatException e) {
+                selectedUrnTypeIndex = 0;
             }
         }
+        
+        String skipStr = config.getProperty("skipAddRunesCheckbox");
+        if (skipStr != null) {
+            skipAddRunesCheckbox = Boolean.parseBoolean(skipStr);
+        }
+
+        // Restore the urn selection and queue once the clay urn task is created
+        coaezUtility.getTaskRegistry().whenCreated(CoaezUtility.BotState.CLAY_URN, ClayUrnTask.class, this::applyClayUrnConfig);
+
+        isLoadingConfig = false;
+     }
+
+    private void applyQuestConfig(QuestHelper questHelper) {
+        ScriptConfig config = coaezUtility.getConfig();
+
+        String showCompletedStr = config.getProperty("showCompletedQuests");
+        if (showCompletedStr != null) {
+            questHelper.setShowCompletedQuests(Boolean.parseBoolean(showCompletedStr));
+        }
+        
+        String showInProgressStr = config.getProperty("showInProgressQuests");
+        if (showInProgressStr != null) {
+            questHelper.setShowInProgressQuests(Boolean.parseBoolean(showInProgressStr));
+        }
+        
+        String showNotStartedStr = config.getProperty("showNotStartedQuests");
+        if (showNotStartedStr != null) {
+            questHelper.setShowNotStartedQuests(Boolean.parseBoolean(showNotStartedStr));
+        }
+        
+        String showFreeToPlayStr = config.getProperty("showFreeToPlayQuests");
+        if (showFreeToPlayStr != null) {
+            questHelper.setShowFreeToPlayQuests(Boolean.parseBoolean(showFreeToPlayStr));
+        }
+        
+        String showMembersStr = config.getProperty("showMembersQuests");
+        if (showMembersStr != null) {
+            questHelper.setShowMembersQuests(Boolean.parseBoolean(showMembersStr));
+        }
+    }
+
+    private void applyPortableConfig() {
+        ScriptConfig config = coaezUtility.getConfig();
 
         String selectedPortableTypeName = config.getProperty("selectedPortableType");
         
@@ -1730,201 +1941,43 @@ public class CoaezUtilityGUI extends ScriptGraphicsContext {
                selectedPortableTypeIndex = 0;
                updateActivePortableType();
           }
-        // TODO: Load SmithingTask selections from config and update GUI state
-        // (selectedSmithingCategoryIndex, selectedSmithingProductIndex, and call smithingTask.setSelected...)
-        
-        // Load Beach Event settings
-        String selectedBeachActivityIndexStr = config.getProperty("selectedBeachActivityIndex");
-        if (selectedBeachActivityIndexStr != null) {
-            try {
-                int index = Integer.parseInt(selectedBeachActivityIndexStr);
-                if (index >= 0 && index < beachActivities.length) {
-                    selectedBeachActivityIndex = index;
-                }
-            } catch (NumberFormatException e) {
-                selectedBeachActivityIndex = 0;
-            }
-        }
-        
-        String beachUseCocktailsStr = config.getProperty("beachUseCocktails");
-        if (beachUseCocktailsStr != null) {
-            beachUseCocktails = Boolean.parseBoolean(beachUseCocktailsStr);
-        }
-        
-        String beachFightClawdiaStr = config.getProperty("beachFightClawdia");
-        if (beachFightClawdiaStr != null) {
-            beachFightClawdia = Boolean.parseBoolean(beachFightClawdiaStr);
-        }
-        
-        String beachUseSpotlightStr = config.getProperty("beachUseSpotlight");
-        if (beachUseSpotlightStr != null) {
-            beachUseSpotlight = Boolean.parseBoolean(beachUseSpotlightStr);
-        }
-        
-        String beachUseBattleshipStr = config.getProperty("beachUseBattleship");
-        if (beachUseBattleshipStr != null) {
-            beachUseBattleship = Boolean.parseBoolean(beachUseBattleshipStr);
-        }
-        
-        String beachIsWeekendStr = config.getProperty("beachIsWeekend");
-        if (beachIsWeekendStr != null) {
-            beachIsWeekend = Boolean.parseBoolean(beachIsWeekendStr);
-        }
+    }
+
+    private void applyClayUrnConfig(ClayUrnTask clayUrnTask) {
+        ScriptConfig config = coaezUtility.getConfig();
 
-        String beachSpotlightHappyHourStr = config.getProperty("beachSpotlightHappyHour");
-        if (beachSpotlightHappyHourStr != null) {
-            beachSpotlightHappyHour = beachSpotlightHappyHourStr;
-            // Update the index to match the loaded value
-            for (int i = 0; i < spotlightHappyHourOptions.length; i++) {
-                if (spotlightHappyHourOptions[i].equals(beachSpotlightHappyHour)) {
-                    selectedSpotlightHappyHourIndex = i;
-                    break;
-                }
-            }
-        }
-        
-        String selectedSpotlightHappyHourIndexStr = config.getProperty("selectedSpotlightHappyHourIndex");
-        if (selectedSpotlightHappyHourIndexStr != null) {
-            try {
-                int index = Integer.parseInt(selectedSpotlightHappyHourIndexStr);
-                if (index >= 0 && index < spotlightHappyHourOptions.length) {
-                    selectedSpotlightHappyHourIndex = index;
-                    beachSpotlightHappyHour = spotlightHappyHourOptions[selectedSpotlightHappyHourIndex];
-                }
-            } catch (NumberFormatException e) {
-                selectedSpotlightHappyHourIndex = 3; // Default to "Hunter"
-            }
-        }
-        
-        // Load individual cocktail settings
-        String guiUsePinkFizzStr = config.getProperty("guiUsePinkFizz");
-        if (guiUsePinkFizzStr != null) {
-            guiUsePinkFizz = Boolean.parseBoolean(guiUsePinkFizzStr);
-        }
-        
-        String guiUsePurpleLumbridgeStr = config.getProperty("guiUsePurpleLumbridge");
-        if (guiUsePurpleLumbridgeStr != null) {
-            guiUsePurpleLumbridge = Boolean.parseBoolean(guiUsePurpleLumbridgeStr);
-        }
-        
-        String guiUsePineappletiniStr = config.getProperty("guiUsePineappletini");
-        if (guiUsePineappletiniStr != null) {
-            guiUsePineappletini = Boolean.parseBoolean(guiUsePineappletiniStr);
-        }
-        
-        String guiUseLemonSourStr = config.getProperty("guiUseLemonSour");
-        if (guiUseLemonSourStr != null) {
-            guiUseLemonSour = Boolean.parseBoolean(guiUseLemonSourStr);
-        }
-        
-        String guiUseFishermanssFriendStr = config.getProperty("guiUseFishermanssFriend");
-        if (guiUseFishermanssFriendStr != null) {
-            guiUseFishermanssFriend = Boolean.parseBoolean(guiUseFishermanssFriendStr);
-        }
-        
-        String guiUseGeorgesPeachDelightStr = config.getProperty("guiUseGeorgesPeachDelight");
-        if (guiUseGeorgesPeachDelightStr != null) {
-            guiUseGeorgesPeachDelight = Boolean.parseBoolean(guiUseGeorgesPeachDelightStr);
-        }
-        
-        String guiUseAHoleInOneStr = config.getProperty("guiUseAHoleInOne");
-        if (guiUseAHoleInOneStr != null) {
-            guiUseAHoleInOne = Boolean.parseBoolean(guiUseAHoleInOneStr);
-        }
-        
-        String guiUsePalmerFarmerStr = config.getProperty("guiUsePalmerFarmer");
-        if (guiUsePalmerFarmerStr != null) {
-            guiUsePalmerFarmer = Boolean.parseBoolean(guiUsePalmerFarmerStr);
-        }
-        
-        String guiUseUglyDucklingStr = config.getProperty("guiUseUglyDuckling");
-        if (guiUseUglyDucklingStr != null) {
-            guiUseUglyDuckling = Boolean.parseBoolean(guiUseUglyDucklingStr);
-        }
-        
-        updateBeachEventSettings();
-        
-        // Load Sorceress Garden selection
-        Set<GardenType> loadedSG = new HashSet<>();
-        String sgWinter = config.getProperty("sg_winterGardenSelected");
-        if (sgWinter != null && Boolean.parseBoolean(sgWinter)) loadedSG.add(GardenType.WINTER);
-        String sgSpring = config.getProperty("sg_springGardenSelected");
-        if (sgSpring != null && Boolean.parseBoolean(sgSpring)) loadedSG.add(GardenType.SPRING);
-        String sgSummer = config.getProperty("sg_summerGardenSelected");
-        if (sgSummer != null && Boolean.parseBoolean(sgSummer)) loadedSG.add(GardenType.SUMMER);
-        String sgAutumn = config.getProperty("sg_autumnGardenSelected");
-        if (sgAutumn != null && Boolean.parseBoolean(sgAutumn)) loadedSG.add(GardenType.AUTUMN);
-        if (coaezUtility.getSorceressGardenTask() != null) coaezUtility.getSorceressGardenTask().setSelectedGardens(loadedSG);
-        
-        // Load Clay Urn settings
-        String selectedUrnCategoryIndexStr = config.getProperty("selectedUrnCategoryIndex");
-        if (selectedUrnCategoryIndexStr != null) {
-            try {
-                int index = Integer.parseInt(selectedUrnCategoryIndexStr);
-                if (index >= 0) {
-                    selectedUrnCategoryIndex = index;
-                }
-            } catch (NumberFormatException e) {
-                selectedUrnCategoryIndex = 0;
-            }
-        }
-        
-        String selectedUrnTypeIndexStr = config.getProperty("selectedUrnTypeIndex");
-        if (selectedUrnTypeIndexStr != null) {
-            try {
-                int index = Integer.parseInt(selectedUrnTypeIndexStr);
-                if (index >= 0) {
-                    selectedUrnTypeIndex = index;
-                }
-            } catch (NumberFormatException e) {
-                selectedUrnTypeIndex = 0;
-            }
-        }
-        
         // Load the selected urn ID and restore the selection
         String selectedUrnIdStr = config.getProperty("selectedUrnId");
         if (selectedUrnIdStr != null) {
             try {
                 int urnId = Integer.parseInt(selectedUrnIdStr);
-                ClayUrnTask clayUrnTask = coaezUtility.getClayUrnTask();
-                if (clayUrnTask != null) {
-                    clayUrnTask.setSelectedUrnById(urnId);
-                }
+                clayUrnTask.setSelectedUrnById(urnId);
             } catch (NumberFormatException e) {
                 // Ignore invalid urn ID
             }
         }
         
-        // Load ClayUrnTask queue and skip state
-        ClayUrnTask clayUrnTask = coaezUtility.getClayUrnTask();
-        if (clayUrnTask != null) {
-            String queueStr = config.getProperty("clayUrnQueue");
-            if (queueStr != null && !queueStr.isEmpty()) {
-                String[] entries = queueStr.split(",");
-                clayUrnTask.clearUrnQueue();
-                for (String entry : entries) {
-                    String[] parts = entry.split(":");
-                    if (parts.length == 2) {
-                        try {
-                            int urnId = Integer.parseInt(parts[0]);
-                            int quantity = Integer.parseInt(parts[1]);
-                            ClayUrnTask.UrnType urnType = null;
-                            urnType = new ClayUrnTask.UrnType(0, "", null).getById(urnId, List.of(clayUrnTask.getAllAvailableUrns()));
-                            if (urnType != null) {
-                                clayUrnTask.queueUrn(urnType, quantity);
-                            }
-                        } catch (NumberFormatException ignored) {}
-                    }
+        // Load ClayUrnTask queue
+        String queueStr = config.getProperty("clayUrnQueue");
+        if (queueStr != null && !queueStr.isEmpty()) {
+            String[] entries = queueStr.split(",");
+            clayUrnTask.clearUrnQueue();
+            for (String entry : entries) {
+                String[] parts = entry.split(":");
+                if (parts.length == 2) {
+                    try {
+                        int urnId = Integer.parseInt(parts[0]);
+                        int quantity = Integer.parseInt(parts[1]);
+                        ClayUrnTask.UrnType urnType = null;
+                        urnType = new ClayUrnTask.UrnType(0, "", null).getById(urnId, List.of(clayUrnTask.getAllAvailableUrns()));
+                        if (urnType != null) {
+                            clayUrnTask.queueUrn(urnType, quantity);
+                        }
+                    } catch (NumberFormatException ignored) {}
                 }
             }
-            String skipStr = config.getProperty("skipAddRunesCheckbox");
-            if (skipStr != null) {
-                skipAddRunesCheckbox = Boolean.parseBoolean(skipStr);
-            }
         }
-
-        isLoadingConfig = false;
-     }
+    }
 
     @Override
     public void drawOverlay() {
@@ -2261,8 +2314,8 @@ public class CoaezUtilityGUI extends ScriptGraphicsContext {
     }
 
     private void updateBeachEventSettings() {
-        if (coaezUtility != null && coaezUtility.getBeachEventTask() != null) {
-            BeachEventTask beachTask = coaezUtility.getBeachEventTask();
+        BeachEventTask beachTask = coaezUtility != null ? coaezUtility.getTaskRegistry().peekTask(CoaezUtility.BotState.BEACH_EVENT, BeachEventTask.class) : null;
+        if (beachTask != null) {
             
             // Apply loaded GUI settings to the task
             beachTask.setSelectedActivity(beachActivities[selectedBeachActivityIndex]);
@@ -2641,6 +2694,23 @@ public class CoaezUtilityGUI extends ScriptGraphicsContext {
                 saveConfig();
             }
 
+            boolean recordRuns = GardenRunRecorder.isEnabled();
+            if (ImGui.Checkbox("Record runs for replay", recordRuns) != recordRuns) {
+                GardenRunRecorder.setEnabled(!recordRuns);
+                saveConfig();
+            }
+
+            ImGui.Separator();
+            ImGui.Text("Garden stats (next garden maximises juice XP/hr):");
+            GardenScheduler scheduler = coaezUtility.getGardenScheduler();
+            for (GardenType type : GardenType.values()) {
+                GardenScheduler.Stats stats = scheduler.getStats(type);
+                ImGui.Text(String.format("%s: %d/%d runs (%.0f%%), %.1fs avg, %.1f juice/hr, %d made, %d turned in",
+                        type.getDisplayName(), stats.getSuccesses(), stats.getAttempts(), stats.getSuccessRate() * 100,
+                        stats.getMeanRunMs() / 1000.0, scheduler.expectedJuicePerHour(type),
+                        stats.getJuiceMade(), stats.getJuiceTurnedIn()));
+            }
+
             ImGui.Separator();
 
             if (ImGui.Button("Start Sorceress Garden")) {
@@ -2999,6 +3069,137 @@ public class CoaezUtilityGUI extends ScriptGraphicsContext {
         ImGui.Text("Status: " + (coaezUtility.getBotState() == CoaezUtility.BotState.NEARBY_NPC_TRACKER ? "RUNNING" : "STOPPED"));
     }
 
+    private void renderJobsTab() {
+        JobScheduler scheduler = coaezUtility.getJobScheduler();
+        ImGui.Text("Job Queue");
+        ImGui.Separator();
+        ImGui.Text("Runs activities one after another, moving on when each one's condition is met.");
+        ImGui.Text("Changing the activity by hand stops the queue.");
+
+        List<JobScheduler.Job> jobs = scheduler.getJobs();
+        JobScheduler.Job currentJob = scheduler.getCurrentJob();
+        if (ImGui.ListBoxHeader("##JobQueue", 400, LISTBOX_HEIGHT)) {
+            for (int i = 0; i < jobs.size(); i++) {
+                JobScheduler.Job job = jobs.get(i);
+                ImGui.PushID("job_" + i);
+                ImGui.Text((job == currentJob ? "> " : "  ") + (i + 1) + ". " + job);
+                if (!scheduler.isRunning()) {
+                    ImGui.SameLine();
+                    if (ImGui.Button("Remove")) {
+                        scheduler.remove(i);
+                    }
+                }
+                ImGui.PopID();
+            }
+            ImGui.ListBoxFooter();
+        }
+
+        if (!scheduler.isRunning()) {
+            jobStateIndex = ImGui.Combo("Activity##Job", jobStateIndex, JOB_STATE_NAMES);
+            jobConditionIndex = ImGui.Combo("Until##Job", jobConditionIndex, JOB_CONDITION_NAMES);
+            if (jobConditionIndex == 2) {
+                jobMinutes = Math.max(1, ImGui.InputInt("Minutes##Job", jobMinutes));
+            }
+            if (ImGui.Button("Add Job")) {
+                JobCondition condition = switch (jobConditionIndex) {
+                    case 1 -> JobCondition.backpackFull();
+                    case 2 -> JobCondition.afterMinutes(jobMinutes);
+                    default -> JobCondition.taskComplete();
+                };
+                scheduler.add(new JobScheduler.Job(JOB_STATES[jobStateIndex], condition));
+            }
+            ImGui.SameLine();
+            if (ImGui.Button("Clear##Jobs")) {
+                scheduler.clear();
+            }
+
+            if (ImGui.Button("POSD > Disassembly > Alchemy")) {
+                scheduler.clear();
+                scheduler.add(new JobScheduler.Job(CoaezUtility.BotState.POSD, JobCondition.backpackFull()));
+                scheduler.add(new JobScheduler.Job(CoaezUtility.BotState.DISASSEMBLY, JobCondition.taskComplete()));
+                scheduler.add(new JobScheduler.Job(CoaezUtility.BotState.ALCHEMY, JobCondition.taskComplete()));
+            }
+            ImGui.SameLine();
+            if (ImGui.Button("Garden > Sq'irkjuice > Turn in")) {
+                scheduler.clear();
+                scheduler.add(new JobScheduler.Job(CoaezUtility.BotState.SORCERESS_GARDEN, JobCondition.backpackFull()));
+                scheduler.add(new JobScheduler.Job(CoaezUtility.BotState.WINTER_SQIRKJUICE, JobCondition.taskComplete()));
+                scheduler.add(new JobScheduler.Job(CoaezUtility.BotState.TURN_IN_SQIRKJUICE, JobCondition.taskComplete()));
+            }
+        }
+
+        ImGui.Separator();
+        scheduler.setLoop(ImGui.Checkbox("Loop queue", scheduler.isLoop()));
+        if (scheduler.isRunning()) {
+            if (currentJob != null) {
+                ImGui.Text("Running: " + currentJob + " (" + scheduler.getCurrentJobRunningMs() / 1000 + "s)");
+            }
+            if (ImGui.Button("Stop Queue")) {
+                scheduler.stop();
+                coaezUtility.setBotState(CoaezUtility.BotState.IDLE);
+            }
+        } else {
+            if (scheduler.getStopReason() != null) {
+                ImGui.Text("Last run: " + scheduler.getStopReason());
+            }
+            if (ImGui.Button("Start Queue") && !jobs.isEmpty()) {
+                scheduler.start();
+            }
+        }
+    }
+
+    private void renderMetricsTab() {
+        ImGui.Text("Tick Metrics");
+        ImGui.Separator();
+        ImGui.Text("Per-activity tick times in ms. Blocked is time spent waiting in delays rather than running.");
+        if (!TickProfiler.isBlockedTimeSupported()) {
+            ImGui.Text("Thread CPU time is unavailable on this JVM, blocked time is not recorded.");
+        }
+        if (ImGui.Button("Reset Metrics")) {
+            TickProfiler.reset();
+        }
+
+        TickProfiler.QueryType[] queryTypes = TickProfiler.QueryType.values();
+        if (ImGui.BeginTable("MetricsTable", 6 + queryTypes.length, 0)) {
+            ImGui.TableSetupColumn("Activity", 0);
+            ImGui.TableSetupColumn("Ticks", 0);
+            ImGui.TableSetupColumn("Mean", 0);
+            ImGui.TableSetupColumn("p95", 0);
+            ImGui.TableSetupColumn("Max", 0);
+            ImGui.TableSetupColumn("Blocked", 0);
+            for (TickProfiler.QueryType type : queryTypes) {
+                ImGui.TableSetupColumn(type.getLabel() + "/tick", 0);
+            }
+            ImGui.TableHeadersRow();
+
+            for (TickProfiler.StateMetrics metrics : TickProfiler.getAll()) {
+                long ticks = metrics.getTicks();
+                if (ticks == 0) {
+                    continue;
+                }
+                LatencyHistogram wallTime = metrics.getWallTime();
+                ImGui.TableNextRow();
+                ImGui.TableNextColumn();
+                ImGui.Text(metrics.getState().name());
+                ImGui.TableNextColumn();
+                ImGui.Text(String.valueOf(ticks));
+                ImGui.TableNextColumn();
+                ImGui.Text(String.format("%.1f", wallTime.getMean()));
+                ImGui.TableNextColumn();
+                ImGui.Text(String.valueOf(wallTime.getPercentile(95)));
+                ImGui.TableNextColumn();
+                ImGui.Text(String.valueOf(wallTime.getMax()));
+                ImGui.TableNextColumn();
+                ImGui.Text(String.format("%.0f%%", metrics.getBlockedPercent()));
+                for (TickProfiler.QueryType type : queryTypes) {
+                    ImGui.TableNextColumn();
+                    ImGui.Text(String.format("%.1f", (double) metrics.getQueries(type) / ticks));
+                }
+            }
+            ImGui.EndTable();
+        }
+    }
+
     
     private void updateSiphonTargetSettings() {
         if (coaezUtility != null && coaezUtility.getSiphonTarget() != null) {
@@ -0,0 +1,36 @@
+package net.botwithus;
+
+import net.botwithus.TickProfiler.QueryType;
+import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
+import net.botwithus.rs3.game.queries.builders.components.ComponentQuery;
+import net.botwithus.rs3.game.queries.builders.items.GroundItemQuery;
+import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
+
+/**
+ * Entry point for game queries so the tick profiler can count how many each task issues.
+ */
+public final class GameQueries {
+
+    private GameQueries() {
+    }
+
+    public static NpcQuery npcs() {
+        TickProfiler.recordQuery(QueryType.NPC);
+        return NpcQuery.newQuery();
+    }
+
+    public static SceneObjectQuery sceneObjects() {
+        TickProfiler.recordQuery(QueryType.SCENE_OBJECT);
+        return SceneObjectQuery.newQuery();
+    }
+
+    public static GroundItemQuery groundItems() {
+        TickProfiler.recordQuery(QueryType.GROUND_ITEM);
+        return GroundItemQuery.newQuery();
+    }
+
+    public static ComponentQuery components(int... interfaceIds) {
+        TickProfiler.recordQuery(QueryType.COMPONENT);
+        return ComponentQuery.newQuery(interfaceIds);
+    }
+}
@@ -0,0 +1,264 @@
+package net.botwithus;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+import net.botwithus.api.game.hud.inventories.Backpack;
+import net.botwithus.rs3.events.impl.InventoryUpdateEvent;
+import net.botwithus.rs3.game.Item;
+
+/**
+ * Keeps backpack item counts up to date from InventoryUpdateEvent so tasks don't have to recount the backpack,
+ * and lets tasks listen for a particular item being gained or lost.
+ *
+ * The backpack is read once when the script starts; after that every slot event is applied as a delta
+ * against the slot table. The table is compared with the live backpack every VERIFY_INTERVAL_MS and rebuilt
+ * if a missed or out-of-order event left it wrong. Counts can be read from any thread.
+ */
+public class InventoryTracker {
+    private static final Log LOG = Log.get("InventoryTracker");
+
+    public static final int BACKPACK_INVENTORY_ID = 93;
+    private static final int BACKPACK_SLOTS = 28;
+    private static final long VERIFY_INTERVAL_MS = 10_000;
+
+    /**
+     * Called after an item's backpack count changes
+     */
+    public interface Listener {
+        /**
+         * @param delta how many were gained, negative when items were lost
+         */
+        void onChange(int itemId, int delta);
+    }
+
+    private final int[] slotIds = new int[BACKPACK_SLOTS];
+    private final int[] slotAmounts = new int[BACKPACK_SLOTS];
+    private final String[] slotNames = new String[BACKPACK_SLOTS];
+    private final Map<Integer, Integer> countsById = new HashMap<>();
+    private final Map<String, Integer> countsByName = new HashMap<>();
+    private final Map<Integer, List<Listener>> listenersById = new HashMap<>();
+    private final List<Listener> anyItemListeners = new CopyOnWriteArrayList<>();
+    private long lastVerifiedAt;
+
+    public InventoryTracker() {
+        clearSlots();
+    }
+
+    /**
+     * Rebuild the table from the live backpack, used when the script starts
+     */
+    public synchronized void resync() {
+        clearSlots();
+        countsById.clear();
+        countsByName.clear();
+        List<Item> items = Backpack.getItems();
+        if (items != null) {
+            for (Item item : items) {
+                if (!isEmpty(item) && item.getSlot() >= 0 && item.getSlot() < BACKPACK_SLOTS) {
+                    setSlot(item.getSlot(), item.getId(), item.getStackSize(), item.getName());
+                }
+            }
+        }
+        lastVerifiedAt = System.currentTimeMillis();
+        LOG.debug(() -> "Resynced backpack: " + countsById.size() + " distinct items");
+    }
+
+    /**
+     * Compare the table with the live backpack if it hasn't been for VERIFY_INTERVAL_MS, and resync if they differ.
+     * Listeners aren't told about corrections, as the items weren't actually gained or lost just now.
+     * @return true if the table had drifted and was rebuilt
+     */
+    public synchronized boolean verify() {
+        long now = System.currentTimeMillis();
+        if (now - lastVerifiedAt < VERIFY_INTERVAL_MS) {
+            return false;
+        }
+        lastVerifiedAt = now;
+        int[] liveIds = new int[BACKPACK_SLOTS];
+        int[] liveAmounts = new int[BACKPACK_SLOTS];
+        Arrays.fill(liveIds, -1);
+        List<Item> items = Backpack.getItems();
+        if (items == null) {
+            return false;
+        }
+        for (Item item : items) {
+            if (!isEmpty(item) && item.getSlot() >= 0 && item.getSlot() < BACKPACK_SLOTS) {
+                liveIds[item.getSlot()] = item.getId();
+                liveAmounts[item.getSlot()] = item.getStackSize();
+            }
+        }
+        for (int slot = 0; slot < BACKPACK_SLOTS; slot++) {
+            if (liveIds[slot] != slotIds[slot] || liveAmounts[slot] != slotAmounts[slot]) {
+                int drifted = slot;
+                LOG.warn(() -> "Backpack slot " + drifted + " drifted from events, resyncing");
+                resync();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Apply a slot change and notify listeners of the item ids whose count changed
+     */
+    public void onInventoryUpdate(InventoryUpdateEvent event) {
+        if (event.getInventoryId() != BACKPACK_INVENTORY_ID) {
+            return;
+        }
+        Item newItem = event.getNewItem();
+        Item oldItem = event.getOldItem();
+        int slot = newItem != null ? newItem.getSlot() : oldItem != null ? oldItem.getSlot() : -1;
+        if (slot < 0 || slot >= BACKPACK_SLOTS) {
+            return;
+        }
+
+        int oldId;
+        int oldAmount;
+        int newId = isEmpty(newItem) ? -1 : newItem.getId();
+        int newAmount = newId == -1 ? 0 : newItem.getStackSize();
+        synchronized (this) {
+            oldId = slotIds[slot];
+            oldAmount = slotAmounts[slot];
+            if (oldId == newId && oldAmount == newAmount) {
+                return;
+            }
+            setSlot(slot, newId, newAmount, newId == -1 ? null : newItem.getName());
+        }
+
+        // Listeners run outside the lock so they can read counts freely
+        if (oldId == newId) {
+            notifyListeners(newId, newAmount - oldAmount);
+        } else {
+            if (oldId != -1) {
+                notifyListeners(oldId, -oldAmount);
+            }
+            if (newId != -1) {
+                notifyListeners(newId, newAmount);
+            }
+        }
+    }
+
+    /**
+     * Listen for changes to one item id
+     */
+    public synchronized void addListener(int itemId, Listener listener) {
+        listenersById.computeIfAbsent(itemId, id -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * Listen for changes to any item
+     */
+    public void addListener(Listener listener) {
+        anyItemListeners.add(listener);
+    }
+
+    public synchronized int count(int itemId) {
+        return countsById.getOrDefault(itemId, 0);
+    }
+
+    public synchronized int count(String name) {
+        return countsByName.getOrDefault(name, 0);
+    }
+
+    /**
+     * Total stack size of every item whose name matches
+     */
+    public synchronized int countMatching(Predicate<String> namePredicate) {
+        int total = 0;
+        for (Map.Entry<String, Integer> entry : countsByName.entrySet()) {
+            if (namePredicate.test(entry.getKey())) {
+                total += entry.getValue();
+            }
+        }
+        return total;
+    }
+
+    public synchronized boolean contains(int itemId) {
+        return countsById.containsKey(itemId);
+    }
+
+    public synchronized boolean isFull() {
+        for (int slot = 0; slot < BACKPACK_SLOTS; slot++) {
+            if (slotIds[slot] == -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the first slot holding an item with this name, or -1
+     */
+    public synchronized int slotOf(String name) {
+        for (int slot = 0; slot < BACKPACK_SLOTS; slot++) {
+            if (name.equals(slotNames[slot])) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void notifyListeners(int itemId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        List<Listener> listeners;
+        synchronized (this) {
+            listeners = listenersById.get(itemId);
+        }
+        if (listeners != null) {
+            for (Listener listener : listeners) {
+                listener.onChange(itemId, delta);
+            }
+        }
+        for (Listener listener : anyItemListeners) {
+            listener.onChange(itemId, delta);
+        }
+    }
+
+    private void setSlot(int slot, int id, int amount, String name) {
+        if (slotIds[slot] != -1) {
+            adjust(slotIds[slot], slotNames[slot], -slotAmounts[slot]);
+        }
+        slotIds[slot] = id;
+        slotAmounts[slot] = amount;
+        slotNames[slot] = name;
+        if (id != -1) {
+            adjust(id, name, amount);
+        }
+    }
+
+    private void adjust(int id, String name, int delta) {
+        int count = countsById.getOrDefault(id, 0) + delta;
+        if (count > 0) {
+            countsById.put(id, count);
+        } else {
+            countsById.remove(id);
+        }
+        if (name != null) {
+            int byName = countsByName.getOrDefault(name, 0) + delta;
+            if (byName > 0) {
+                countsByName.put(name, byName);
+            } else {
+                countsByName.remove(name);
+            }
+        }
+    }
+
+    private void clearSlots() {
+        for (int slot = 0; slot < BACKPACK_SLOTS; slot++) {
+            slotIds[slot] = -1;
+            slotAmounts[slot] = 0;
+            slotNames[slot] = null;
+        }
+    }
+
+    private static boolean isEmpty(Item item) {
+        return item == null || item.getId() < 0 || item.getStackSize() <= 0;
+    }
+}
@@ -0,0 +1,57 @@
+package net.botwithus;
+
+import net.botwithus.tasks.Task;
+
+/**
+ * Decides when a scheduled job is finished and the scheduler should move on to the next one.
+ */
+public interface JobCondition {
+
+    /**
+     * @param task the task running the job's state, or null if no task handles it
+     * @param runningMs how long the job has been running
+     */
+    boolean isMet(CoaezUtility script, Task task, long runningMs);
+
+    String describe();
+
+    /**
+     * Finished when the task reports it has nothing left to do
+     */
+    static JobCondition taskComplete() {
+        return of("task complete", (script, task, runningMs) -> task != null && task.isComplete());
+    }
+
+    static JobCondition backpackFull() {
+        return of("backpack full", (script, task, runningMs) -> script.getInventoryTracker().isFull());
+    }
+
+    static JobCondition afterMinutes(int minutes) {
+        return of(minutes + " min", (script, task, runningMs) -> runningMs >= minutes * 60_000L);
+    }
+
+    default JobCondition or(JobCondition other) {
+        JobCondition self = this;
+        return of(describe() + " or " + other.describe(),
+                (script, task, runningMs) -> self.isMet(script, task, runningMs) || other.isMet(script, task, runningMs));
+    }
+
+    private static JobCondition of(String description, Check check) {
+        return new JobCondition() {
+            @Override
+            public boolean isMet(CoaezUtility script, Task task, long runningMs) {
+                return check.isMet(script, task, runningMs);
+            }
+
+            @Override
+            public String describe() {
+                return description;
+            }
+        };
+    }
+
+    @FunctionalInterface
+    interface Check {
+        boolean isMet(CoaezUtility script, Task task, long runningMs);
+    }
+}
@@ -0,0 +1,190 @@
+package net.botwithus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import net.botwithus.CoaezUtility.BotState;
+import net.botwithus.tasks.Task;
+
+/**
+ * Runs a queue of activities one after another, e.g. POSD until the backpack is full, then disassembly,
+ * then alchemy and back to POSD. The scheduler is checked at the top of every tick and switches the bot
+ * state when the current job's condition is met, but only once the job's task has run at least once.
+ * Changing the state by hand stops the queue, and the reason it stopped is kept for the GUI.
+ */
+public class JobScheduler {
+    private static final Log LOG = Log.get("JobScheduler");
+
+    /**
+     * One activity in the queue
+     */
+    public static final class Job {
+        private final BotState state;
+        private final JobCondition until;
+
+        public Job(BotState state, JobCondition until) {
+            this.state = state;
+            this.until = until;
+        }
+
+        public BotState getState() {
+            return state;
+        }
+
+        public JobCondition getUntil() {
+            return until;
+        }
+
+        @Override
+        public String toString() {
+            return state + " until " + until.describe();
+        }
+    }
+
+    private final CoaezUtility script;
+    private final List<Job> jobs = new ArrayList<>();
+    private boolean loop = true;
+    private volatile boolean running;
+    private int currentIndex = -1;
+    private long jobStartedAt;
+    private boolean currentJobRan;
+    private volatile String stopReason;
+
+    public JobScheduler(CoaezUtility script) {
+        this.script = script;
+    }
+
+    public synchronized void add(Job job) {
+        jobs.add(job);
+    }
+
+    public synchronized void remove(int index) {
+        if (running) {
+            return;
+        }
+        if (index >= 0 && index < jobs.size()) {
+            jobs.remove(index);
+        }
+    }
+
+    public synchronized void clear() {
+        if (!running) {
+            jobs.clear();
+        }
+    }
+
+    public synchronized List<Job> getJobs() {
+        return Collections.unmodifiableList(new ArrayList<>(jobs));
+    }
+
+    public boolean isLoop() {
+        return loop;
+    }
+
+    public void setLoop(boolean loop) {
+        this.loop = loop;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return the job currently running, or null
+     */
+    public synchronized Job getCurrentJob() {
+        return running && currentIndex >= 0 && currentIndex < jobs.size() ? jobs.get(currentIndex) : null;
+    }
+
+    public long getCurrentJobRunningMs() {
+        return running ? System.currentTimeMillis() - jobStartedAt : 0;
+    }
+
+    public synchronized void start() {
+        if (jobs.isEmpty()) {
+            LOG.warn("No jobs queued");
+            return;
+        }
+        running = true;
+        stopReason = null;
+        startJob(0);
+    }
+
+    public synchronized void stop() {
+        stop("Stopped");
+    }
+
+    /**
+     * @return why the queue last stopped, or null if it is running or was never started
+     */
+    public String getStopReason() {
+        return stopReason;
+    }
+
+    /**
+     * Record that the task for a state ran this tick. Called from onLoop after the task's execute or step.
+     */
+    public synchronized void onTaskRan(BotState state) {
+        if (running && currentIndex >= 0 && jobs.get(currentIndex).getState() == state) {
+            currentJobRan = true;
+        }
+    }
+
+    /**
+     * Check the current job and move to the next one when it is finished. Called from onLoop before the task runs.
+     */
+    public synchronized void onTick() {
+        if (!running) {
+            return;
+        }
+        Job job = jobs.get(currentIndex);
+        if (script.getBotState() != job.getState()) {
+            BotState changedTo = script.getBotState();
+            LOG.warn(() -> "State changed to " + changedTo + " outside the job queue, abandoning " + job);
+            stop("Abandoned " + job + ": state changed to " + changedTo);
+            return;
+        }
+        if (!currentJobRan) {
+            // A condition already met when the job starts must not skip it without running
+            return;
+        }
+
+        Task task = script.getTaskRegistry().getTask(job.getState(), Task.class);
+        long runningMs = System.currentTimeMillis() - jobStartedAt;
+        if (!job.getUntil().isMet(script, task, runningMs)) {
+            return;
+        }
+
+        LOG.info(() -> "Finished " + job + " after " + runningMs / 1000 + "s");
+        int next = currentIndex + 1;
+        if (next >= jobs.size()) {
+            if (!loop) {
+                LOG.info("Job queue finished");
+                stop("Finished");
+                script.setBotState(BotState.IDLE);
+                return;
+            }
+            next = 0;
+        }
+        startJob(next);
+    }
+
+    private void stop(String reason) {
+        if (running) {
+            running = false;
+            currentIndex = -1;
+            stopReason = reason;
+            LOG.info(() -> "Job queue stopped: " + reason);
+        }
+    }
+
+    private void startJob(int index) {
+        currentIndex = index;
+        jobStartedAt = System.currentTimeMillis();
+        currentJobRan = false;
+        Job job = jobs.get(index);
+        LOG.info(() -> "Starting job " + (index + 1) + "/" + jobs.size() + ": " + job);
+        script.setBotState(job.getState());
+    }
+}
@@ -0,0 +1,84 @@
+package net.botwithus;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free millisecond histogram with power-of-two buckets.
+ * Bucket 0 holds samples under 1ms, bucket i holds [2^(i-1), 2^i) ms and the last bucket everything above.
+ */
+public final class LatencyHistogram {
+    private static final int BUCKETS = 20;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void record(long valueMs) {
+        if (valueMs < 0) {
+            valueMs = 0;
+        }
+        buckets.incrementAndGet(bucketFor(valueMs));
+        count.increment();
+        sum.add(valueMs);
+        max.accumulate(valueMs);
+    }
+
+    private static int bucketFor(long valueMs) {
+        int bucket = 64 - Long.numberOfLeadingZeros(valueMs);
+        return Math.min(bucket, BUCKETS - 1);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Estimate a percentile as the upper bound of the bucket it falls in
+     * @param percentile value between 0 and 100
+     */
+    public long getPercentile(double percentile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return i == BUCKETS - 1 ? getMax() : Math.min(1L << i, getMax());
+            }
+        }
+        return getMax();
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+}
@@ -0,0 +1,215 @@
+package net.botwithus;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import net.botwithus.rs3.script.ScriptConsole;
+
+/**
+ * Leveled, tagged logging facade.
+ *
+ * Messages are formatted only when their level is enabled and are handed to a bounded ring buffer
+ * that a background thread drains into the ScriptConsole, so the script thread never blocks on console I/O.
+ * When the buffer is full the oldest message is discarded.
+ */
+public final class Log {
+    public enum Level {
+        TRACE,
+        DEBUG,
+        INFO,
+        WARN,
+        ERROR,
+        OFF
+    }
+
+    private static final int BUFFER_CAPACITY = 4096;
+    private static final BlockingQueue<String> buffer = new ArrayBlockingQueue<>(BUFFER_CAPACITY);
+    private static final AtomicLong droppedMessages = new AtomicLong();
+    private static final Map<String, Log> loggers = new ConcurrentHashMap<>();
+    private static volatile Level defaultLevel = Level.INFO;
+    private static volatile Thread drainThread;
+
+    private final String tag;
+    private final String prefix;
+    private volatile Level overrideLevel;
+    private volatile int threshold;
+
+    private Log(String tag) {
+        this.tag = tag;
+        this.prefix = "[" + tag + "] ";
+        this.threshold = defaultLevel.ordinal();
+    }
+
+    /**
+     * Get the logger for a subsystem tag, e.g. "POSD" or "BeachEventTask"
+     */
+    public static Log get(String tag) {
+        return loggers.computeIfAbsent(tag, Log::new);
+    }
+
+    /**
+     * Set the level for every logger that has no override of its own
+     */
+    public static void setDefaultLevel(Level level) {
+        defaultLevel = level;
+        for (Log log : loggers.values()) {
+            if (log.overrideLevel == null) {
+                log.threshold = level.ordinal();
+            }
+        }
+    }
+
+    public static Level getDefaultLevel() {
+        return defaultLevel;
+    }
+
+    /**
+     * Override the level for a single tag; pass null to follow the default level again
+     */
+    public static void setLevel(String tag, Level level) {
+        Log log = get(tag);
+        log.overrideLevel = level;
+        log.threshold = (level != null ? level : defaultLevel).ordinal();
+    }
+
+    /**
+     * Start the background thread that drains buffered messages to the console
+     */
+    public static synchronized void start() {
+        if (drainThread != null && drainThread.isAlive()) {
+            return;
+        }
+        drainThread = new Thread(Log::drainLoop, "CoaezUtility-Log");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    /**
+     * Stop the drain thread and flush whatever is still buffered
+     */
+    public static synchronized void stop() {
+        Thread thread = drainThread;
+        drainThread = null;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    public static long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    private static void drainLoop() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                String message = buffer.poll(250, TimeUnit.MILLISECONDS);
+                if (message != null) {
+                    ScriptConsole.println(message);
+                    flush();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void flush() {
+        String message;
+        while ((message = buffer.poll()) != null) {
+            ScriptConsole.println(message);
+        }
+        long dropped = droppedMessages.getAndSet(0);
+        if (dropped > 0) {
+            ScriptConsole.println("[Log] " + dropped + " messages dropped, log buffer was full");
+        }
+    }
+
+    private static void enqueue(String message) {
+        while (!buffer.offer(message)) {
+            // Ring buffer behaviour: make room by discarding the oldest message
+            if (buffer.poll() != null) {
+                droppedMessages.incrementAndGet();
+            }
+        }
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public boolean isEnabled(Level level) {
+        return level.ordinal() >= threshold;
+    }
+
+    public boolean isDebugEnabled() {
+        return Level.DEBUG.ordinal() >= threshold;
+    }
+
+    public boolean isTraceEnabled() {
+        return Level.TRACE.ordinal() >= threshold;
+    }
+
+    public void log(Level level, String message) {
+        if (isEnabled(level)) {
+            enqueue(prefix + message);
+        }
+    }
+
+    public void log(Level level, Supplier<String> message) {
+        if (isEnabled(level)) {
+            enqueue(prefix + message.get());
+        }
+    }
+
+    public void trace(Supplier<String> message) {
+        log(Level.TRACE, message);
+    }
+
+    public void debug(String message) {
+        log(Level.DEBUG, message);
+    }
+
+    public void debug(Supplier<String> message) {
+        log(Level.DEBUG, message);
+    }
+
+    public void info(String message) {
+        log(Level.INFO, message);
+    }
+
+    public void info(Supplier<String> message) {
+        log(Level.INFO, message);
+    }
+
+    public void warn(String message) {
+        log(Level.WARN, message);
+    }
+
+    public void warn(Supplier<String> message) {
+        log(Level.WARN, message);
+    }
+
+    public void error(String message) {
+        log(Level.ERROR, message);
+    }
+
+    public void error(String message, Throwable throwable) {
+        if (isEnabled(Level.ERROR)) {
+            enqueue(prefix + message + ": " + throwable);
+            for (StackTraceElement element : throwable.getStackTrace()) {
+                enqueue(prefix + "    at " + element);
+            }
+        }
+    }
+}
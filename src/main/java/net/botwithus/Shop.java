@@ -6,7 +6,6 @@ import net.botwithus.rs3.game.inventories.Backpack;
 import net.botwithus.rs3.game.js5.types.configs.ConfigManager;
 import net.botwithus.rs3.game.minimenu.MiniMenu;
 import net.botwithus.rs3.game.minimenu.actions.ComponentAction;
-import net.botwithus.rs3.game.queries.builders.components.ComponentQuery;
 import net.botwithus.rs3.game.vars.VarManager;
 import net.botwithus.rs3.script.ScriptConsole;
 
@@ -26,7 +25,7 @@ public class Shop {
         ArrayList<Component> items = new ArrayList<>();
         // Shop items are at component index 20 with subcomponents 0-12
         for (int i = 0; i <= 12; i++) {
-            Component component = ComponentQuery.newQuery(1265)
+            Component component = GameQueries.components(1265)
                     .componentIndex(20)
                     .subComponentIndex(i)
                     .results()
@@ -73,7 +72,7 @@ public class Shop {
     public static boolean buyAll() {
         ArrayList<Component> items = new ArrayList<>();
         for (int i = 0; i <= 12; i++) {
-            Component component = ComponentQuery.newQuery(1265)
+            Component component = GameQueries.components(1265)
                     .componentIndex(20)
                     .subComponentIndex(i)
                     .results()
@@ -105,7 +104,7 @@ public class Shop {
             return false;
         }
 
-        Component component = ComponentQuery.newQuery(1265)
+        Component component = GameQueries.components(1265)
                 .componentIndex(20)
                 .subComponentIndex(1)
                 .results()
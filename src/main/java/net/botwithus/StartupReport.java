@@ -0,0 +1,50 @@
+package net.botwithus;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Records how long each subsystem took to initialise so slow script activation can be traced.
+ */
+public class StartupReport {
+    private static final Log LOG = Log.get("Startup");
+
+    private final Map<String, Long> timings = new LinkedHashMap<>();
+
+    /**
+     * Construct something and record how long it took
+     */
+    public <T> T time(String subsystem, Supplier<T> factory) {
+        long start = System.nanoTime();
+        T result = factory.get();
+        timings.put(subsystem, (System.nanoTime() - start) / 1_000_000L);
+        return result;
+    }
+
+    public Map<String, Long> getTimings() {
+        return timings;
+    }
+
+    /**
+     * Print the eager subsystem timings followed by every task that has been constructed so far
+     */
+    public void print(TaskRegistry taskRegistry) {
+        long total = 0;
+        LOG.info("Initialisation times:");
+        for (Map.Entry<String, Long> entry : timings.entrySet()) {
+            LOG.info("  " + entry.getKey() + ": " + entry.getValue() + "ms");
+            total += entry.getValue();
+        }
+        int deferred = 0;
+        for (TaskRegistry.Entry entry : taskRegistry.getEntries()) {
+            if (entry.isInstantiated()) {
+                LOG.info("  " + entry.getName() + " (task): " + entry.getInitTimeMs() + "ms");
+                total += entry.getInitTimeMs();
+            } else {
+                deferred++;
+            }
+        }
+        LOG.info("Total: " + total + "ms, " + deferred + " tasks deferred until first use");
+    }
+}
@@ -0,0 +1,210 @@
+package net.botwithus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import net.botwithus.CoaezUtility.BotState;
+import net.botwithus.tasks.Task;
+
+/**
+ * Registry mapping each BotState to the task that runs it.
+ * Tasks register a factory once at startup and are only constructed the first time
+ * they are asked for; dispatch from onLoop is a single EnumMap lookup.
+ */
+public class TaskRegistry {
+    private static final Log LOG = Log.get("TaskRegistry");
+
+    /** Default per-tick budget for tasks that don't specify one */
+    public static final long DEFAULT_TICK_BUDGET_MS = 5000;
+
+    private final Map<BotState, Entry> entries = new EnumMap<>(BotState.class);
+
+    /**
+     * Register a task factory for a state with the default tick budget
+     */
+    public void register(BotState state, String name, Supplier<? extends Task> factory) {
+        register(state, name, DEFAULT_TICK_BUDGET_MS, factory);
+    }
+
+    /**
+     * Register a task factory for a state
+     * @param tickBudgetMs how long a single execute() is expected to take before it is reported as over budget
+     */
+    public void register(BotState state, String name, long tickBudgetMs, Supplier<? extends Task> factory) {
+        if (entries.containsKey(state)) {
+            throw new IllegalStateException("Task already registered for state " + state);
+        }
+        entries.put(state, new Entry(state, name, tickBudgetMs, factory));
+    }
+
+    /**
+     * Get the entry for a state, or null if no task handles it
+     */
+    public Entry get(BotState state) {
+        return entries.get(state);
+    }
+
+    public boolean isRegistered(BotState state) {
+        return entries.containsKey(state);
+    }
+
+    public Collection<Entry> getEntries() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    /**
+     * Get the task for a state, constructing it if this is the first request
+     */
+    public <T extends Task> T getTask(BotState state, Class<T> type) {
+        Entry entry = entries.get(state);
+        return entry != null ? type.cast(entry.getTask()) : null;
+    }
+
+    /**
+     * Get the task for a state only if it has already been constructed
+     */
+    public <T extends Task> T peekTask(BotState state, Class<T> type) {
+        Entry entry = entries.get(state);
+        return entry != null ? type.cast(entry.peekTask()) : null;
+    }
+
+    /**
+     * Run an action against a task once it exists - immediately if it has already been constructed,
+     * otherwise right after it is first created.
+     */
+    public <T extends Task> void whenCreated(BotState state, Class<T> type, Consumer<T> action) {
+        Entry entry = entries.get(state);
+        if (entry != null) {
+            entry.whenCreated(task -> action.accept(type.cast(task)));
+        }
+    }
+
+    /**
+     * Registered task and its metadata
+     */
+    public static final class Entry {
+        private final BotState state;
+        private final String name;
+        private final long tickBudgetMs;
+        private final Supplier<? extends Task> factory;
+        private final List<Consumer<Task>> createListeners = new ArrayList<>();
+        private volatile Task task;
+        // Set while create listeners run, so a listener asking for the task gets this one instead of a second
+        private Task configuring;
+        private volatile boolean enabled = true;
+        private long initTimeMs = -1;
+        private long overBudgetTicks;
+
+        private Entry(BotState state, String name, long tickBudgetMs, Supplier<? extends Task> factory) {
+            this.state = state;
+            this.name = name;
+            this.tickBudgetMs = tickBudgetMs;
+            this.factory = factory;
+        }
+
+        public BotState getState() {
+            return state;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getTickBudgetMs() {
+            return tickBudgetMs;
+        }
+
+        /**
+         * Get the task, constructing it on first use
+         */
+        public Task getTask() {
+            Task current = task;
+            if (current != null) {
+                return current;
+            }
+            synchronized (this) {
+                if (task != null) {
+                    return task;
+                }
+                if (configuring != null) {
+                    return configuring;
+                }
+                long start = System.nanoTime();
+                Task created = factory.get();
+                initTimeMs = (System.nanoTime() - start) / 1_000_000L;
+                LOG.info(() -> "Initialised " + name + " in " + initTimeMs + "ms");
+                // Only publish the task once it is configured, other threads read it without locking
+                configuring = created;
+                try {
+                    for (Consumer<Task> listener : createListeners) {
+                        listener.accept(created);
+                    }
+                    createListeners.clear();
+                } finally {
+                    configuring = null;
+                }
+                task = created;
+                return created;
+            }
+        }
+
+        /**
+         * Get the task without constructing it
+         * @return the task, or null if it hasn't been created yet
+         */
+        public Task peekTask() {
+            return task;
+        }
+
+        public boolean isInstantiated() {
+            return task != null;
+        }
+
+        synchronized void whenCreated(Consumer<Task> listener) {
+            if (task != null) {
+                listener.accept(task);
+            } else if (configuring != null) {
+                listener.accept(configuring);
+            } else {
+                createListeners.add(listener);
+            }
+        }
+
+        /**
+         * @return milliseconds spent constructing the task, or -1 if it hasn't been created yet
+         */
+        public long getInitTimeMs() {
+            return initTimeMs;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getOverBudgetTicks() {
+            return overBudgetTicks;
+        }
+
+        /**
+         * Record how long a tick took
+         * @return true if the tick went over this task's budget
+         */
+        boolean recordTick(long elapsedMs) {
+            if (elapsedMs > tickBudgetMs) {
+                overBudgetTicks++;
+                return true;
+            }
+            return false;
+        }
+    }
+}
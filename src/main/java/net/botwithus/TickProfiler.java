@@ -0,0 +1,171 @@
+package net.botwithus;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import net.botwithus.CoaezUtility.BotState;
+
+/**
+ * Per-BotState tick metrics: tick count, wall time per tick, time spent blocked and game queries issued.
+ *
+ * Blocked time is the part of a tick's wall time that the script thread did not spend on the CPU,
+ * which is almost entirely time parked inside Execution.delay / delayUntil.
+ * All counters are lock-free so the GUI can read them while the script thread is recording.
+ */
+public final class TickProfiler {
+
+    public enum QueryType {
+        NPC("NPC"),
+        SCENE_OBJECT("Object"),
+        GROUND_ITEM("Ground"),
+        COMPONENT("Component");
+
+        private final String label;
+
+        QueryType(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * Metrics for a single state
+     */
+    public static final class StateMetrics {
+        private final BotState state;
+        private final LongAdder ticks = new LongAdder();
+        private final LatencyHistogram wallTime = new LatencyHistogram();
+        private final LatencyHistogram blockedTime = new LatencyHistogram();
+        private final AtomicLongArray queries = new AtomicLongArray(QueryType.values().length);
+
+        private StateMetrics(BotState state) {
+            this.state = state;
+        }
+
+        public BotState getState() {
+            return state;
+        }
+
+        public long getTicks() {
+            return ticks.sum();
+        }
+
+        public LatencyHistogram getWallTime() {
+            return wallTime;
+        }
+
+        public LatencyHistogram getBlockedTime() {
+            return blockedTime;
+        }
+
+        public long getQueries(QueryType type) {
+            return queries.get(type.ordinal());
+        }
+
+        /**
+         * @return percentage of wall time spent blocked, 0 if nothing has been recorded
+         */
+        public double getBlockedPercent() {
+            long wall = wallTime.getSum();
+            return wall == 0 ? 0 : 100.0 * blockedTime.getSum() / wall;
+        }
+
+        private void reset() {
+            ticks.reset();
+            wallTime.reset();
+            blockedTime.reset();
+            for (int i = 0; i < queries.length(); i++) {
+                queries.set(i, 0);
+            }
+        }
+    }
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME_SUPPORTED = THREADS.isCurrentThreadCpuTimeSupported();
+    private static final Map<BotState, StateMetrics> metrics = new EnumMap<>(BotState.class);
+
+    static {
+        for (BotState state : BotState.values()) {
+            metrics.put(state, new StateMetrics(state));
+        }
+    }
+
+    // Only touched by the script thread; queries from other threads (e.g. the GUI) are not attributed to a tick
+    private static volatile Thread tickThread;
+    private static StateMetrics current;
+    private static long tickStartNanos;
+    private static long tickStartCpuNanos;
+
+    private TickProfiler() {
+    }
+
+    /**
+     * Start timing a tick for the given state
+     */
+    public static void beginTick(BotState state) {
+        current = metrics.get(state);
+        tickThread = Thread.currentThread();
+        tickStartCpuNanos = CPU_TIME_SUPPORTED ? THREADS.getCurrentThreadCpuTime() : 0;
+        tickStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Finish the current tick and record it
+     * @return wall time of the tick in milliseconds
+     */
+    public static long endTick() {
+        long wallNanos = System.nanoTime() - tickStartNanos;
+        StateMetrics tick = current;
+        tickThread = null;
+        current = null;
+        if (tick == null) {
+            return 0;
+        }
+        long wallMs = wallNanos / 1_000_000L;
+        tick.ticks.increment();
+        tick.wallTime.record(wallMs);
+        if (CPU_TIME_SUPPORTED) {
+            long cpuNanos = THREADS.getCurrentThreadCpuTime() - tickStartCpuNanos;
+            tick.blockedTime.record(Math.max(0, wallNanos - cpuNanos) / 1_000_000L);
+        }
+        return wallMs;
+    }
+
+    /**
+     * Count a game query against the tick currently running on this thread
+     */
+    public static void recordQuery(QueryType type) {
+        if (Thread.currentThread() != tickThread) {
+            return;
+        }
+        StateMetrics tick = current;
+        if (tick != null) {
+            tick.queries.incrementAndGet(type.ordinal());
+        }
+    }
+
+    public static StateMetrics get(BotState state) {
+        return metrics.get(state);
+    }
+
+    public static Iterable<StateMetrics> getAll() {
+        return metrics.values();
+    }
+
+    public static boolean isBlockedTimeSupported() {
+        return CPU_TIME_SUPPORTED;
+    }
+
+    public static void reset() {
+        for (StateMetrics stateMetrics : metrics.values()) {
+            stateMetrics.reset();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package net.botwithus;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import net.botwithus.api.game.hud.inventories.Backpack;
+import net.botwithus.rs3.game.Client;
+import net.botwithus.rs3.game.Item;
+import net.botwithus.rs3.game.queries.results.EntityResultSet;
+import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
+import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
+import net.botwithus.rs3.game.scene.entities.object.SceneObject;
+import net.botwithus.rs3.game.vars.VarManager;
+
+/**
+ * Per-tick cache of commonly read game state so tasks don't repeat the same native calls within a tick.
+ *
+ * onLoop starts a new snapshot at the top of every tick. Each value is fetched the first time it is read
+ * and reused until the snapshot is reset or the value is older than one game cycle, so a task that waits
+ * inside a delay still sees fresh data afterwards. The backpack is also dropped on every InventoryUpdateEvent.
+ * Only meant to be read from the script thread.
+ */
+public final class TickSnapshot {
+    /** Length of a game cycle; cached values older than this are fetched again */
+    public static final long GAME_CYCLE_MS = 600;
+
+    private static final Cached<LocalPlayer> player = new Cached<>(Client::getLocalPlayer);
+    private static final Cached<List<Item>> backpack = new Cached<>(() -> {
+        List<Item> items = Backpack.getItems();
+        return items != null ? Collections.unmodifiableList(items) : Collections.emptyList();
+    });
+    private static final Cached<EntityResultSet<Npc>> npcs = new Cached<>(() -> GameQueries.npcs().results());
+    private static final Cached<EntityResultSet<SceneObject>> sceneObjects = new Cached<>(() -> GameQueries.sceneObjects().results());
+    private static final Map<Integer, Integer> varbits = new HashMap<>();
+    private static long varbitsLoadedAt;
+
+    private TickSnapshot() {
+    }
+
+    /**
+     * Drop everything cached by the previous tick
+     */
+    public static void beginTick() {
+        player.invalidate();
+        backpack.invalidate();
+        npcs.invalidate();
+        sceneObjects.invalidate();
+        varbits.clear();
+    }
+
+    /**
+     * Drop the cached backpack, called when the inventory changes
+     */
+    public static void invalidateBackpack() {
+        backpack.invalidate();
+    }
+
+    /**
+     * @return the local player, or null if not logged in
+     */
+    public static LocalPlayer player() {
+        return player.get();
+    }
+
+    /**
+     * @return the backpack contents, never null. The list is read-only.
+     */
+    public static List<Item> backpack() {
+        return backpack.get();
+    }
+
+    /**
+     * @return every loaded NPC
+     */
+    public static EntityResultSet<Npc> npcs() {
+        return npcs.get();
+    }
+
+    /**
+     * @return every loaded scene object
+     */
+    public static EntityResultSet<SceneObject> sceneObjects() {
+        return sceneObjects.get();
+    }
+
+    public static int varbit(int id) {
+        long now = System.currentTimeMillis();
+        if (now - varbitsLoadedAt >= GAME_CYCLE_MS) {
+            varbits.clear();
+            varbitsLoadedAt = now;
+        }
+        Integer value = varbits.get(id);
+        if (value == null) {
+            value = VarManager.getVarbitValue(id);
+            varbits.put(id, value);
+        }
+        return value;
+    }
+
+    /**
+     * A lazily fetched value that expires after a game cycle
+     */
+    private static final class Cached<T> {
+        private final Supplier<T> loader;
+        private T value;
+        private long loadedAt;
+        // Cleared from the event thread by invalidateBackpack
+        private volatile boolean loaded;
+
+        Cached(Supplier<T> loader) {
+            this.loader = loader;
+        }
+
+        T get() {
+            long now = System.currentTimeMillis();
+            if (!loaded || now - loadedAt >= GAME_CYCLE_MS) {
+                value = loader.get();
+                loadedAt = now;
+                loaded = true;
+            }
+            return value;
+        }
+
+        void invalidate() {
+            loaded = false;
+        }
+    }
+}
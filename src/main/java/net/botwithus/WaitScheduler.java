@@ -0,0 +1,71 @@
+package net.botwithus;
+
+import java.util.function.BooleanSupplier;
+
+import net.botwithus.rs3.script.Execution;
+
+/**
+ * Waits on conditions that only change when the game sends an event the script forwards here.
+ *
+ * CoaezUtility calls signal() on every InventoryUpdateEvent and ChatMessageEvent. A wait evaluates its condition
+ * once up front and then again after each signal, and at least once per game cycle without one: the last event
+ * of a batch can arrive before Backpack reflects it, and no later signal would come to re-check. The sleeping
+ * itself is done by Execution.delayUntil, which keeps script pause and stop handling; it only watches the
+ * signal counter.
+ *
+ * Interface and varbit changes have no event stream in the API, so waits on them belong in Execution.delayUntil
+ * directly - a condition passed here that nothing signals would only be checked once per game cycle.
+ */
+public final class WaitScheduler {
+    private static final Log LOG = Log.get("WaitScheduler");
+
+    private static volatile long generation;
+    private static volatile boolean cancelled;
+
+    private WaitScheduler() {
+    }
+
+    /**
+     * Wake every waiting task so it re-checks its condition
+     */
+    public static synchronized void signal() {
+        generation++;
+    }
+
+    /**
+     * Block until a signalled condition holds, the timeout passes or the script stops
+     * @param condition re-checked after each inventory or chat event, and every game cycle regardless
+     * @return true if the condition was met
+     */
+    public static boolean until(long timeoutMs, BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (true) {
+            long seen = generation;
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            long remainingMs = deadline - System.currentTimeMillis();
+            if (cancelled || remainingMs <= 0) {
+                return false;
+            }
+            // A signal that arrived while the condition was being checked has already moved generation on
+            Execution.delayUntil(Math.min(remainingMs, TickSnapshot.GAME_CYCLE_MS), () -> generation != seen || cancelled);
+        }
+    }
+
+    /**
+     * Release every waiting task, used when the script stops
+     */
+    public static void cancelAll() {
+        cancelled = true;
+        signal();
+        LOG.debug("Cancelled pending waits");
+    }
+
+    /**
+     * Allow waits again after the script is restarted
+     */
+    public static void reset() {
+        cancelled = false;
+    }
+}
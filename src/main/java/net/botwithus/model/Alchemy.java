@@ -1,16 +1,15 @@
 package net.botwithus.model;
 
 import net.botwithus.CoaezUtility;
-import net.botwithus.api.game.hud.inventories.Backpack;
-import net.botwithus.rs3.game.Client;
+import net.botwithus.GameQueries;
+import net.botwithus.Log;
+import net.botwithus.TickSnapshot;
 import net.botwithus.rs3.game.Item;
 import net.botwithus.rs3.game.hud.interfaces.Component;
 import net.botwithus.rs3.game.minimenu.MiniMenu;
 import net.botwithus.rs3.game.minimenu.actions.SelectableAction;
-import net.botwithus.rs3.game.queries.builders.components.ComponentQuery;
 import net.botwithus.rs3.game.queries.results.ResultSet;
 import net.botwithus.rs3.script.Execution;
-import net.botwithus.rs3.script.ScriptConsole;
 import net.botwithus.rs3.game.cs2.ScriptBuilder;
 import net.botwithus.rs3.game.cs2.layouts.Layout;
 import net.botwithus.rs3.game.cs2.ReturnValue;
@@ -21,6 +20,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public class Alchemy {
+    private static final Log LOG = Log.get("Alchemy");
     private final List<Pattern> alchemyPatterns = new ArrayList<>();
     private boolean alchemyEnabled = true;
     private CoaezUtility script;
@@ -62,37 +62,37 @@ public class Alchemy {
     }
 
     private List<Item> fetchItemsToAlch() {
-        List<Item> backpackItems = Backpack.getItems();
-        ScriptConsole.println("[Alchemy] Total backpack items: " + backpackItems.size());
-        ScriptConsole.println("[Alchemy] Configured patterns to match: " + getAlchemyItems());
+        List<Item> backpackItems = TickSnapshot.backpack();
+        LOG.debug(() -> "Total backpack items: " + backpackItems.size());
+        LOG.debug(() -> "Configured patterns to match: " + getAlchemyItems());
         
         List<Item> matchingItems = backpackItems.stream()
                 .filter(item -> {
                     String itemName = item.getName();
-                    ScriptConsole.println("[Alchemy] Checking item: " + itemName);
+                    LOG.debug(() -> "Checking item: " + itemName);
                     boolean matched = alchemyPatterns.stream()
                             .anyMatch(pattern -> {
                                 boolean matchResult = pattern.matcher(itemName).find();
-                                ScriptConsole.println("[Alchemy] Pattern '" + pattern.pattern() + 
+                                LOG.debug(() -> "Pattern '" + pattern.pattern() + 
                                     "' match result for '" + itemName + "': " + matchResult);
                                 return matchResult;
                             });
-                    ScriptConsole.println("[Alchemy] Item matched: " + matched + " for " + itemName);
+                    LOG.debug(() -> "Item matched: " + matched + " for " + itemName);
                     return matched;
                 })
                 .collect(Collectors.toList());
                 
-        ScriptConsole.println("[Alchemy] Found matching items: " + matchingItems.size());
+        LOG.debug(() -> "Found matching items: " + matchingItems.size());
         return matchingItems;
     }
 
     private boolean isAlchemySpellActive() {
-        Component alchemyComponent = ComponentQuery.newQuery(218).text("High Level Alchemy").results().first();
+        Component alchemyComponent = GameQueries.components(218).text("High Level Alchemy").results().first();
         return alchemyComponent != null;
     }
 
     private boolean isCastingSpell() {
-        return Client.getLocalPlayer().getAnimationId() != -1;
+        return TickSnapshot.player().getAnimationId() != -1;
     }
 
     public void castAlchemy() {
@@ -120,7 +120,7 @@ public class Alchemy {
     }
 
     private Component findComponentBySpriteId(int spriteID) {
-        ResultSet<Component> components = ComponentQuery.newQuery(1219, 1430, 1670, 1671, 1672, 1673)
+        ResultSet<Component> components = GameQueries.components(1219, 1430, 1670, 1671, 1672, 1673)
                 .spriteId(spriteID)
                 .option("Customise keybind")
                 .results();
@@ -132,10 +132,10 @@ public class Alchemy {
     }
 
     private boolean clearSelection() {
-        ScriptConsole.println("[Alchemy] Attempting to clear selection via ScriptBuilder invokeExact(9666)");
+        LOG.info("Attempting to clear selection via ScriptBuilder invokeExact(9666)");
         List<ReturnValue> result = cancelSelectionScript.invokeExact();
         boolean success = !result.isEmpty() && result.get(0).asInt() == 1; 
-        ScriptConsole.println("[Alchemy] Clear selection invoke success: " + success + " (Result size: " + result.size() + ")");
+        LOG.info(() -> "Clear selection invoke success: " + success + " (Result size: " + result.size() + ")");
         if (success) {
             Execution.delay(script.getRandom().nextInt(100) + 50);
         }
@@ -143,9 +143,9 @@ public class Alchemy {
     }
 
     private void selectItemForAlchemy(Item item) {
-        ScriptConsole.println("[Alchemy] Attempting to select item for alchemy: " + item.getName() + " (ID: " + item.getId() + ") in slot " + item.getSlot());
+        LOG.info(() -> "Attempting to select item for alchemy: " + item.getName() + " (ID: " + item.getId() + ") in slot " + item.getSlot());
         boolean success = MiniMenu.interact(SelectableAction.SELECT_COMPONENT_ITEM.getType(), 0, item.getSlot(), 96534533);
-        ScriptConsole.println("[Alchemy] Item selection success: " + success);
+        LOG.info(() -> "Item selection success: " + success);
         if (success) {
             Execution.delay(script.getRandom().nextInt(150) + 100);
             clearSelection();
@@ -157,16 +157,16 @@ public class Alchemy {
     }
 
     public boolean hasItemsToAlchemize() {
-        List<Item> backpackItems = Backpack.getItems();
+        List<Item> backpackItems = TickSnapshot.backpack();
         boolean hasItems = backpackItems.stream()
                 .anyMatch(item -> {
                     String itemName = item.getName();
                     boolean matched = alchemyPatterns.stream()
                             .anyMatch(pattern -> pattern.matcher(itemName).find());
-                    ScriptConsole.println("[Alchemy] Checking item: " + itemName + " - matched: " + matched);
+                    LOG.debug(() -> "Checking item: " + itemName + " - matched: " + matched);
                     return matched;
                 });
-        ScriptConsole.println("[Alchemy] Has items to alchemize: " + hasItems);
+        LOG.debug(() -> "Has items to alchemize: " + hasItems);
         return hasItems;
     }
 
@@ -1,5 +1,6 @@
 package net.botwithus.model;
 
+import net.botwithus.GameQueries;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.rs3.game.Client;
 import net.botwithus.rs3.game.Item;
@@ -7,7 +8,6 @@ import net.botwithus.rs3.game.hud.interfaces.Component;
 import net.botwithus.rs3.game.minimenu.MiniMenu;
 import net.botwithus.rs3.game.minimenu.actions.SelectableAction;
 import net.botwithus.rs3.game.minimenu.actions.ComponentAction;
-import net.botwithus.rs3.game.queries.builders.components.ComponentQuery;
 import net.botwithus.rs3.game.queries.results.ResultSet;
 import net.botwithus.rs3.script.Execution;
 import net.botwithus.rs3.script.ScriptConsole;
@@ -85,7 +85,7 @@ public class Disassembly {
     }
 
     private boolean isDisassembleActive() {
-        Component disassembleComponent = ComponentQuery.newQuery(218).text("Disassembly").results().first();
+        Component disassembleComponent = GameQueries.components(218).text("Disassembly").results().first();
         ScriptConsole.println("[Disassembly] Disassemble active check: " + (disassembleComponent != null));
         return disassembleComponent != null;
     }
@@ -161,7 +161,7 @@ public class Disassembly {
     }
 
     private Component findComponentBySpriteId(int spriteID) {
-        ResultSet<Component> components = ComponentQuery.newQuery(1219, 1430, 1670, 1671, 1672, 1673)
+        ResultSet<Component> components = GameQueries.components(1219, 1430, 1670, 1671, 1672, 1673)
                 .spriteId(spriteID)
                 .option("Customise keybind")
                 .results();
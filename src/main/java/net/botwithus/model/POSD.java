@@ -1,6 +1,8 @@
 package net.botwithus.model;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
+import net.botwithus.Log;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.api.game.hud.inventories.Equipment;
 import net.botwithus.api.game.hud.inventories.Bank;
@@ -19,11 +21,8 @@ import net.botwithus.rs3.game.minimenu.actions.ComponentAction;
 import net.botwithus.rs3.game.movement.Movement;
 import net.botwithus.rs3.game.movement.NavPath;
 import net.botwithus.rs3.game.movement.TraverseEvent;
-import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
 import net.botwithus.rs3.game.queries.builders.components.ComponentQuery;
-import net.botwithus.rs3.game.queries.builders.items.GroundItemQuery;
 import net.botwithus.rs3.game.queries.builders.items.InventoryItemQuery;
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.queries.results.ResultSet;
 import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
@@ -32,7 +31,6 @@ import net.botwithus.rs3.game.scene.entities.item.GroundItem;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
 import net.botwithus.rs3.game.vars.VarManager;
 import net.botwithus.rs3.script.Execution;
-import net.botwithus.rs3.script.ScriptConsole;
 import net.botwithus.rs3.util.RandomGenerator;
 
 import java.util.ArrayList;
@@ -43,6 +41,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class POSD {
+    private static final Log LOG = Log.get("POSD");
     private final CoaezUtility script;
     private final Random random = new Random();
     
@@ -70,7 +69,7 @@ public class POSD {
 
     public void processLooting() {
         if (Backpack.isFull()) {
-            ScriptConsole.println("[POSD] Backpack is full. Cannot loot more items.");
+            LOG.info("Backpack is full. Cannot loot more items.");
         } else {
             if (Interfaces.isOpen(1622)) {
                 this.lootFromInventory();
@@ -94,7 +93,7 @@ public class POSD {
 
     public void lootFromInventory() {
         if (!this.canLoot()) {
-            ScriptConsole.println("[POSD] No target items specified for looting.");
+            LOG.info("No target items specified for looting.");
         } else {
             Pattern lootPattern = this.generateLootPattern(targetItemNames);
             List<Item> inventoryItems = LootInventory.getItems();
@@ -104,7 +103,7 @@ public class POSD {
                     Matcher matcher = lootPattern.matcher(item.getName());
                     if (matcher.find()) {
                         LootInventory.take(item.getName());
-                        ScriptConsole.println("[POSD] Successfully looted item: " + item.getName());
+                        LOG.info(() -> "Successfully looted item: " + item.getName());
                     }
                 }
             }
@@ -113,19 +112,19 @@ public class POSD {
 
     public void lootFromGround() {
         if (targetItemNames.isEmpty()) {
-            ScriptConsole.println("[POSD] No target items specified for looting.");
+            LOG.info("No target items specified for looting.");
         } else if (LootInventory.isOpen()) {
-            ScriptConsole.println("[POSD] Loot interface is open, skipping ground looting.");
+            LOG.info("Loot interface is open, skipping ground looting.");
         } else {
             Pattern lootPattern = this.generateLootPattern(targetItemNames);
-            List<GroundItem> groundItems = GroundItemQuery.newQuery().results().stream().toList();
+            List<GroundItem> groundItems = GameQueries.groundItems().results().stream().toList();
             
             for (GroundItem groundItem : groundItems) {
                 if (groundItem.getName() != null) {
                     Matcher matcher = lootPattern.matcher(groundItem.getName());
                     if (matcher.find()) {
                         groundItem.interact("Take");
-                        ScriptConsole.println("[POSD] Interacted with: " + groundItem.getName() + " on the ground.");
+                        LOG.info(() -> "Interacted with: " + groundItem.getName() + " on the ground.");
                         Execution.delay(5000L);
                     }
                 }
@@ -143,20 +142,20 @@ public class POSD {
     }
 
     public void lootAll() {
-        EntityResultSet<GroundItem> groundItems = GroundItemQuery.newQuery().results();
+        EntityResultSet<GroundItem> groundItems = GameQueries.groundItems().results();
         if (!groundItems.isEmpty()) {
             Execution.delay(RandomGenerator.nextInt(1500, 2000));
-            ComponentQuery lootAllQuery = ComponentQuery.newQuery(1622);
+            ComponentQuery lootAllQuery = GameQueries.components(1622);
             List<Component> components = lootAllQuery.componentIndex(22).results().stream().toList();
             if (!components.isEmpty() && components.get(0).interact(1)) {
-                ScriptConsole.println("[POSD] Successfully interacted with Loot All.");
+                LOG.info("Successfully interacted with Loot All.");
                 Execution.delay(RandomGenerator.nextInt(806, 1259));
             }
         }
     }
 
     public void lootInterface() {
-        EntityResultSet<GroundItem> groundItems = GroundItemQuery.newQuery().results();
+        EntityResultSet<GroundItem> groundItems = GameQueries.groundItems().results();
         if (!groundItems.isEmpty() && !Backpack.isFull()) {
             GroundItem groundItem = groundItems.nearest();
             if (groundItem != null) {
@@ -165,7 +164,7 @@ public class POSD {
                 
                 if (Client.getLocalPlayer().isMoving() && groundItem.getCoordinate() != null && 
                         Distance.between(Client.getLocalPlayer().getCoordinate(), groundItem.getCoordinate()) > 10.0D) {
-                    ScriptConsole.println("[POSD] Used Surge: " + ActionBar.useAbility("Surge"));
+                    LOG.info(() -> "Used Surge: " + ActionBar.useAbility("Surge"));
                     Execution.delay(RandomGenerator.nextInt(200, 250));
                 }
 
@@ -175,15 +174,15 @@ public class POSD {
                 }
 
                 if (groundItem.interact("Take")) {
-                    ScriptConsole.println("[POSD] Taking " + groundItem.getName() + "...");
+                    LOG.info(() -> "Taking " + groundItem.getName() + "...");
                     Execution.delay(RandomGenerator.nextInt(600, 700));
                 }
 
                 boolean interfaceOpened = Execution.delayUntil(15000L, () -> Interfaces.isOpen(1622));
                 if (!interfaceOpened) {
-                    ScriptConsole.println("[POSD] Interface 1622 did not open. Attempting to interact with ground item again.");
+                    LOG.info("Interface 1622 did not open. Attempting to interact with ground item again.");
                     if (groundItem.interact("Take")) {
-                        ScriptConsole.println("[POSD] Attempting to take " + groundItem.getName() + " again...");
+                        LOG.info(() -> "Attempting to take " + groundItem.getName() + " again...");
                         Execution.delay(RandomGenerator.nextInt(250, 300));
                     }
                 }
@@ -196,13 +195,13 @@ public class POSD {
     public void handlePOD() {
         LocalPlayer player = Client.getLocalPlayer();
         if (player == null) {
-            ScriptConsole.println("[POSD] Player is null, waiting...");
+            LOG.info("Player is null, waiting...");
             Execution.delay(1200);
             return;
         }
         
         // Check for Death NPC
-        Npc death = NpcQuery.newQuery().name("Death").results().nearest();
+        Npc death = GameQueries.npcs().name("Death").results().nearest();
         if (death != null) {
             Execution.delay(5000L);
             LoginManager.setAutoLogin(false);
@@ -214,10 +213,10 @@ public class POSD {
         
         // Check auto retaliate
         if (VarManager.getVarValue(VarDomainType.PLAYER, 462) == 1) {
-            ScriptConsole.println("[POSD] Auto Retaliate is off, turning it on");
+            LOG.info("Auto Retaliate is off, turning it on");
             MiniMenu.interact(ComponentAction.COMPONENT.getType(), 1, -1, 93716537);
             Execution.delay(RandomGenerator.nextInt(1000, 3000));
-            ScriptConsole.println("[POSD] Auto Retaliate enabled");
+            LOG.info("Auto Retaliate enabled");
             return;
         }
         
@@ -228,33 +227,33 @@ public class POSD {
         switch (this.currentStep) {
             case 1:
                 if (this.travelToPOD()) {
-                    ScriptConsole.println("[POSD] Arrived at POD. Proceeding to interaction.");
+                    LOG.info("Arrived at POD. Proceeding to interaction.");
                     this.currentStep = 2;
                 } else {
-                    ScriptConsole.println("[POSD] Traveling to POD...");
+                    LOG.info("Traveling to POD...");
                 }
                 break;
             case 2:
                 if (this.interactWithKags()) {
-                    ScriptConsole.println("[POSD] Interacted with Kags. Proceeding to the next step.");
+                    LOG.info("Interacted with Kags. Proceeding to the next step.");
                     this.currentStep = 3;
                 }
                 break;
             case 3:
                 if (this.interactWithFirstDoor()) {
-                    ScriptConsole.println("[POSD] Interacted with the first door. Proceeding to the next step.");
+                    LOG.info("Interacted with the first door. Proceeding to the next step.");
                     this.currentStep = 4;
                 }
                 break;
             case 4:
                 if (this.interactWithOtherDoor()) {
-                    ScriptConsole.println("[POSD] Interacted with the other door. Proceeding to the next step.");
+                    LOG.info("Interacted with the other door. Proceeding to the next step.");
                     this.currentStep = 5;
                 }
                 break;
             case 5:
                 if (this.movePlayerEast()) {
-                    ScriptConsole.println("[POSD] Moved player east. Proceeding to the next step.");
+                    LOG.info("Moved player east. Proceeding to the next step.");
                     this.currentStep = 6;
                 }
                 break;
@@ -277,7 +276,7 @@ public class POSD {
                 }
                 break;
             default:
-                ScriptConsole.println("[POSD] Invalid step. Please check the process flow.");
+                LOG.info("Invalid step. Please check the process flow.");
         }
     }
 
@@ -298,7 +297,7 @@ public class POSD {
     }
 
     public boolean interactWithKags() {
-        EntityResultSet<Npc> kags = NpcQuery.newQuery().name("Portmaster Kags").option("Travel").results();
+        EntityResultSet<Npc> kags = GameQueries.npcs().name("Portmaster Kags").option("Travel").results();
         if (!kags.isEmpty()) {
             Npc nearestKags = kags.nearest();
             if (nearestKags != null && nearestKags.interact("Travel")) {
@@ -314,35 +313,35 @@ public class POSD {
     }
 
     public boolean interactWithFirstDoor() {
-        ScriptConsole.println("[POSD] Searching for door to interact with...");
-        EntityResultSet<SceneObject> door = SceneObjectQuery.newQuery().name("Door").option("Open").results();
+        LOG.info("Searching for door to interact with...");
+        EntityResultSet<SceneObject> door = GameQueries.sceneObjects().name("Door").option("Open").results();
         
         if (door.isEmpty()) {
-            ScriptConsole.println("[POSD] No door found with name 'Door' and option 'Open'");
+            LOG.info("No door found with name 'Door' and option 'Open'");
             return false;
         }
         
-        ScriptConsole.println("[POSD] Found " + door.size() + " doors matching criteria");
+        LOG.info(() -> "Found " + door.size() + " doors matching criteria");
         SceneObject nearestDoor = door.nearest();
         
         if (nearestDoor == null) {
-            ScriptConsole.println("[POSD] Nearest door is null");
+            LOG.info("Nearest door is null");
             return false;
         }
         
-        ScriptConsole.println("[POSD] Attempting to interact with door at position: " + nearestDoor.getCoordinate());
+        LOG.info(() -> "Attempting to interact with door at position: " + nearestDoor.getCoordinate());
         if (nearestDoor.interact("Open")) {
-            ScriptConsole.println("[POSD] Successfully interacted with door, waiting for response...");
+            LOG.info("Successfully interacted with door, waiting for response...");
             Execution.delay(RandomGenerator.nextInt(5000, 8000));
             return true;
         } else {
-            ScriptConsole.println("[POSD] Failed to interact with door");
+            LOG.info("Failed to interact with door");
             return false;
         }
     }
 
     public boolean interactWithOtherDoor() {
-        EntityResultSet<SceneObject> otherDoor = SceneObjectQuery.newQuery().name("Barrier").option("Pass through").results();
+        EntityResultSet<SceneObject> otherDoor = GameQueries.sceneObjects().name("Barrier").option("Pass through").results();
         if (!otherDoor.isEmpty()) {
             SceneObject nearestOtherDoor = otherDoor.nearest();
             if (nearestOtherDoor != null && nearestOtherDoor.interact("Pass through")) {
@@ -367,7 +366,7 @@ public class POSD {
         }
         ActionBar.useAbility("War's Retreat Teleport");
         Execution.delay(RandomGenerator.nextInt(6000, 8000));
-        EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery().name("Bank chest").option("Use").results();
+        EntityResultSet<SceneObject> results = GameQueries.sceneObjects().name("Bank chest").option("Use").results();
         if (!results.isEmpty()) {
             SceneObject chest = results.nearest();
             if (chest != null) {
@@ -398,12 +397,12 @@ public class POSD {
 
     private void activateQuickPrayers() {
         if (!this.quickPrayersActive) {
-            ScriptConsole.println("[POSD] Activating Quick Prayers.");
+            LOG.info("Activating Quick Prayers.");
             if (ActionBar.useAbility("Quick-prayers " + quickPrayersNumber)) {
-                ScriptConsole.println("[POSD] Quick Prayers activated successfully.");
+                LOG.info("Quick Prayers activated successfully.");
                 this.quickPrayersActive = true;
             } else {
-                ScriptConsole.println("[POSD] Failed to activate Quick Prayers.");
+                LOG.info("Failed to activate Quick Prayers.");
             }
         }
     }
@@ -418,17 +417,17 @@ public class POSD {
                     .findFirst().orElse(null);
                     
             if (weaponPoisonItem == null) {
-                ScriptConsole.println("[POSD] No weapon poison found in the Backpack.");
+                LOG.info("No weapon poison found in the Backpack.");
                 return 1L;
             } else {
                 boolean success = Backpack.interact(weaponPoisonItem.getName(), "Apply");
                 if (success) {
-                    ScriptConsole.println("[POSD] Successfully applied " + weaponPoisonItem.getName());
+                    LOG.info(() -> "Successfully applied " + weaponPoisonItem.getName());
                     long delay = random.nextLong(1500L, 3000L);
                     Execution.delay(delay);
                     return delay;
                 } else {
-                    ScriptConsole.println("[POSD] Failed to apply weapon poison.");
+                    LOG.info("Failed to apply weapon poison.");
                     return 0L;
                 }
             }
@@ -439,12 +438,12 @@ public class POSD {
 
     private void deactivateQuickPrayers() {
         if (this.quickPrayersActive) {
-            ScriptConsole.println("[POSD] Deactivating Quick Prayers.");
+            LOG.info("Deactivating Quick Prayers.");
             if (ActionBar.useAbility("Quick-prayers " + quickPrayersNumber)) {
-                ScriptConsole.println("[POSD] Quick Prayers deactivated.");
+                LOG.info("Quick Prayers deactivated.");
                 this.quickPrayersActive = false;
             } else {
-                ScriptConsole.println("[POSD] Failed to deactivate Quick Prayers.");
+                LOG.info("Failed to deactivate Quick Prayers.");
             }
         }
     }
@@ -463,19 +462,19 @@ public class POSD {
         if (useAggroPots && player != null && player.inCombat() && player.getAnimationId() != 18000 && VarManager.getVarbitValue(33448) == 0) {
             ResultSet<Item> results = InventoryItemQuery.newQuery(93).name("Aggression", String::contains).option("Drink").results();
             if (results.isEmpty()) {
-                ScriptConsole.println("[POSD] No aggression flasks found in the inventory.");
+                LOG.info("No aggression flasks found in the inventory.");
                 return 1L;
             } else {
                 Item aggressionFlask = results.first();
                 if (aggressionFlask != null) {
                     boolean success = Backpack.interact(aggressionFlask.getName(), "Drink");
                     if (success) {
-                        ScriptConsole.println("[POSD] Using aggression potion: " + aggressionFlask.getName());
+                        LOG.info(() -> "Using aggression potion: " + aggressionFlask.getName());
                         long delay = random.nextLong(1500L, 3000L);
                         Execution.delay(delay);
                         return delay;
                     } else {
-                        ScriptConsole.println("[POSD] Failed to use aggression potion: " + aggressionFlask.getName());
+                        LOG.info(() -> "Failed to use aggression potion: " + aggressionFlask.getName());
                         return 0L;
                     }
                 } else {
@@ -497,18 +496,18 @@ public class POSD {
                     .findFirst().orElse(null);
                      
             if (prayerOrRestorePot == null) {
-                ScriptConsole.println("[POSD] No prayer or restore potions found in the backpack.");
+                LOG.info("No prayer or restore potions found in the backpack.");
                 return 1L;
             } else {
-                ScriptConsole.println("[POSD] Drinking " + prayerOrRestorePot.getName());
+                LOG.info(() -> "Drinking " + prayerOrRestorePot.getName());
                 boolean success = Backpack.interact(prayerOrRestorePot.getName(), "Drink");
                 if (success) {
-                    ScriptConsole.println("[POSD] Successfully drank " + prayerOrRestorePot.getName());
+                    LOG.info(() -> "Successfully drank " + prayerOrRestorePot.getName());
                     long delay = random.nextLong(1500L, 3000L);
                     Execution.delay(delay);
                     return delay;
                 } else {
-                    ScriptConsole.println("[POSD] Failed to interact with " + prayerOrRestorePot.getName());
+                    LOG.info(() -> "Failed to interact with " + prayerOrRestorePot.getName());
                     return 0L;
                 }
             }
@@ -527,7 +526,7 @@ public class POSD {
                 Execution.delay(this.deactivateScrimshaws());
             }
         } else {
-            ScriptConsole.println("[POSD] Pocket slot does not contain a scrimshaw.");
+            LOG.info("Pocket slot does not contain a scrimshaw.");
         }
     }
 
@@ -535,7 +534,7 @@ public class POSD {
         Pattern scrimshawPattern = Pattern.compile("scrimshaw", Pattern.CASE_INSENSITIVE);
         Item scrimshaw = InventoryItemQuery.newQuery(94).name(scrimshawPattern).results().first();
         if (scrimshaw != null && VarManager.getInvVarbit(scrimshaw.getInventoryType().getId(), scrimshaw.getSlot(), 17232) == 0) {
-            ScriptConsole.println("[POSD] Activating Scrimshaws.");
+            LOG.info("Activating Scrimshaws.");
             Equipment.interact(Equipment.Slot.POCKET, "Activate/Deactivate");
             return RandomGenerator.nextInt(1500, 3000);
         } else {
@@ -547,7 +546,7 @@ public class POSD {
         Pattern scrimshawPattern = Pattern.compile("scrimshaw", Pattern.CASE_INSENSITIVE);
         Item scrimshaw = InventoryItemQuery.newQuery(94).name(scrimshawPattern).results().first();
         if (scrimshaw != null && VarManager.getInvVarbit(scrimshaw.getInventoryType().getId(), scrimshaw.getSlot(), 17232) == 1) {
-            ScriptConsole.println("[POSD] Deactivating Scrimshaws.");
+            LOG.info("Deactivating Scrimshaws.");
             Equipment.interact(Equipment.Slot.POCKET, "Activate/Deactivate");
             return RandomGenerator.nextInt(1500, 3000);
         } else {
@@ -565,17 +564,17 @@ public class POSD {
                     .findFirst().orElse(null);
                     
             if (overloadPot == null) {
-                ScriptConsole.println("[POSD] No overload potion found in the Backpack.");
+                LOG.info("No overload potion found in the Backpack.");
                 return 1L;
             } else {
                 boolean success = Backpack.interact(overloadPot.getName(), "Drink");
                 if (success) {
-                    ScriptConsole.println("[POSD] Successfully drank " + overloadPot.getName());
+                    LOG.info(() -> "Successfully drank " + overloadPot.getName());
                     long delay = random.nextLong(1500L, 3000L);
                     Execution.delay(delay);
                     return delay;
                 } else {
-                    ScriptConsole.println("[POSD] Failed to interact with overload potion.");
+                    LOG.info("Failed to interact with overload potion.");
                     return 0L;
                 }
             }
@@ -624,22 +623,22 @@ public class POSD {
             if (bankForFood) {
                 this.currentStep = 7;
             }
-            ScriptConsole.println("[POSD] No food found and banking for food is disabled.");
+            LOG.info("No food found and banking for food is disabled.");
             return 0L;
         } else {
             boolean eatSuccess = Backpack.interact(food.getName(), "Eat");
             if (eatSuccess) {
-                ScriptConsole.println("[POSD] Successfully ate " + food.getName());
+                LOG.info(() -> "Successfully ate " + food.getName());
                 Execution.delay(RandomGenerator.nextInt(250, 450));
             } else {
-                ScriptConsole.println("[POSD] Failed to eat.");
+                LOG.info("Failed to eat.");
             }
             return 0L;
         }
     }
 
     private long logAndDelay(String message, int minDelay, int maxDelay) {
-        ScriptConsole.println(message);
+        LOG.info(message);
         long delay = random.nextLong(minDelay, maxDelay);
         Execution.delay(delay);
         return delay;
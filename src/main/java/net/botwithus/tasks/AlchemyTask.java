@@ -27,4 +27,9 @@ public class AlchemyTask implements Task {
             Execution.delay(script.getRandom().nextLong(1200, 2000));
         }
     }
+
+    @Override
+    public boolean isComplete() {
+        return !script.getAlchemy().hasItemsToAlchemize();
+    }
 } 
\ No newline at end of file
@@ -3,16 +3,19 @@ package net.botwithus.tasks;
 import java.awt.Dialog;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
+import net.botwithus.ChatRouter;
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
+import net.botwithus.Log;
+import net.botwithus.TickSnapshot;
 import net.botwithus.api.game.hud.Hud;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.rs3.game.Client;
 import net.botwithus.rs3.game.Coordinate;
 import net.botwithus.rs3.game.Distance;
 import net.botwithus.rs3.game.Item;
-import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.characters.PathingEntity;
 import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
@@ -20,17 +23,16 @@ import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
 import net.botwithus.rs3.game.vars.VarManager;
 import net.botwithus.rs3.script.Execution;
-import net.botwithus.rs3.script.ScriptConsole;
 import net.botwithus.rs3.game.hud.interfaces.Interfaces;
 import net.botwithus.rs3.game.login.LoginManager;
 import net.botwithus.rs3.game.minimenu.MiniMenu;
 import net.botwithus.rs3.game.minimenu.actions.ComponentAction;
 import net.botwithus.rs3.game.movement.Movement;
-import net.botwithus.rs3.game.queries.builders.components.ComponentQuery;
 import net.botwithus.rs3.game.hud.interfaces.Component;
 import net.botwithus.rs3.game.scene.entities.characters.player.Player;
 
 public class BeachEventTask implements Task {
+    private static final Log LOG = Log.get("BeachEventTask");
     private final CoaezUtility script;
 
     private boolean isWeekend = false;
@@ -78,6 +80,21 @@ public class BeachEventTask implements Task {
 
     public BeachEventTask(CoaezUtility script) {
         this.script = script;
+        registerChatRoutes(script.getChatRouter());
+    }
+
+    private void registerChatRoutes(ChatRouter chatRouter) {
+        Consumer<String> battleshipResult = message -> {
+            lastBattleshipMessage = message;
+            LOG.info(() -> "Battleship message received: " + message);
+        };
+        chatRouter.register("Our accuracy penetrated their defences!", CoaezUtility.BotState.BEACH_EVENT, battleshipResult);
+        chatRouter.register("Our defences withstood their aggression!", CoaezUtility.BotState.BEACH_EVENT, battleshipResult);
+        chatRouter.register("Our aggression overcame their accuracy!", CoaezUtility.BotState.BEACH_EVENT, battleshipResult);
+        chatRouter.register("battleship was defeated", CoaezUtility.BotState.BEACH_EVENT, message -> {
+            canDeployShip = true;
+            LOG.info("Ship is dead, can deploy new ship");
+        });
     }
 
     public void setSelectedActivity(BeachActivity activity) {
@@ -182,16 +199,16 @@ public class BeachEventTask implements Task {
 
     @Override
     public void execute() {
-        LocalPlayer player = Client.getLocalPlayer();
+        LocalPlayer player = TickSnapshot.player();
         if (player == null) {
-            ScriptConsole.println("[BeachEventTask] Player is null, waiting...");
+            LOG.info("Player is null, waiting...");
             Execution.delay(1200);
             return;
         }
 
         // Check if player has headbar ID 13 (indicating already interacting)
         if (player.getHeadbars().stream().anyMatch(headbar -> headbar.getId() == 13)) {
-            ScriptConsole.println("[BeachEventTask] Player has active headbar ID 13, already interacting...");
+            LOG.debug("Player has active headbar ID 13, already interacting...");
             return;
         }
 
@@ -202,24 +219,24 @@ public class BeachEventTask implements Task {
         }
 
 
-        ScriptConsole.println("[BeachEventTask] Execute called - Selected activity: " + (selectedActivity != null ? selectedActivity.getName() : "NULL"));
+        LOG.debug(() -> "Execute called - Selected activity: " + (selectedActivity != null ? selectedActivity.getName() : "NULL"));
 
         if (player.getAnimationId() != -1 && selectedActivity != BeachActivity.BODY_BUILDING) {
-            ScriptConsole.println("[BeachEventTask] Player is animating (" + player.getAnimationId() + "), waiting...");
+            LOG.debug(() -> "Player is animating (" + player.getAnimationId() + "), waiting...");
             Execution.delay(script.getRandom().nextInt(1200, 4000));
             return;
         }
 
         if (failCount > 4) {
-            ScriptConsole.println("[BeachEventTask] Too many failures, stopping...");
+            LOG.info("Too many failures, stopping...");
             return;
         }
 
-        int beachTemp = VarManager.getVarbitValue(BEACH_TEMP_VARBIT);
-        int happyHour = VarManager.getVarbitValue(HAPPY_HOUR_VARBIT);
-        int spotlightActivity = VarManager.getVarbitValue(SPOTLIGHT_ACTIVITY_VARBIT);
+        int beachTemp = TickSnapshot.varbit(BEACH_TEMP_VARBIT);
+        int happyHour = TickSnapshot.varbit(HAPPY_HOUR_VARBIT);
+        int spotlightActivity = TickSnapshot.varbit(SPOTLIGHT_ACTIVITY_VARBIT);
 
-        ScriptConsole.println("[BeachEventTask] Beach temp: " + beachTemp + "/" + MAX_BEACH_TEMP +
+        LOG.debug(() -> "Beach temp: " + beachTemp + "/" + MAX_BEACH_TEMP +
                 ", Happy hour: " + (happyHour == 1 ? "Yes" : "No") +
                 ", Spotlight: " + BeachActivity.getById(spotlightActivity));
 
@@ -246,12 +263,12 @@ public class BeachEventTask implements Task {
     }
 
     private void updateActivityFromSpotlight(int spotlightActivity, boolean isHappyHour) {
-        ScriptConsole.println("[BeachEventTask] Spotlight update - Activity ID: " + spotlightActivity +
+        LOG.debug(() -> "Spotlight update - Activity ID: " + spotlightActivity +
                 ", Is Happy Hour: " + isHappyHour +
                 ", Happy Hour Preference: " + spotlightHappyHour);
 
         if (isHappyHour) {
-            ScriptConsole.println("[BeachEventTask] Happy hour active, switching to preference: " + spotlightHappyHour);
+            LOG.info(() -> "Happy hour active, switching to preference: " + spotlightHappyHour);
             switch (spotlightHappyHour) {
                 case "Dung":
                     selectedActivity = BeachActivity.DUNGEONEERING_HOLE;
@@ -261,7 +278,7 @@ public class BeachEventTask implements Task {
                     break;
                 case "Construction":
                     if (!Client.isMember()) {
-                        ScriptConsole.println("[BeachEventTask] Sandcastle building requires membership, switching to default activity");
+                        LOG.info("Sandcastle building requires membership, switching to default activity");
                         selectedActivity = BeachActivity.DUNGEONEERING_HOLE;
                     } else {
                         selectedActivity = BeachActivity.SANDCASTLE_BUILDING;
@@ -269,7 +286,7 @@ public class BeachEventTask implements Task {
                     break;
                 case "Hunter":
                     if (!Client.isMember()) {
-                        ScriptConsole.println("[BeachEventTask] Hook-a-duck requires membership, switching to default activity");
+                        LOG.info("Hook-a-duck requires membership, switching to default activity");
                         selectedActivity = BeachActivity.DUNGEONEERING_HOLE;
                     } else {
                         selectedActivity = BeachActivity.HOOK_A_DUCK;
@@ -283,56 +300,56 @@ public class BeachEventTask implements Task {
                     break;
                 case "Farming":
                     if (!Client.isMember()) {
-                        ScriptConsole.println("[BeachEventTask] Palm tree farming requires membership, switching to default activity");
+                        LOG.info("Palm tree farming requires membership, switching to default activity");
                         selectedActivity = BeachActivity.DUNGEONEERING_HOLE;
                     } else {
                         selectedActivity = BeachActivity.PALM_TREE_FARMING;
                     }
                     break;
                 default:
-                    ScriptConsole.println("[BeachEventTask] Unknown happy hour preference: " + spotlightHappyHour);
+                    LOG.info(() -> "Unknown happy hour preference: " + spotlightHappyHour);
             }
         } else {
             BeachActivity spotlightBeachActivity = BeachActivity.getById(spotlightActivity);
-            ScriptConsole.println("[BeachEventTask] Normal time, following spotlight activity: " + spotlightBeachActivity);
+            LOG.info(() -> "Normal time, following spotlight activity: " + spotlightBeachActivity);
             if (spotlightBeachActivity != null) {
                 if (!Client.isMember() && (spotlightBeachActivity == BeachActivity.HOOK_A_DUCK ||
                         spotlightBeachActivity == BeachActivity.SANDCASTLE_BUILDING ||
                         spotlightBeachActivity == BeachActivity.PALM_TREE_FARMING)) {
-                    ScriptConsole.println("[BeachEventTask] Spotlight activity " + spotlightBeachActivity + " requires membership, switching to default activity");
+                    LOG.info(() -> "Spotlight activity " + spotlightBeachActivity + " requires membership, switching to default activity");
                     selectedActivity = BeachActivity.DUNGEONEERING_HOLE;
                 } else {
                     selectedActivity = spotlightBeachActivity;
                 }
-                ScriptConsole.println("[BeachEventTask] Selected activity updated to: " + selectedActivity);
+                LOG.info(() -> "Selected activity updated to: " + selectedActivity);
             } else {
-                ScriptConsole.println("[BeachEventTask] Warning: Could not find activity for spotlight ID " + spotlightActivity);
+                LOG.info(() -> "Warning: Could not find activity for spotlight ID " + spotlightActivity);
             }
         }
 
-        ScriptConsole.println("[BeachEventTask] Final selected activity: " + selectedActivity);
+        LOG.debug(() -> "Final selected activity: " + selectedActivity);
     }
 
     private boolean eatIceCream(int beachTemp, boolean isHappyHour) {
 
         if (isWeekend) {
-            ScriptConsole.println("[BeachEventTask] Weekend mode enabled, skipping heat check");
+            LOG.info("Weekend mode enabled, skipping heat check");
             return true;
         }
 
         // Check if we have any temperature-preventing cocktail buffs active
         if (hasTemperaturePreventingBuff()) {
-            ScriptConsole.println("[BeachEventTask] Temperature-preventing cocktail buff active, skipping ice cream");
+            LOG.info("Temperature-preventing cocktail buff active, skipping ice cream");
             return true;
         }
 
         if (beachTemp >= MAX_BEACH_TEMP && !isHappyHour) {
-            ScriptConsole.println("[BeachEventTask] Beach temp at max (" + beachTemp + "), need to eat ice cream!");
+            LOG.info(() -> "Beach temp at max (" + beachTemp + "), need to eat ice cream!");
             if (Backpack.contains("Ice cream")) {
                 if (Backpack.interact("Ice cream", "Eat")) {
                     boolean brainFreezeOccurred = Execution.delayUntil(3000, () -> {
                         if (Interfaces.isOpen(1189)) {
-                            Component brainFreezeComponent = ComponentQuery.newQuery(1189)
+                            Component brainFreezeComponent = GameQueries.components(1189)
                                     .componentIndex(3)
                                     .results()
                                     .first();
@@ -345,7 +362,7 @@ public class BeachEventTask implements Task {
                     });
 
                     if (brainFreezeOccurred) {
-                        ScriptConsole.println("[BeachEventTask] BRAIN FREEZE! occurred - stopping script");
+                        LOG.info("BRAIN FREEZE! occurred - stopping script");
                         LoginManager.setAutoLogin(false);
                         Hud.logout();
                         script.setActive(false);
@@ -357,7 +374,7 @@ public class BeachEventTask implements Task {
                 }
             }
             failCount++;
-            ScriptConsole.println("[BeachEventTask] It's too hot to work, time for an ice cream.");
+            LOG.info("It's too hot to work, time for an ice cream.");
             return false;
         }
         return true;
@@ -368,28 +385,28 @@ public class BeachEventTask implements Task {
         // A Hole in One (Dungeoneering) - varc 6925
         if ((VarManager.getVarc(6925) - Client.getClientCycle()) > 0) {
             int remainingTimer = VarManager.getVarc(6925) - Client.getClientCycle();
-            ScriptConsole.println("[BeachEventTask] A Hole in One buff active, remaining timer: " + remainingTimer);
+            LOG.info(() -> "A Hole in One buff active, remaining timer: " + remainingTimer);
             return true;
         }
 
         // Ugly Duckling (Hook a Duck) - varc 6926
         if ((VarManager.getVarc(6926) - Client.getClientCycle()) > 0) {
             int remainingTimer = VarManager.getVarc(6926) - Client.getClientCycle();
-            ScriptConsole.println("[BeachEventTask] Ugly Duckling buff active, remaining timer: " + remainingTimer);
+            LOG.info(() -> "Ugly Duckling buff active, remaining timer: " + remainingTimer);
             return true;
         }
 
         // Palmer Farmer (Palm Tree Farming) - varc 6927
         if ((VarManager.getVarc(6927) - Client.getClientCycle()) > 0) {
             int remainingTimer = VarManager.getVarc(6927) - Client.getClientCycle();
-            ScriptConsole.println("[BeachEventTask] Palmer Farmer buff active, remaining timer: " + remainingTimer);
+            LOG.info(() -> "Palmer Farmer buff active, remaining timer: " + remainingTimer);
             return true;
         }
 
         // Fisherman's Friend (Rock Pools) - varc 6928
         if ((VarManager.getVarc(6928) - Client.getClientCycle()) > 0) {
             int remainingTimer = VarManager.getVarc(6928) - Client.getClientCycle();
-            ScriptConsole.println("[BeachEventTask] Fisherman's Friend buff active, remaining timer: " + remainingTimer);
+            LOG.info(() -> "Fisherman's Friend buff active, remaining timer: " + remainingTimer);
             return true;
         }
 
@@ -397,27 +414,27 @@ public class BeachEventTask implements Task {
     }
 
     private boolean handleClawdia() {
-        EntityResultSet<Npc> clawdiaResults = NpcQuery.newQuery()
+        EntityResultSet<Npc> clawdiaResults = GameQueries.npcs()
                 .name("Clawdia")
                 .results();
 
         Npc clawdia = clawdiaResults.nearest();
 
         if (clawdia != null) {
-            ScriptConsole.println("[BeachEventTask] Clawdia is present! Prioritizing fight over other activities.");
+            LOG.info("Clawdia is present! Prioritizing fight over other activities.");
 
-            PathingEntity<?> currentTarget = Client.getLocalPlayer().getTarget();
+            PathingEntity<?> currentTarget = TickSnapshot.player().getTarget();
 
             if (currentTarget == null) {
-                LocalPlayer player = Client.getLocalPlayer();
+                LocalPlayer player = TickSnapshot.player();
                 if (player != null) {
-                    ScriptConsole.println("[BeachEventTask] Found Clawdia, attacking...");
+                    LOG.info("Found Clawdia, attacking...");
                     if (clawdia.interact("Attack")) {
                         Execution.delay(600);
                     }
                 }
             } else {
-                ScriptConsole.println("[BeachEventTask] Already fighting Clawdia, continuing combat...");
+                LOG.info("Already fighting Clawdia, continuing combat...");
             }
 
             return true;
@@ -428,23 +445,23 @@ public class BeachEventTask implements Task {
 
     private void handleBattleship() {
         if (!Backpack.contains(33769)) {
-            ScriptConsole.println("[BeachEventTask] No battleship in inventory");
+            LOG.info("No battleship in inventory");
             return;
         }
 
         if (!canDeployShip) {
-            ScriptConsole.println("[BeachEventTask] Ship already deployed, waiting for it to die");
+            LOG.info("Ship already deployed, waiting for it to die");
             return;
         }
 
         if (lastBattleshipMessage.isEmpty()) {
-            ScriptConsole.println("[BeachEventTask] No battleship message, deploying default aggressive ship");
+            LOG.info("No battleship message, deploying default aggressive ship");
             if (Backpack.interact("Toy royal battleship", "Deploy")) {
                 boolean interfaceOpened = Execution.delayUntil(3000, () ->
                         Interfaces.isOpen(751));
 
                 if (interfaceOpened) {
-                    ScriptConsole.println("[BeachEventTask] Deploying default aggressive ship");
+                    LOG.info("Deploying default aggressive ship");
                     MiniMenu.interact(ComponentAction.DIALOGUE.getType(), 0, -1, 49217602);
                     canDeployShip = false;
                     Execution.delay(1200);
@@ -454,7 +471,7 @@ public class BeachEventTask implements Task {
             return;
         }
 
-        ScriptConsole.println("[BeachEventTask] Deploying battleship based on message: " + lastBattleshipMessage);
+        LOG.info(() -> "Deploying battleship based on message: " + lastBattleshipMessage);
 
         if (Backpack.interact("Toy royal battleship", "Deploy")) {
             boolean interfaceOpened = Execution.delayUntil(3000, () ->
@@ -462,13 +479,13 @@ public class BeachEventTask implements Task {
 
             if (interfaceOpened) {
                 if (lastBattleshipMessage.contains("Our accuracy penetrated their defences!")) {
-                    ScriptConsole.println("[BeachEventTask] Deploying aggressive ship");
+                    LOG.info("Deploying aggressive ship");
                     MiniMenu.interact(ComponentAction.DIALOGUE.getType(), 0, -1, 49217602);
                 } else if (lastBattleshipMessage.contains("Our defences withstood their aggression!")) {
-                    ScriptConsole.println("[BeachEventTask] Deploying accurate ship");
+                    LOG.info("Deploying accurate ship");
                     MiniMenu.interact(ComponentAction.DIALOGUE.getType(), 0, -1, 49217586);
                 } else if (lastBattleshipMessage.contains("Our aggression overcame their accuracy!")) {
-                    ScriptConsole.println("[BeachEventTask] Deploying defensive ship");
+                    LOG.info("Deploying defensive ship");
                     MiniMenu.interact(ComponentAction.DIALOGUE.getType(), 0, -1, 49217594);
                 }
 
@@ -476,14 +493,14 @@ public class BeachEventTask implements Task {
                 canDeployShip = false;
                 Execution.delay(1200);
             } else {
-                ScriptConsole.println("[BeachEventTask] Failed to open battleship interface");
+                LOG.info("Failed to open battleship interface");
             }
         }
     }
 
     private void executeActivity() {
         if (selectedActivity == null) {
-            ScriptConsole.println("[BeachEventTask] No activity selected! Please configure an activity in the GUI.");
+            LOG.info("No activity selected! Please configure an activity in the GUI.");
             return;
         }
 
@@ -514,7 +531,7 @@ public class BeachEventTask implements Task {
                 executeRockPools();
                 break;
             default:
-                ScriptConsole.println("[BeachEventTask] Unknown activity: " + selectedActivity);
+                LOG.info(() -> "Unknown activity: " + selectedActivity);
         }
     }
 
@@ -525,8 +542,8 @@ public class BeachEventTask implements Task {
             return false;
         }
 
-        List<Item> backpackItems = Backpack.getItems();
-        if (backpackItems == null || backpackItems.isEmpty()) {
+        List<Item> backpackItems = TickSnapshot.backpack();
+        if (backpackItems.isEmpty()) {
             return false;
         }
 
@@ -552,7 +569,7 @@ public class BeachEventTask implements Task {
 
     private void executeDungeoneering() {
         if (cachedDungeoneeringHole == null) {
-            EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery()
+            EntityResultSet<SceneObject> results = GameQueries.sceneObjects()
                     .name("Dungeoneering hole")
                     .option("Dungeoneer")
                     .results();
@@ -560,7 +577,7 @@ public class BeachEventTask implements Task {
         }
 
         if (cachedDungeoneeringHole != null) {
-            ScriptConsole.println("[BeachEventTask] Interacting with dungeoneering hole...");
+            LOG.info("Interacting with dungeoneering hole...");
             if (cachedDungeoneeringHole.interact("Dungeoneer")) {
             }
         }
@@ -568,7 +585,7 @@ public class BeachEventTask implements Task {
 
     private void executeBodybuilding() {
         if (cachedBodybuilding == null) {
-            EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery()
+            EntityResultSet<SceneObject> results = GameQueries.sceneObjects()
                     .name("Body building podium")
                     .option("Workout")
                     .results();
@@ -577,17 +594,17 @@ public class BeachEventTask implements Task {
 
         if (cachedBodybuilding != null) {
             boolean workoutInterfaceOpen = Interfaces.isOpen(796);
-            ScriptConsole.println("[BeachEventTask] Workout interface 796 open: " + workoutInterfaceOpen);
+            LOG.info(() -> "Workout interface 796 open: " + workoutInterfaceOpen);
 
             if (!workoutInterfaceOpen) {
-                ScriptConsole.println("[BeachEventTask] Workout interface not open, interacting with platform...");
+                LOG.info("Workout interface not open, interacting with platform...");
                 if (cachedBodybuilding.interact("Workout")) {
                     Execution.delayUntil(8000, () -> Interfaces.isOpen(796));
                 }
                 return;
             }
 
-            EntityResultSet<Npc> ivanResults = NpcQuery.newQuery()
+            EntityResultSet<Npc> ivanResults = GameQueries.npcs()
                     .name("Ivan")
                     .results();
 
@@ -596,7 +613,7 @@ public class BeachEventTask implements Task {
                 int currentIvanAnimation = ivan.getAnimationId();
                 long currentTime = System.currentTimeMillis();
 
-                ScriptConsole.println("[BeachEventTask] Ivan found - Animation: " + currentIvanAnimation +
+                LOG.info(() -> "Ivan found - Animation: " + currentIvanAnimation +
                         ", Last: " + lastIvanAnimation +
                         ", Time since change: " + (currentTime - lastAnimationChangeTime) + "ms");
 
@@ -606,16 +623,16 @@ public class BeachEventTask implements Task {
                         lastIvanAnimation != -1) {
                     lastIvanAnimation = currentIvanAnimation;
                     lastAnimationChangeTime = currentTime;
-                    ScriptConsole.println("[BeachEventTask] Ivan animation changed to: " + currentIvanAnimation + " (meaningful change)");
+                    LOG.info(() -> "Ivan animation changed to: " + currentIvanAnimation + " (meaningful change)");
                 } else if (currentIvanAnimation != -1 && lastIvanAnimation == -1) {
                     lastIvanAnimation = currentIvanAnimation;
-                    ScriptConsole.println("[BeachEventTask] Ivan started animating: " + currentIvanAnimation + " (initial animation)");
+                    LOG.info(() -> "Ivan started animating: " + currentIvanAnimation + " (initial animation)");
                 }
 
-                LocalPlayer player = Client.getLocalPlayer();
+                LocalPlayer player = TickSnapshot.player();
                 if (player != null) {
                     int playerAnimation = player.getAnimationId();
-                    ScriptConsole.println("[BeachEventTask] Player animation: " + playerAnimation +
+                    LOG.info(() -> "Player animation: " + playerAnimation +
                             ", Ivan animation: " + currentIvanAnimation);
 
 
@@ -628,60 +645,60 @@ public class BeachEventTask implements Task {
                         switch (currentIvanAnimation) {
                             case 26552: // Curl
                                 if (playerAnimation != 26552) {
-                                    ScriptConsole.println("[BeachEventTask] Switching to curl workout (Ivan: " + currentIvanAnimation + ")");
+                                    LOG.info(() -> "Switching to curl workout (Ivan: " + currentIvanAnimation + ")");
                                     MiniMenu.interact(ComponentAction.COMPONENT.getType(), 1, -1, 52166662);
                                     Execution.delay(800);
                                 }
                                 break;
                             case 26553: // Lunge
                                 if (playerAnimation != 26553) {
-                                    ScriptConsole.println("[BeachEventTask] Switching to lunge workout (Ivan: " + currentIvanAnimation + ")");
+                                    LOG.info(() -> "Switching to lunge workout (Ivan: " + currentIvanAnimation + ")");
                                     MiniMenu.interact(ComponentAction.COMPONENT.getType(), 1, -1, 52166672);
                                     Execution.delay(800);
                                 }
                                 break;
                             case 26554: // Fly
                                 if (playerAnimation != 26554) {
-                                    ScriptConsole.println("[BeachEventTask] Switching to fly workout (Ivan: " + currentIvanAnimation + ")");
+                                    LOG.info(() -> "Switching to fly workout (Ivan: " + currentIvanAnimation + ")");
                                     MiniMenu.interact(ComponentAction.COMPONENT.getType(), 1, -1, 52166682);
                                     Execution.delay(800);
                                 }
                                 break;
                             case 26549: // Raise
                                 if (playerAnimation != 26549) {
-                                    ScriptConsole.println("[BeachEventTask] Switching to raise workout (Ivan: " + currentIvanAnimation + ")");
+                                    LOG.info(() -> "Switching to raise workout (Ivan: " + currentIvanAnimation + ")");
                                     MiniMenu.interact(ComponentAction.COMPONENT.getType(), 1, -1, 52166692);
                                     Execution.delay(800);
                                 }
                                 break;
                             default:
                                 if (playerAnimation == -1) {
-                                    ScriptConsole.println("[BeachEventTask] Starting default workout (Ivan unknown anim: " + currentIvanAnimation + ")");
+                                    LOG.info(() -> "Starting default workout (Ivan unknown anim: " + currentIvanAnimation + ")");
                                     MiniMenu.interact(ComponentAction.COMPONENT.getType(), 1, -1, 52166662); // Default to curl
                                     Execution.delay(800);
                                 } else {
-                                    ScriptConsole.println("[BeachEventTask] Unknown Ivan animation: " + currentIvanAnimation + ", player: " + playerAnimation);
+                                    LOG.info(() -> "Unknown Ivan animation: " + currentIvanAnimation + ", player: " + playerAnimation);
                                 }
                         }
                     } else {
-                        ScriptConsole.println("[BeachEventTask] No workout switch needed - animations match or no recent change");
+                        LOG.info("No workout switch needed - animations match or no recent change");
                     }
                 }
             } else {
-                ScriptConsole.println("[BeachEventTask] Ivan not found! Searching for Ivan NPC...");
+                LOG.info("Ivan not found! Searching for Ivan NPC...");
                 // Try to find Ivan with ID instead
-                EntityResultSet<Npc> ivanByIdResults = NpcQuery.newQuery()
+                EntityResultSet<Npc> ivanByIdResults = GameQueries.npcs()
                         .id(BeachEventNPCs.IVAN.getId())
                         .results();
 
                 Npc ivanById = ivanByIdResults.nearest();
                 if (ivanById != null) {
-                    ScriptConsole.println("[BeachEventTask] Found Ivan by ID: " + ivanById.getName() + " (ID: " + ivanById.getId() + ")");
+                    LOG.info(() -> "Found Ivan by ID: " + ivanById.getName() + " (ID: " + ivanById.getId() + ")");
                 } else {
-                    ScriptConsole.println("[BeachEventTask] Ivan not found by name or ID, using default workout");
-                    LocalPlayer player = Client.getLocalPlayer();
+                    LOG.info("Ivan not found by name or ID, using default workout");
+                    LocalPlayer player = TickSnapshot.player();
                     if (player != null && player.getAnimationId() == -1) {
-                        ScriptConsole.println("[BeachEventTask] Starting default curl workout");
+                        LOG.info("Starting default curl workout");
                         MiniMenu.interact(ComponentAction.COMPONENT.getType(), 1, -1, 52166662);
                         Execution.delay(800);
                     }
@@ -692,19 +709,19 @@ public class BeachEventTask implements Task {
 
     private void executeSandcastleBuilding() {
         if (!Client.isMember()) {
-            ScriptConsole.println("[BeachEventTask] Sandcastle building requires membership, skipping activity");
+            LOG.info("Sandcastle building requires membership, skipping activity");
             return;
         }
 
-        LocalPlayer player = Client.getLocalPlayer();
+        LocalPlayer player = TickSnapshot.player();
         if (player == null || player.isMoving()) {
-            ScriptConsole.println("[BeachEventTask] Player is null or moving, waiting...");
+            LOG.info("Player is null or moving, waiting...");
             Execution.delay(600);
             return;
         }
 
         if (player.getAnimationId() != -1) {
-            ScriptConsole.println("[BeachEventTask] Player is already building, waiting...");
+            LOG.info("Player is already building, waiting...");
             Execution.delay(1000);
             return;
         }
@@ -725,13 +742,13 @@ public class BeachEventTask implements Task {
             return;
         }
 
-        ScriptConsole.println("[BeachEventTask] No active sandcastle NPC found");
+        LOG.info("No active sandcastle NPC found");
     }
 
     private boolean buildSandcastleForNPC(BeachEventNPCs npcType, int[] sandcastleIds, String sandcastleName) {
-        LocalPlayer player = Client.getLocalPlayer();
+        LocalPlayer player = TickSnapshot.player();
 
-        EntityResultSet<Npc> npcResults = NpcQuery.newQuery()
+        EntityResultSet<Npc> npcResults = GameQueries.npcs()
                 .byType(npcType.getId())
                 .results();
 
@@ -740,108 +757,108 @@ public class BeachEventTask implements Task {
             return false;
         }
 
-        ScriptConsole.println("[BeachEventTask] Found active " + sandcastleName + " NPC");
+        LOG.info(() -> "Found active " + sandcastleName + " NPC");
 
-        EntityResultSet<SceneObject> objResults = SceneObjectQuery.newQuery()
+        EntityResultSet<SceneObject> objResults = GameQueries.sceneObjects()
                 .ids(sandcastleIds)
                 .option("Build")
                 .results();
 
         SceneObject sandcastleObj = objResults.nearest();
         if (sandcastleObj == null) {
-            ScriptConsole.println("[BeachEventTask] No buildable " + sandcastleName + " found");
+            LOG.info(() -> "No buildable " + sandcastleName + " found");
             return false;
         }
 
-        ScriptConsole.println("[BeachEventTask] Found buildable " + sandcastleName);
+        LOG.info(() -> "Found buildable " + sandcastleName);
 
         double distance = Distance.between(player, sandcastleObj);
         if (distance > 25) {
-            ScriptConsole.println("[BeachEventTask] Walking to " + sandcastleName + " (distance: " + String.format("%.1f", distance) + ")");
+            LOG.info(() -> "Walking to " + sandcastleName + " (distance: " + String.format("%.1f", distance) + ")");
             Movement.walkTo(sandcastleObj.getCoordinate().getX(), sandcastleObj.getCoordinate().getY(), true);
             Execution.delayUntil(5000, () -> Distance.between(player.getCoordinate(), sandcastleObj.getCoordinate()) <= 3);
             return true;
         }
 
         if (sandcastleObj.interact("Build")) {
-            ScriptConsole.println("[BeachEventTask] Started building " + sandcastleName);
+            LOG.info(() -> "Started building " + sandcastleName);
             Execution.delayUntil(3000, () -> player.getAnimationId() != -1);
             Execution.delay(script.getRandom().nextInt(1200, 3000));
             return true;
         } else {
-            ScriptConsole.println("[BeachEventTask] Failed to interact with " + sandcastleName);
+            LOG.info(() -> "Failed to interact with " + sandcastleName);
             return false;
         }
     }
 
     private void executeHookADuck() {
         if (!Client.isMember()) {
-            ScriptConsole.println("[BeachEventTask] Hook-a-duck requires membership, skipping activity");
+            LOG.info("Hook-a-duck requires membership, skipping activity");
             return;
         }
 
         if (cachedHookADuck == null) {
-            EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery()
+            EntityResultSet<SceneObject> results = GameQueries.sceneObjects()
                     .id(BeachEventObjects.HOOK_A_DUCK.getId())
                     .results();
             cachedHookADuck = results.nearest();
         }
 
         if (cachedHookADuck != null) {
-            ScriptConsole.println("[BeachEventTask] Playing hook-a-duck...");
+            LOG.info("Playing hook-a-duck...");
             if (cachedHookADuck.interact("Play")) {
-                ScriptConsole.println("[BeachEventTask] Go catch dat ducky!");
+                LOG.info("Go catch dat ducky!");
             }
         }
     }
 
     private void executeCoconutShy() {
         if (cachedCoconutShy == null) {
-            EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery()
+            EntityResultSet<SceneObject> results = GameQueries.sceneObjects()
                     .id(BeachEventObjects.COCONUT_SKY.getId())
                     .results();
             cachedCoconutShy = results.nearest();
         }
 
         if (cachedCoconutShy != null) {
-            ScriptConsole.println("[BeachEventTask] Playing coconut shy...");
+            LOG.info("Playing coconut shy...");
             if (cachedCoconutShy.interact("Play")) {
-                ScriptConsole.println("[BeachEventTask] Throw that coconut!");
+                LOG.info("Throw that coconut!");
                 Execution.delay(script.getRandom().nextInt(1200, 4000));
             }
         }
     }
 
     private void executeBarbeques() {
-        LocalPlayer player = Client.getLocalPlayer();
+        LocalPlayer player = TickSnapshot.player();
         if (player != null && player.getAnimationId() == -1) {
             // Player is not animating, try to interact with grill
-            EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery()
+            EntityResultSet<SceneObject> results = GameQueries.sceneObjects()
                     .name("Grill")
                     .option("Use")
                     .results();
 
             SceneObject grill = results.nearest();
             if (grill != null) {
-                ScriptConsole.println("[BeachEventTask] Player not animating, interacting with grill...");
+                LOG.info("Player not animating, interacting with grill...");
                 if (grill.interact("Use")) {
-                    ScriptConsole.println("[BeachEventTask] Started using grill!");
+                    LOG.info("Started using grill!");
                 }
                 return;
             }
         }
 
         if (cachedBarbeque == null) {
-            EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery()
+            EntityResultSet<SceneObject> results = GameQueries.sceneObjects()
                     .id(BeachEventObjects.BARBEQUE_GRILL.getId())
                     .results();
             cachedBarbeque = results.nearest();
         }
 
         if (cachedBarbeque != null) {
-            ScriptConsole.println("[BeachEventTask] Using barbeque...");
+            LOG.info("Using barbeque...");
             if (cachedBarbeque.interact("Cook")) {
-                ScriptConsole.println("[BeachEventTask] Get that fish cooked!");
+                LOG.info("Get that fish cooked!");
             }
         }
     }
@@ -850,40 +867,40 @@ public class BeachEventTask implements Task {
 
     private void executePalmTreeFarming() {
         if (!Client.isMember()) {
-            ScriptConsole.println("[BeachEventTask] Palm tree farming requires membership, skipping activity");
+            LOG.info("Palm tree farming requires membership, skipping activity");
             return;
         }
 
         if (Backpack.isFull() && Backpack.contains("Tropical coconut")) {
-            EntityResultSet<SceneObject> pileResults = SceneObjectQuery.newQuery()
+            EntityResultSet<SceneObject> pileResults = GameQueries.sceneObjects()
                     .name("Pile of coconuts")
                     .hidden(false)
                     .results();
 
             SceneObject pile = pileResults.nearest();
-            if (pile != null && pile.distanceTo(Client.getLocalPlayer().getCoordinate()) < 20 && !Client.getLocalPlayer().isMoving()) {
-                ScriptConsole.println("[BeachEventTask] Inventory full, depositing coconuts...");
+            if (pile != null && pile.distanceTo(TickSnapshot.player().getCoordinate()) < 20 && !TickSnapshot.player().isMoving()) {
+                LOG.info("Inventory full, depositing coconuts...");
                 pile.interact("Deposit coconuts");
                 return;
             } else {
-                ScriptConsole.println("[BeachEventTask] Pile of coconuts is too far, Moving closer");
-                if (!Client.getLocalPlayer().isMoving()) {
+                LOG.info("Pile of coconuts is too far, Moving closer");
+                if (!TickSnapshot.player().isMoving()) {
                     Movement.walkTo(pileOfCoconutsCoordinate.getX(), pileOfCoconutsCoordinate.getY(), true);
                 }
 
             }
         } else {
 
-            EntityResultSet<SceneObject> treeResults = SceneObjectQuery.newQuery()
+            EntityResultSet<SceneObject> treeResults = GameQueries.sceneObjects()
                     .ids(BeachEventObjects.getPalmTrees())
                     .hidden(false)
                     .results();
 
             SceneObject tree = treeResults.nearest();
             if (tree != null) {
-                ScriptConsole.println("[BeachEventTask] Chopping palm tree...");
+                LOG.info("Chopping palm tree...");
                 if (tree.interact("Pick coconut")) {
-                    ScriptConsole.println("[BeachEventTask] Back to chopping trees.");
+                    LOG.info("Back to chopping trees.");
                 }
             }
         }
@@ -892,30 +909,30 @@ public class BeachEventTask implements Task {
     private void executeRockPools() {
 
         if (Backpack.isFull() && Backpack.contains(35106)) {
-            EntityResultSet<Npc> results = NpcQuery.newQuery().name("Wellington").option("Hand in fish").results();
+            EntityResultSet<Npc> results = GameQueries.npcs().name("Wellington").option("Hand in fish").results();
 
             Npc wellington = results.nearest();
             if (wellington != null) {
-                ScriptConsole.println("[BeachEventTask] Inventory full, depositing fish...");
+                LOG.info("Inventory full, depositing fish...");
                 wellington.interact("Hand in fish");
                 return;
             }
         }
 
-        EntityResultSet<Npc> results = NpcQuery.newQuery().name("Fishing spot").option("Catch").results();
+        EntityResultSet<Npc> results = GameQueries.npcs().name("Fishing spot").option("Catch").results();
 
         Npc fishingSpot = results.nearest();
         if (fishingSpot != null) {
-            ScriptConsole.println("[BeachEventTask] Fishing at rock pools...");
+            LOG.info("Fishing at rock pools...");
             if (fishingSpot.interact("Catch")) {
-                ScriptConsole.println("[BeachEventTask] Back to fishing.");
+                LOG.info("Back to fishing.");
             }
         }
     }
 
     private void drinkSelectedCocktails() {
-        List<Item> backpackItems = Backpack.getItems();
-        if (backpackItems == null || backpackItems.isEmpty()) {
+        List<Item> backpackItems = TickSnapshot.backpack();
+        if (backpackItems.isEmpty()) {
             return;
         }
 
@@ -932,11 +949,11 @@ public class BeachEventTask implements Task {
 
         for (Item item : backpackItems) {
             if (item != null && enabledCocktailIds.contains(item.getId()) && !hasBuffActive(item.getId())) {
-                ScriptConsole.println("[BeachEventTask] Drinking cocktail: " + item.getName() + " from slot " + item.getSlot());
+                LOG.info(() -> "Drinking cocktail: " + item.getName() + " from slot " + item.getSlot());
                 if (Backpack.interact(item.getSlot(), "Drink")) {
-                    ScriptConsole.println("[BeachEventTask] Successfully interacted with cocktail in slot " + item.getSlot());
+                    LOG.info(() -> "Successfully interacted with cocktail in slot " + item.getSlot());
                 } else {
-                    ScriptConsole.println("[BeachEventTask] Failed to interact with cocktail in slot " + item.getSlot());
+                    LOG.info(() -> "Failed to interact with cocktail in slot " + item.getSlot());
                 }
                 Execution.delay(600);
                 return;
@@ -951,68 +968,54 @@ public class BeachEventTask implements Task {
             case 35051: // Pink fizz
                 varcValue = VarManager.getVarc(6921);
                 remainingTimer = varcValue - Client.getClientCycle();
-                ScriptConsole.println("[BeachEventTask] Checking Pink Fizz buff - Varc 6921: " + varcValue + ", Timer: " + remainingTimer);
+                LOG.info(() -> "Checking Pink Fizz buff - Varc 6921: " + varcValue + ", Timer: " + remainingTimer);
                 return remainingTimer > 0;
             case 35052: // Purple Lumbridge
                 varcValue = VarManager.getVarc(6922);
                 remainingTimer = varcValue - Client.getClientCycle();
-                ScriptConsole.println("[BeachEventTask] Checking Purple Lumbridge buff - Varc 6922: " + varcValue + ", Timer: " + remainingTimer);
+                LOG.info(() -> "Checking Purple Lumbridge buff - Varc 6922: " + varcValue + ", Timer: " + remainingTimer);
                 return remainingTimer > 0;
             case 35053: // Pineappletini
                 varcValue = VarManager.getVarc(6923);
                 remainingTimer = varcValue - Client.getClientCycle();
-                ScriptConsole.println("[BeachEventTask] Checking Pineappletini buff - Varc 6923: " + varcValue + ", Timer: " + remainingTimer);
+                LOG.info(() -> "Checking Pineappletini buff - Varc 6923: " + varcValue + ", Timer: " + remainingTimer);
                 return remainingTimer > 0;
             case 35054: // Lemon sour
                 varcValue = VarManager.getVarc(6924);
                 remainingTimer = varcValue - Client.getClientCycle();
-                ScriptConsole.println("[BeachEventTask] Checking Lemon Sour buff - Varc 6924: " + varcValue + ", Timer: " + remainingTimer);
+                LOG.info(() -> "Checking Lemon Sour buff - Varc 6924: " + varcValue + ", Timer: " + remainingTimer);
                 return remainingTimer > 0;
             case 51729: // A Hole in One
                 varcValue = VarManager.getVarc(6925);
                 remainingTimer = varcValue - Client.getClientCycle();
-                ScriptConsole.println("[BeachEventTask] Checking A Hole in One buff - Varc 6925: " + varcValue + ", Timer: " + remainingTimer);
+                LOG.info(() -> "Checking A Hole in One buff - Varc 6925: " + varcValue + ", Timer: " + remainingTimer);
                 return remainingTimer > 0;
             case 51730: // Ugly Duckling (hook a duck)
                 varcValue = VarManager.getVarc(6926);
                 remainingTimer = varcValue - Client.getClientCycle();
-                ScriptConsole.println("[BeachEventTask] Checking Ugly Duckling buff - Varc 6926: " + varcValue + ", Timer: " + remainingTimer);
+                LOG.info(() -> "Checking Ugly Duckling buff - Varc 6926: " + varcValue + ", Timer: " + remainingTimer);
                 return remainingTimer > 0;
             case 51731: // Palmer Farmer (palm tree)
                 varcValue = VarManager.getVarc(6927);
                 remainingTimer = varcValue - Client.getClientCycle();
-                ScriptConsole.println("[BeachEventTask] Checking Palmer Farmer buff - Varc 6927: " + varcValue + ", Timer: " + remainingTimer);
+                LOG.info(() -> "Checking Palmer Farmer buff - Varc 6927: " + varcValue + ", Timer: " + remainingTimer);
                 return remainingTimer > 0;
             case 51732: // Fishermans Friend (rock pools)
                 varcValue = VarManager.getVarc(6928);
                 remainingTimer = varcValue - Client.getClientCycle();
-                ScriptConsole.println("[BeachEventTask] Checking Fishermans Friend buff - Varc 6928: " + varcValue + ", Timer: " + remainingTimer);
+                LOG.info(() -> "Checking Fishermans Friend buff - Varc 6928: " + varcValue + ", Timer: " + remainingTimer);
                 return remainingTimer > 0;
             case 51733: // George's Peach Delight (sandcastle)
                 varcValue = VarManager.getVarc(6929);
                 remainingTimer = varcValue - Client.getClientCycle();
-                ScriptConsole.println("[BeachEventTask] Checking George's Peach Delight buff - Varc 6929: " + varcValue + ", Timer: " + remainingTimer);
+                LOG.info(() -> "Checking George's Peach Delight buff - Varc 6929: " + varcValue + ", Timer: " + remainingTimer);
                 return remainingTimer > 0;
             default:
-                ScriptConsole.println("[BeachEventTask] Unknown cocktail item ID: " + itemId);
+                LOG.info(() -> "Unknown cocktail item ID: " + itemId);
                 return false;
         }
     }
 
-    public void handleBattleshipMessage(String message) {
-        if (message.contains("Our accuracy penetrated their defences!") ||
-                message.contains("Our defences withstood their aggression!") ||
-                message.contains("Our aggression overcame their accuracy!")) {
-            lastBattleshipMessage = message;
-            ScriptConsole.println("[BeachEventTask] Battleship message received: " + message);
-        }
-
-        if (message.contains("battleship was defeated")) {
-            canDeployShip = true;
-            ScriptConsole.println("[BeachEventTask] Ship is dead, can deploy new ship");
-        }
-    }
-
     public void setIsWeekend(boolean isWeekend) {
         this.isWeekend = isWeekend;
     }
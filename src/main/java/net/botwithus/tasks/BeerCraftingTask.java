@@ -28,7 +28,8 @@ public class BeerCraftingTask implements Task {
 
         if (Interfaces.isOpen(CONFIRM_INTERFACE_ID)) {
             MiniMenu.interact(ComponentAction.DIALOGUE.getType(), 0, -1, 89784350);
-            Execution.delay(script.getRandom().nextLong(1000, 2000));
+            // Resume as soon as crafting starts rather than sleeping a fixed 1-2s
+            Execution.delayUntil(2000, () -> Interfaces.isOpen(1251));
             return;
         }
 
@@ -1,12 +1,13 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
+import net.botwithus.WaitScheduler;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.api.game.hud.inventories.Bank;
 import net.botwithus.rs3.game.hud.interfaces.Interfaces;
 import net.botwithus.rs3.game.minimenu.MiniMenu;
 import net.botwithus.rs3.game.minimenu.actions.ComponentAction;
-import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
 import net.botwithus.rs3.script.Execution;
@@ -28,14 +29,14 @@ public class BuyBucketsWaterTask implements Task {
             ScriptConsole.println("[BuyBucketsWaterTask] Backpack is full, loading last bank preset");
             Execution.delay(script.getRandom().nextLong(600, 1200));
             Bank.loadLastPreset();
-            Execution.delayUntil(15000, () -> !Backpack.isFull());
+            WaitScheduler.until(15000, () -> !Backpack.isFull());
             return;
         }
 
         // If backpack is not full, find Shantay NPC and trade
         if (!Interfaces.isOpen(1265)) {
             ScriptConsole.println("[BuyBucketsWaterTask] Shop interface not open, finding Shantay");
-            EntityResultSet<Npc> results = NpcQuery.newQuery().name("Shantay").option("Trade").results();
+            EntityResultSet<Npc> results = GameQueries.npcs().name("Shantay").option("Trade").results();
 
             if (!results.isEmpty()) {
                 Npc shantay = results.first();
@@ -1,6 +1,7 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.Log;
 import net.botwithus.tasks.clayurn.UrnCategory;
 import net.botwithus.tasks.clayurn.UrnType;
 
@@ -14,10 +15,25 @@ import java.util.Map;
  */
 @Deprecated
 public class ClayUrnTask implements Task {
+    private static final Log LOG = Log.get("ClayUrnTask");
+
     private final ClayUrnTaskRefactored refactoredTask;
 
     public ClayUrnTask(CoaezUtility script) {
         this.refactoredTask = new ClayUrnTaskRefactored(script);
+        // Count urns as they are spun so the queue advances
+        script.getInventoryTracker().addListener((itemId, delta) -> {
+            if (delta <= 0 || script.getBotState() != CoaezUtility.BotState.CLAY_URN) {
+                return;
+            }
+            net.botwithus.tasks.clayurn.UrnType urn = refactoredTask.getUrnDataManager().getUrnById(itemId);
+            if (urn != null) {
+                for (int i = 0; i < delta; i++) {
+                    refactoredTask.onUrnCrafted(urn);
+                }
+                LOG.info(() -> "Urn crafted: " + urn.getDisplayName() + ", updated queue.");
+            }
+        });
     }
 
     @Override
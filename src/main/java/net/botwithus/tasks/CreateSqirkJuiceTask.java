@@ -1,20 +1,23 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.InventoryTracker;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.api.game.hud.inventories.Bank;
-import net.botwithus.rs3.game.Item;
+import net.botwithus.tasks.sorceressgarden.GardenScheduler;
+import net.botwithus.tasks.sorceressgarden.models.GardenType;
 
 public class CreateSqirkJuiceTask implements Task {
     private final CoaezUtility script;
     private static final String BEER_GLASS_NAME = "Beer glass";
-    // {fruit name, required amount}
-    private static final Object[][] FRUITS = {
-        {"Winter sq'irk", 5},
-        {"Spring sq'irk", 4},
-        {"Autumn sq'irk", 3},
-        {"Summer sq'irk", 2}
-    };
+    // A squeeze whose juice hasn't shown up in the backpack after this long is given up on
+    private static final long SQUEEZE_TIMEOUT_MS = 3000;
+
+    // The squeeze in progress, null when none: its garden and the fruit and juice counts before it
+    private GardenType squeezing;
+    private int fruitBeforeSqueeze;
+    private int juiceBeforeSqueeze;
+    private long squeezedAt;
 
     public CreateSqirkJuiceTask(CoaezUtility script) {
         this.script = script;
@@ -22,34 +25,66 @@ public class CreateSqirkJuiceTask implements Task {
 
     @Override
     public void execute() {
-        int glassCount = getItemCount(BEER_GLASS_NAME);
-        for (Object[] fruit : FRUITS) {
-            String fruitName = (String) fruit[0];
-            int required = (int) fruit[1];
-            int fruitCount = getItemCount(fruitName);
-            if (fruitCount >= required && glassCount >= 1) {
-                for (Item item : Backpack.getItems()) {
-                    if (item != null && fruitName.equals(item.getName())) {
-                        squeezeJuice(item.getSlot());
-                        return;
-                    }
+        InventoryTracker inventory = script.getInventoryTracker();
+        GardenScheduler scheduler = script.getGardenScheduler();
+        recordJuiceMade(inventory, scheduler);
+        if (squeezing != null) {
+            // Let the last squeeze land before squeezing again or loading the preset
+            return;
+        }
+        int glassCount = inventory.count(BEER_GLASS_NAME);
+        // Squeeze the most valuable juice first so a short supply of glasses goes furthest
+        for (GardenType type : scheduler.byValue()) {
+            int fruitCount = inventory.count(type.getFruitName());
+            if (fruitCount >= type.getFruitsPerJuice() && glassCount >= 1) {
+                int slot = inventory.slotOf(type.getFruitName());
+                if (slot != -1) {
+                    squeezing = type;
+                    fruitBeforeSqueeze = fruitCount;
+                    juiceBeforeSqueeze = inventory.count(type.getJuiceName());
+                    squeezedAt = System.currentTimeMillis();
+                    squeezeJuice(slot);
+                    return;
                 }
             }
         }
         Bank.loadLastPreset();
     }
 
-    private int getItemCount(String name) {
-        int count = 0;
-        for (Item item : Backpack.getItems()) {
-            if (item != null && name.equals(item.getName())) {
-                count += item.getStackSize();
+    @Override
+    public boolean isComplete() {
+        InventoryTracker inventory = script.getInventoryTracker();
+        if (inventory.count(BEER_GLASS_NAME) < 1) {
+            return true;
+        }
+        for (GardenType type : GardenType.values()) {
+            if (inventory.count(type.getFruitName()) >= type.getFruitsPerJuice()) {
+                return false;
             }
         }
-        return count;
+        return true;
+    }
+
+    /**
+     * Credit the juice from the last squeeze. Only juice that appeared together with fruit being used up
+     * counts, so juice withdrawn by a bank preset or carried in from elsewhere isn't recorded as made.
+     */
+    private void recordJuiceMade(InventoryTracker inventory, GardenScheduler scheduler) {
+        GardenType type = squeezing;
+        if (type == null) {
+            return;
+        }
+        int juiceMade = inventory.count(type.getJuiceName()) - juiceBeforeSqueeze;
+        int fruitUsed = fruitBeforeSqueeze - inventory.count(type.getFruitName());
+        if (juiceMade > 0 && fruitUsed > 0) {
+            scheduler.recordJuiceMade(type, Math.min(juiceMade, Math.max(1, fruitUsed / type.getFruitsPerJuice())));
+            squeezing = null;
+        } else if (System.currentTimeMillis() - squeezedAt > SQUEEZE_TIMEOUT_MS) {
+            squeezing = null;
+        }
     }
 
     private void squeezeJuice(int backpackSlot) {
         Backpack.interact(backpackSlot, "Squeeze");
     }
-} 
\ No newline at end of file
+}
@@ -1,14 +1,13 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.rs3.game.Client;
 import net.botwithus.rs3.game.hud.interfaces.Component;
 import net.botwithus.rs3.game.hud.interfaces.Interfaces;
 import net.botwithus.rs3.game.minimenu.MiniMenu;
 import net.botwithus.rs3.game.minimenu.actions.ComponentAction;
-import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
-import net.botwithus.rs3.game.queries.builders.components.ComponentQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.queries.results.ResultSet;
 import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
@@ -59,7 +58,7 @@ public class DeployDummyTask implements Task {
         
         if (animationStale) {
             // Check if there's a dummy within 3 tiles that we can practice with
-            EntityResultSet<Npc> nearbyDummies = NpcQuery.newQuery()
+            EntityResultSet<Npc> nearbyDummies = GameQueries.npcs()
                 .name("Agility skill training dummy")
                 .option("Practice")
                 .results();
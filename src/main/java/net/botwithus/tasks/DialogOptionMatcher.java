@@ -0,0 +1,278 @@
+package net.botwithus.tasks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.botwithus.tasks.QuestDialogFetcher.DialogOption;
+import net.botwithus.tasks.QuestDialogFetcher.DialogSequence;
+
+/**
+ * Matches the options of an open dialog against the options a quest guide expects.
+ *
+ * The expected options are compiled once into a trie over normalised words: lower case, punctuation dropped and
+ * split on whitespace, the same normalisation exact matching always used. Each open option is then one walk
+ * down the trie. An expected option that ends where the walk ends is an exact match; failing that, one option
+ * being the start of the other over at least MIN_PREFIX_WORDS words is accepted, and as a last resort the
+ * expected option sharing the most words with an open one, if they share at least MIN_SIMILARITY of them.
+ *
+ * Expected options keep the order they were given in, and earlier ones win. Options from a DialogSequence also
+ * know which option follows them, so once one is accepted the next is predicted; when the predicted option is
+ * on screen it is picked ahead of everything else.
+ */
+public final class DialogOptionMatcher {
+    private static final int MIN_PREFIX_WORDS = 2;
+    private static final double MIN_SIMILARITY = 0.75;
+
+    private enum Kind {
+        PREDICTED,
+        EXACT,
+        PREFIX,
+        SIMILAR
+    }
+
+    private static final class Node {
+        final Map<String, Node> children = new HashMap<>(4);
+        // Earliest expected option ending here, and earliest ending here or further down
+        Expected terminal;
+        Expected firstBelow;
+    }
+
+    private static final class Expected {
+        final String text;
+        final Set<String> words;
+        final int rank;
+        Node node;
+        Expected next;
+
+        Expected(String text, String[] words, int rank) {
+            this.text = text;
+            this.words = new HashSet<>(List.of(words));
+            this.rank = rank;
+        }
+    }
+
+    /**
+     * An open option matched to an expected one
+     */
+    public static final class Match {
+        private final int optionIndex;
+        private final Expected expected;
+        private final Kind kind;
+
+        private Match(int optionIndex, Expected expected, Kind kind) {
+            this.optionIndex = optionIndex;
+            this.expected = expected;
+            this.kind = kind;
+        }
+
+        /**
+         * @return index of the matched option in the list given to match
+         */
+        public int getOptionIndex() {
+            return optionIndex;
+        }
+
+        public String getExpectedText() {
+            return expected.text;
+        }
+
+        /**
+         * Whether this is the option predicted to follow the last accepted one
+         */
+        public boolean isPredicted() {
+            return kind == Kind.PREDICTED;
+        }
+
+        public boolean isExact() {
+            return kind == Kind.PREDICTED || kind == Kind.EXACT;
+        }
+
+        private boolean beats(Match other) {
+            return other == null || kind.ordinal() < other.kind.ordinal()
+                    || kind == other.kind && expected.rank < other.expected.rank;
+        }
+    }
+
+    private final Node root = new Node();
+    private final List<Expected> expected = new ArrayList<>();
+    private Expected predicted;
+
+    private DialogOptionMatcher() {
+    }
+
+    /**
+     * Expect the options of these sequences, in order, each predicting the one after it in its sequence
+     */
+    public static DialogOptionMatcher forSequences(List<DialogSequence> sequences) {
+        DialogOptionMatcher matcher = new DialogOptionMatcher();
+        for (DialogSequence sequence : sequences) {
+            if (sequence == null) {
+                continue;
+            }
+            Expected previous = null;
+            for (DialogOption option : sequence.getOptions()) {
+                Expected added = option != null ? matcher.add(option.getOptionText()) : null;
+                if (previous != null && added != null) {
+                    previous.next = added;
+                }
+                previous = added;
+            }
+        }
+        return matcher;
+    }
+
+    /**
+     * Expect these options, in order, with nothing predicted
+     */
+    public static DialogOptionMatcher forOptions(List<String> options) {
+        DialogOptionMatcher matcher = new DialogOptionMatcher();
+        for (String option : options) {
+            matcher.add(option);
+        }
+        return matcher;
+    }
+
+    /**
+     * Find the best expected option among the open ones
+     * @return the match, or null if no open option is expected
+     */
+    public Match match(List<String> options) {
+        Match best = null;
+        String[][] words = new String[options.size()][];
+        for (int i = 0; i < options.size(); i++) {
+            words[i] = normalise(options.get(i));
+            Match match = walk(i, words[i]);
+            if (match != null && match.beats(best)) {
+                best = match;
+            }
+        }
+        for (int i = 0; best == null && i < words.length; i++) {
+            Match match = mostSimilar(i, words[i]);
+            if (match != null && match.beats(best)) {
+                best = match;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Record that a match was chosen, so the option after it in its sequence is predicted next
+     */
+    public void accept(Match match) {
+        predicted = match != null ? match.expected.next : null;
+    }
+
+    /**
+     * @return the text of the option expected next, or null if there is no prediction
+     */
+    public String getPredictedNext() {
+        return predicted != null ? predicted.text : null;
+    }
+
+    private Expected add(String text) {
+        String[] words = normalise(text);
+        if (words.length == 0) {
+            return null;
+        }
+        Expected entry = new Expected(text, words, expected.size());
+        expected.add(entry);
+        Node node = root;
+        for (String word : words) {
+            node = node.children.computeIfAbsent(word, w -> new Node());
+            if (node.firstBelow == null) {
+                node.firstBelow = entry;
+            }
+        }
+        if (node.terminal == null) {
+            node.terminal = entry;
+        }
+        entry.node = node;
+        return entry;
+    }
+
+    private Match walk(int optionIndex, String[] words) {
+        if (words.length == 0) {
+            return null;
+        }
+        Node node = root;
+        Expected longestPrefix = null;
+        for (int w = 0; w < words.length; w++) {
+            node = node.children.get(words[w]);
+            if (node == null) {
+                // An expected option that is the start of this one
+                return longestPrefix != null ? new Match(optionIndex, longestPrefix, Kind.PREFIX) : null;
+            }
+            if (node.terminal != null && w + 1 >= MIN_PREFIX_WORDS && w + 1 < words.length) {
+                longestPrefix = node.terminal;
+            }
+        }
+        if (node.terminal != null) {
+            if (predicted != null && predicted.node == node) {
+                return new Match(optionIndex, predicted, Kind.PREDICTED);
+            }
+            return new Match(optionIndex, node.terminal, Kind.EXACT);
+        }
+        if (words.length >= MIN_PREFIX_WORDS && node.firstBelow != null) {
+            // This option is the start of an expected one
+            return new Match(optionIndex, node.firstBelow, Kind.PREFIX);
+        }
+        return longestPrefix != null ? new Match(optionIndex, longestPrefix, Kind.PREFIX) : null;
+    }
+
+    private Match mostSimilar(int optionIndex, String[] words) {
+        if (words.length < MIN_PREFIX_WORDS) {
+            return null;
+        }
+        Set<String> open = new HashSet<>(List.of(words));
+        Expected best = null;
+        double bestScore = 0;
+        for (Expected entry : expected) {
+            int shared = 0;
+            for (String word : entry.words) {
+                if (open.contains(word)) {
+                    shared++;
+                }
+            }
+            // Share of distinct words the two have in common; ties go to the earlier expected option
+            double score = (double) shared / (open.size() + entry.words.size() - shared);
+            if (score >= MIN_SIMILARITY && score > bestScore) {
+                best = entry;
+                bestScore = score;
+            }
+        }
+        return best != null ? new Match(optionIndex, best, Kind.SIMILAR) : null;
+    }
+
+    /**
+     * Lower-case ASCII letters and digits split on whitespace; everything else is dropped without splitting,
+     * so "Don't" and "dont" are the same word
+     */
+    static String[] normalise(String text) {
+        if (text == null) {
+            return new String[0];
+        }
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (word.length() > 0) {
+                    words.add(word.toString());
+                    word.setLength(0);
+                }
+            } else if (c >= 'A' && c <= 'Z') {
+                word.append((char) (c + ('a' - 'A')));
+            } else if (c >= 'a' && c <= 'z' || c >= '0' && c <= '9') {
+                word.append(c);
+            }
+        }
+        if (word.length() > 0) {
+            words.add(word.toString());
+        }
+        return words.toArray(new String[0]);
+    }
+}
@@ -48,4 +48,9 @@ public class DisassemblyTask implements Task {
             Execution.delay(script.getRandom().nextLong(1200, 2000));
         }
     }
+
+    @Override
+    public boolean isComplete() {
+        return !Interfaces.isOpen(1251) && !script.getDisassembly().hasItemsToDisassemble();
+    }
 } 
\ No newline at end of file
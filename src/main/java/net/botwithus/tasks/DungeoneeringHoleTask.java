@@ -1,9 +1,9 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.rs3.game.Client;
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
@@ -57,7 +57,7 @@ public class DungeoneeringHoleTask implements Task {
         }
         
         if (cachedDungeoneeringHole == null) {
-            EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery()
+            EntityResultSet<SceneObject> results = GameQueries.sceneObjects()
                 .name("Dungeoneering hole")
                 .option("Dungeoneer")
                 .results();
@@ -1,7 +1,6 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
-import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.rs3.game.actionbar.ActionBar;
 import net.botwithus.rs3.game.hud.interfaces.Component;
 import net.botwithus.rs3.game.hud.interfaces.Interfaces;
@@ -33,17 +32,11 @@ public class EnchantingTask implements Task {
         }
 
         private int countUnenchantedBolts() {
-            return Backpack.getItems().stream()
-                    .filter(item -> item.getName().contains("bolts") && !item.getName().contains("(e)"))
-                    .mapToInt(item -> item.getStackSize())
-                    .sum();
+            return script.getInventoryTracker().countMatching(name -> name.contains("bolts") && !name.contains("(e)"));
         }
 
         private int countEnchantedBolts() {
-            return Backpack.getItems().stream()
-                    .filter(item -> item.getName().contains("bolts") && item.getName().contains("(e)"))
-                    .mapToInt(item -> item.getStackSize())
-                    .sum();
+            return script.getInventoryTracker().countMatching(name -> name.contains("bolts") && name.contains("(e)"));
         }
 
         public void logState() {
@@ -74,7 +67,8 @@ public class EnchantingTask implements Task {
         if (Interfaces.isOpen(1370)) {
             ScriptConsole.println("[EnchantingTask] Interface 1370 is open, interacting with button");
             MiniMenu.interact(ComponentAction.DIALOGUE.getType(), 0, -1, 89784350);
-            Execution.delay(script.getRandom().nextLong(1000, 2000));
+            // Resume as soon as crafting starts rather than sleeping a fixed 1-2s
+            Execution.delayUntil(2000, () -> Interfaces.isOpen(1251));
         } else {
             ScriptConsole.println("[EnchantingTask] Using Enchant Crossbow Bolt ability");
             ActionBar.useAbility("Enchant Crossbow Bolt");
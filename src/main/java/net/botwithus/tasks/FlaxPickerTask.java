@@ -1,6 +1,7 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.api.game.hud.inventories.Bank;
 import net.botwithus.rs3.game.Area;
 import net.botwithus.rs3.game.Client;
@@ -11,8 +12,6 @@ import net.botwithus.rs3.game.minimenu.MiniMenu;
 import net.botwithus.rs3.game.minimenu.actions.ComponentAction;
 import net.botwithus.rs3.game.movement.Movement;
 import net.botwithus.rs3.game.movement.NavPath;
-import net.botwithus.rs3.game.queries.builders.components.ComponentQuery;
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
@@ -89,7 +88,7 @@ public class FlaxPickerTask implements Task {
             return;
         }
 
-        EntityResultSet<SceneObject> flaxResults = SceneObjectQuery.newQuery()
+        EntityResultSet<SceneObject> flaxResults = GameQueries.sceneObjects()
                 .name(FLAX)
                 .hidden(false)
                 .option("Pick")
@@ -144,7 +143,7 @@ public class FlaxPickerTask implements Task {
             return;
         }
 
-        EntityResultSet<SceneObject> wheelResults = SceneObjectQuery.newQuery()
+        EntityResultSet<SceneObject> wheelResults = GameQueries.sceneObjects()
                 .name("Spinning wheel")
                 .option("Spin")
                 .hidden(false)
@@ -164,7 +163,7 @@ public class FlaxPickerTask implements Task {
 
     private void handleStringBowstring(LocalPlayer player) {
         if (Backpack.isFull()) {
-            var results = ComponentQuery.newQuery(STRING_INTERFACE_ID)
+            var results = GameQueries.components(STRING_INTERFACE_ID)
                     .componentIndex(5)
                     .itemName(BOWSTRING)
                     .option("String")
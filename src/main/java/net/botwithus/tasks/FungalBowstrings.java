@@ -1,10 +1,10 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.rs3.game.inventories.Backpack;
 import net.botwithus.rs3.game.hud.interfaces.Interfaces;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
 import net.botwithus.rs3.game.minimenu.MiniMenu;
 import net.botwithus.rs3.game.minimenu.actions.ComponentAction;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
@@ -52,7 +52,7 @@ public class FungalBowstrings implements Task {
         }
         
 
-        EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery().name("Spinning wheel").option("Spin").results();
+        EntityResultSet<SceneObject> results = GameQueries.sceneObjects().name("Spinning wheel").option("Spin").results();
         SceneObject spinningWheel = results.first();
 
         if (spinningWheel != null) {
@@ -1,6 +1,7 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.api.game.hud.inventories.Bank;
 import net.botwithus.rs3.game.hud.interfaces.Component;
 import net.botwithus.rs3.game.hud.interfaces.Interfaces;
@@ -29,7 +30,8 @@ public class GemCraftingTask implements Task {
 
         if (Interfaces.isOpen(1371)) {
             MiniMenu.interact(ComponentAction.DIALOGUE.getType(), 0, -1, 89784350);
-            Execution.delay(script.getRandom().nextLong(1000, 2000));
+            // Resume as soon as crafting starts rather than sleeping a fixed 1-2s
+            Execution.delayUntil(2000, () -> Interfaces.isOpen(1251));
             return;
         }
 
@@ -65,7 +67,7 @@ public class GemCraftingTask implements Task {
 
         if (item != null) {
             String itemName = item.getName();
-            Component itemComponent = net.botwithus.rs3.game.queries.builders.components.ComponentQuery.newQuery(1473).componentIndex(5).itemName(itemName).results().first();
+            Component itemComponent = GameQueries.components(1473).componentIndex(5).itemName(itemName).results().first();
             if (itemComponent != null) {
                 return itemComponent.interact(option);
             }
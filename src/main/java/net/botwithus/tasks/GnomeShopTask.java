@@ -1,10 +1,11 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.Shop;
+import net.botwithus.WaitScheduler;
 import net.botwithus.api.game.hud.inventories.Bank;
 import net.botwithus.rs3.game.inventories.Backpack;
-import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
 import net.botwithus.rs3.script.Execution;
@@ -29,7 +30,7 @@ public class GnomeShopTask implements Task {
         if (Backpack.isFull()) {
             ScriptConsole.println("[GnomeShopTask] Backpack is full, loading last bank preset");
             Bank.loadLastPreset();
-            Execution.delayUntil(15000L, () -> !Backpack.isFull());
+            WaitScheduler.until(15000L, () -> !Backpack.isFull());
 
             // Increment the bank visit counter
             bankVisitCounter++;
@@ -46,7 +47,7 @@ public class GnomeShopTask implements Task {
 
         if (!Shop.isOpen()) {
             ScriptConsole.println("[GnomeShopTask] Shop interface not open, finding Gnome Waiter");
-            EntityResultSet<Npc> results = NpcQuery.newQuery().name("Gnome Waiter").option("Talk-to").results();
+            EntityResultSet<Npc> results = GameQueries.npcs().name("Gnome Waiter").option("Talk-to").results();
             if (!results.isEmpty()) {
                 Npc gnomeWaiter = results.first();
                 if (gnomeWaiter != null) {
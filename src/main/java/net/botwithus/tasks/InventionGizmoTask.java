@@ -1,12 +1,13 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
+import net.botwithus.WaitScheduler;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.api.game.hud.inventories.Bank;
 import net.botwithus.rs3.game.hud.interfaces.Interfaces;
 import net.botwithus.rs3.game.minimenu.MiniMenu;
 import net.botwithus.rs3.game.minimenu.actions.ComponentAction;
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
 import net.botwithus.rs3.script.Execution;
@@ -31,7 +32,7 @@ public class InventionGizmoTask implements Task {
             ScriptConsole.println("[InventionGizmoTask] No Adamant bar found, loading last bank preset");
             Execution.delay(script.getRandom().nextLong(600, 1200));
             Bank.loadLastPreset();
-            Execution.delayUntil(15000, () -> Backpack.contains("Adamant bar"));
+            WaitScheduler.until(15000, () -> Backpack.contains("Adamant bar"));
             if(!Backpack.contains("Adamant bar")){
                 ScriptConsole.println("No bars found after preset loading, stopping");
                 script.setActive(false);
@@ -72,7 +73,7 @@ public class InventionGizmoTask implements Task {
         // Otherwise, open the Inventor's workbench
         ScriptConsole.println("[InventionGizmoTask] Interfaces 1251 and 1370 not open, finding Inventor's workbench");
 
-        EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery().name("Inventor's workbench").option("Manufacture").results();
+        EntityResultSet<SceneObject> results = GameQueries.sceneObjects().name("Inventor's workbench").option("Manufacture").results();
 
         if (!results.isEmpty()) {
             SceneObject workbench = results.first();
@@ -1,10 +1,10 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.api.game.hud.inventories.Bank;
 import net.botwithus.rs3.game.hud.interfaces.Interfaces;
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
 import net.botwithus.rs3.game.minimenu.MiniMenu;
@@ -49,7 +49,7 @@ public class LimestoneTask implements Task {
         
         // Find and interact with Stonecutter
         ScriptConsole.println("[LimestoneTask] Looking for Stonecutter...");
-        EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery().name("Stonecutter").option("Cut stone").results();
+        EntityResultSet<SceneObject> results = GameQueries.sceneObjects().name("Stonecutter").option("Cut stone").results();
         SceneObject stonecutter = results.nearest();
         
         if (stonecutter != null) {
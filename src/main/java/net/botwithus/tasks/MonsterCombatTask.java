@@ -3,9 +3,9 @@ package net.botwithus.tasks;
 import java.util.ArrayList;
 import java.util.List;
 
+import net.botwithus.GameQueries;
 import net.botwithus.rs3.game.Client;
 import net.botwithus.rs3.game.Coordinate;
-import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
 import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
 import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
 import net.botwithus.rs3.script.Execution;
@@ -77,7 +77,7 @@ public class MonsterCombatTask implements Task {
         cachedMonsterNames.clear();
         
         // Find all NPCs
-        var npcResults = NpcQuery.newQuery().results();
+        var npcResults = GameQueries.npcs().results();
         ScriptConsole.println("[MonsterCombatTask] Found " + npcResults.size() + " NPCs");
         
         // Use Set to track unique names
@@ -117,7 +117,7 @@ public class MonsterCombatTask implements Task {
         }
         
         // Find nearest monster with the selected name
-        var npcResults = NpcQuery.newQuery().results();
+        var npcResults = GameQueries.npcs().results();
         Npc nearestNpc = null;
         double nearestDistance = Double.MAX_VALUE;
         
@@ -159,7 +159,7 @@ public class MonsterCombatTask implements Task {
         ScriptConsole.println("[MonsterCombatTask] Looking for next " + selectedMonsterName);
         
         // Find nearest NPC with the selected name
-        var npcResults = NpcQuery.newQuery().results();
+        var npcResults = GameQueries.npcs().results();
         Npc nearestNpc = null;
         double nearestDistance = Double.MAX_VALUE;
         
@@ -201,7 +201,7 @@ public class MonsterCombatTask implements Task {
         }
         
         // Check if any monster with the selected name still exists and is attackable
-        var npcResults = NpcQuery.newQuery().results();
+        var npcResults = GameQueries.npcs().results();
         for (Npc npc : npcResults) {
             if (npc != null && npc.getName().equals(selectedMonsterName) && npc.getOptions().contains("Attack")) {
                 return false; // Found at least one alive monster with the selected name
@@ -4,9 +4,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.rs3.game.Client;
 import net.botwithus.rs3.game.Coordinate;
-import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
 import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
 import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
 import net.botwithus.rs3.script.Execution;
@@ -37,7 +37,7 @@ public class NPCLoggerTask implements Task {
         ScriptConsole.println("[NPC Logger] Scanning for NPCs within 30 tiles of player at " + playerPos);
 
         List<Npc> npcs = new ArrayList<>();
-        for (Npc npc : NpcQuery.newQuery().results()) {
+        for (Npc npc : GameQueries.npcs().results()) {
             npcs.add(npc);
         }
         for (Npc npc : npcs) {
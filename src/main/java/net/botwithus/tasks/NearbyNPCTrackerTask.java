@@ -4,10 +4,9 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
-import net.botwithus.rs3.game.Client;
+import net.botwithus.TickSnapshot;
 import net.botwithus.rs3.game.Coordinate;
 import net.botwithus.rs3.game.actionbar.ActionBar;
-import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
 import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
 import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
 import net.botwithus.rs3.script.Execution;
@@ -29,7 +28,7 @@ public class NearbyNPCTrackerTask implements Task {
 
     @Override
     public void execute() {
-        LocalPlayer player = Client.getLocalPlayer();
+        LocalPlayer player = TickSnapshot.player();
         if (player == null) {
             ScriptConsole.println("[NearbyNPCTracker] Player is null, waiting...");
             Execution.delay(1000);
@@ -65,7 +64,7 @@ public class NearbyNPCTrackerTask implements Task {
         Coordinate playerPos = player.getCoordinate();
         if (playerPos == null) return;
 
-        for (Npc npc : NpcQuery.newQuery().results()) {
+        for (Npc npc : TickSnapshot.npcs()) {
             if (npc == null) continue;
             String name = npc.getName();
             if (name == null || name.isEmpty()) continue;
@@ -1,11 +1,11 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.rs3.game.Client;
 import net.botwithus.rs3.game.login.LoginManager;
 import net.botwithus.rs3.game.minimenu.MiniMenu;
 import net.botwithus.rs3.game.minimenu.actions.ComponentAction;
-import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
 import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
 import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
 import net.botwithus.rs3.game.vars.VarManager;
@@ -42,7 +42,7 @@ public class POSDTask implements Task {
         }
         
         // Check for death
-        Npc death = NpcQuery.newQuery().name("Death").results().nearest();
+        Npc death = GameQueries.npcs().name("Death").results().nearest();
         if (death != null) {
             ScriptConsole.println("[POSDTask] Death detected, stopping script");
             Execution.delay(5000L);
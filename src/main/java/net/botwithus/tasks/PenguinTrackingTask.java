@@ -1,11 +1,11 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.rs3.game.Client;
 import net.botwithus.rs3.game.Coordinate;
 import net.botwithus.rs3.game.movement.Movement;
 import net.botwithus.rs3.game.movement.NavPath;
-import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
 import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
 import net.botwithus.rs3.script.Execution;
 import net.botwithus.rs3.script.ScriptConsole;
@@ -126,7 +126,7 @@ public class PenguinTrackingTask implements Task {
     }
     
     private boolean checkForPenguinsAtCurrentLocation() {
-        Npc penguin = NpcQuery.newQuery()
+        Npc penguin = GameQueries.npcs()
             .name("Penguin")
             .results()
             .nearestTo(Client.getLocalPlayer());
@@ -1,10 +1,10 @@
 package net.botwithus.tasks;
 
+import net.botwithus.GameQueries;
 import net.botwithus.api.game.hud.Dialog;
 import net.botwithus.CoaezUtility;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.rs3.game.Item;
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
 import net.botwithus.rs3.script.Execution;
@@ -88,7 +88,7 @@ public abstract class Portable {
      * @return true if interaction was successful, false otherwise.
      */
     public boolean interact() {
-        EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery()
+        EntityResultSet<SceneObject> results = GameQueries.sceneObjects()
             .name(type.getName())
             .option(getInteractionOption())
             .results();
@@ -1,11 +1,11 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.rs3.game.js5.types.ItemType; // Use the corrected import
 import net.botwithus.rs3.script.ScriptConsole;
 
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
 import net.botwithus.rs3.script.Execution;
@@ -57,7 +57,7 @@ public class PortableBrazier extends Portable {
      */
     @Override
     public boolean interact() {
-        EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery()
+        EntityResultSet<SceneObject> results = GameQueries.sceneObjects()
             .name(this.type.getName())
             .option(getInteractionOption()) 
             .results();
@@ -1,8 +1,9 @@
 package net.botwithus.tasks;
 
+import net.botwithus.GameQueries;
+import net.botwithus.WaitScheduler;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
 import net.botwithus.rs3.game.Item;
 import net.botwithus.rs3.script.Execution;
 
@@ -26,13 +27,13 @@ public class PortableBrazierTask {
 
     public void execute() {
         if (Backpack.getItems().stream().anyMatch(isRequiredItem())) {
-            SceneObject brazier = SceneObjectQuery.newQuery().name(BRAZIER_NAME).results().nearest();
+            SceneObject brazier = GameQueries.sceneObjects().name(BRAZIER_NAME).results().nearest();
 
             if (brazier != null) {
                 System.out.println("Found brazier: " + brazier.getName() + " at " + brazier.getCoordinate());
                 if (brazier.interact(0)) {
                     System.out.println("Interacted with brazier (action 0).");
-                    Execution.delayUntil(60000, () -> !Backpack.getItems().stream().anyMatch(isRequiredItem()));
+                    WaitScheduler.until(60000, () -> !Backpack.getItems().stream().anyMatch(isRequiredItem()));
                      if (!Backpack.getItems().stream().anyMatch(isRequiredItem())) {
                         System.out.println("Finished using items on brazier.");
                     } else {
@@ -1,13 +1,13 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.rs3.game.js5.types.configs.ConfigManager;
 import net.botwithus.rs3.game.js5.types.EnumType;
 import net.botwithus.rs3.game.js5.types.ItemType;
 import net.botwithus.rs3.script.ScriptConsole;
 import net.botwithus.rs3.game.vars.VarManager;
 import net.botwithus.rs3.game.js5.types.vars.VarDomainType;
-import net.botwithus.rs3.game.queries.builders.components.ComponentQuery;
 import net.botwithus.rs3.game.queries.results.ResultSet;
 import net.botwithus.rs3.game.minimenu.MiniMenu;
 import net.botwithus.rs3.script.Execution;
@@ -628,7 +628,7 @@ public class PortableCrafter extends Portable {
             // Product is already selected, proceed to click the Make button (Component 30)
             ScriptConsole.println("[PortableCrafter|handleMakeXSelection] Correct item already selected. Clicking Make button (CompIdx: " + COMPONENT_INDEX_MAKE_BUTTON + ")...");
             // Find the Make button component - Interface 1371, Component 30
-            Component makeButton = ComponentQuery.newQuery(1370)
+            Component makeButton = GameQueries.components(1370)
                                                 .componentIndex(COMPONENT_INDEX_MAKE_BUTTON)
                                                 .results().first();
 
@@ -1,12 +1,12 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.api.game.hud.Dialog;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.api.game.hud.inventories.Bank;
 import net.botwithus.rs3.game.hud.interfaces.Interfaces;
 import net.botwithus.rs3.game.js5.types.ItemType;
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
 import net.botwithus.rs3.script.Execution;
@@ -100,7 +100,7 @@ public class PortableSawmill extends Portable {
             return false;
         }
 
-        EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery()
+        EntityResultSet<SceneObject> results = GameQueries.sceneObjects()
                 .name(this.type.getName())
                 .option(getInteractionOption())
                 .results();
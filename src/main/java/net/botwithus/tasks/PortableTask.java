@@ -1,6 +1,7 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.api.game.hud.Dialog;
 import net.botwithus.api.game.hud.inventories.Bank;
 import net.botwithus.rs3.game.hud.interfaces.Interfaces;
@@ -9,7 +10,6 @@ import net.botwithus.rs3.script.ScriptConsole;
 import net.botwithus.rs3.game.js5.types.vars.VarDomainType;
 import net.botwithus.rs3.game.vars.VarManager;
 import net.botwithus.rs3.game.hud.interfaces.Component;
-import net.botwithus.rs3.game.queries.builders.components.ComponentQuery;
 import net.botwithus.rs3.game.queries.results.ResultSet;
 import net.botwithus.rs3.game.minimenu.MiniMenu;
 import net.botwithus.rs3.game.minimenu.actions.ComponentAction;
@@ -287,7 +287,7 @@ public class PortableTask implements Task {
 
             if (selectedItemIdInInterface == targetProductId) {
                 ScriptConsole.println("[PortableTask] Correct item selected. Clicking Make button (CompIdx: "+ COMPONENT_INDEX_MAKE_BUTTON +")...");
-                Component makeButton = ComponentQuery.newQuery(MAKE_X_LIST_INTERFACE_ID)
+                Component makeButton = GameQueries.components(MAKE_X_LIST_INTERFACE_ID)
                         .componentIndex(COMPONENT_INDEX_MAKE_BUTTON)
                         .results().first();
                         
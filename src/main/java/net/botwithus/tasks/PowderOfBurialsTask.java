@@ -8,10 +8,10 @@ import java.util.Random;
 import java.util.regex.Pattern;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.api.game.hud.inventories.Bank;
 import net.botwithus.rs3.game.Item;
 import net.botwithus.rs3.game.hud.interfaces.Component;
-import net.botwithus.rs3.game.queries.builders.components.ComponentQuery;
 import net.botwithus.rs3.script.Execution;
 
 public class PowderOfBurialsTask implements Task {
@@ -59,7 +59,7 @@ public class PowderOfBurialsTask implements Task {
     
     private boolean isPowderOfBurialsActive() {
         Execution.delay(script.getRandom().nextLong(100, 200));
-        Component powderOfBurials = ComponentQuery.newQuery(284)
+        Component powderOfBurials = GameQueries.components(284)
             .spriteId(BURIAL_POWDER_SPRITE_ID)
             .results()
             .first();
@@ -81,7 +81,7 @@ public class PowderOfBurialsTask implements Task {
 
         if (item != null) {
             String itemName = item.getName();
-            Component itemComponent = ComponentQuery.newQuery(1473).componentIndex(5).itemName(itemName).results().first();
+            Component itemComponent = GameQueries.components(1473).componentIndex(5).itemName(itemName).results().first();
             if (itemComponent != null) {
                 return itemComponent.interact(option);
             }
@@ -99,7 +99,7 @@ public class PowderOfBurialsTask implements Task {
         
         // Cache bone ActionBar components
         for (String itemName : BONE_NAMES) {
-            Component actionBarComponent = ComponentQuery.newQuery(1473).componentIndex(5).itemName(itemName).results().first();
+            Component actionBarComponent = GameQueries.components(1473).componentIndex(5).itemName(itemName).results().first();
             if (actionBarComponent != null) {
                 boneActionBarCache.put(itemName, actionBarComponent);
             }
@@ -107,7 +107,7 @@ public class PowderOfBurialsTask implements Task {
         
         // Cache ash ActionBar components
         for (String ashName : ASH_NAMES) {
-            Component actionBarComponent = ComponentQuery.newQuery(1473).componentIndex(5).itemName(ashName).results().first();
+            Component actionBarComponent = GameQueries.components(1473).componentIndex(5).itemName(ashName).results().first();
             if (actionBarComponent != null) {
                 ashActionBarCache.put(ashName, actionBarComponent);
             }
@@ -0,0 +1,204 @@
+package net.botwithus.tasks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import net.botwithus.rs3.game.quest.Quest;
+
+/**
+ * Every quest the quest helper knows about, indexed once when quests are loaded.
+ *
+ * Quests are stored in quest ID order and addressed by their position in that order. Names, lower-case names
+ * for searching and the "Name [ID]" strings shown in the GUI are computed up front, with a name index and an ID
+ * index for lookups. Membership is a bitset, so a filter is the quests with the selected statuses intersected
+ * with the selected memberships, and the set bits come out already in display order.
+ *
+ * The catalogue only records each quest's status at load time; QuestStatusTracker keeps the live status bitsets.
+ */
+public final class QuestCatalogue {
+
+    public enum Status {
+        COMPLETED,
+        IN_PROGRESS,
+        NOT_STARTED
+    }
+
+    private final Quest[] quests;
+    private final int[] ids;
+    private final String[] lowerNames;
+    private final String[] displayNames;
+    private final int[] indexById;
+    private final Map<String, Integer> indexByName;
+    private final Status[] loadedStatuses;
+    private final BitSet members;
+    private final List<Quest> allByName;
+
+    private QuestCatalogue(List<Builder.Row> rows) {
+        int size = rows.size();
+        quests = new Quest[size];
+        ids = new int[size];
+        lowerNames = new String[size];
+        displayNames = new String[size];
+        indexByName = new HashMap<>(size * 2);
+        loadedStatuses = new Status[size];
+        members = new BitSet(size);
+
+        int maxId = -1;
+        for (int i = 0; i < size; i++) {
+            Builder.Row row = rows.get(i);
+            String name = row.quest.name();
+            quests[i] = row.quest;
+            ids[i] = row.questId;
+            lowerNames[i] = name.toLowerCase(Locale.ROOT);
+            displayNames[i] = name + " [" + row.questId + "]";
+            indexByName.put(lowerNames[i], i);
+            loadedStatuses[i] = row.status;
+            if (row.members) {
+                members.set(i);
+            }
+            maxId = Math.max(maxId, row.questId);
+        }
+        indexById = new int[maxId + 1];
+        Arrays.fill(indexById, -1);
+        for (int i = 0; i < size; i++) {
+            indexById[ids[i]] = i;
+        }
+
+        Comparator<Quest> byName = Comparator.comparing(Quest::name);
+        List<Quest> all = new ArrayList<>(Arrays.asList(quests));
+        all.sort(byName);
+        allByName = Collections.unmodifiableList(all);
+    }
+
+    /**
+     * Collects quests and builds the catalogue. Each name and each ID may only be added once.
+     */
+    public static final class Builder {
+        private static final class Row {
+            final Quest quest;
+            final int questId;
+            final Status status;
+            final boolean members;
+
+            Row(Quest quest, int questId, Status status, boolean members) {
+                this.quest = quest;
+                this.questId = questId;
+                this.status = status;
+                this.members = members;
+            }
+        }
+
+        private final List<Row> rows = new ArrayList<>();
+
+        public Builder add(Quest quest, int questId, Status status) {
+            rows.add(new Row(quest, questId, status, quest.isMembers()));
+            return this;
+        }
+
+        public QuestCatalogue build() {
+            rows.sort(Comparator.comparingInt(row -> row.questId));
+            return new QuestCatalogue(rows);
+        }
+    }
+
+    public int size() {
+        return quests.length;
+    }
+
+    public Quest getQuest(int index) {
+        return quests[index];
+    }
+
+    public int getQuestId(int index) {
+        return ids[index];
+    }
+
+    /**
+     * @return "Name [ID]" as shown in the quest list
+     */
+    public String getDisplayName(int index) {
+        return displayNames[index];
+    }
+
+    /**
+     * Status the quest had when quests were loaded
+     */
+    public Status getLoadedStatus(int index) {
+        return loadedStatuses[index];
+    }
+
+    /**
+     * @return the position of the quest with this ID, or -1 if it isn't catalogued
+     */
+    public int indexOfId(int questId) {
+        return questId >= 0 && questId < indexById.length ? indexById[questId] : -1;
+    }
+
+    /**
+     * Case-insensitive lookup by name
+     * @return the position of the quest, or -1 if it isn't catalogued
+     */
+    public int indexOfName(String questName) {
+        if (questName == null) {
+            return -1;
+        }
+        Integer index = indexByName.get(questName.toLowerCase(Locale.ROOT));
+        return index != null ? index : -1;
+    }
+
+    /**
+     * @return the catalogued ID for the quest, or -1 if it isn't catalogued
+     */
+    public int getQuestId(Quest quest) {
+        int index = quest != null ? indexOfName(quest.name()) : -1;
+        return index >= 0 ? ids[index] : -1;
+    }
+
+    public Quest getQuestById(int questId) {
+        int index = indexOfId(questId);
+        return index >= 0 ? quests[index] : null;
+    }
+
+    public Quest getQuestByName(String questName) {
+        int index = indexOfName(questName);
+        return index >= 0 ? quests[index] : null;
+    }
+
+    /**
+     * All quests sorted by name
+     */
+    public List<Quest> getQuests() {
+        return allByName;
+    }
+
+    /**
+     * Narrow a set of quest positions down to those matching a filter, in quest ID order
+     * @param candidates positions to filter, typically the quests with the selected statuses; modified in place
+     * @param search case-insensitive substring of the name, or null/blank for any
+     * @return candidates
+     */
+    public BitSet filter(BitSet candidates, boolean membersQuests, boolean freeToPlayQuests, String search) {
+        if (!membersQuests) {
+            candidates.andNot(members);
+        }
+        if (!freeToPlayQuests) {
+            candidates.and(members);
+        }
+        String needle = search != null ? search.trim().toLowerCase(Locale.ROOT) : "";
+        if (!needle.isEmpty()) {
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                if (!lowerNames[i].contains(needle)) {
+                    candidates.clear(i);
+                }
+            }
+        }
+        return candidates;
+    }
+}
@@ -2,15 +2,15 @@ package net.botwithus.tasks;
 
 import net.botwithus.rs3.script.ScriptConsole;
 
-import java.io.BufferedReader;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -22,6 +22,119 @@ public class QuestDialogFetcher {
     private static final String WIKI_BASE_URL = "https://runescape.wiki/w/";
     private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
     
+    /**
+     * A regex replacement compiled once. The text clean-ups below run for every step and option,
+     * and every frame while the GUI shows a guide, so their patterns are not recompiled per call.
+     */
+    private static final class Rewrite {
+        private final Pattern pattern;
+        private final String replacement;
+        
+        private Rewrite(String regex, String replacement) {
+            this.pattern = Pattern.compile(regex);
+            this.replacement = replacement;
+        }
+        
+        private static String applyAll(String text, Rewrite[] rewrites) {
+            for (Rewrite rewrite : rewrites) {
+                text = rewrite.pattern.matcher(text).replaceAll(rewrite.replacement);
+            }
+            return text;
+        }
+    }
+    
+    private static final Rewrite[] CLEAN_STEP_TEXT = {
+        // Remove any text that mentions "Dialog:" or "dialog:"
+        new Rewrite("(?i)dialog[^\\n]*", ""),
+        // Remove numbered option patterns like "1. Option text" or "? ? ? ?"
+        new Rewrite("\\d+\\.\\s*[^\\n]*", ""),
+        new Rewrite("[?\\d\\s]{3,}", ""),
+        // Remove patterns like "Choose option X" or "Select option Y"
+        new Rewrite("(?i)(choose|select|pick)\\s+(option|choice)\\s*\\d*[^\\n]*", ""),
+        // Remove any remaining dialog instruction patterns
+        new Rewrite("(?i)(say|tell|ask|answer|respond)[^\\n]*", ""),
+        // Remove option number patterns at start of lines
+        new Rewrite("(?m)^\\s*\\d+[.:)]\\s*", ""),
+        // Remove question mark sequences
+        new Rewrite("\\?+\\s*", ""),
+        // Clean up whitespace and empty lines
+        new Rewrite("\\s+", " "),
+        new Rewrite("(\\s*[.,;:]\\s*)+", ". ")
+    };
+    
+    private static final Rewrite[] READABILITY = {
+        new Rewrite("Dialog:\\s*Step\\s*dialog:[^\\n]*", ""),
+        new Rewrite("Dialog:\\s*[^\\n]*", ""),
+        new Rewrite("(?m)^\\s*Dialog:.*$", ""),
+        new Rewrite("[\\d?\\s]{5,}", ""),
+        new Rewrite("[?\\s]{3,}", ""),
+        new Rewrite("\\bStep\\s+dialog\\b[^\\n]*", ""),
+        new Rewrite("\\b(go|walk|run|move|travel|head|proceed)\\s+(to|towards|into|through|up|down|north|south|east|west)", "$1 to"),
+        new Rewrite("\\b(click|select|choose|pick)\\s+(on|the)\\s+", "click on "),
+        new Rewrite("\\b(use|equip|wield)\\s+(the|your)\\s+", "use "),
+        new Rewrite("\\b(open|close|examine|search)\\s+(the)\\s+", "$1 the "),
+        new Rewrite("\\b(enter|exit|leave)\\s+(the)\\s+", "$1 the "),
+        new Rewrite("\\b(climb|ascend|descend)\\s+(the|up|down)\\s+", "$1 "),
+        new Rewrite("\\b(bank|teleport|transport)\\s+(to|at)\\s+", "$1 to "),
+        new Rewrite("\\b(take|get|obtain|collect|gather)\\s+(the|a|an)\\s+", "take "),
+        new Rewrite("\\b(drop|destroy|discard)\\s+(the|your)\\s+", "drop "),
+        new Rewrite("\\b(equip|wear|wield)\\s+(the|your)\\s+", "equip "),
+        new Rewrite("\\b(kill|defeat|fight|attack)\\s+(the|a|an)\\s+", "kill "),
+        new Rewrite("\\b(mine|fish|cut|cook|craft|smith)\\s+(the|a|an)\\s+", "$1 "),
+        new Rewrite("\\b(level|levels?)\\s+(\\d+)\\s+(\\w+)", "level $2 $3"),
+        new Rewrite("([.!?])([A-Z])", "$1 $2"),
+        new Rewrite("([,;:])([A-Za-z])", "$1 $2"),
+        new Rewrite("\\((\\d+),\\s*(\\d+)\\)", "($1, $2)"),
+        new Rewrite("\\((\\d+),\\s*(\\d+),\\s*(\\d+)\\)", "($1, $2, $3)"),
+        new Rewrite("\\b(then)\\s+", "then "),
+        new Rewrite("\\b(and)\\s+", "and "),
+        new Rewrite("\\b(or)\\s+", "or "),
+        new Rewrite("\\b(but)\\s+", "but "),
+        new Rewrite("\\b(if)\\s+", "if "),
+        new Rewrite("\\b(when)\\s+", "when "),
+        new Rewrite("\\b(after)\\s+", "after "),
+        new Rewrite("\\b(before)\\s+", "before "),
+        new Rewrite("\\b(npc|NPC)\\b", "NPC"),
+        new Rewrite("\\b(hp|HP)\\b", "HP"),
+        new Rewrite("\\b(xp|XP|exp|EXP)\\b", "XP"),
+        new Rewrite("\\b(gp|GP)\\b", "GP"),
+        new Rewrite("\\b(poh|POH)\\b", "POH"),
+        new Rewrite("\\b(ge|GE)\\b", "Grand Exchange"),
+        new Rewrite("\\b(tele|teleport)\\b", "teleport"),
+        new Rewrite("\\b(\\d+)\\s*x\\s*(\\w+)", "$1 $2"),
+        new Rewrite("\\b(\\d+)\\s+(coins?|gp|GP)\\b", "$1 GP"),
+        new Rewrite("\\s*-\\s*", " - "),
+        new Rewrite("\\s*→\\s*", " → "),
+        new Rewrite("\\s*/\\s*", "/"),
+        new Rewrite("\\s+", " "),
+        new Rewrite("(\\s*\\.\\s*)+", ". "),
+        new Rewrite("^[\\s.,]+", "")
+    };
+    
+    private static final Rewrite[] BASIC_FORMATTING = {
+        new Rewrite("([.!?])([A-Z])", "$1 $2"),
+        new Rewrite("([,;:])([A-Za-z])", "$1 $2"),
+        new Rewrite("\\((\\d+),\\s*(\\d+)\\)", "($1, $2)"),
+        new Rewrite("\\((\\d+),\\s*(\\d+),\\s*(\\d+)\\)", "($1, $2, $3)"),
+        new Rewrite("\\b(npc|NPC)\\b", "NPC"),
+        new Rewrite("\\b(hp|HP)\\b", "HP"),
+        new Rewrite("\\b(xp|XP|exp|EXP)\\b", "XP"),
+        new Rewrite("\\b(gp|GP)\\b", "GP"),
+        new Rewrite("\\b(poh|POH)\\b", "POH"),
+        new Rewrite("\\b(ge|GE)\\b", "Grand Exchange"),
+        new Rewrite("\\b(\\d+)\\s*x\\s*(\\w+)", "$1 $2"),
+        new Rewrite("\\b(\\d+)\\s+(coins?|gp|GP)\\b", "$1 GP"),
+        new Rewrite("\\s*-\\s*", " - "),
+        new Rewrite("\\s*→\\s*", " → "),
+        new Rewrite("\\s*/\\s*", "/"),
+        new Rewrite("\\b(yes|no|ok|okay)\\b", "YES"),
+        new Rewrite("\\b(continue)\\b", "Continue"),
+        new Rewrite("\\b(skip)\\b", "Skip"),
+        new Rewrite("\\b(next)\\b", "Next"),
+        new Rewrite("\\b(back)\\b", "Back"),
+        new Rewrite("\\s+", " ")
+    };
+    
     /**
      * Represents a dialog choice with its option number and text.
      */
@@ -101,6 +214,19 @@ public class QuestDialogFetcher {
             this.completed = false;
         }
         
+        private QuestStep(String cleanedText, boolean completed) {
+            this.stepText = cleanedText;
+            this.dialogs = new ArrayList<>();
+            this.completed = completed;
+        }
+        
+        /**
+         * Recreates a step from text that was already cleaned, as stored by QuestGuideCache.
+         */
+        static QuestStep restore(String cleanedText) {
+            return new QuestStep(cleanedText, false);
+        }
+        
         public void addDialog(DialogSequence dialog) {
             dialogs.add(dialog);
         }
@@ -119,24 +245,7 @@ public class QuestDialogFetcher {
             String cleaned = stepText;
             
             // Remove all dialog-related patterns more aggressively
-            cleaned = cleaned
-                    // Remove any text that mentions "Dialog:" or "dialog:"
-                    .replaceAll("(?i)dialog[^\\n]*", "")
-                    // Remove numbered option patterns like "1. Option text" or "? ? ? ?"
-                    .replaceAll("\\d+\\.\\s*[^\\n]*", "")
-                    .replaceAll("[?\\d\\s]{3,}", "")
-                    // Remove patterns like "Choose option X" or "Select option Y"
-                    .replaceAll("(?i)(choose|select|pick)\\s+(option|choice)\\s*\\d*[^\\n]*", "")
-                    // Remove any remaining dialog instruction patterns
-                    .replaceAll("(?i)(say|tell|ask|answer|respond)[^\\n]*", "")
-                    // Remove option number patterns at start of lines
-                    .replaceAll("(?m)^\\s*\\d+[.:)]\\s*", "")
-                    // Remove question mark sequences
-                    .replaceAll("\\?+\\s*", "")
-                    // Clean up whitespace and empty lines
-                    .replaceAll("\\s+", " ")
-                    .replaceAll("(\\s*[.,;:]\\s*)+", ". ")
-                    .trim();
+            cleaned = Rewrite.applyAll(cleaned, CLEAN_STEP_TEXT).trim();
             
             // If the cleaned text is too short or empty, return the original step text
             if (cleaned.length() < 5) {
@@ -212,66 +321,7 @@ public class QuestDialogFetcher {
                 return text;
             }
 
-            text = text
-                      .replaceAll("Dialog:\\s*Step\\s*dialog:[^\\n]*", "")
-                      .replaceAll("Dialog:\\s*[^\\n]*", "")
-                      .replaceAll("(?m)^\\s*Dialog:.*$", "")
-                      .replaceAll("[\\d?\\s]{5,}", "")
-                      .replaceAll("[?\\s]{3,}", "")
-                      .replaceAll("\\bStep\\s+dialog\\b[^\\n]*", "");
-
-            text = text.replaceAll("\\b(go|walk|run|move|travel|head|proceed)\\s+(to|towards|into|through|up|down|north|south|east|west)", 
-                                 "$1 to")
-                      .replaceAll("\\b(click|select|choose|pick)\\s+(on|the)\\s+", "click on ")
-                      .replaceAll("\\b(use|equip|wield)\\s+(the|your)\\s+", "use ")
-                      .replaceAll("\\b(open|close|examine|search)\\s+(the)\\s+", "$1 the ");
-            
-            text = text.replaceAll("\\b(enter|exit|leave)\\s+(the)\\s+", "$1 the ")
-                      .replaceAll("\\b(climb|ascend|descend)\\s+(the|up|down)\\s+", "$1 ")
-                      .replaceAll("\\b(bank|teleport|transport)\\s+(to|at)\\s+", "$1 to ");
-            
-            text = text.replaceAll("\\b(take|get|obtain|collect|gather)\\s+(the|a|an)\\s+", "take ")
-                      .replaceAll("\\b(drop|destroy|discard)\\s+(the|your)\\s+", "drop ")
-                      .replaceAll("\\b(equip|wear|wield)\\s+(the|your)\\s+", "equip ");
-            
-            text = text.replaceAll("\\b(kill|defeat|fight|attack)\\s+(the|a|an)\\s+", "kill ")
-                      .replaceAll("\\b(mine|fish|cut|cook|craft|smith)\\s+(the|a|an)\\s+", "$1 ")
-                      .replaceAll("\\b(level|levels?)\\s+(\\d+)\\s+(\\w+)", "level $2 $3");
-            
-            text = text.replaceAll("([.!?])([A-Z])", "$1 $2")
-                      .replaceAll("([,;:])([A-Za-z])", "$1 $2");
-            
-            text = text.replaceAll("\\((\\d+),\\s*(\\d+)\\)", "($1, $2)")
-                      .replaceAll("\\((\\d+),\\s*(\\d+),\\s*(\\d+)\\)", "($1, $2, $3)");
-            
-            text = text.replaceAll("\\b(then)\\s+", "then ")
-                      .replaceAll("\\b(and)\\s+", "and ")
-                      .replaceAll("\\b(or)\\s+", "or ")
-                      .replaceAll("\\b(but)\\s+", "but ")
-                      .replaceAll("\\b(if)\\s+", "if ")
-                      .replaceAll("\\b(when)\\s+", "when ")
-                      .replaceAll("\\b(after)\\s+", "after ")
-                      .replaceAll("\\b(before)\\s+", "before ");
-            
-            text = text.replaceAll("\\b(npc|NPC)\\b", "NPC")
-                      .replaceAll("\\b(hp|HP)\\b", "HP")
-                      .replaceAll("\\b(xp|XP|exp|EXP)\\b", "XP")
-                      .replaceAll("\\b(gp|GP)\\b", "GP")
-                      .replaceAll("\\b(poh|POH)\\b", "POH")
-                      .replaceAll("\\b(ge|GE)\\b", "Grand Exchange")
-                      .replaceAll("\\b(tele|teleport)\\b", "teleport");
-            
-            text = text.replaceAll("\\b(\\d+)\\s*x\\s*(\\w+)", "$1 $2")
-                      .replaceAll("\\b(\\d+)\\s+(coins?|gp|GP)\\b", "$1 GP");
-            
-            text = text.replaceAll("\\s*-\\s*", " - ")
-                      .replaceAll("\\s*→\\s*", " → ")
-                      .replaceAll("\\s*/\\s*", "/");
-
-            text = text.replaceAll("\\s+", " ")
-                      .replaceAll("(\\s*\\.\\s*)+", ". ")
-                      .replaceAll("^[\\s.,]+", "")
-                      .trim();
+            text = Rewrite.applyAll(text, READABILITY).trim();
             
             if (text.trim().isEmpty()) {
                 return "";
@@ -390,25 +440,48 @@ public class QuestDialogFetcher {
 
     /**
      * Fetches quest guide with structured steps and dialogs from the RuneScape Wiki.
+     * Guides are served from QuestGuideCache when cached and fresh, revalidated with the wiki when stale,
+     * and served stale when the wiki can't be reached or offline mode is on.
      * 
      * @param questName The name of the quest (will be converted to wiki URL format)
      * @return QuestGuide containing structured quest data with steps and dialogs
      */
     public static QuestGuide fetchQuestGuide(String questName) {
+        QuestGuideCache.Entry cached = QuestGuideCache.load(questName);
+        if (cached != null && (cached.isFresh() || QuestGuideCache.isOffline())) {
+            return cached.getGuide();
+        }
+        if (QuestGuideCache.isOffline()) {
+            ScriptConsole.println("[QuestDialogFetcher] Offline and no cached guide for: " + questName);
+            return new QuestGuide(questName);
+        }
+        
         QuestGuide guide = new QuestGuide(questName);
         
         try {
             String wikiUrl = buildWikiUrl(questName);
             ScriptConsole.println("[QuestDialogFetcher] Fetching quest guide from: " + wikiUrl);
             
-            String htmlContent = fetchHtmlContent(wikiUrl);
-            if (htmlContent == null) {
+            HtmlResponse response = fetchAndParseGuide(wikiUrl,
+                    cached != null ? cached.getEtag() : null,
+                    cached != null ? cached.getLastModified() : null, guide);
+            if (response == null) {
+                if (cached != null) {
+                    ScriptConsole.println("[QuestDialogFetcher] Using cached guide for: " + questName);
+                    return cached.getGuide();
+                }
                 ScriptConsole.println("[QuestDialogFetcher] Failed to fetch content for: " + questName);
                 return guide;
             }
+            if (response.notModified) {
+                QuestGuideCache.touch(cached);
+                return cached.getGuide();
+            }
             
-            parseQuestGuide(htmlContent, guide);
             ScriptConsole.println("[QuestDialogFetcher] Parsed " + guide.getSections().size() + " sections with " + guide.getTotalSteps() + " total steps for: " + questName);
+            if (!guide.getSections().isEmpty()) {
+                QuestGuideCache.store(questName, guide, response.etag, response.lastModified);
+            }
             
         } catch (Exception e) {
             ScriptConsole.println("[QuestDialogFetcher] Error fetching quest guide for " + questName + ": " + e.getMessage());
@@ -417,199 +490,6 @@ public class QuestDialogFetcher {
         return guide;
     }
     
-    /**
-     * Parses the HTML content to extract quest sections and steps.
-     */
-    private static void parseQuestGuide(String htmlContent, QuestGuide guide) {
-        Pattern sectionPattern = Pattern.compile(
-            "<h2><span class=\"mw-headline\"[^>]*id=\"([^\"]+)\"[^>]*>([^<]+)</span>.*?</h2>",
-            Pattern.DOTALL | Pattern.CASE_INSENSITIVE
-        );
-
-        ScriptConsole.println("[QuestDialogFetcher] Starting to parse quest guide...");
-
-        Matcher sectionMatcher = sectionPattern.matcher(htmlContent);
-
-        while (sectionMatcher.find()) {
-            String sectionId = sectionMatcher.group(1);
-            String sectionName = cleanSectionName(sectionMatcher.group(2));
-            int sectionEnd = sectionMatcher.end();
-
-            String sectionContent;
-            Matcher nextSectionMatcher = sectionPattern.matcher(htmlContent);
-            nextSectionMatcher.region(sectionEnd, htmlContent.length());
-            if (nextSectionMatcher.find()) {
-                sectionContent = htmlContent.substring(sectionEnd, nextSectionMatcher.start());
-            } else {
-                sectionContent = htmlContent.substring(sectionEnd);
-            }
-
-            ScriptConsole.println("[QuestDialogFetcher] Found section: " + sectionName + " (ID: " + sectionId + ")");
-            QuestSection section = new QuestSection(sectionName);
-
-            int searchIdx = 0;
-            String checklistMarker = "<div class=\"lighttable checklist";
-            while (searchIdx < sectionContent.length()) {
-                int divIdx = sectionContent.indexOf(checklistMarker, searchIdx);
-                if (divIdx == -1) break;
-
-                int divOpenEnd = sectionContent.indexOf('>', divIdx);
-                if (divOpenEnd == -1) break;
-
-                String divFragment = sectionContent.substring(divOpenEnd + 1);
-                String checklistContent = extractOuterUlContent(divFragment);
-                if (checklistContent != null && !checklistContent.isEmpty()) {
-                    parseStepsFromChecklist(checklistContent, section);
-                }
-
-                int closingDiv = sectionContent.indexOf("</div>", divOpenEnd);
-                searchIdx = closingDiv != -1 ? closingDiv + 6 : divOpenEnd + 1;
-            }
-
-            if (section.getTotalSteps() > 0) {
-                guide.addSection(section);
-            }
-        }
-    }
-    
-    /**
-     * Extracts the top-level <ul>...</ul> block from the provided HTML fragment and returns its inner HTML.
-     * Uses tag depth tracking so nested lists do not prematurely terminate extraction.
-     */
-    private static String extractOuterUlContent(String html) {
-        if (html == null) return "";
-        int ulStart = html.indexOf("<ul");
-        if (ulStart == -1) return "";
-
-        int openTagEnd = html.indexOf('>', ulStart);
-        if (openTagEnd == -1) return "";
-
-        int depth = 1;
-        int index = openTagEnd + 1;
-        Pattern tagPattern = Pattern.compile("<ul[^>]*>|</ul>", Pattern.CASE_INSENSITIVE);
-        Matcher tagMatcher = tagPattern.matcher(html);
-        tagMatcher.region(index, html.length());
-
-        while (tagMatcher.find()) {
-            String tag = tagMatcher.group().toLowerCase();
-            if (tag.startsWith("<ul")) {
-                depth++;
-            } else { 
-                depth--;
-                if (depth == 0) {
-                    return html.substring(openTagEnd + 1, tagMatcher.start());
-                }
-            }
-        }
-        return "";
-    }
-    
-    /**
-     * Parses steps from checklist content using improved regex parsing.
-     */
-    private static void parseStepsFromChecklist(String checklistContent, QuestSection section) {
-        ScriptConsole.println("[QuestDialogFetcher] Parsing checklist for section: " + section.getSectionName());
-        ScriptConsole.println("[QuestDialogFetcher] Original content length: " + checklistContent.length());
-        
-        String cleanedContent = removeNestedUlBlocks(checklistContent);
-        ScriptConsole.println("[QuestDialogFetcher] Cleaned content length: " + cleanedContent.length());
-        
-        Pattern liPattern = Pattern.compile("<li>(.*?)</li>", Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
-        Matcher matcher = liPattern.matcher(cleanedContent);
-        
-        int stepCount = 0;
-        while (matcher.find()) {
-            stepCount++;
-            String stepContent = matcher.group(1);
-            
-            if (!stepContent.trim().isEmpty()) {
-                String cleanStepText = extractCleanStepText(stepContent);
-                
-                QuestStep step = new QuestStep(cleanStepText);
-                String originalStepHtml = extractOriginalStepHtml(checklistContent, stepContent, stepCount);
-                parseDialogsInStep(originalStepHtml, step);
-                
-                section.addStep(step);
-                
-                String stepPreview = step.getStepText().length() > 100 ? 
-                    step.getStepText().substring(0, 100) + "..." : 
-                    step.getStepText();
-                ScriptConsole.println("[QuestDialogFetcher] Added step " + stepCount + ": " + stepPreview + 
-                    (step.hasDialogs() ? " [Has Dialogs]" : ""));
-            }
-        }
-        
-        ScriptConsole.println("[QuestDialogFetcher] Successfully parsed " + stepCount + " steps");
-    }
-    
-    /**
-     * Extracts clean step text by removing dialog elements and other unwanted content.
-     */
-    private static String extractCleanStepText(String stepContent) {
-        if (stepContent == null || stepContent.trim().isEmpty()) {
-            return "";
-        }
-        
-        String cleanText = stepContent;
-        
-        cleanText = cleanText.replaceAll("<span class=\"chat-options\"[^>]*>.*?</span>", "");
-        cleanText = cleanText.replaceAll("<div[^>]*data-tooltip-for=\"[^\"]+\"[^>]*>.*?</div>", "");
-        
-        cleanText = cleanText.replaceAll("<[^>]+>", "");
-        
-        cleanText = cleanText.replace("&quot;", "\"")
-                            .replace("&amp;", "&")
-                            .replace("&lt;", "<")
-                            .replace("&gt;", ">")
-                            .replace("&#39;", "'")
-                            .replace("&nbsp;", " ")
-                            .replace("&#x2713;", "✓")
-                            .replace("&#8226;", "•")
-                            .replace("&#8230;", "...")
-                            .replace("&#x27;", "'")
-                            .replace("&#x3A;", ":")
-                            .replace("&#91;", "[")
-                            .replace("&#93;", "]")
-                            .replace("&lsquo;", "'")
-                            .replace("&rsquo;", "'")
-                            .replace("&ldquo;", "\"")
-                            .replace("&rdquo;", "\"")
-                            .replace("&hellip;", "...")
-                            .replace("&mdash;", "—")
-                            .replace("&ndash;", "–")
-                            .replaceAll("&#x([0-9A-Fa-f]+);", "")
-                            .replaceAll("&#([0-9]+);", "");
-        
-        cleanText = cleanText.replaceAll("\\s+", " ").trim();
-        
-        return cleanText;
-    }
-    
-    /**
-     * Removes nested <ul>...</ul> blocks while preserving the main structure.
-     */
-    private static String removeNestedUlBlocks(String content) {
-        if (content == null || !content.contains("<ul")) {
-            return content;
-        }
-
-        String result = content;
-        Pattern nestedUlPattern = Pattern.compile("<ul[^>]*>.*?</ul>", Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
-
-        while (nestedUlPattern.matcher(result).find()) {
-            result = nestedUlPattern.matcher(result).replaceAll("");
-        }
-
-        return result;
-    }
-    
-    /**
-     * Extracts the original HTML for a specific step to preserve dialog parsing.
-     */
-    private static String extractOriginalStepHtml(String originalContent, String stepText, int stepNumber) {
-        return stepText;
-    }
-
     /**
      * Builds the wiki URL for a quest's quick guide.
      */
@@ -621,32 +501,58 @@ public class QuestDialogFetcher {
     }
     
     /**
-     * Fetches HTML content from the given URL.
+     * The validators a page was served with, or a 304 for a cached page.
+     */
+    private static final class HtmlResponse {
+        private final boolean notModified;
+        private final String etag;
+        private final String lastModified;
+        
+        private HtmlResponse(boolean notModified, String etag, String lastModified) {
+            this.notModified = notModified;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+    }
+    
+    /**
+     * Fetches a quick guide page and parses it into the guide as it streams in, conditionally when
+     * validators of a cached copy are given. The guide is left untouched unless the whole page was read.
+     * @return the response, or null if the page couldn't be fetched
      */
-    private static String fetchHtmlContent(String urlString) {
+    private static HtmlResponse fetchAndParseGuide(String urlString, String etag, String lastModified, QuestGuide guide) {
         try {
             URL url = new URL(urlString);
             HttpURLConnection connection = (HttpURLConnection) url.openConnection();
             connection.setRequestMethod("GET");
             connection.setRequestProperty("User-Agent", USER_AGENT);
+            if (etag != null) {
+                connection.setRequestProperty("If-None-Match", etag);
+            }
+            if (lastModified != null) {
+                connection.setRequestProperty("If-Modified-Since", lastModified);
+            }
             connection.setConnectTimeout(10000);
             connection.setReadTimeout(10000);
             
             int responseCode = connection.getResponseCode();
+            if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED && (etag != null || lastModified != null)) {
+                return new HtmlResponse(true, etag, lastModified);
+            }
             if (responseCode != 200) {
                 ScriptConsole.println("[QuestDialogFetcher] HTTP " + responseCode + " for URL: " + urlString);
                 return null;
             }
             
-            StringBuilder content = new StringBuilder();
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream()))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    content.append(line).append("\n");
-                }
+            QuestGuide parsed = new QuestGuide(guide.getQuestName());
+            try (Reader reader = new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8)) {
+                QuestGuideParser.parse(reader, parsed);
+            }
+            for (QuestSection section : parsed.getSections()) {
+                guide.addSection(section);
             }
             
-            return content.toString();
+            return new HtmlResponse(false, connection.getHeaderField("ETag"), connection.getHeaderField("Last-Modified"));
             
         } catch (Exception e) {
             ScriptConsole.println("[QuestDialogFetcher] Error fetching HTML: " + e.getMessage());
@@ -657,7 +563,7 @@ public class QuestDialogFetcher {
     /**
      * Cleans up option text by removing HTML entities and extra whitespace.
      */
-    private static String cleanOptionText(String text) {
+    static String cleanOptionText(String text) {
         if (text == null) return "";
         
         String cleaned = text.replace("&quot;", "\"")
@@ -698,33 +604,7 @@ public class QuestDialogFetcher {
             return text;
         }
         
-        text = text.replaceAll("([.!?])([A-Z])", "$1 $2")
-                  .replaceAll("([,;:])([A-Za-z])", "$1 $2");
-        
-        text = text.replaceAll("\\((\\d+),\\s*(\\d+)\\)", "($1, $2)")
-                  .replaceAll("\\((\\d+),\\s*(\\d+),\\s*(\\d+)\\)", "($1, $2, $3)");
-        
-        text = text.replaceAll("\\b(npc|NPC)\\b", "NPC")
-                  .replaceAll("\\b(hp|HP)\\b", "HP")
-                  .replaceAll("\\b(xp|XP|exp|EXP)\\b", "XP")
-                  .replaceAll("\\b(gp|GP)\\b", "GP")
-                  .replaceAll("\\b(poh|POH)\\b", "POH")
-                  .replaceAll("\\b(ge|GE)\\b", "Grand Exchange");
-        
-        text = text.replaceAll("\\b(\\d+)\\s*x\\s*(\\w+)", "$1 $2")
-                  .replaceAll("\\b(\\d+)\\s+(coins?|gp|GP)\\b", "$1 GP");
-        
-        text = text.replaceAll("\\s*-\\s*", " - ")
-                  .replaceAll("\\s*→\\s*", " → ")
-                  .replaceAll("\\s*/\\s*", "/");
-        
-        text = text.replaceAll("\\b(yes|no|ok|okay)\\b", "YES")
-                  .replaceAll("\\b(continue)\\b", "Continue")
-                  .replaceAll("\\b(skip)\\b", "Skip")
-                  .replaceAll("\\b(next)\\b", "Next")
-                  .replaceAll("\\b(back)\\b", "Back");
-        
-        text = text.replaceAll("\\s+", " ").trim();
+        text = Rewrite.applyAll(text, BASIC_FORMATTING).trim();
         
 
         if (text.length() > 0 && Character.isLowerCase(text.charAt(0))) {
@@ -815,21 +695,7 @@ public class QuestDialogFetcher {
         List<String> dialogOptions = new ArrayList<>();
         
         try {
-            QuestGuide guide = fetchQuestGuide(questName);
-            
-            if (guide != null && !guide.getSections().isEmpty()) {
-                for (QuestSection section : guide.getSections()) {
-                    for (QuestStep step : section.getSteps()) {
-                        for (DialogSequence sequence : step.getDialogs()) {
-                            for (DialogOption option : sequence.getOptions()) {
-                                if (option.getOptionText() != null && !option.getOptionText().trim().isEmpty()) {
-                                    dialogOptions.add(option.getOptionText());
-                                }
-                            }
-                        }
-                    }
-                }
-            }
+            dialogOptions = collectDialogOptions(fetchQuestGuide(questName));
             
             ScriptConsole.println("[QuestDialogFetcher] Extracted " + dialogOptions.size() + " dialog options from quest guide for: " + questName);
             
@@ -839,94 +705,33 @@ public class QuestDialogFetcher {
         
         return dialogOptions;
     }
-
+    
     /**
-     * Parses dialog options within a specific step.
+     * Flattens a guide's dialog options into the simple list of strings used by the legacy dialog assistance.
      */
-    private static void parseDialogsInStep(String stepContent, QuestStep step) {
-        Pattern chatOptionsPattern = Pattern.compile(
-            "<span class=\"chat-options\">.*?data-tooltip-name=\"([^\"]+)\".*?</span>",
-            Pattern.DOTALL | Pattern.CASE_INSENSITIVE
-        );
-        
-        Pattern tooltipPattern = Pattern.compile(
-            "<div[^>]*data-tooltip-for=\"([^\"]+)\"[^>]*>.*?<table><tbody>(.*?)</tbody></table>.*?</div>",
-            Pattern.DOTALL | Pattern.CASE_INSENSITIVE
-        );
-        
-        Pattern tableRowPattern = Pattern.compile(
-            "<tr><td><b>([^<]+)</b></td><td>([^<]+)</td></tr>",
-            Pattern.CASE_INSENSITIVE
-        );
-        
-        Pattern sequenceDisplayPattern = Pattern.compile(
-            "<span class=\"chat-options-underline\"[^>]*>([^<]+)</span>",
-            Pattern.CASE_INSENSITIVE
-        );
-        
-        Matcher chatMatcher = chatOptionsPattern.matcher(stepContent);
-        while (chatMatcher.find()) {
-            String tooltipName = chatMatcher.group(1);
-            String chatOptionsContent = chatMatcher.group(0);
-            
-            List<String> sequenceParts = new ArrayList<>();
-            Matcher seqMatcher = sequenceDisplayPattern.matcher(chatOptionsContent);
-            while (seqMatcher.find()) {
-                String part = seqMatcher.group(1).trim();
-                part = cleanOptionText(part);
-                if (!part.isEmpty() && !part.equals("?")) {
-                    sequenceParts.add(part);
-                }
-            }
-            
-            if (sequenceParts.isEmpty()) {
-                continue;
-            }
-            
-            String sequenceDisplay = String.join(" → ", sequenceParts);
-            
-            if (sequenceDisplay.trim().isEmpty() || sequenceDisplay.matches("^[?\\s→]+$")) {
-                continue;
-            }
-            
-            Matcher tooltipMatcher = tooltipPattern.matcher(stepContent);
-            while (tooltipMatcher.find()) {
-                String divTooltipName = tooltipMatcher.group(1);
-                
-                if (divTooltipName.equals(tooltipName)) {
-                    String tableContent = tooltipMatcher.group(2);
-                    
-                    DialogSequence dialogSeq = new DialogSequence("Step dialog: " + sequenceDisplay);
-                    
-                    Matcher rowMatcher = tableRowPattern.matcher(tableContent);
-                    while (rowMatcher.find()) {
-                        String optionNum = rowMatcher.group(1).trim();
-                        String optionText = rowMatcher.group(2).trim();
-                        
-                        optionNum = cleanOptionText(optionNum);
-                        optionText = cleanOptionText(optionText);
-                        
-                        if (optionNum.equals("?") || optionNum.isEmpty() || 
-                            optionText.equals("?") || optionText.isEmpty()) {
-                            continue;
+    public static List<String> collectDialogOptions(QuestGuide guide) {
+        List<String> dialogOptions = new ArrayList<>();
+        if (guide == null) {
+            return dialogOptions;
+        }
+        for (QuestSection section : guide.getSections()) {
+            for (QuestStep step : section.getSteps()) {
+                for (DialogSequence sequence : step.getDialogs()) {
+                    for (DialogOption option : sequence.getOptions()) {
+                        if (option.getOptionText() != null && !option.getOptionText().trim().isEmpty()) {
+                            dialogOptions.add(option.getOptionText());
                         }
-                        
-                        dialogSeq.addOption(new DialogOption(optionNum, optionText));
                     }
-                    
-                    if (!dialogSeq.getOptions().isEmpty()) {
-                        step.addDialog(dialogSeq);
-                    }
-                    break;
                 }
             }
         }
+        return dialogOptions;
     }
 
     /**
      * Cleans up section name by removing HTML entities and extra whitespace.
      */
-    private static String cleanSectionName(String text) {
+    static String cleanSectionName(String text) {
         if (text == null) return "";
         
         String cleaned = text.replace("&quot;", "\"")
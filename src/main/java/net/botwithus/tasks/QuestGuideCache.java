@@ -0,0 +1,269 @@
+package net.botwithus.tasks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import net.botwithus.Log;
+import net.botwithus.tasks.QuestDialogFetcher.DialogOption;
+import net.botwithus.tasks.QuestDialogFetcher.DialogSequence;
+import net.botwithus.tasks.QuestDialogFetcher.QuestGuide;
+import net.botwithus.tasks.QuestDialogFetcher.QuestSection;
+import net.botwithus.tasks.QuestDialogFetcher.QuestStep;
+
+/**
+ * Keeps parsed quick guides on disk so a quest only has to be downloaded and parsed once.
+ *
+ * Each guide is one gzipped file holding the quest name, when it was fetched, the ETag and Last-Modified
+ * headers it came with and the parsed section/step/dialog tree. Files are also kept in memory as bytes and
+ * decoded on every load, so each caller gets its own guide to mark steps completed on.
+ *
+ * A guide younger than REVALIDATE_AFTER_MS is used as is; an older one is revalidated with a conditional
+ * request and kept when the wiki answers 304. In offline mode, or when the wiki can't be reached, whatever
+ * is cached is used regardless of age. Bumping VERSION discards every cached guide, which is needed whenever
+ * the parser's output changes.
+ */
+public final class QuestGuideCache {
+    private static final Log LOG = Log.get("QuestGuideCache");
+    private static final Path CACHE_DIRECTORY = Paths.get(System.getProperty("user.home"), "BotWithUs", "CoaezUtility", "quest-guides");
+    private static final int MAGIC = 0x51475549;
+    private static final int VERSION = 3;
+    private static final long REVALIDATE_AFTER_MS = 24L * 60 * 60 * 1000;
+
+    private static final Map<String, byte[]> memory = new ConcurrentHashMap<>();
+    private static volatile boolean offline;
+
+    /**
+     * A cached guide and the validators it was fetched with
+     */
+    public static final class Entry {
+        private final QuestGuide guide;
+        private final long fetchedAt;
+        private final String etag;
+        private final String lastModified;
+
+        Entry(QuestGuide guide, long fetchedAt, String etag, String lastModified) {
+            this.guide = guide;
+            this.fetchedAt = fetchedAt;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        public QuestGuide getGuide() {
+            return guide;
+        }
+
+        public long getFetchedAt() {
+            return fetchedAt;
+        }
+
+        /**
+         * @return the ETag header, or null if the wiki didn't send one
+         */
+        public String getEtag() {
+            return etag;
+        }
+
+        /**
+         * @return the Last-Modified header, or null if the wiki didn't send one
+         */
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        public boolean isFresh() {
+            return System.currentTimeMillis() - fetchedAt < REVALIDATE_AFTER_MS;
+        }
+    }
+
+    private QuestGuideCache() {
+    }
+
+    public static boolean isOffline() {
+        return offline;
+    }
+
+    /**
+     * In offline mode guides are only ever read from the cache
+     */
+    public static void setOffline(boolean offline) {
+        QuestGuideCache.offline = offline;
+    }
+
+    public static Path getCacheDirectory() {
+        return CACHE_DIRECTORY;
+    }
+
+    /**
+     * @return the cached guide, or null if the quest hasn't been fetched or its file can't be read
+     */
+    public static Entry load(String questName) {
+        byte[] bytes = memory.get(questName);
+        if (bytes == null) {
+            Path file = fileFor(questName);
+            if (!Files.isRegularFile(file)) {
+                return null;
+            }
+            try {
+                bytes = Files.readAllBytes(file);
+            } catch (IOException e) {
+                LOG.warn(() -> "Failed to read cached guide " + file + ": " + e.getMessage());
+                return null;
+            }
+        }
+        try {
+            Entry entry = decode(bytes, questName);
+            if (entry != null) {
+                memory.put(questName, bytes);
+            }
+            return entry;
+        } catch (IOException e) {
+            LOG.warn(() -> "Discarding unreadable cached guide for " + questName + ": " + e.getMessage());
+            memory.remove(questName);
+            return null;
+        }
+    }
+
+    /**
+     * Cache a freshly parsed guide
+     */
+    public static void store(String questName, QuestGuide guide, String etag, String lastModified) {
+        store(questName, guide, System.currentTimeMillis(), etag, lastModified);
+    }
+
+    /**
+     * Mark a cached guide as checked just now after the wiki said it hasn't changed
+     */
+    public static void touch(Entry entry) {
+        QuestGuide guide = entry.getGuide();
+        store(guide.getQuestName(), guide, System.currentTimeMillis(), entry.getEtag(), entry.getLastModified());
+    }
+
+    private static void store(String questName, QuestGuide guide, long fetchedAt, String etag, String lastModified) {
+        byte[] bytes;
+        try {
+            bytes = encode(questName, guide, fetchedAt, etag, lastModified);
+        } catch (IOException e) {
+            LOG.warn(() -> "Failed to encode guide for " + questName + ": " + e.getMessage());
+            return;
+        }
+        memory.put(questName, bytes);
+        Path file = fileFor(questName);
+        Path temp = null;
+        try {
+            Files.createDirectories(CACHE_DIRECTORY);
+            // Write beside the real file and move it over so a crash never leaves half a guide
+            temp = Files.createTempFile(CACHE_DIRECTORY, "guide", ".tmp");
+            Files.write(temp, bytes);
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LOG.warn(() -> "Failed to write cached guide " + file + ": " + e.getMessage());
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // Left for the next store to overwrite its own temp file, nothing reads it
+                }
+            }
+        }
+    }
+
+    private static Path fileFor(String questName) {
+        String safe = questName.replaceAll("[^A-Za-z0-9]+", "_");
+        return CACHE_DIRECTORY.resolve(safe + "-" + Integer.toHexString(questName.hashCode()) + ".qguide");
+    }
+
+    private static byte[] encode(String questName, QuestGuide guide, long fetchedAt, String etag, String lastModified) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(buffer))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeUTF(questName);
+            out.writeLong(fetchedAt);
+            writeNullable(out, etag);
+            writeNullable(out, lastModified);
+            out.writeShort(guide.getSections().size());
+            for (QuestSection section : guide.getSections()) {
+                writeNullable(out, section.getSectionName());
+                out.writeShort(section.getSteps().size());
+                for (QuestStep step : section.getSteps()) {
+                    writeNullable(out, step.getStepText());
+                    out.writeShort(step.getDialogs().size());
+                    for (DialogSequence dialog : step.getDialogs()) {
+                        writeNullable(out, dialog.getContext());
+                        out.writeShort(dialog.getOptions().size());
+                        for (DialogOption option : dialog.getOptions()) {
+                            writeNullable(out, option.getOptionNumber());
+                            writeNullable(out, option.getOptionText());
+                        }
+                    }
+                }
+            }
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * @return the entry, or null if it was written by another cache version or for another quest
+     */
+    private static Entry decode(byte[] bytes, String questName) throws IOException {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(bytes)))) {
+            if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION || !in.readUTF().equals(questName)) {
+                return null;
+            }
+            long fetchedAt = in.readLong();
+            String etag = readNullable(in);
+            String lastModified = readNullable(in);
+            QuestGuide guide = new QuestGuide(questName);
+            int sections = in.readUnsignedShort();
+            for (int s = 0; s < sections; s++) {
+                QuestSection section = new QuestSection(readNullable(in));
+                int steps = in.readUnsignedShort();
+                for (int i = 0; i < steps; i++) {
+                    QuestStep step = QuestStep.restore(readNullable(in));
+                    int dialogs = in.readUnsignedShort();
+                    for (int d = 0; d < dialogs; d++) {
+                        DialogSequence dialog = new DialogSequence(readNullable(in));
+                        int options = in.readUnsignedShort();
+                        for (int o = 0; o < options; o++) {
+                            dialog.addOption(new DialogOption(readNullable(in), readNullable(in)));
+                        }
+                        step.addDialog(dialog);
+                    }
+                    section.addStep(step);
+                }
+                guide.addSection(section);
+            }
+            return new Entry(guide, fetchedAt, etag, lastModified);
+        }
+    }
+
+    /**
+     * writeUTF throws on null, so each string is preceded by whether it is present
+     */
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
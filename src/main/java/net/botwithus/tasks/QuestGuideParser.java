@@ -0,0 +1,546 @@
+package net.botwithus.tasks;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.botwithus.tasks.QuestDialogFetcher.DialogOption;
+import net.botwithus.tasks.QuestDialogFetcher.DialogSequence;
+import net.botwithus.tasks.QuestDialogFetcher.QuestGuide;
+import net.botwithus.tasks.QuestDialogFetcher.QuestSection;
+import net.botwithus.tasks.QuestDialogFetcher.QuestStep;
+
+/**
+ * Parses a wiki quick guide page in one pass over the HTML, straight from the response stream.
+ *
+ * The tokenizer keeps a stack of open elements, each tagged with the role it plays in the guide:
+ * section headlines, checklist lists, their top-level items (the steps), nested lists, chat-options spans
+ * and the tooltips holding each dialog's option table. Text is decoded and whitespace-collapsed as it is
+ * read and appended to whichever roles are open, so nothing is matched against the page more than once.
+ * Dialogs are tied to their tooltips by name once the page has been read, wherever the tooltip appears.
+ *
+ * Produces the same sections, steps and dialogs as the regex parser it replaced, which QuestGuideParserBench
+ * in the bench source set keeps as a reference and compares it against on saved pages.
+ */
+final class QuestGuideParser {
+    private static final Set<String> VOID_ELEMENTS = Set.of(
+            "area", "base", "br", "col", "embed", "hr", "img", "input", "link", "meta", "param", "source", "track", "wbr");
+
+    private static final int NONE = 0;
+    private static final int HEADING = 1;
+    private static final int HEADLINE = 2;
+    private static final int CHECKLIST = 3;
+    private static final int CHECKLIST_LIST = 4;
+    private static final int STEP = 5;
+    private static final int NESTED_LIST = 6;
+    private static final int CHAT_OPTIONS = 7;
+    private static final int UNDERLINE = 8;
+    private static final int TOOLTIP = 9;
+    private static final int ROW = 10;
+    private static final int CELL = 11;
+
+    /**
+     * A chat-options span waiting for its tooltip's option table
+     */
+    private static final class PendingDialog {
+        private String tooltipName;
+        private final List<String> parts = new ArrayList<>();
+        private QuestStep step;
+    }
+
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+
+    private String[] names = new String[64];
+    private int[] roles = new int[64];
+    private boolean[] excludes = new boolean[64];
+    private int depth;
+
+    private final StringBuilder tagName = new StringBuilder();
+    private final StringBuilder attributeName = new StringBuilder();
+    private final StringBuilder attributeValue = new StringBuilder();
+    private final Map<String, String> attributes = new HashMap<>();
+    private final StringBuilder entity = new StringBuilder();
+
+    private final List<QuestSection> sections = new ArrayList<>();
+    private QuestSection section;
+    private StringBuilder headline;
+    private String headlineText;
+    private boolean checklistListFound;
+    private StringBuilder stepText;
+    private List<PendingDialog> stepDialogs;
+    // Open elements whose text is left out of the step, such as nested lists and dialog markup
+    private int excluded;
+    private PendingDialog chat;
+    private StringBuilder underline;
+    private String tooltipName;
+    private List<String[]> tooltipRows;
+    private List<String> rowCells;
+    private StringBuilder cell;
+    private final Map<String, List<String[]>> tooltips = new HashMap<>();
+    private final List<PendingDialog> pending = new ArrayList<>();
+
+    private QuestGuideParser(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Parse a quick guide page into the guide's sections
+     */
+    static void parse(Reader in, QuestGuide guide) throws IOException {
+        QuestGuideParser parser = new QuestGuideParser(in);
+        parser.run();
+        for (QuestSection section : parser.sections) {
+            guide.addSection(section);
+        }
+    }
+
+    private void run() throws IOException {
+        int c;
+        while ((c = read()) != -1) {
+            if (c == '<') {
+                readMarkup();
+            } else if (c == '&') {
+                text(readEntity());
+            } else {
+                text((char) c);
+            }
+        }
+        while (depth > 0) {
+            pop();
+        }
+        finishSection();
+        resolveDialogs();
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = in.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        int c = read();
+        if (c != -1) {
+            position--;
+        }
+        return c;
+    }
+
+    private void readMarkup() throws IOException {
+        int c = peek();
+        if (c == '!') {
+            read();
+            if (peek() == '-') {
+                skipComment();
+            } else {
+                skipPast('>');
+            }
+        } else if (c == '/') {
+            read();
+            readName();
+            skipPast('>');
+            endTag(tagName.toString());
+        } else if (Character.isLetter(c)) {
+            readName();
+            boolean selfClosing = readAttributes();
+            String name = tagName.toString();
+            startTag(name, selfClosing || VOID_ELEMENTS.contains(name));
+            if (name.equals("script") || name.equals("style")) {
+                skipRawText(name);
+            }
+        } else {
+            text('<');
+        }
+    }
+
+    private void readName() throws IOException {
+        tagName.setLength(0);
+        int c;
+        while ((c = peek()) != -1 && c != '>' && c != '/' && !Character.isWhitespace(c)) {
+            tagName.append(Character.toLowerCase((char) read()));
+        }
+    }
+
+    /**
+     * Read attributes up to the end of a start tag
+     * @return whether the tag closed itself with /&gt;
+     */
+    private boolean readAttributes() throws IOException {
+        attributes.clear();
+        boolean selfClosing = false;
+        int c;
+        while ((c = read()) != -1 && c != '>') {
+            if (c == '/') {
+                selfClosing = true;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            selfClosing = false;
+            attributeName.setLength(0);
+            attributeValue.setLength(0);
+            attributeName.append(Character.toLowerCase((char) c));
+            while ((c = peek()) != -1 && c != '=' && c != '>' && c != '/' && !Character.isWhitespace(c)) {
+                attributeName.append(Character.toLowerCase((char) read()));
+            }
+            while ((c = peek()) != -1 && Character.isWhitespace(c)) {
+                read();
+            }
+            if (c == '=') {
+                read();
+                while ((c = peek()) != -1 && Character.isWhitespace(c)) {
+                    read();
+                }
+                int quote = c == '"' || c == '\'' ? read() : -1;
+                while ((c = peek()) != -1) {
+                    if (quote != -1 ? c == quote : Character.isWhitespace(c) || c == '>') {
+                        break;
+                    }
+                    read();
+                    if (c == '&') {
+                        attributeValue.append(readEntity());
+                    } else {
+                        attributeValue.append((char) c);
+                    }
+                }
+                if (quote != -1) {
+                    read();
+                }
+            }
+            attributes.put(attributeName.toString(), attributeValue.toString());
+        }
+        return selfClosing;
+    }
+
+    private void skipComment() throws IOException {
+        int dashes = 0;
+        int c;
+        while ((c = read()) != -1) {
+            if (c == '>' && dashes >= 2) {
+                return;
+            }
+            dashes = c == '-' ? dashes + 1 : 0;
+        }
+    }
+
+    private void skipPast(char end) throws IOException {
+        int c;
+        while ((c = read()) != -1 && c != end) {
+        }
+    }
+
+    /**
+     * Skip script and style contents, which may contain anything but their own end tag
+     */
+    private void skipRawText(String name) throws IOException {
+        String end = "</" + name;
+        int matched = 0;
+        int c;
+        while ((c = read()) != -1) {
+            matched = Character.toLowerCase((char) c) == end.charAt(matched) ? matched + 1 : (c == '<' ? 1 : 0);
+            if (matched == end.length()) {
+                skipPast('>');
+                endTag(name);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Decode an entity after its '&amp;'. Anything that isn't a complete entity is returned as read.
+     */
+    private String readEntity() throws IOException {
+        entity.setLength(0);
+        int c;
+        while (entity.length() < 10 && (c = peek()) != -1 && (Character.isLetterOrDigit(c) || c == '#')) {
+            entity.append((char) read());
+        }
+        if (peek() != ';') {
+            return "&" + entity;
+        }
+        read();
+        String name = entity.toString();
+        switch (name) {
+            case "quot": case "ldquo": case "rdquo": return "\"";
+            case "amp": return "&";
+            case "lt": return "<";
+            case "gt": return ">";
+            case "nbsp": return " ";
+            case "lsquo": case "rsquo": return "'";
+            case "hellip": return "...";
+            case "mdash": return "—";
+            case "ndash": return "–";
+            default: break;
+        }
+        if (name.length() > 1 && name.charAt(0) == '#') {
+            try {
+                boolean hex = name.charAt(1) == 'x' || name.charAt(1) == 'X';
+                int codePoint = Integer.parseInt(name.substring(hex ? 2 : 1), hex ? 16 : 10);
+                return codePoint == 8230 ? "..." : new String(Character.toChars(codePoint));
+            } catch (IllegalArgumentException e) {
+                return "";
+            }
+        }
+        return "&" + name + ";";
+    }
+
+    private void text(String decoded) {
+        for (int i = 0; i < decoded.length(); i++) {
+            text(decoded.charAt(i));
+        }
+    }
+
+    private void text(char c) {
+        if (headline != null) {
+            append(headline, c);
+        }
+        if (cell != null) {
+            append(cell, c);
+        }
+        if (underline != null) {
+            append(underline, c);
+        }
+        if (stepText != null && excluded == 0) {
+            append(stepText, c);
+        }
+    }
+
+    private static void append(StringBuilder sb, char c) {
+        if (Character.isWhitespace(c) || c == '\u00A0') {
+            if (sb.length() > 0 && sb.charAt(sb.length() - 1) != ' ') {
+                sb.append(' ');
+            }
+        } else {
+            sb.append(c);
+        }
+    }
+
+    private void startTag(String name, boolean empty) {
+        String classes = attributes.get("class");
+        if (chat != null && chat.tooltipName == null) {
+            chat.tooltipName = attributes.get("data-tooltip-name");
+        }
+        int role = NONE;
+        boolean exclude = false;
+        if (name.equals("h2")) {
+            role = HEADING;
+            headlineText = null;
+        } else if (name.equals("span") && isOpen(HEADING) && hasClass(classes, "mw-headline") && attributes.containsKey("id")) {
+            role = HEADLINE;
+            headline = new StringBuilder();
+        } else if (attributes.containsKey("data-tooltip-for")) {
+            role = TOOLTIP;
+            exclude = true;
+            tooltipName = attributes.get("data-tooltip-for");
+            tooltipRows = new ArrayList<>();
+        } else if (name.equals("div") && hasClass(classes, "lighttable") && hasClass(classes, "checklist")) {
+            role = CHECKLIST;
+            checklistListFound = false;
+        } else if (name.equals("ul")) {
+            if (stepText != null) {
+                role = NESTED_LIST;
+                exclude = true;
+            } else if (isOpen(CHECKLIST) && !checklistListFound) {
+                role = CHECKLIST_LIST;
+                checklistListFound = true;
+            }
+        } else if (name.equals("li") && depth > 0 && roles[depth - 1] == CHECKLIST_LIST) {
+            role = STEP;
+            stepText = new StringBuilder();
+            stepDialogs = new ArrayList<>();
+            excluded = 0;
+        } else if (name.equals("span") && stepText != null && hasClass(classes, "chat-options")) {
+            role = CHAT_OPTIONS;
+            exclude = true;
+            chat = new PendingDialog();
+            chat.tooltipName = attributes.get("data-tooltip-name");
+        } else if (name.equals("span") && chat != null && hasClass(classes, "chat-options-underline")) {
+            role = UNDERLINE;
+            underline = new StringBuilder();
+        } else if (name.equals("tr") && tooltipRows != null) {
+            role = ROW;
+            rowCells = new ArrayList<>();
+        } else if ((name.equals("td") || name.equals("th")) && rowCells != null) {
+            role = CELL;
+            cell = new StringBuilder();
+        }
+
+        if (exclude && stepText != null) {
+            excluded++;
+        } else {
+            exclude = false;
+        }
+        if (empty) {
+            end(role, exclude);
+            return;
+        }
+        push(name, role, exclude);
+    }
+
+    private void endTag(String name) {
+        for (int i = depth - 1; i >= 0; i--) {
+            if (names[i].equals(name)) {
+                while (depth > i) {
+                    pop();
+                }
+                return;
+            }
+        }
+    }
+
+    private void push(String name, int role, boolean exclude) {
+        if (depth == names.length) {
+            names = Arrays.copyOf(names, depth * 2);
+            roles = Arrays.copyOf(roles, depth * 2);
+            excludes = Arrays.copyOf(excludes, depth * 2);
+        }
+        names[depth] = name;
+        roles[depth] = role;
+        excludes[depth] = exclude;
+        depth++;
+    }
+
+    private void pop() {
+        depth--;
+        end(roles[depth], excludes[depth]);
+        names[depth] = null;
+    }
+
+    private void end(int role, boolean exclude) {
+        if (exclude && stepText != null) {
+            excluded--;
+        }
+        switch (role) {
+            case HEADLINE -> {
+                headlineText = headline.toString().trim();
+                headline = null;
+            }
+            case HEADING -> {
+                if (headlineText != null) {
+                    finishSection();
+                    section = new QuestSection(QuestDialogFetcher.cleanSectionName(headlineText));
+                    headlineText = null;
+                }
+            }
+            case STEP -> {
+                String text = stepText.toString().trim();
+                if (section != null && (!text.isEmpty() || !stepDialogs.isEmpty())) {
+                    QuestStep step = new QuestStep(text);
+                    section.addStep(step);
+                    for (PendingDialog dialog : stepDialogs) {
+                        dialog.step = step;
+                        pending.add(dialog);
+                    }
+                }
+                stepText = null;
+                stepDialogs = null;
+                excluded = 0;
+            }
+            case CHAT_OPTIONS -> {
+                if (chat.tooltipName != null && !chat.parts.isEmpty() && stepDialogs != null) {
+                    stepDialogs.add(chat);
+                }
+                chat = null;
+            }
+            case UNDERLINE -> {
+                String part = QuestDialogFetcher.cleanOptionText(underline.toString());
+                if (!part.isEmpty() && !part.equals("?")) {
+                    chat.parts.add(part);
+                }
+                underline = null;
+            }
+            case TOOLTIP -> {
+                tooltips.putIfAbsent(tooltipName, tooltipRows);
+                tooltipName = null;
+                tooltipRows = null;
+            }
+            case ROW -> {
+                if (rowCells.size() >= 2 && tooltipRows != null) {
+                    tooltipRows.add(new String[] { rowCells.get(0), rowCells.get(1) });
+                }
+                rowCells = null;
+            }
+            case CELL -> {
+                if (rowCells != null) {
+                    rowCells.add(cell.toString().trim());
+                }
+                cell = null;
+            }
+            default -> {
+            }
+        }
+    }
+
+    private boolean isOpen(int role) {
+        for (int i = depth - 1; i >= 0; i--) {
+            if (roles[i] == role) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasClass(String classes, String token) {
+        if (classes == null) {
+            return false;
+        }
+        int from = 0;
+        while ((from = classes.indexOf(token, from)) != -1) {
+            int end = from + token.length();
+            boolean startsWord = from == 0 || Character.isWhitespace(classes.charAt(from - 1));
+            boolean endsWord = end == classes.length() || Character.isWhitespace(classes.charAt(end));
+            if (startsWord && endsWord) {
+                return true;
+            }
+            from = end;
+        }
+        return false;
+    }
+
+    private void finishSection() {
+        if (section != null && section.getTotalSteps() > 0) {
+            sections.add(section);
+        }
+        section = null;
+    }
+
+    private void resolveDialogs() {
+        for (PendingDialog dialog : pending) {
+            List<String[]> rows = tooltips.get(dialog.tooltipName);
+            if (rows == null) {
+                continue;
+            }
+            String sequenceDisplay = String.join(" → ", dialog.parts);
+            if (sequenceDisplay.trim().isEmpty() || sequenceDisplay.matches("^[?\\s→]+$")) {
+                continue;
+            }
+            DialogSequence sequence = new DialogSequence("Step dialog: " + sequenceDisplay);
+            for (String[] row : rows) {
+                String optionNum = QuestDialogFetcher.cleanOptionText(row[0]);
+                String optionText = QuestDialogFetcher.cleanOptionText(row[1]);
+                if (optionNum.equals("?") || optionNum.isEmpty() || optionText.equals("?") || optionText.isEmpty()) {
+                    continue;
+                }
+                sequence.addOption(new DialogOption(optionNum, optionText));
+            }
+            if (!sequence.getOptions().isEmpty()) {
+                dialog.step.addDialog(sequence);
+            }
+        }
+    }
+}
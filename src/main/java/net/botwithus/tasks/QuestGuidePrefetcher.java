@@ -0,0 +1,164 @@
+package net.botwithus.tasks;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+
+import net.botwithus.Log;
+import net.botwithus.tasks.QuestDialogFetcher.QuestGuide;
+
+/**
+ * Downloads quest guides on virtual threads so neither the GUI nor the script loop waits on the wiki, and so
+ * guides for quests the player is likely to open next are already in QuestGuideCache.
+ *
+ * Every quest goes through one queue. Guides the quest helper needs now are put at the front; prefetches wait
+ * at the back, and no more than MAX_QUEUED are accepted. At most MAX_IN_FLIGHT downloads run at once and wiki
+ * requests start at least MIN_REQUEST_INTERVAL_MS apart. Guides that are cached and fresh, or any guide in
+ * offline mode, are served straight from the cache without counting against either limit.
+ *
+ * cancel() drops the queue, interrupts downloads in flight and cancels every future handed out. The
+ * dispatcher starts again on the next request.
+ */
+public final class QuestGuidePrefetcher {
+    private static final Log LOG = Log.get("QuestGuidePrefetcher");
+    private static final int MAX_IN_FLIGHT = 2;
+    private static final int MAX_QUEUED = 64;
+    private static final long MIN_REQUEST_INTERVAL_MS = 1500;
+
+    private final LinkedBlockingDeque<String> queue = new LinkedBlockingDeque<>();
+    private final Map<String, CompletableFuture<QuestGuide>> pending = new ConcurrentHashMap<>();
+    private final Set<Thread> downloads = ConcurrentHashMap.newKeySet();
+    private final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+    private volatile Thread dispatcher;
+    private long nextRequestAt;
+
+    /**
+     * Get a guide as soon as possible, ahead of any queued prefetches
+     * @return a future completed with the guide, or cancelled if the prefetcher is cancelled first
+     */
+    public CompletableFuture<QuestGuide> request(String questName) {
+        ensureStarted();
+        CompletableFuture<QuestGuide> future = new CompletableFuture<>();
+        CompletableFuture<QuestGuide> existing = pending.putIfAbsent(questName, future);
+        if (existing != null) {
+            // Already queued as a prefetch, move it up. If it's already downloading there's nothing to do.
+            if (queue.remove(questName)) {
+                queue.offerFirst(questName);
+            }
+            return existing;
+        }
+        queue.offerFirst(questName);
+        return future;
+    }
+
+    /**
+     * Queue guides to warm the cache with, in order
+     * @return how many were queued; quests already queued or beyond MAX_QUEUED are skipped
+     */
+    public int prefetch(Collection<String> questNames) {
+        ensureStarted();
+        int queued = 0;
+        for (String questName : questNames) {
+            if (pending.size() >= MAX_QUEUED) {
+                break;
+            }
+            if (pending.putIfAbsent(questName, new CompletableFuture<>()) == null) {
+                queue.offerLast(questName);
+                queued++;
+            }
+        }
+        return queued;
+    }
+
+    /**
+     * Stop everything: queued quests are dropped, downloads are interrupted and pending futures cancelled
+     */
+    public synchronized void cancel() {
+        Thread current = dispatcher;
+        dispatcher = null;
+        if (current != null) {
+            current.interrupt();
+        }
+        queue.clear();
+        for (Thread download : downloads) {
+            download.interrupt();
+        }
+        int cancelled = pending.size();
+        pending.values().forEach(future -> future.cancel(true));
+        pending.clear();
+        if (cancelled > 0) {
+            LOG.info(() -> "Cancelled " + cancelled + " quest guide fetches");
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private synchronized void ensureStarted() {
+        if (dispatcher == null) {
+            dispatcher = Thread.ofVirtual().name("quest-guide-dispatcher").start(this::dispatch);
+        }
+    }
+
+    private void dispatch() {
+        Thread self = Thread.currentThread();
+        try {
+            while (dispatcher == self) {
+                String questName = queue.take();
+                CompletableFuture<QuestGuide> future = pending.get(questName);
+                if (future == null || future.isDone()) {
+                    continue;
+                }
+                QuestGuideCache.Entry cached = QuestGuideCache.load(questName);
+                if (cached != null && (cached.isFresh() || QuestGuideCache.isOffline())) {
+                    complete(questName, future, cached.getGuide());
+                    continue;
+                }
+                if (QuestGuideCache.isOffline()) {
+                    complete(questName, future, new QuestGuide(questName));
+                    continue;
+                }
+
+                inFlight.acquire();
+                try {
+                    long wait = nextRequestAt - System.currentTimeMillis();
+                    if (wait > 0) {
+                        Thread.sleep(wait);
+                    }
+                } catch (InterruptedException e) {
+                    inFlight.release();
+                    throw e;
+                }
+                nextRequestAt = System.currentTimeMillis() + MIN_REQUEST_INTERVAL_MS;
+                Thread download = Thread.ofVirtual().name("quest-guide-" + questName).unstarted(() -> download(questName, future));
+                downloads.add(download);
+                download.start();
+            }
+        } catch (InterruptedException e) {
+            // Cancelled
+        }
+    }
+
+    private void download(String questName, CompletableFuture<QuestGuide> future) {
+        try {
+            complete(questName, future, QuestDialogFetcher.fetchQuestGuide(questName));
+        } catch (RuntimeException e) {
+            pending.remove(questName, future);
+            future.completeExceptionally(e);
+            LOG.warn(() -> "Failed to fetch guide for " + questName + ": " + e.getMessage());
+        } finally {
+            downloads.remove(Thread.currentThread());
+            inFlight.release();
+        }
+    }
+
+    private void complete(String questName, CompletableFuture<QuestGuide> future, QuestGuide guide) {
+        pending.remove(questName, future);
+        future.complete(guide);
+    }
+}
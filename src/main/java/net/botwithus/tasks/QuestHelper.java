@@ -18,8 +18,9 @@ import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -27,8 +28,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * QuestHelper class for managing and tracking quests.
@@ -42,13 +45,12 @@ public class QuestHelper implements Task {
     private final CoaezUtility script;
     private Quest selectedQuest;
     private QuestType selectedQuestType;
-    private final List<Quest> allQuests;
-    private final List<Quest> completedQuests;
-    private final List<Quest> inProgressQuests;
-    private final List<Quest> notStartedQuests;
     
-    // Quest ID mapping for efficient lookup
-    private final Map<Quest, Integer> questToIdMap;
+    // Quests indexed by name and ID, and their live statuses
+    private final QuestCatalogue catalogue;
+    private final QuestStatusTracker statusTracker;
+    private int displayedStatusVersion;
+    private boolean wasDialogOpen;
     
     // UI Scaler for dialog coordinate calculation
     private final UIScaler uiScaler;
@@ -59,14 +61,27 @@ public class QuestHelper implements Task {
     private List<String> fetchedDialogs; // Changed from Map to List<String> for legacy compatibility
     private boolean dialogsFetched = false;
     private boolean questGuideFetched = false;
+    // The guide being fetched and the quest it was requested for, both guarded by this
+    private CompletableFuture<QuestDialogFetcher.QuestGuide> pendingQuestGuide;
+    private String pendingQuestName;
     private String currentRecommendedOption = null;
     private int currentRecommendedOptionIndex = -1;
     private String currentRecommendation = null;
     private int recommendedOptionIndex = -1;
-    private boolean isDialogAssistanceActive = false;
+    private volatile boolean isDialogAssistanceActive = false;
     private String currentDialogText = null;
     private List<String> previousDialogOptions = null;
     
+    // Expected dialog options compiled for matching, rebuilt when the step or guide changes
+    private DialogOptionMatcher stepDialogMatcher;
+    private QuestDialogFetcher.QuestGuide stepDialogMatcherGuide;
+    private int stepDialogMatcherSection = -1;
+    private int stepDialogMatcherStep = -1;
+    private DialogOptionMatcher legacyDialogMatcher;
+    private List<String> legacyDialogMatcherSource;
+    private DialogOptionMatcher lastDialogMatcher;
+    private DialogOptionMatcher.Match lastDialogMatch;
+    
     // Dialog overlay coordinates for GUI rendering
     private int dialogOverlayX = -1;
     private int dialogOverlayY = -1;
@@ -75,14 +90,13 @@ public class QuestHelper implements Task {
     private boolean hasValidOverlayCoordinates = false;
     
     // GUI state management fields
-    private List<String> questDisplayNames = new ArrayList<>();
+    private volatile QuestList questList = QuestList.EMPTY;
     private boolean showCompletedQuests = true;
     private boolean showInProgressQuests = true;
     private boolean showNotStartedQuests = true;
     private boolean showFreeToPlayQuests = true;
     private boolean showMembersQuests = true;
     private String questSearchText = "";
-    private int selectedQuestIndex = 0;
 
     private String cachedComprehensiveInfo = null;
     private Quest lastCachedQuest = null;
@@ -93,7 +107,7 @@ public class QuestHelper implements Task {
     private Coordinate questStartCoordinate = null;
     
     // Step tracking fields
-    private boolean showStepTracker = false;
+    private volatile boolean showStepTracker = false;
     private int selectedSectionIndex = 0;
     private boolean autoScrollToIncompleteSteps = true;
     
@@ -110,6 +124,13 @@ public class QuestHelper implements Task {
     private static final long MAX_DIALOG_DELAY = 1800; // 1800ms maximum
     private final Random random = new Random();
 
+    // Not-started quests whose guides are prefetched alongside the ones in progress
+    private static final int PREFETCH_NEXT_QUESTS = 5;
+    // Quests whose status is read from the game each tick
+    private static final int STATUS_CHECKS_PER_TICK = 8;
+    // Dialog interfaces the overlay looks for, in order
+    private static final int[] DIALOG_INTERFACE_IDS = {1188, 1186, 1184, 1189, 1191};
+
     /**
      * Constructs a new QuestHelper.
      * Initializes quest lists and categorizes them by completion status.
@@ -117,14 +138,10 @@ public class QuestHelper implements Task {
      */
     public QuestHelper(CoaezUtility script) {
         this.script = script;
-        this.allQuests = new ArrayList<>();
-        this.completedQuests = new ArrayList<>();
-        this.inProgressQuests = new ArrayList<>();
-        this.notStartedQuests = new ArrayList<>();
         this.fetchedDialogs = new ArrayList<>();
-        this.questToIdMap = new HashMap<>();
         this.uiScaler = new UIScaler();
-        loadQuests();
+        this.catalogue = loadQuests();
+        this.statusTracker = new QuestStatusTracker(catalogue);
     }
 
     /**
@@ -132,8 +149,9 @@ public class QuestHelper implements Task {
      * This method is called during initialization.
      * Filters out quests that don't have meaningful data and handles duplicate quest names
      * by preferring the quest entry with more comprehensive data.
+     * @return the catalogue every later lookup and filter goes through
      */
-    private void loadQuests() {
+    private QuestCatalogue loadQuests() {
         ScriptConsole.println("[QuestHelper] Loading quests...");
         int filteredCount = 0;
         
@@ -173,33 +191,21 @@ public class QuestHelper implements Task {
             }
         }
         
+        QuestCatalogue.Builder builder = new QuestCatalogue.Builder();
         for (QuestCandidate candidate : questCandidates.values()) {
             Quest quest = candidate.quest;
-            allQuests.add(quest);
-            
-            try {
-                if (quest.isComplete()) {
-                    completedQuests.add(quest);
-                } else if (quest.isStarted()) {
-                    inProgressQuests.add(quest);
-                } else {
-                    notStartedQuests.add(quest);
-                }
-            } catch (NullPointerException e) {
+            QuestCatalogue.Status status = QuestStatusTracker.evaluate(quest, candidate.questId);
+            if (status == null) {
                 ScriptConsole.println("[QuestHelper] Warning: Could not determine status for quest " + quest.name() + " (ID: " + candidate.questId + "), assuming not started");
-                notStartedQuests.add(quest);
+                status = QuestCatalogue.Status.NOT_STARTED;
             }
             
-            questToIdMap.put(quest, candidate.questId);
+            builder.add(quest, candidate.questId, status);
         }
         
-        Comparator<Quest> byName = Comparator.comparing(Quest::name);
-        Collections.sort(allQuests, byName);
-        Collections.sort(completedQuests, byName);
-        Collections.sort(inProgressQuests, byName);
-        Collections.sort(notStartedQuests, byName);
-        
-        ScriptConsole.println("[QuestHelper] Loaded " + allQuests.size() + " quests (filtered out " + filteredCount + " quests with insufficient data)");
+        QuestCatalogue loaded = builder.build();
+        ScriptConsole.println("[QuestHelper] Loaded " + loaded.size() + " quests (filtered out " + filteredCount + " quests with insufficient data)");
+        return loaded;
     }
 
     /**
@@ -367,7 +373,7 @@ public class QuestHelper implements Task {
      * @return An unmodifiable list of all quests.
      */
     public List<Quest> getAllQuests() {
-        return Collections.unmodifiableList(allQuests);
+        return catalogue.getQuests();
     }
 
     /**
@@ -375,7 +381,7 @@ public class QuestHelper implements Task {
      * @return An unmodifiable list of completed quests.
      */
     public List<Quest> getCompletedQuests() {
-        return Collections.unmodifiableList(completedQuests);
+        return statusTracker.getQuests(QuestCatalogue.Status.COMPLETED);
     }
 
     /**
@@ -383,7 +389,7 @@ public class QuestHelper implements Task {
      * @return An unmodifiable list of quests in progress.
      */
     public List<Quest> getInProgressQuests() {
-        return Collections.unmodifiableList(inProgressQuests);
+        return statusTracker.getQuests(QuestCatalogue.Status.IN_PROGRESS);
     }
 
     /**
@@ -391,7 +397,7 @@ public class QuestHelper implements Task {
      * @return An unmodifiable list of quests not started.
      */
     public List<Quest> getNotStartedQuests() {
-        return Collections.unmodifiableList(notStartedQuests);
+        return statusTracker.getQuests(QuestCatalogue.Status.NOT_STARTED);
     }
 
     /**
@@ -399,15 +405,22 @@ public class QuestHelper implements Task {
      * @param quest The quest to select.
      */
     public void setSelectedQuest(Quest quest) {
-        this.selectedQuest = quest;
+        synchronized (this) {
+            this.selectedQuest = quest;
+            QuestList list = questList;
+            questList = new QuestList(list.getNames(), list.getQuests(), quest != null ? list.getQuests().indexOf(quest) : -1);
+            
+            // Reset quest guide state under the same lock the script thread picks up guides with
+            currentQuestGuide = null;
+            questGuideFetched = false;
+            pendingQuestGuide = null;
+            pendingQuestName = null;
+            dialogsFetched = false;
+        }
         
         cachedComprehensiveInfo = null;
         lastCachedQuest = null;
         
-        // Reset quest guide state
-        currentQuestGuide = null;
-        questGuideFetched = false;
-        dialogsFetched = false;
         clearCurrentRecommendation();
         selectedSectionIndex = 0;
         
@@ -598,44 +611,54 @@ public class QuestHelper implements Task {
      * @return A list of strings in the format "Quest Name [ID]".
      */
     public List<String> getQuestDisplayNames() {
-        return Collections.unmodifiableList(questDisplayNames);
+        return questList.getNames();
     }
-    
+
     /**
-     * Gets the ID of a quest by using the efficient questToIdMap.
-     * This method uses the same logic as loadQuests to prefer quests with richer data
-     * when multiple quest IDs have the same name.
-     * @param quest The quest to get the ID for.
-     * @return The quest ID, or -1 if not found.
+     * The filtered quest list and the selection within it, replaced as a whole whenever either changes
+     * so the GUI thread never sees names from one filter and an index from another.
      */
-    private int getQuestId(Quest quest) {
-        if (quest == null) {
-            return -1;
+    public static final class QuestList {
+        static final QuestList EMPTY = new QuestList(List.of(), List.of(), -1);
+
+        private final List<String> names;
+        private final List<Quest> quests;
+        private final int selectedIndex;
+
+        QuestList(List<String> names, List<Quest> quests, int selectedIndex) {
+            this.names = Collections.unmodifiableList(names);
+            this.quests = Collections.unmodifiableList(quests);
+            this.selectedIndex = selectedIndex;
         }
-        
-        Integer questId = questToIdMap.get(quest);
-        if (questId != null) {
-            return questId;
+
+        public List<String> getNames() {
+            return names;
         }
-        
-        String questName = quest.name();
-        int bestQuestId = -1;
-        int bestDataRichness = -1;
-        
-        for (int i = 0; i < 509; i++) {
-            Optional<Quest> testQuest = Quest.byId(i);
-            if (testQuest.isPresent() && testQuest.get().name().equals(questName)) {
-                QuestType questType = ConfigManager.getQuestType(i);
-                int dataRichness = calculateQuestDataRichness(testQuest.get(), questType, i);
-                
-                if (dataRichness > bestDataRichness) {
-                    bestQuestId = i;
-                    bestDataRichness = dataRichness;
-                }
-            }
+
+        public List<Quest> getQuests() {
+            return quests;
         }
-        
-        return bestQuestId;
+
+        /**
+         * @return the selected quest's index in the list, or -1 if no quest is selected or it is filtered out
+         */
+        public int getSelectedIndex() {
+            return selectedIndex;
+        }
+    }
+
+    public QuestList getQuestList() {
+        return questList;
+    }
+    
+    /**
+     * Gets the ID of a quest from the catalogue.
+     * Duplicate names were resolved to the ID with the richest data when quests were loaded.
+     * @param quest The quest to get the ID for.
+     * @return The quest ID, or -1 if the quest was filtered out.
+     */
+    private int getQuestId(Quest quest) {
+        return catalogue.getQuestId(quest);
     }
     
     /**
@@ -644,20 +667,17 @@ public class QuestHelper implements Task {
      * @return The Quest object, or null if not found.
      */
     public Quest getQuestById(int questId) {
-        Optional<Quest> questOpt = Quest.byId(questId);
-        return questOpt.orElse(null);
+        Quest quest = catalogue.getQuestById(questId);
+        return quest != null ? quest : Quest.byId(questId).orElse(null);
     }
     
     /**
-     * Gets a quest by its name.
+     * Gets a quest by its name, ignoring case.
      * @param questName The quest name.
      * @return The Quest object, or null if not found.
      */
     public Quest getQuestByName(String questName) {
-        return allQuests.stream()
-            .filter(q -> q.name().equalsIgnoreCase(questName))
-            .findFirst()
-            .orElse(null);
+        return catalogue.getQuestByName(questName);
     }
 
     /**
@@ -865,27 +885,87 @@ public class QuestHelper implements Task {
     }
 
     /**
-     * Fetches quest guide for the currently selected quest.
+     * Queues the guide for every quest in progress, then for the first few not-started quests the player
+     * already has the requirements for, so they are cached by the time they're opened.
+     * Does nothing while the script is stopped, so no downloads start after it has been deactivated.
+     */
+    public void prefetchQuestGuides() {
+        if (!script.isActivated()) {
+            return;
+        }
+        List<String> questNames = new ArrayList<>();
+        List<Quest> inProgressQuests = getInProgressQuests();
+        for (Quest quest : inProgressQuests) {
+            questNames.add(quest.name());
+        }
+        int nextQuests = 0;
+        for (Quest quest : getNotStartedQuests()) {
+            if (nextQuests >= PREFETCH_NEXT_QUESTS) {
+                break;
+            }
+            if (quest.hasRequirements()) {
+                questNames.add(quest.name());
+                nextQuests++;
+            }
+        }
+        int queued = script.getQuestGuidePrefetcher().prefetch(questNames);
+        ScriptConsole.println("[QuestHelper] Prefetching " + queued + " quest guides (" + inProgressQuests.size() + " in progress)");
+    }
+
+    /**
+     * Fetches quest guide for the currently selected quest. Only called from execute, on the script thread.
+     * The download runs in the background; this picks up the guide on a later call once it has arrived,
+     * and drops it if another quest was selected in the meantime.
      */
     private void fetchQuestGuideForSelectedQuest() {
-        if (selectedQuest == null) {
+        CompletableFuture<QuestDialogFetcher.QuestGuide> pending;
+        String questName;
+        synchronized (this) {
+            if (selectedQuest == null) {
+                return;
+            }
+            questName = selectedQuest.name();
+            if (pendingQuestGuide == null || !questName.equals(pendingQuestName)) {
+                ScriptConsole.println("[QuestHelper] Fetching quest guide for: " + questName);
+                pendingQuestGuide = script.getQuestGuidePrefetcher().request(questName);
+                pendingQuestName = questName;
+            }
+            pending = pendingQuestGuide;
+        }
+        if (!pending.isDone()) {
             return;
         }
         
+        QuestDialogFetcher.QuestGuide guide;
         try {
-            ScriptConsole.println("[QuestHelper] Fetching quest guide for: " + selectedQuest.name());
-            currentQuestGuide = QuestDialogFetcher.fetchQuestGuide(selectedQuest.name());
-            questGuideFetched = true;
-            
-            if (currentQuestGuide.getSections().isEmpty()) {
-                ScriptConsole.println("[QuestHelper] No quest guide found for: " + selectedQuest.name());
-            } else {
-                ScriptConsole.println("[QuestHelper] Successfully fetched quest guide for: " + selectedQuest.name());
-                ScriptConsole.println("[QuestHelper] Found " + currentQuestGuide.getSections().size() + " sections with " + currentQuestGuide.getTotalSteps() + " total steps");
-            }
-        } catch (Exception e) {
+            guide = pending.join();
+        } catch (CancellationException | CompletionException e) {
             ScriptConsole.println("[QuestHelper] Error fetching quest guide: " + e.getMessage());
-            questGuideFetched = false;
+            synchronized (this) {
+                if (pendingQuestGuide == pending) {
+                    pendingQuestGuide = null;
+                    pendingQuestName = null;
+                }
+            }
+            return;
+        }
+        
+        synchronized (this) {
+            if (pendingQuestGuide != pending || selectedQuest == null || !questName.equals(selectedQuest.name())) {
+                // Another quest was selected while this one downloaded
+                return;
+            }
+            currentQuestGuide = guide;
+            questGuideFetched = true;
+            fetchedDialogs = QuestDialogFetcher.collectDialogOptions(guide);
+            dialogsFetched = true;
+        }
+        
+        if (guide.getSections().isEmpty()) {
+            ScriptConsole.println("[QuestHelper] No quest guide found for: " + questName);
+        } else {
+            ScriptConsole.println("[QuestHelper] Successfully fetched quest guide for: " + questName);
+            ScriptConsole.println("[QuestHelper] Found " + guide.getSections().size() + " sections with " + guide.getTotalSteps() + " total steps");
         }
     }
 
@@ -1052,6 +1132,8 @@ public class QuestHelper implements Task {
             showRandomMessage = false;
         }
         
+        refreshQuestStatuses();
+        
         if (selectedQuest == null) return;
         
         // Initialize UI scaler if needed
@@ -1060,7 +1142,7 @@ public class QuestHelper implements Task {
         }
         
         // Fetch quest guide if needed and step tracker is enabled
-        if (showStepTracker && !questGuideFetched) {
+        if ((showStepTracker || isDialogAssistanceActive) && !questGuideFetched) {
             fetchQuestGuideForSelectedQuest();
         }
         
@@ -1100,6 +1182,27 @@ public class QuestHelper implements Task {
     }
     
 
+    /**
+     * Re-reads a few quest statuses from the game and redraws the quest list if any changed.
+     * The selected quest is checked every tick, and every quest in progress once a dialog closes
+     * since talking to someone is what usually moves a quest along.
+     */
+    private void refreshQuestStatuses() {
+        if (selectedQuest != null) {
+            statusTracker.markDirty(catalogue.indexOfName(selectedQuest.name()));
+        }
+        boolean dialogOpen = Dialog.isOpen();
+        if (wasDialogOpen && !dialogOpen) {
+            statusTracker.markDirty(QuestCatalogue.Status.IN_PROGRESS);
+        }
+        wasDialogOpen = dialogOpen;
+        
+        statusTracker.refresh(STATUS_CHECKS_PER_TICK);
+        if (statusTracker.getVersion() != displayedStatusVersion) {
+            updateQuestDisplayList();
+        }
+    }
+
     /**
      * Processes open dialogs and updates recommendations.
      */
@@ -1153,72 +1256,15 @@ public class QuestHelper implements Task {
             return;
         }
         
-        ScriptConsole.println("[QuestHelper] === DIALOG MATCHING DEBUG ===");
-        ScriptConsole.println("[QuestHelper] Current dialog options available:");
-        for (int i = 0; i < currentOptions.size(); i++) {
-            ScriptConsole.println("[QuestHelper]   " + (i + 1) + ": '" + currentOptions.get(i) + "'");
-        }
-        
         int[] currentStepIndex = getFirstIncompleteStepIndex();
         if (currentStepIndex == null) {
             currentRecommendation = "All steps completed! No dialog assistance needed.";
             recommendedOptionIndex = -1;
-            ScriptConsole.println("[QuestHelper] === END DIALOG MATCHING DEBUG ===");
             return;
         }
         
-        ScriptConsole.println("[QuestHelper] Checking dialogs from first incomplete step: Section " + currentStepIndex[0] + ", Step " + currentStepIndex[1]);
-        
-        List<String> currentStepDialogs = getDialogOptionsForSpecificStep(currentStepIndex[0], currentStepIndex[1]);
-        
-        if (currentStepDialogs == null || currentStepDialogs.isEmpty()) {
-            ScriptConsole.println("[QuestHelper] No dialog options found for current step");
-        } else {
-            ScriptConsole.println("[QuestHelper] Current step dialog options:");
-            for (int i = 0; i < currentStepDialogs.size(); i++) {
-                ScriptConsole.println("[QuestHelper]   " + (i + 1) + ": '" + currentStepDialogs.get(i) + "'");
-            }
-        }
-        
-        if (currentStepDialogs != null) {
-            for (String stepDialog : currentStepDialogs) {
-                int matchIndex = findMatchingOptionIndex(currentOptions, stepDialog);
-                if (matchIndex != -1) {
-                    currentRecommendation = "Select: " + currentOptions.get(matchIndex);
-                    recommendedOptionIndex = matchIndex;
-                    currentRecommendedOption = currentOptions.get(matchIndex);
-                    currentRecommendedOptionIndex = matchIndex;
-                    
-                    ScriptConsole.println("[QuestHelper] ✓ Found match - option " + (matchIndex + 1) + ": " + currentOptions.get(matchIndex));
-                    
-                    // Auto-interact with dialog if enabled
-                    if (autoInteractWithDialogs && canInteractWithDialog()) {
-                        ScriptConsole.println("[QuestHelper] Auto-interacting with dialog option " + (matchIndex + 1));
-                        if (Dialog.interact(matchIndex)) {
-                            lastDialogInteractionTime = System.currentTimeMillis();
-                            generateNextInteractionDelay();
-                            ScriptConsole.println("[QuestHelper] Successfully interacted with dialog option " + (matchIndex + 1));
-                        } else {
-                            ScriptConsole.println("[QuestHelper] Failed to interact with dialog option " + (matchIndex + 1));
-                        }
-                        clearCurrentRecommendation();
-                        clearOverlayCoordinates();
-                        ScriptConsole.println("[QuestHelper] === END DIALOG MATCHING DEBUG ===");
-                        return;
-                    }
-                    
-                    ScriptConsole.println("[QuestHelper] === END DIALOG MATCHING DEBUG ===");
-                    return;
-                }
-            }
-        }
-        
-        currentRecommendation = "No matching dialog option for current step";
-        recommendedOptionIndex = -1;
-        currentRecommendedOption = null;
-        currentRecommendedOptionIndex = -1;
-        ScriptConsole.println("[QuestHelper] No matching dialog options found");
-        ScriptConsole.println("[QuestHelper] === END DIALOG MATCHING DEBUG ===");
+        applyDialogMatch(getStepDialogMatcher(currentStepIndex[0], currentStepIndex[1]), currentOptions,
+                "No matching dialog option for current step");
     }
     
     /**
@@ -1236,41 +1282,99 @@ public class QuestHelper implements Task {
             return;
         }
         
-        for (String fetchedOption : fetchedDialogs) {
-            if (fetchedOption == null) continue;
-            
-            int matchIndex = findMatchingOptionIndex(currentOptions, fetchedOption);
-            if (matchIndex != -1) {
-                currentRecommendation = "Select: " + currentOptions.get(matchIndex);
-                recommendedOptionIndex = matchIndex;
-                currentRecommendedOption = currentOptions.get(matchIndex);
-                currentRecommendedOptionIndex = matchIndex;
-                
-                ScriptConsole.println("[QuestHelper] Recommending option " + (matchIndex + 1) + ": " + currentOptions.get(matchIndex));
-                
-                // Auto-interact with dialog if enabled
-                if (autoInteractWithDialogs && canInteractWithDialog()) {
-                    ScriptConsole.println("[QuestHelper] Auto-interacting with legacy dialog option " + (matchIndex + 1));
-                    if (Dialog.interact(matchIndex)) {
-                        lastDialogInteractionTime = System.currentTimeMillis();
-                        generateNextInteractionDelay();
-                        ScriptConsole.println("[QuestHelper] Successfully interacted with legacy dialog option " + (matchIndex + 1));
-                    } else {
-                        ScriptConsole.println("[QuestHelper] Failed to interact with legacy dialog option " + (matchIndex + 1));
-                    }
-                    clearCurrentRecommendation();
-                    clearOverlayCoordinates();
-                    return;
+        if (legacyDialogMatcher == null || legacyDialogMatcherSource != fetchedDialogs) {
+            legacyDialogMatcher = DialogOptionMatcher.forOptions(fetchedDialogs);
+            legacyDialogMatcherSource = fetchedDialogs;
+        }
+        applyDialogMatch(legacyDialogMatcher, currentOptions, "No matching dialog option found");
+    }
+    
+    /**
+     * Gets the matcher for a step's dialog sequences, compiling it when the step changes.
+     * The matcher carries its prediction of the next option, so it is kept for as long as the step is current.
+     */
+    private DialogOptionMatcher getStepDialogMatcher(int sectionIndex, int stepIndex) {
+        if (stepDialogMatcher == null || stepDialogMatcherGuide != currentQuestGuide
+                || stepDialogMatcherSection != sectionIndex || stepDialogMatcherStep != stepIndex) {
+            List<QuestDialogFetcher.DialogSequence> sequences = new ArrayList<>();
+            if (sectionIndex >= 0 && sectionIndex < currentQuestGuide.getSections().size()) {
+                QuestDialogFetcher.QuestSection section = currentQuestGuide.getSections().get(sectionIndex);
+                if (stepIndex >= 0 && stepIndex < section.getSteps().size()) {
+                    sequences = section.getSteps().get(stepIndex).getDialogs();
                 }
-                
-                return;
             }
+            stepDialogMatcher = DialogOptionMatcher.forSequences(sequences);
+            stepDialogMatcherGuide = currentQuestGuide;
+            stepDialogMatcherSection = sectionIndex;
+            stepDialogMatcherStep = stepIndex;
+            ScriptConsole.println("[QuestHelper] Matching dialogs from Section " + sectionIndex + ", Step " + stepIndex);
+        }
+        return stepDialogMatcher;
+    }
+    
+    /**
+     * Recommends, and when auto-interaction is on selects, the open option the matcher expects.
+     * Options are only matched again when they change, and the option predicted to follow the last one
+     * selected is picked as soon as the minimum delay has passed instead of waiting out a random one.
+     * Fuzzy matches are only ever recommended, picking the wrong option can't be undone.
+     */
+    private void applyDialogMatch(DialogOptionMatcher matcher, List<String> currentOptions, String noMatchRecommendation) {
+        DialogOptionMatcher.Match match;
+        if (matcher == lastDialogMatcher && currentOptions.equals(previousDialogOptions)) {
+            match = lastDialogMatch;
+        } else {
+            match = matcher.match(currentOptions);
+            // A different dialog may sit elsewhere on screen, don't draw over it with the last one's geometry
+            uiScaler.invalidate();
+            lastDialogMatcher = matcher;
+            lastDialogMatch = match;
+            previousDialogOptions = new ArrayList<>(currentOptions);
+            if (match != null) {
+                ScriptConsole.println("[QuestHelper] " + (match.isPredicted() ? "Predicted" : match.isExact() ? "Exact" : "Fuzzy")
+                        + " match - option " + (match.getOptionIndex() + 1) + ": " + currentOptions.get(match.getOptionIndex())
+                        + " (expected '" + match.getExpectedText() + "')");
+            } else {
+                ScriptConsole.println("[QuestHelper] No matching dialog option among: " + currentOptions);
+            }
+        }
+        
+        if (match == null) {
+            currentRecommendation = noMatchRecommendation;
+            recommendedOptionIndex = -1;
+            currentRecommendedOption = null;
+            currentRecommendedOptionIndex = -1;
+            return;
         }
         
-        currentRecommendation = "No matching dialog option found";
-        recommendedOptionIndex = -1;
-        currentRecommendedOption = null;
-        currentRecommendedOptionIndex = -1;
+        int matchIndex = match.getOptionIndex();
+        currentRecommendation = match.isExact()
+                ? "Select: " + currentOptions.get(matchIndex)
+                : "Possibly: " + currentOptions.get(matchIndex) + " (guide says '" + match.getExpectedText() + "')";
+        recommendedOptionIndex = matchIndex;
+        currentRecommendedOption = currentOptions.get(matchIndex);
+        currentRecommendedOptionIndex = matchIndex;
+        
+        boolean ready = match.isPredicted()
+                ? System.currentTimeMillis() - lastDialogInteractionTime >= MIN_DIALOG_DELAY
+                : canInteractWithDialog();
+        if (autoInteractWithDialogs && match.isExact() && ready) {
+            ScriptConsole.println("[QuestHelper] Auto-interacting with dialog option " + (matchIndex + 1));
+            if (Dialog.interact(matchIndex)) {
+                matcher.accept(match);
+                lastDialogInteractionTime = System.currentTimeMillis();
+                generateNextInteractionDelay();
+                ScriptConsole.println("[QuestHelper] Successfully interacted with dialog option " + (matchIndex + 1));
+                if (matcher.getPredictedNext() != null) {
+                    ScriptConsole.println("[QuestHelper] Expecting next: " + matcher.getPredictedNext());
+                }
+            } else {
+                ScriptConsole.println("[QuestHelper] Failed to interact with dialog option " + (matchIndex + 1));
+            }
+            // The next dialog can show the same options again, match it afresh
+            previousDialogOptions = null;
+            clearCurrentRecommendation();
+            clearOverlayCoordinates();
+        }
     }
     
     /**
@@ -1383,104 +1487,32 @@ public class QuestHelper implements Task {
         }
     }
     
-    /**
-     * Fetches dialogs for the selected quest (legacy method).
-     */
-    private void fetchDialogsForSelectedQuest() {
-        if (selectedQuest == null) {
-            return;
-        }
-        
-        try {
-            fetchedDialogs = QuestDialogFetcher.fetchQuestDialogs(selectedQuest.name());
-            dialogsFetched = true;
-            ScriptConsole.println("[QuestHelper] Fetched " + fetchedDialogs.size() + " dialog options for " + selectedQuest.name());
-        } catch (Exception e) {
-            ScriptConsole.println("[QuestHelper] Failed to fetch dialogs: " + e.getMessage());
-            dialogsFetched = true; // Mark as fetched to avoid retry loops
-        }
-    }
-
     /**
      * Updates the quest display list based on current filter settings.
      */
-    public void updateQuestDisplayList() {
-        questDisplayNames.clear();
-        
-        Set<String> uniqueQuestNames = new HashSet<>();
-        
+    public synchronized void updateQuestDisplayList() {
+        Set<QuestCatalogue.Status> statuses = EnumSet.noneOf(QuestCatalogue.Status.class);
         if (showCompletedQuests) {
-            uniqueQuestNames.addAll(completedQuests.stream()
-                .filter(this::matchesQuestFilters)
-                .map(q -> q.name() + " [" + getQuestId(q) + "]")
-                .collect(Collectors.toSet()));
+            statuses.add(QuestCatalogue.Status.COMPLETED);
         }
-        
         if (showInProgressQuests) {
-            uniqueQuestNames.addAll(inProgressQuests.stream()
-                .filter(this::matchesQuestFilters)
-                .map(q -> q.name() + " [" + getQuestId(q) + "]")
-                .collect(Collectors.toSet()));
+            statuses.add(QuestCatalogue.Status.IN_PROGRESS);
         }
-        
         if (showNotStartedQuests) {
-            uniqueQuestNames.addAll(notStartedQuests.stream()
-                .filter(this::matchesQuestFilters)
-                .map(q -> q.name() + " [" + getQuestId(q) + "]")
-                .collect(Collectors.toSet()));
-        }
-        
-        questDisplayNames.addAll(uniqueQuestNames);
-        Collections.sort(questDisplayNames, (a, b) -> {
-            int idA = extractQuestId(a);
-            int idB = extractQuestId(b);
-            return Integer.compare(idA, idB);
-        });
-    }
-    
-    /**
-     * Checks if a quest matches the current filter criteria.
-     * @param quest The quest to check
-     * @return true if the quest matches the filters
-     */
-    private boolean matchesQuestFilters(Quest quest) {
-        boolean matchesMembershipFilter = false;
-        if (quest.isMembers() && showMembersQuests) {
-            matchesMembershipFilter = true;
-        } else if (!quest.isMembers() && showFreeToPlayQuests) {
-            matchesMembershipFilter = true;
-        }
-        
-        if (!matchesMembershipFilter) {
-            return false;
+            statuses.add(QuestCatalogue.Status.NOT_STARTED);
         }
         
-        if (questSearchText != null && !questSearchText.trim().isEmpty()) {
-            String searchLower = questSearchText.toLowerCase().trim();
-            String questNameLower = quest.name().toLowerCase();
-            return questNameLower.contains(searchLower);
+        displayedStatusVersion = statusTracker.getVersion();
+        BitSet matches = catalogue.filter(statusTracker.withStatuses(statuses), showMembersQuests, showFreeToPlayQuests, questSearchText);
+        List<String> names = new ArrayList<>(matches.cardinality());
+        List<Quest> quests = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            names.add(catalogue.getDisplayName(i));
+            quests.add(catalogue.getQuest(i));
         }
-        
-        return true;
-    }
-    
-    /**
-     * Extracts the quest ID from a display name with format "Quest Name [ID]".
-     * @param displayName The display name
-     * @return The quest ID, or -1 if not found
-     */
-    private int extractQuestId(String displayName) {
-        try {
-            int startIndex = displayName.lastIndexOf('[');
-            int endIndex = displayName.lastIndexOf(']');
-            if (startIndex != -1 && endIndex != -1 && startIndex < endIndex) {
-                String idStr = displayName.substring(startIndex + 1, endIndex);
-                return Integer.parseInt(idStr);
-            }
-        } catch (NumberFormatException | IndexOutOfBoundsException e) {
-            ScriptConsole.println("[QuestHelper] Error parsing quest ID from: " + displayName);
-        }
-        return -1;
+        // Keep the selected quest selected when the list around it changes, and select nothing once it is filtered out
+        int selected = selectedQuest != null ? quests.indexOf(selectedQuest) : -1;
+        questList = new QuestList(names, quests, selected);
     }
     
     /**
@@ -1488,19 +1520,12 @@ public class QuestHelper implements Task {
      * @param index The index in the display list
      */
     public void selectQuestByIndex(int index) {
-        if (index >= 0 && index < questDisplayNames.size()) {
-            selectedQuestIndex = index;
-            String selectedDisplayName = questDisplayNames.get(index);
-            int questId = extractQuestId(selectedDisplayName);
-            
-            if (questId != -1) {
-                Quest quest = getQuestById(questId);
-                if (quest != null) {
-                    setSelectedQuest(quest);
-                    enableDialogAssistance();
-                    ScriptConsole.println("[QuestHelper] Quest selected: " + quest.name() + " - Dialog assistance enabled");
-                }
-            }
+        List<Quest> quests = questList.getQuests();
+        if (index >= 0 && index < quests.size()) {
+            Quest quest = quests.get(index);
+            setSelectedQuest(quest);
+            enableDialogAssistance();
+            ScriptConsole.println("[QuestHelper] Quest selected: " + quest.name() + " - Dialog assistance enabled");
         }
     }
     
@@ -1571,14 +1596,14 @@ public class QuestHelper implements Task {
     }
     
     public int getSelectedQuestIndex() {
-        return selectedQuestIndex;
+        return questList.getSelectedIndex();
     }
     
     /**
      * Initializes the quest display list. Should be called when the GUI is first opened.
      */
     public void initializeQuestDisplay() {
-        if (questDisplayNames.isEmpty()) {
+        if (questList.getNames().isEmpty()) {
             updateQuestDisplayList();
         }
     }
@@ -1609,10 +1634,7 @@ public class QuestHelper implements Task {
         isDialogAssistanceActive = true;
         showStepTracker = true; // Enable step tracking to use checkbox completion status
         ScriptConsole.println("[QuestHelper] Dialog assistance enabled for: " + selectedQuest.name());
-        
-        // Fetch quest guide and dialogs
-        fetchQuestGuideForSelectedQuest();
-        fetchDialogsForSelectedQuest();
+        // execute fetches the guide on the script thread now that assistance is on
     }
     
     /**
@@ -1882,7 +1904,7 @@ public class QuestHelper implements Task {
                         QuestType questType = ConfigManager.getQuestType(questId);
                         int richness = calculateQuestDataRichness(quest, questType, questId);
                         
-                        boolean isInOurList = allQuests.stream().anyMatch(q -> q.name().equals(questName) && getQuestId(q) == questId);
+                        boolean isInOurList = catalogue.indexOfId(questId) >= 0;
                         
                         ScriptConsole.println("[QuestHelper]   ID " + questId + ": richness=" + richness + 
                                              ", inOurList=" + isInOurList + 
@@ -1921,80 +1943,47 @@ public class QuestHelper implements Task {
     }
     
     /**
-     * Finds the index of a fetched option text within the current dialog options.
-     * Uses exact lowercase matching after stripping punctuation for accurate comparison.
-     * @param currentOptions The current dialog options array
-     * @param fetchedOptionText The fetched option text to match
-     * @return The index of the matching option, or -1 if no match found
-     */
-    private int findMatchingOptionIndex(List<String> currentOptions, String fetchedOptionText) {
-        if (currentOptions == null || fetchedOptionText == null) {
-            return -1;
-        }
-        
-        String fetchedNormalized = fetchedOptionText.toLowerCase().trim().replaceAll("[^a-zA-Z0-9\\s]", "").replaceAll("\\s+", " ");
-        
-        for (int i = 0; i < currentOptions.size(); i++) {
-            String currentOption = currentOptions.get(i);
-            if (currentOption == null) continue;
-            
-            String currentNormalized = currentOption.toLowerCase().trim().replaceAll("[^a-zA-Z0-9\\s]", "").replaceAll("\\s+", " ");
-            
-            if (currentNormalized.equals(fetchedNormalized)) {
-                ScriptConsole.println("[QuestHelper]       ✓ EXACT MATCH: '" + currentOption + "' == '" + fetchedOptionText + "'");
-                return i;
-            }
-        }
-        
-        ScriptConsole.println("[QuestHelper] NO MATCH found for: '" + fetchedOptionText + "'");
-        return -1;
-    }
-    
-    /**
-     * Calculates dialog overlay coordinates using enhanced dynamic detection.
-     * This method uses the improved UIScaler dialog detection system to avoid hardcoded interface IDs.
+     * Calculates dialog overlay coordinates from the option rows of the open dialog interface.
+     * The geometry comes from UIScaler's cache, so calling this every tick only queries the client when the
+     * dialog changes, the canvas is resized or a game cycle has passed.
      */
     private void calculateDialogOverlayCoordinates() {
         if (uiScaler == null || !uiScaler.isInitialized()) {
-            ScriptConsole.println("[QuestHelper] UIScaler not initialized - cannot calculate overlay coordinates");
             clearOverlayCoordinates();
             return;
         }
         
         if (recommendedOptionIndex < 0) {
-            ScriptConsole.println("[QuestHelper] No recommended option index available");
             clearOverlayCoordinates();
             return;
         }
         
-        ScriptConsole.println("[QuestHelper] Calculating overlay coordinates for option index: " + recommendedOptionIndex);
-        
         try {
             List<String> currentOptions = Dialog.getOptions();
             int totalOptions = (currentOptions != null && !currentOptions.isEmpty()) ? currentOptions.size() : 3;
             
-            int[] dialogInterfaceIds = {1188, 1186, 1184, 1189, 1191};
-            
-            for (int interfaceId : dialogInterfaceIds) {
-                UIScaler.InterfaceRect dialogRect = uiScaler.getInterfaceRect(interfaceId, -1);
-                
-                if (dialogRect != null && dialogRect.x >= 0 && dialogRect.y >= 0 && dialogRect.width > 0 && dialogRect.height > 0) {
-                    int optionHeight = dialogRect.height / totalOptions;
-                    
-                    dialogOverlayX = dialogRect.x;
-                    dialogOverlayY = dialogRect.y + (recommendedOptionIndex * optionHeight);
-                    dialogOverlayWidth = dialogRect.width;
-                    dialogOverlayHeight = optionHeight;
-                    hasValidOverlayCoordinates = true;
-                    
-                    ScriptConsole.println(String.format("[QuestHelper] Used simplified positioning for option %d: x=%d, y=%d, w=%d, h=%d (total options: %d)", 
-                        recommendedOptionIndex + 1, dialogOverlayX, dialogOverlayY, dialogOverlayWidth, dialogOverlayHeight, totalOptions));
-                    return;
+            UIScaler.InterfaceRect[] optionRects = uiScaler.getDialogOptionRects(DIALOG_INTERFACE_IDS, totalOptions);
+            if (optionRects == null || recommendedOptionIndex >= optionRects.length) {
+                if (hasValidOverlayCoordinates) {
+                    ScriptConsole.println("[QuestHelper] Could not detect any dialog interface for overlay positioning");
                 }
+                clearOverlayCoordinates();
+                return;
             }
             
-            ScriptConsole.println("[QuestHelper] Could not detect any dialog interface for overlay positioning");
-            clearOverlayCoordinates();
+            UIScaler.InterfaceRect optionRect = optionRects[recommendedOptionIndex];
+            boolean moved = !hasValidOverlayCoordinates || optionRect.x != dialogOverlayX || optionRect.y != dialogOverlayY
+                    || optionRect.width != dialogOverlayWidth || optionRect.height != dialogOverlayHeight;
+            dialogOverlayX = optionRect.x;
+            dialogOverlayY = optionRect.y;
+            dialogOverlayWidth = optionRect.width;
+            dialogOverlayHeight = optionRect.height;
+            hasValidOverlayCoordinates = true;
+            
+            if (moved) {
+                ScriptConsole.println(String.format("[QuestHelper] Overlay for option %d: x=%d, y=%d, w=%d, h=%d (total options: %d)", 
+                    recommendedOptionIndex + 1, dialogOverlayX, dialogOverlayY, dialogOverlayWidth, dialogOverlayHeight, totalOptions));
+            }
                 
         } catch (Exception e) {
             ScriptConsole.println("[QuestHelper] Error calculating dialog overlay coordinates: " + e.getMessage());
@@ -0,0 +1,162 @@
+package net.botwithus.tasks;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import net.botwithus.rs3.game.js5.types.configs.ConfigManager;
+import net.botwithus.rs3.game.quest.Quest;
+import net.botwithus.tasks.QuestCatalogue.Status;
+
+/**
+ * Keeps quest statuses current without reloading the catalogue.
+ *
+ * Each status is a bitset over catalogue positions, so moving a quest between statuses is clearing one bit and
+ * setting another. The name-sorted lists handed out are rebuilt from the bitsets only when they are read after a
+ * change.
+ *
+ * refresh re-evaluates a bounded number of quests per call: first those marked dirty, because something suggests
+ * their progress changed, then the next few of a round-robin sweep over the whole catalogue so nothing stays
+ * stale for long. getVersion changes whenever a status does, so callers can redraw only then.
+ *
+ * Called from the script thread; the GUI reads lists and bitsets, so every method is synchronized.
+ */
+public final class QuestStatusTracker {
+    private static final Comparator<Quest> BY_NAME = Comparator.comparing(Quest::name);
+
+    private final QuestCatalogue catalogue;
+    private final BitSet[] statuses = new BitSet[Status.values().length];
+    private final BitSet dirty;
+    private final List<List<Quest>> lists = new ArrayList<>();
+    private final boolean[] listStale = new boolean[Status.values().length];
+    private int sweepCursor;
+    private int version;
+
+    public QuestStatusTracker(QuestCatalogue catalogue) {
+        this.catalogue = catalogue;
+        this.dirty = new BitSet(catalogue.size());
+        for (Status status : Status.values()) {
+            statuses[status.ordinal()] = new BitSet(catalogue.size());
+            lists.add(Collections.emptyList());
+            listStale[status.ordinal()] = true;
+        }
+        for (int i = 0; i < catalogue.size(); i++) {
+            statuses[catalogue.getLoadedStatus(i).ordinal()].set(i);
+        }
+    }
+
+    /**
+     * Read a quest's status from the game
+     * @return the status, or null if the game has no config for the quest to say
+     */
+    public static Status evaluate(Quest quest, int questId) {
+        // Without its QuestType a quest can't read its progress
+        if (quest == null || ConfigManager.getQuestType(questId) == null) {
+            return null;
+        }
+        if (quest.isComplete()) {
+            return Status.COMPLETED;
+        }
+        return quest.isStarted() ? Status.IN_PROGRESS : Status.NOT_STARTED;
+    }
+
+    public synchronized Status getStatus(int index) {
+        for (Status status : Status.values()) {
+            if (statuses[status.ordinal()].get(index)) {
+                return status;
+            }
+        }
+        return Status.NOT_STARTED;
+    }
+
+    /**
+     * Re-evaluate a quest on the next refresh
+     */
+    public synchronized void markDirty(int index) {
+        if (index >= 0 && index < catalogue.size()) {
+            dirty.set(index);
+        }
+    }
+
+    /**
+     * Re-evaluate every quest that currently has a status on the next refreshes
+     */
+    public synchronized void markDirty(Status status) {
+        dirty.or(statuses[status.ordinal()]);
+    }
+
+    /**
+     * Re-evaluate at most budget quests, dirty ones first
+     * @return how many quests changed status
+     */
+    public synchronized int refresh(int budget) {
+        int size = catalogue.size();
+        if (size == 0) {
+            return 0;
+        }
+        int changed = 0;
+        int checked = 0;
+        for (int i = dirty.nextSetBit(0); i >= 0 && checked < budget; i = dirty.nextSetBit(i + 1)) {
+            dirty.clear(i);
+            changed += update(i) ? 1 : 0;
+            checked++;
+        }
+        for (; checked < budget; checked++) {
+            changed += update(sweepCursor) ? 1 : 0;
+            sweepCursor = (sweepCursor + 1) % size;
+        }
+        return changed;
+    }
+
+    /**
+     * Catalogue positions of the quests with any of the statuses, as a new bitset
+     */
+    public synchronized BitSet withStatuses(Set<Status> statusFilter) {
+        BitSet result = new BitSet(catalogue.size());
+        for (Status status : statusFilter) {
+            result.or(statuses[status.ordinal()]);
+        }
+        return result;
+    }
+
+    /**
+     * Quests with a status, sorted by name
+     */
+    public synchronized List<Quest> getQuests(Status status) {
+        int s = status.ordinal();
+        if (listStale[s]) {
+            List<Quest> list = new ArrayList<>(statuses[s].cardinality());
+            for (int i = statuses[s].nextSetBit(0); i >= 0; i = statuses[s].nextSetBit(i + 1)) {
+                list.add(catalogue.getQuest(i));
+            }
+            list.sort(BY_NAME);
+            lists.set(s, Collections.unmodifiableList(list));
+            listStale[s] = false;
+        }
+        return lists.get(s);
+    }
+
+    /**
+     * Changes every time a quest changes status
+     */
+    public synchronized int getVersion() {
+        return version;
+    }
+
+    private boolean update(int index) {
+        Status current = evaluate(catalogue.getQuest(index), catalogue.getQuestId(index));
+        Status previous = getStatus(index);
+        if (current == null || current == previous) {
+            return false;
+        }
+        statuses[previous.ordinal()].clear(index);
+        statuses[current.ordinal()].set(index);
+        listStale[previous.ordinal()] = true;
+        listStale[current.ordinal()] = true;
+        version++;
+        return true;
+    }
+}
@@ -1,6 +1,7 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.rs3.game.Client;
 import net.botwithus.rs3.game.Coordinate;
@@ -11,9 +12,6 @@ import net.botwithus.rs3.game.minimenu.actions.ComponentAction;
 import net.botwithus.rs3.game.minimenu.actions.NPCAction;
 import net.botwithus.rs3.game.minimenu.actions.SelectableAction;
 import net.botwithus.rs3.game.movement.Movement;
-import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
-import net.botwithus.rs3.game.queries.builders.components.ComponentQuery;
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
@@ -113,7 +111,7 @@ public class SandyCluesTask implements Task {
     private void takeScroll() {
         moveToLocation(SCROLL_GIVER_COORD);
 
-        EntityResultSet<Npc> npcs = NpcQuery.newQuery().byType(REYNA).results();
+        EntityResultSet<Npc> npcs = GameQueries.npcs().byType(REYNA).results();
         if (!npcs.isEmpty()) {
             Npc scrollGiver = npcs.nearest();
             ScriptConsole.println("[SandyCluesTask] Found scroll giver NPC, attempting to interact");
@@ -169,7 +167,7 @@ public class SandyCluesTask implements Task {
     }
 
     private String getClueText() {
-        Component clueComponent = ComponentQuery.newQuery(345).componentIndex(4).results().first();
+        Component clueComponent = GameQueries.components(345).componentIndex(4).results().first();
         if (clueComponent != null) {
             return clueComponent.getText();
         }
@@ -284,7 +282,7 @@ public class SandyCluesTask implements Task {
         ScriptConsole.println("[SandyCluesTask] Solving Sarah clue");
         moveToLocation(SARAH_COORD);
 
-        EntityResultSet<Npc> npcs = NpcQuery.newQuery().byType(SARAH_ID).results();
+        EntityResultSet<Npc> npcs = GameQueries.npcs().byType(SARAH_ID).results();
         if (!npcs.isEmpty()) {
             Npc sarah = npcs.nearest();
             if (sarah.interact("Talk to")) {
@@ -300,7 +298,7 @@ public class SandyCluesTask implements Task {
         ScriptConsole.println("[SandyCluesTask] Solving Lifeguard clue");
         moveToLocation(LIFEGUARD_COORD);
 
-        EntityResultSet<Npc> npcs = NpcQuery.newQuery().byType(LIFEGUARD_ID).results();
+        EntityResultSet<Npc> npcs = GameQueries.npcs().byType(LIFEGUARD_ID).results();
         if (!npcs.isEmpty()) {
             Npc lifeguard = npcs.nearest();
             if (lifeguard.interact("Talk to")) {
@@ -316,7 +314,7 @@ public class SandyCluesTask implements Task {
         ScriptConsole.println("[SandyCluesTask] Solving Palmer clue");
         moveToLocation(PALMER_COORD);
 
-        EntityResultSet<Npc> npcs = NpcQuery.newQuery().byType(PALMER_ID).results();
+        EntityResultSet<Npc> npcs = GameQueries.npcs().byType(PALMER_ID).results();
         if (!npcs.isEmpty()) {
             Npc palmer = npcs.nearest();
             if (palmer.interact("Talk to")) {
@@ -332,7 +330,7 @@ public class SandyCluesTask implements Task {
         ScriptConsole.println("[SandyCluesTask] Solving Foreman clue");
         moveToLocation(FOREMAN_COORD);
 
-        EntityResultSet<Npc> npcs = NpcQuery.newQuery().byType(FOREMAN_ID).results();
+        EntityResultSet<Npc> npcs = GameQueries.npcs().byType(FOREMAN_ID).results();
         if (!npcs.isEmpty()) {
             Npc foreman = npcs.nearest();
             if (foreman.interact("Talk to")) {
@@ -348,7 +346,7 @@ public class SandyCluesTask implements Task {
         ScriptConsole.println("[SandyCluesTask] Solving Flo clue");
         moveToLocation(FLO_COORD);
 
-        EntityResultSet<Npc> npcs = NpcQuery.newQuery().byType(FLO_ID).results();
+        EntityResultSet<Npc> npcs = GameQueries.npcs().byType(FLO_ID).results();
         if (!npcs.isEmpty()) {
             Npc flo = npcs.nearest();
             ScriptConsole.println("[SandyCluesTask] Found Flo NPC, attempting to interact with Shop");
@@ -373,7 +371,7 @@ public class SandyCluesTask implements Task {
         ScriptConsole.println("[SandyCluesTask] Solving Sheldon clue");
         moveToLocation(SHELDON_COORD);
 
-        EntityResultSet<Npc> npcs = NpcQuery.newQuery().byType(SHELDON_ID).results();
+        EntityResultSet<Npc> npcs = GameQueries.npcs().byType(SHELDON_ID).results();
         if (!npcs.isEmpty()) {
             Npc sheldon = npcs.nearest();
             ScriptConsole.println("[SandyCluesTask] Found Sheldon NPC, attempting to interact with Shop");
@@ -398,7 +396,7 @@ public class SandyCluesTask implements Task {
         ScriptConsole.println("[SandyCluesTask] Solving Wellington clue");
         moveToLocation(WELLINGTON_COORD);
 
-        EntityResultSet<Npc> npcs = NpcQuery.newQuery().byType(WELLINGTON_ID).results();
+        EntityResultSet<Npc> npcs = GameQueries.npcs().byType(WELLINGTON_ID).results();
         if (!npcs.isEmpty()) {
             Npc wellington = npcs.nearest();
             if (wellington.interact("Talk to")) {
@@ -414,7 +412,7 @@ public class SandyCluesTask implements Task {
         ScriptConsole.println("[SandyCluesTask] Solving Dung Hole clue");
         moveToLocation(DUNG_HOLE_COORD);
 
-        EntityResultSet<SceneObject> objects = SceneObjectQuery.newQuery().ids(DUNG_HOLE_ID).results();
+        EntityResultSet<SceneObject> objects = GameQueries.sceneObjects().ids(DUNG_HOLE_ID).results();
         if (!objects.isEmpty()) {
             SceneObject hole = objects.nearest();
             if (hole.interact("Dungeoneer")) {
@@ -427,7 +425,7 @@ public class SandyCluesTask implements Task {
 
     private void coconuts() {
         ScriptConsole.println("[SandyCluesTask] Solving Coconuts clue");
-        EntityResultSet<SceneObject> objects = SceneObjectQuery.newQuery().ids(COCONUTS_ID).hidden(false).results();
+        EntityResultSet<SceneObject> objects = GameQueries.sceneObjects().ids(COCONUTS_ID).hidden(false).results();
         if (!objects.isEmpty()) {
             SceneObject coconuts = objects.nearest();
             if (coconuts.interact("Deposit coconuts")) {
@@ -442,7 +440,7 @@ public class SandyCluesTask implements Task {
         ScriptConsole.println("[SandyCluesTask] Solving Fish Table clue");
         moveToLocation(FISH_TABLE_COORD);
 
-        EntityResultSet<SceneObject> objects = SceneObjectQuery.newQuery().interactId(FISH_TABLE_ID).results();
+        EntityResultSet<SceneObject> objects = GameQueries.sceneObjects().interactId(FISH_TABLE_ID).results();
         if (!objects.isEmpty()) {
             SceneObject table = objects.nearest();
             if (table.interact("Deposit fish")) {
@@ -456,7 +454,7 @@ public class SandyCluesTask implements Task {
     private void palmTree() {
         ScriptConsole.println("[SandyCluesTask] Solving Palm Tree clue");
         moveToLocation(PALM_TREE_COORD);
-        EntityResultSet<SceneObject> objects = SceneObjectQuery.newQuery().id(PALM_TREE_ID).results();
+        EntityResultSet<SceneObject> objects = GameQueries.sceneObjects().id(PALM_TREE_ID).results();
         if (!objects.isEmpty()) {
             SceneObject tree = objects.nearest();
             if (tree.interact("Pick coconut")) {
@@ -1,11 +1,10 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.api.game.hud.inventories.Bank;
 import net.botwithus.rs3.game.hud.interfaces.Component;
 import net.botwithus.rs3.game.hud.interfaces.Interfaces;
-import net.botwithus.rs3.game.queries.builders.components.ComponentQuery;
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
 import net.botwithus.rs3.script.Execution;
 
@@ -26,12 +25,12 @@ public class ScreenMeshTask implements Task {
         }
 
         if (siftSoilHelper.backpackContainsSoil()) {
-            SceneObject mesh = SceneObjectQuery.newQuery().name("Mesh").option("Screen").results().nearest();
+            SceneObject mesh = GameQueries.sceneObjects().name("Mesh").option("Screen").results().nearest();
             
             if (mesh != null && mesh.interact("Screen")) {
                 Execution.delayUntil(15000, () -> Interfaces.isOpen(1370));
                 
-                Component screenOption = ComponentQuery.newQuery(1370)
+                Component screenOption = GameQueries.components(1370)
                     .componentIndex(30)  
                     .results()
                     .first();
@@ -1,6 +1,8 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
+import net.botwithus.WaitScheduler;
 import net.botwithus.api.game.hud.inventories.Bank;
 import net.botwithus.api.game.world.Traverse;
 import net.botwithus.rs3.game.Area;
@@ -10,7 +12,6 @@ import net.botwithus.rs3.game.hud.interfaces.Interfaces;
 import net.botwithus.rs3.game.inventories.Backpack;
 import net.botwithus.rs3.game.movement.Movement;
 import net.botwithus.rs3.game.movement.NavPath;
-import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
 import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
@@ -47,7 +48,7 @@ public class SheepShearingTask implements Task {
             Movement.traverse(path);
         } else {
             Bank.loadLastPreset();
-            Execution.delayUntil(8000, () -> !Backpack.isFull());
+            WaitScheduler.until(8000, () -> !Backpack.isFull());
         }
     }
 
@@ -63,7 +64,7 @@ public class SheepShearingTask implements Task {
             return;
         }
 
-        EntityResultSet<Npc> sheepResults = NpcQuery.newQuery().name("Sheep").option("Shear").results();
+        EntityResultSet<Npc> sheepResults = GameQueries.npcs().name("Sheep").option("Shear").results();
         Npc nearestSheep = sheepResults.nearestTo(player);
 
         if (nearestSheep != null) {
@@ -1,13 +1,13 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.rs3.game.Item;
 import net.botwithus.rs3.game.hud.interfaces.Interfaces;
 import net.botwithus.rs3.game.minimenu.MiniMenu;
 import net.botwithus.rs3.game.minimenu.actions.ComponentAction;
 import net.botwithus.rs3.game.minimenu.actions.SelectableAction;
-import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
 import net.botwithus.rs3.script.Execution;
@@ -91,7 +91,7 @@ public class ShopDisassemblyTask implements Task {
                 ScriptConsole.println("[ShopDisassemblyTask] Shop interface not open, finding Sawmill operator");
 
                 // Trade with Sawmill operator NPC
-                EntityResultSet<Npc> results = NpcQuery.newQuery().name("Sawmill operator").option("Trade").results();
+                EntityResultSet<Npc> results = GameQueries.npcs().name("Sawmill operator").option("Trade").results();
                 if (!results.isEmpty()) {
                     Npc sawmillOperator = results.first();
                     if (sawmillOperator != null) {
@@ -1,9 +1,9 @@
 package net.botwithus.tasks;
 
+import net.botwithus.GameQueries;
 import net.botwithus.rs3.game.Client;
 import net.botwithus.rs3.game.Coordinate;
 import net.botwithus.rs3.game.movement.Movement;
-import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
 import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
 import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
 import net.botwithus.rs3.game.vars.VarManager;
@@ -137,7 +137,7 @@ public class SimpleCombatTask implements Task {
         }
         
         // Find all NPCs with attack option
-        var npcResults = NpcQuery.newQuery()
+        var npcResults = GameQueries.npcs()
                 .option("Attack")
                 .results();
         
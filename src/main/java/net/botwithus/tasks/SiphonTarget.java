@@ -2,13 +2,13 @@ package net.botwithus.tasks;
 
 import java.util.Objects;
 
+import net.botwithus.GameQueries;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.rs3.game.Client;
 import net.botwithus.rs3.game.Coordinate;
 import net.botwithus.rs3.game.login.LoginManager;
 import net.botwithus.rs3.game.minimenu.MiniMenu;
 import net.botwithus.rs3.game.minimenu.actions.ComponentAction;
-import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
 import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
@@ -66,7 +66,7 @@ public class SiphonTarget implements Task {
     
     private void findAndInteractWithNex() {
         ScriptConsole.println("[SiphonTarget] Looking for Nex with Battlefield ability option");
-        EntityResultSet<Npc> results = NpcQuery.newQuery().name("Nex").option("Battlefield ability").results();
+        EntityResultSet<Npc> results = GameQueries.npcs().name("Nex").option("Battlefield ability").results();
 
         if (!results.isEmpty()) {
             Npc nex = results.first();
@@ -86,7 +86,7 @@ public class SiphonTarget implements Task {
         LocalPlayer player = Client.getLocalPlayer();
         if (player == null) return;
         
-        EntityResultSet<Npc> results = NpcQuery.newQuery().name("Nex").results();
+        EntityResultSet<Npc> results = GameQueries.npcs().name("Nex").results();
         if (!results.isEmpty()) {
             Npc nex = results.first();
             if (nex != null && player.getCoordinate().distanceTo(nex.getCoordinate()) <= 1) {
@@ -98,7 +98,7 @@ public class SiphonTarget implements Task {
     
     private void findAndAttackSiegeEngine() {
         ScriptConsole.println("[SiphonTarget] Looking for Siege engine at coordinates " + siegeEngineCoordinate);
-        EntityResultSet<Npc> results = NpcQuery.newQuery().name("Siege engine").option("Attack").results();
+        EntityResultSet<Npc> results = GameQueries.npcs().name("Siege engine").option("Attack").results();
 
         if (!results.isEmpty()) {
             for (Npc siegeEngine : results) {
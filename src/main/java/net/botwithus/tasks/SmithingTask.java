@@ -1,6 +1,7 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.rs3.script.ScriptConsole;
 import net.botwithus.rs3.game.js5.types.configs.ConfigManager;
 import net.botwithus.rs3.game.js5.types.EnumType;
@@ -9,8 +10,6 @@ import net.botwithus.rs3.game.js5.types.StructType;
 import net.botwithus.rs3.game.Client;
 import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
 import net.botwithus.rs3.game.hud.interfaces.Interfaces;
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
-import net.botwithus.rs3.game.queries.builders.components.ComponentQuery;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
 import net.botwithus.rs3.game.hud.interfaces.Component;
 import net.botwithus.rs3.game.inventories.Backpack;
@@ -305,7 +304,7 @@ public class SmithingTask implements Task {
         // Modern smithing uses interface 1472. This logic might need significant updates.
         if (!Interfaces.isOpen(37)) {
             ScriptConsole.println("[SmithingTask] Interface 37 (Old Smithing) not open. Attempting to open via Anvil...");
-            SceneObject anvilObj = SceneObjectQuery.newQuery().name("Anvil").option("Smith").results().nearest();
+            SceneObject anvilObj = GameQueries.sceneObjects().name("Anvil").option("Smith").results().nearest();
             if (anvilObj != null) {
                 anvilObj.interact("Smith");
                 Execution.delayUntil(3000L, new Callable<Boolean>() { @Override public Boolean call() { return Interfaces.isOpen(37); } }); 
@@ -326,7 +325,7 @@ public class SmithingTask implements Task {
         }
         
         // This component 37:40 was for the selected item display in the OLD interface.
-        Component selectedItemComp = ComponentQuery.newQuery(37).componentIndex(40).results().first(); // subComponentIndex(-1) typically not needed for .first()
+        Component selectedItemComp = GameQueries.components(37).componentIndex(40).results().first(); // subComponentIndex(-1) typically not needed for .first()
         if (selectedItemComp == null) { // This might mean the interface isn't fully loaded or structure is unexpected
             ScriptConsole.println("[SmithingTask] Selected Item Component (37:40) is Null. Interface might not be ready or structure mismatch.");
             // It's often better to wait a short moment or re-verify interface state than to immediately close/reopen.
@@ -342,7 +341,7 @@ public class SmithingTask implements Task {
         }
         String desiredBarName = barNames[selectedBarIndex];
         // The subcomponent index calculation (selectedBarIndex * 2 + 1) is specific to the old interface's list structure.
-        Component barComponent = ComponentQuery.newQuery(37).componentIndex(52).subComponentIndex(selectedBarIndex * 2 + 1).results().first();
+        Component barComponent = GameQueries.components(37).componentIndex(52).subComponentIndex(selectedBarIndex * 2 + 1).results().first();
         
         if (barComponent != null) {
             ScriptConsole.println("[SmithingTask] Attempting to select bar: " + desiredBarName + " at index " + selectedBarIndex);
@@ -372,7 +371,7 @@ public class SmithingTask implements Task {
     private long handleSmithingProcess(LocalPlayer player) {
         if (player == null) return random.nextLong(600,1000);
 
-        SceneObject anvil = SceneObjectQuery.newQuery().name("Anvil").option("Smith").results().nearest();
+        SceneObject anvil = GameQueries.sceneObjects().name("Anvil").option("Smith").results().nearest();
         if (anvil == null) {
             ScriptConsole.println("[SmithingTask] No anvil found nearby.");
             currentSmithingState = SmithingState.IDLE; // Or some error/recovery state
@@ -411,7 +410,7 @@ public class SmithingTask implements Task {
     private long handleHeatingProcess(LocalPlayer player) {
         if (player == null) return random.nextLong(600,1000);
 
-        SceneObject forge = SceneObjectQuery.newQuery().name("Forge").option("Heat").results().nearest(); // Assuming "Heat" is an option
+        SceneObject forge = GameQueries.sceneObjects().name("Forge").option("Heat").results().nearest(); // Assuming "Heat" is an option
         if (forge == null) {
             ScriptConsole.println("[SmithingTask] No forge found nearby.");
             // currentSmithingState = SmithingState.IDLE; // Or some error/recovery state
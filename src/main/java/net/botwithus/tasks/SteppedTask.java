@@ -0,0 +1,30 @@
+package net.botwithus.tasks;
+
+/**
+ * Cooperative task contract: instead of blocking inside execute(), each call does one short step and says
+ * when it wants to run again. The main loop keeps running its health check and juju upkeep while the task waits.
+ */
+public interface SteppedTask extends Task {
+    /**
+     * Do one step of work without blocking
+     * @return when to step again
+     */
+    TaskStep step(TickContext context);
+
+    /**
+     * Forget any half-finished interaction, called when another task takes over or the script stops,
+     * so the next step starts from what is actually on screen
+     */
+    default void reset() {
+    }
+
+    /**
+     * Blocking fallback for callers that don't schedule steps: run one step and wait for it to be due
+     */
+    @Override
+    default void execute() {
+        TaskStep next = step(TickContext.now());
+        long issuedAt = System.currentTimeMillis();
+        next.awaitSlice(issuedAt, next.getDelayMs());
+    }
+}
@@ -1,12 +1,12 @@
 package net.botwithus.tasks;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.rs3.game.Client;
 import net.botwithus.rs3.game.Distance;
 import net.botwithus.rs3.game.inventories.Backpack;
 import net.botwithus.rs3.game.minimenu.MiniMenu;
 import net.botwithus.rs3.game.minimenu.actions.ComponentAction;
-import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.characters.PathingEntity;
 import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
@@ -44,7 +44,7 @@ public class SummerPinata implements Task {
             return;
         }
 
-        EntityResultSet<Npc> results = NpcQuery.newQuery()
+        EntityResultSet<Npc> results = GameQueries.npcs()
             .byType(29225)
             .option("Attack")
             .results();
@@ -65,7 +65,7 @@ public class SummerPinata implements Task {
                     if(MiniMenu.interact(ComponentAction.COMPONENT.getType(), 1, 0, 96534533)){
                         ScriptConsole.println("[SummerPinataTask] Successfully deployed Summer piñata");
                         Execution.delayUntil(1200, () -> {
-                            EntityResultSet<Npc> deployedResults = NpcQuery.newQuery()
+                            EntityResultSet<Npc> deployedResults = GameQueries.npcs()
                                     .name("Summer piñata")
                                     .results();
                             return !deployedResults.isEmpty();
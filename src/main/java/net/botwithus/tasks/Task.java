@@ -8,4 +8,12 @@ public interface Task {
      * Execute the task logic
      */
     void execute();
-} 
\ No newline at end of file
+
+    /**
+     * Whether the task has run out of work, e.g. nothing left in the backpack to process.
+     * Used by the job scheduler to move on to the next activity.
+     */
+    default boolean isComplete() {
+        return false;
+    }
+}
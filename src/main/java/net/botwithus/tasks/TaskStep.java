@@ -0,0 +1,74 @@
+package net.botwithus.tasks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+
+import net.botwithus.rs3.script.Execution;
+
+/**
+ * What a {@link SteppedTask} wants to happen after a step: when it should be stepped again,
+ * and optionally a condition that wakes it early.
+ */
+public final class TaskStep {
+    private static final TaskStep NEXT_TICK = new TaskStep(0, null);
+
+    private final long delayMs;
+    private final BooleanSupplier wakeCondition;
+
+    private TaskStep(long delayMs, BooleanSupplier wakeCondition) {
+        this.delayMs = delayMs;
+        this.wakeCondition = wakeCondition;
+    }
+
+    /**
+     * Step again on the next loop
+     */
+    public static TaskStep nextTick() {
+        return NEXT_TICK;
+    }
+
+    public static TaskStep sleep(long delayMs) {
+        return new TaskStep(delayMs, null);
+    }
+
+    public static TaskStep sleep(long minMs, long maxMs) {
+        return new TaskStep(ThreadLocalRandom.current().nextLong(minMs, maxMs), null);
+    }
+
+    /**
+     * Step again as soon as the condition holds, or after the timeout
+     */
+    public static TaskStep until(long timeoutMs, BooleanSupplier condition) {
+        return new TaskStep(timeoutMs, condition);
+    }
+
+    public long getDelayMs() {
+        return delayMs;
+    }
+
+    /**
+     * @param issuedAt when the step was returned, in System.currentTimeMillis() time
+     */
+    public boolean isDue(long issuedAt) {
+        if (System.currentTimeMillis() - issuedAt >= delayMs) {
+            return true;
+        }
+        return wakeCondition != null && wakeCondition.getAsBoolean();
+    }
+
+    /**
+     * Wait until the step is due, but no longer than maxSliceMs so the caller can run other checks in between
+     */
+    public void awaitSlice(long issuedAt, long maxSliceMs) {
+        long remaining = delayMs - (System.currentTimeMillis() - issuedAt);
+        if (remaining <= 0) {
+            return;
+        }
+        Execution.delayUntil(Math.min(remaining, maxSliceMs), wakeCondition != null ? wakeCondition::getAsBoolean : () -> false);
+    }
+
+    @Override
+    public String toString() {
+        return wakeCondition != null ? "until condition or " + delayMs + "ms" : "sleep " + delayMs + "ms";
+    }
+}
@@ -0,0 +1,35 @@
+package net.botwithus.tasks;
+
+import net.botwithus.TickSnapshot;
+import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
+
+/**
+ * State handed to a {@link SteppedTask} for a single step.
+ */
+public final class TickContext {
+    private final long nowMs;
+    private final LocalPlayer player;
+
+    public TickContext(long nowMs, LocalPlayer player) {
+        this.nowMs = nowMs;
+        this.player = player;
+    }
+
+    /**
+     * Context for the current moment, read from the tick snapshot
+     */
+    public static TickContext now() {
+        return new TickContext(System.currentTimeMillis(), TickSnapshot.player());
+    }
+
+    public long getNowMs() {
+        return nowMs;
+    }
+
+    /**
+     * @return the local player, or null if not logged in
+     */
+    public LocalPlayer getPlayer() {
+        return player;
+    }
+}
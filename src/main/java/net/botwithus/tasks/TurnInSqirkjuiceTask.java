@@ -1,6 +1,9 @@
 package net.botwithus.tasks;
 
+import java.util.Arrays;
+
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.api.game.hud.inventories.Bank;
 import net.botwithus.rs3.game.Area;
 import net.botwithus.rs3.game.Client;
@@ -11,24 +14,19 @@ import net.botwithus.rs3.game.minimenu.MiniMenu;
 import net.botwithus.rs3.game.minimenu.actions.SelectableAction;
 import net.botwithus.rs3.game.movement.Movement;
 import net.botwithus.rs3.game.movement.NavPath;
-import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
-import net.botwithus.rs3.game.queries.builders.components.ComponentQuery;
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
 import net.botwithus.rs3.game.queries.results.ResultSet;
 import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
 import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
 import net.botwithus.rs3.script.Execution;
 import net.botwithus.rs3.script.ScriptConsole;
+import net.botwithus.tasks.sorceressgarden.GardenScheduler;
+import net.botwithus.tasks.sorceressgarden.models.GardenType;
 
 public class TurnInSqirkjuiceTask implements Task {
     private final CoaezUtility script;
-    private static final String[] JUICE_NAMES = {
-        "Winter sq'irkjuice",
-        "Spring sq'irkjuice",
-        "Autumn sq'irkjuice",
-        "Summer sq'irkjuice"
-    };
+    // Juice of each garden type in the backpack last execute, -1 before the first
+    private final int[] juiceCounts = new int[GardenType.values().length];
 
     private static final Coordinate OSMAN_COORDINATE = new Coordinate(3290, 3158, 0);
     private static final int DIST_THRESHOLD = 5;
@@ -37,12 +35,16 @@ public class TurnInSqirkjuiceTask implements Task {
 
     public TurnInSqirkjuiceTask(CoaezUtility script) {
         this.script = script;
+        Arrays.fill(juiceCounts, -1);
     }
 
     @Override
     public void execute() {
+        GardenScheduler scheduler = script.getGardenScheduler();
+        recordJuiceTurnedIn(scheduler);
         boolean found = false;
-        for (String juice : JUICE_NAMES) {
+        for (GardenType type : GardenType.values()) {
+            String juice = type.getJuiceName();
             if (Backpack.contains(juice)) {
                 ScriptConsole.println("Detected in backpack: " + juice);
                 found = true;
@@ -52,7 +54,7 @@ public class TurnInSqirkjuiceTask implements Task {
         if (!found) {
             if (!found && INSIDE_AREA.contains(Client.getLocalPlayer().getCoordinate())) {
                 ScriptConsole.println("Leaving Osman area to bank...");
-                SceneObject door = SceneObjectQuery.newQuery().id(76499).hidden(false).results().nearest();
+                SceneObject door = GameQueries.sceneObjects().id(76499).hidden(false).results().nearest();
                 if (door != null) {
                     door.interact("Pass-through");
                     Execution.delayUntil(5000, () -> !INSIDE_AREA.contains(Client.getLocalPlayer().getCoordinate()));
@@ -61,7 +63,7 @@ public class TurnInSqirkjuiceTask implements Task {
             ScriptConsole.println("No sq'irkjuice found in backpack, loading preset...");
             Bank.loadLastPreset();
             Execution.delayUntil(5000, () -> {
-                for (String juice : JUICE_NAMES) if (Backpack.contains(juice)) return true;
+                for (GardenType type : GardenType.values()) if (Backpack.contains(type.getJuiceName())) return true;
                 return false;
             });
            
@@ -81,7 +83,7 @@ public class TurnInSqirkjuiceTask implements Task {
             // If at the door, log that we should open it (actual door opening logic can be added if needed)
             if (playerLoc.equals(DOOR_COORDINATE)) {
                 ScriptConsole.println("At Osman doors, open the door if needed.");
-                SceneObject door = SceneObjectQuery.newQuery().id(76499).hidden(false).results().nearest();
+                SceneObject door = GameQueries.sceneObjects().id(76499).hidden(false).results().nearest();
                 if (door != null) {
                     door.interact("Pass-through");
                     Execution.delayUntil(5000, () -> INSIDE_AREA.contains(Client.getLocalPlayer().getCoordinate()));
@@ -91,9 +93,10 @@ public class TurnInSqirkjuiceTask implements Task {
             return;
         }
 
-        // Inside area, proceed as before
-        for (String juice : JUICE_NAMES) {
-            ResultSet<Component> juiceResults = ComponentQuery.newQuery(1473).componentIndex(5).itemName(juice).option("Drink").results();
+        // Inside area, hand in the most valuable juice first
+        for (GardenType type : scheduler.byValue()) {
+            String juice = type.getJuiceName();
+            ResultSet<Component> juiceResults = GameQueries.components(1473).componentIndex(5).itemName(juice).option("Drink").results();
             Component juiceComp = juiceResults.first();
             if (juiceComp != null) {
                 ScriptConsole.println("Selecting juice component: " + juice);
@@ -104,7 +107,7 @@ public class TurnInSqirkjuiceTask implements Task {
             }
         }
 
-        Npc osman = NpcQuery.newQuery().name("Osman").option("Talk-to").results().nearest();
+        Npc osman = GameQueries.npcs().name("Osman").option("Talk-to").results().nearest();
         if (osman != null) {
             ScriptConsole.println("Interacting with Osman (id=" + osman.getId() + ")");
             MiniMenu.interact(SelectableAction.SELECT_NPC.getType(), osman.getId(), 0, 0);
@@ -113,4 +116,30 @@ public class TurnInSqirkjuiceTask implements Task {
             ScriptConsole.println("Could not find Osman nearby!");
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean isComplete() {
+        for (GardenType type : GardenType.values()) {
+            if (script.getInventoryTracker().count(type.getJuiceName()) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Juice that left the backpack while at Osman was handed in
+     */
+    private void recordJuiceTurnedIn(GardenScheduler scheduler) {
+        LocalPlayer player = Client.getLocalPlayer();
+        boolean atOsman = player != null && INSIDE_AREA.contains(player.getCoordinate());
+        for (GardenType type : GardenType.values()) {
+            int count = script.getInventoryTracker().count(type.getJuiceName());
+            int previous = juiceCounts[type.ordinal()];
+            if (atOsman && previous != -1 && count < previous) {
+                scheduler.recordJuiceTurnedIn(type, previous - count);
+            }
+            juiceCounts[type.ordinal()] = count;
+        }
+    }
+}
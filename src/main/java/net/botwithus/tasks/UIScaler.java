@@ -1,19 +1,30 @@
 package net.botwithus.tasks;
 
+import net.botwithus.Log;
+import net.botwithus.TickSnapshot;
 import net.botwithus.rs3.game.cs2.ScriptBuilder;
 import net.botwithus.rs3.game.vars.VarManager;
-import net.botwithus.rs3.script.ScriptConsole;
 import net.botwithus.rs3.game.cs2.ReturnValue;
 import net.botwithus.rs3.game.cs2.layouts.Layout;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * UIScaler class for calculating scaled interface coordinates and dimensions.
  * Handles UI scaling for drawing around specific interfaces and dialogs.
+ *
+ * Component geometry is cached by packed interface/child id, misses included, so drawing around a dialog doesn't
+ * invoke a client script per lookup. Entries live for one game cycle because components move as interfaces open
+ * and close, and the whole cache is dropped when the window size varcs show the canvas has been resized.
  */
 public class UIScaler {
+    private static final Log LOG = Log.get("UIScaler");
+    private static final long GEOMETRY_TTL_MS = TickSnapshot.GAME_CYCLE_MS;
     
+    private final Map<Long, CachedRect> geometry = new HashMap<>();
+    private ScriptBuilder interfaceRectScript;
     private int windowWidth;
     private int windowHeight;
     private int rawCanvasWidth;
@@ -38,12 +49,36 @@ public class UIScaler {
             this.height = height;
         }
         
+        /**
+         * Splits this rectangle into equal rows, as dialog options are laid out.
+         * @param rows number of rows, at least 1
+         * @return the rows from top to bottom
+         */
+        public InterfaceRect[] splitRows(int rows) {
+            InterfaceRect[] result = new InterfaceRect[rows];
+            int rowHeight = height / rows;
+            for (int i = 0; i < rows; i++) {
+                result[i] = new InterfaceRect(x, y + i * rowHeight, width, rowHeight);
+            }
+            return result;
+        }
+        
         @Override
         public String toString() {
             return String.format("InterfaceRect{x=%d, y=%d, width=%d, height=%d}", x, y, width, height);
         }
     }
     
+    private static final class CachedRect {
+        final InterfaceRect rect;
+        final long fetchedAt;
+        
+        CachedRect(InterfaceRect rect, long fetchedAt) {
+            this.rect = rect;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+    
     /**
      * Initializes or updates the UI scaling information.
      * This should be called before getting interface coordinates.
@@ -68,15 +103,22 @@ public class UIScaler {
             scaleX = (double) windowWidth / (double) rawCanvasWidth;
             scaleY = (double) windowHeight / (double) rawCanvasHeight;
             
+            if (interfaceRectScript == null) {
+                interfaceRectScript = ScriptBuilder
+                        .of(12613)
+                        .args(Layout.INT, Layout.INT)
+                        .returns(Layout.INT, Layout.INT, Layout.INT, Layout.INT);
+            }
+            geometry.clear();
             initialized = true;
             
-            ScriptConsole.println("Window Size = " + windowWidth + " x " + windowHeight);
-            ScriptConsole.println("UI Scale = " + scaleX + " x " + scaleY);
+            LOG.info(() -> "Window Size = " + windowWidth + " x " + windowHeight);
+            LOG.info(() -> "UI Scale = " + scaleX + " x " + scaleY);
             
             return true;
             
         } catch (Exception e) {
-            ScriptConsole.println("[UIScaler] Failed to initialize: " + e.getMessage());
+            LOG.warn(() -> "Failed to initialize: " + e.getMessage());
             initialized = false;
             return false;
         }
@@ -84,38 +126,79 @@ public class UIScaler {
     
     /**
      * Gets the scaled coordinates and dimensions for a specific interface component.
+     * Served from the geometry cache when it was looked up within the last game cycle.
      * @param interfaceId The interface ID (parent component)
      * @param childId The child component ID (-1 for no child)
      * @return InterfaceRect containing scaled coordinates and dimensions, or null if failed
      */
     public InterfaceRect getInterfaceRect(int interfaceId, int childId) {
-        if (!initialized && !initialize()) {
-            ScriptConsole.println("[UIScaler] Not initialized and failed to initialize");
+        if (!ensureCurrent()) {
+            LOG.warn("Not initialized and failed to initialize");
             return null;
         }
-        
+        return lookup(interfaceId, childId, System.currentTimeMillis());
+    }
+    
+    /**
+     * Resolves the option rows of the first of the given dialog interfaces that is open, in one pass.
+     * The interface is assumed to lay its options out as equal rows.
+     * @param interfaceIds Dialog interfaces to try, in order
+     * @param optionCount Number of options the dialog shows
+     * @return One rectangle per option from top to bottom, or null if none of the interfaces is open
+     */
+    public InterfaceRect[] getDialogOptionRects(int[] interfaceIds, int optionCount) {
+        if (optionCount <= 0 || !ensureCurrent()) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        for (int interfaceId : interfaceIds) {
+            InterfaceRect dialogRect = lookup(interfaceId, -1, now);
+            if (dialogRect != null) {
+                return dialogRect.splitRows(optionCount);
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Drops all cached geometry, e.g. when a different dialog has opened.
+     */
+    public void invalidate() {
+        geometry.clear();
+    }
+    
+    /**
+     * Initializes if needed, and again if the window size varcs changed since the last time.
+     * @return true if the scaling information is usable
+     */
+    private boolean ensureCurrent() {
+        if (!initialized) {
+            return initialize();
+        }
+        if (VarManager.getVarc(8267) != windowWidth || VarManager.getVarc(8268) != windowHeight) {
+            LOG.debug("Canvas resized, dropping cached geometry");
+            return initialize();
+        }
+        return true;
+    }
+    
+    private InterfaceRect lookup(int interfaceId, int childId, long now) {
+        // Child -1 and child 0 pack the same, so the child index goes into the key as well
+        int packed = childId == -1 ? interfaceId << 16 : (interfaceId << 16) | (childId & 0xFFFF);
+        long key = ((long) packed << 32) | (childId & 0xFFFFFFFFL);
+        CachedRect cached = geometry.get(key);
+        if (cached != null && now - cached.fetchedAt < GEOMETRY_TTL_MS) {
+            return cached.rect;
+        }
+        InterfaceRect rect = query(interfaceId, childId, packed);
+        geometry.put(key, new CachedRect(rect, now));
+        return rect;
+    }
+    
+    private InterfaceRect query(int interfaceId, int childId, int packed) {
         try {
             // Use script 12613 to get interface coordinates
-            ScriptBuilder inv = ScriptBuilder
-                    .of(12613)
-                    .args(Layout.INT, Layout.INT)
-                    .returns(Layout.INT, Layout.INT, Layout.INT, Layout.INT);
-            
-            // For dialog options, we need to handle the child ID properly
-            int packed;
-            int childIdx;
-            
-            if (childId == -1) {
-                // No child component, use the interface ID directly
-                packed = interfaceId << 16;
-                childIdx = -1;
-            } else {
-                // For dialog options, try different packing approaches
-                packed = (interfaceId << 16) | (childId & 0xFFFF);
-                childIdx = childId;
-            }
-            
-            List<ReturnValue> raw = inv.invokeExact(packed, childIdx);
+            List<ReturnValue> raw = interfaceRectScript.invokeExact(packed, childId);
             
             int rawX = raw.get(0).asInt();
             int rawY = raw.get(1).asInt();
@@ -124,7 +207,7 @@ public class UIScaler {
             
             // Check if we got valid coordinates
             if (rawX < 0 || rawY < 0 || rawWidth <= 0 || rawHeight <= 0) {
-                ScriptConsole.println(String.format("[UIScaler] Interface %d:%d returned invalid coordinates: x=%d, y=%d, w=%d, h=%d", 
+                LOG.debug(() -> String.format("Interface %d:%d returned invalid coordinates: x=%d, y=%d, w=%d, h=%d", 
                                                    interfaceId, childId, rawX, rawY, rawWidth, rawHeight));
                 return null;
             }
@@ -137,14 +220,14 @@ public class UIScaler {
             
             InterfaceRect result = new InterfaceRect(scaledX, scaledY, scaledWidth, scaledHeight);
             
-            ScriptConsole.println(String.format("[UIScaler] Interface %d:%d - Raw: x=%d, y=%d, w=%d, h=%d | Scaled: x=%d, y=%d, w=%d, h=%d", 
+            LOG.debug(() -> String.format("Interface %d:%d - Raw: x=%d, y=%d, w=%d, h=%d | Scaled: x=%d, y=%d, w=%d, h=%d", 
                                                interfaceId, childId, rawX, rawY, rawWidth, rawHeight, 
                                                scaledX, scaledY, scaledWidth, scaledHeight));
             
             return result;
             
         } catch (Exception e) {
-            ScriptConsole.println(String.format("[UIScaler] Failed to get interface rect for %d:%d - %s", 
+            LOG.warn(() -> String.format("Failed to get interface rect for %d:%d - %s", 
                                                interfaceId, childId, e.getMessage()));
             return null;
         }
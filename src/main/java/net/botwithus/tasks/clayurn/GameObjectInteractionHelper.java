@@ -1,8 +1,8 @@
 package net.botwithus.tasks.clayurn;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.rs3.game.Distance;
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.characters.Headbar;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
@@ -20,7 +20,7 @@ public class GameObjectInteractionHelper {
     }
     
     public boolean interactWithClayRock() {
-        EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery()
+        EntityResultSet<SceneObject> results = GameQueries.sceneObjects()
                 .name("Clay rock")
                 .option("Mine")
                 .results();
@@ -43,7 +43,7 @@ public class GameObjectInteractionHelper {
     }
     
     public boolean interactWithCaveExit() {
-        EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery()
+        EntityResultSet<SceneObject> results = GameQueries.sceneObjects()
                 .name("Cave")
                 .option("Exit")
                 .results();
@@ -58,7 +58,7 @@ public class GameObjectInteractionHelper {
     }
     
     public boolean interactWithSink() {
-        EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery()
+        EntityResultSet<SceneObject> results = GameQueries.sceneObjects()
                 .name("Sink")
                 .hidden(false)
                 .option("Fill")
@@ -73,7 +73,7 @@ public class GameObjectInteractionHelper {
     }
     
     public boolean interactWithPotteryWheel() {
-        EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery()
+        EntityResultSet<SceneObject> results = GameQueries.sceneObjects()
                 .name("Pottery Wheel")
                 .hidden(false)
                 .option("Form")
@@ -89,7 +89,7 @@ public class GameObjectInteractionHelper {
     }
     
     public boolean interactWithPotteryOven() {
-        EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery()
+        EntityResultSet<SceneObject> results = GameQueries.sceneObjects()
                 .name("Pottery oven")
                 .option("Fire")
                 .results();
@@ -104,7 +104,7 @@ public class GameObjectInteractionHelper {
     }
     
     public boolean interactWithDepositBox() {
-        EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery()
+        EntityResultSet<SceneObject> results = GameQueries.sceneObjects()
                 .name("Bank deposit box")
                 .hidden(false)
                 .option("Deposit")
@@ -130,7 +130,7 @@ public class GameObjectInteractionHelper {
     }
     
     private boolean attemptEnterUnderground() {
-        SceneObject entrance = SceneObjectQuery.newQuery()
+        SceneObject entrance = GameQueries.sceneObjects()
                 .name("Cave entrance")
                 .option("Enter")
                 .hidden(false)
@@ -1,11 +1,11 @@
 package net.botwithus.tasks.clayurn;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.rs3.game.js5.types.ItemType;
 import net.botwithus.rs3.game.js5.types.configs.ConfigManager;
 import net.botwithus.rs3.game.minimenu.MiniMenu;
 import net.botwithus.rs3.game.minimenu.actions.ComponentAction;
-import net.botwithus.rs3.game.queries.builders.components.ComponentQuery;
 import net.botwithus.rs3.game.vars.VarManager;
 import net.botwithus.rs3.game.js5.types.EnumType;
 import net.botwithus.rs3.game.js5.types.vars.VarDomainType;
@@ -61,7 +61,7 @@ public class UrnCraftingManager {
     }
     
     private void displayCurrentUrnInfo() {
-        var currentUrnNameComponent = ComponentQuery.newQuery(1370).componentIndex(13).results().first();
+        var currentUrnNameComponent = GameQueries.components(1370).componentIndex(13).results().first();
         if (currentUrnNameComponent != null) {
             String currentUrnText = currentUrnNameComponent.getText();
             ScriptConsole.println("[UrnCraftingManager] Currently displayed urn: " + currentUrnText);
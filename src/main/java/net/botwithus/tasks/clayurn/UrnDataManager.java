@@ -6,7 +6,9 @@ import net.botwithus.rs3.game.js5.types.configs.ConfigManager;
 import net.botwithus.rs3.script.ScriptConsole;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Manages loading and caching of urn data from game configuration
@@ -16,12 +18,14 @@ public class UrnDataManager {
     
     private List<UrnCategory> availableCategories;
     private List<UrnType> availableUrns;
+    private Map<Integer, UrnType> urnsById = new HashMap<>();
     private boolean dataLoaded = false;
     
     public void loadUrnData() {
         try {
             availableCategories = new ArrayList<>();
             availableUrns = new ArrayList<>();
+            urnsById = new HashMap<>();
             
             ScriptConsole.println("[UrnDataManager] Attempting to load urn data from enum " + POTTERY_GROUP_ENUM_ID);
             
@@ -84,6 +88,7 @@ public class UrnDataManager {
                     if (itemName.contains("urn") && itemName.contains("unfired")) {
                         UrnType urn = new UrnType(productId, itemName, category);
                         availableUrns.add(urn);
+                        urnsById.put(productId, urn);
                         ScriptConsole.println("[UrnDataManager]   - " + itemName + " (ID: " + productId + ")");
                     }
                 }
@@ -126,13 +131,7 @@ public class UrnDataManager {
     }
     
     public UrnType getUrnById(int id) {
-        if (availableUrns == null) {
-            return null;
-        }
-        return availableUrns.stream()
-                .filter(urn -> urn.getId() == id)
-                .findFirst()
-                .orElse(null);
+        return urnsById.get(id);
     }
     
     public boolean isDataLoaded() {
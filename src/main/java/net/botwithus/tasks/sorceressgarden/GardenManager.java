@@ -5,7 +5,8 @@ import java.util.Map;
 import java.util.Set;
 
 import net.botwithus.CoaezUtility;
-import net.botwithus.rs3.script.ScriptConsole;
+import net.botwithus.Log;
+import net.botwithus.rs3.game.skills.Skills;
 import net.botwithus.tasks.sorceressgarden.gardens.BaseGarden;
 import net.botwithus.tasks.sorceressgarden.models.GardenState;
 import net.botwithus.tasks.sorceressgarden.models.GardenType;
@@ -14,6 +15,7 @@ import net.botwithus.tasks.sorceressgarden.models.GardenType;
  * Manages garden state and transitions in Sorceress's Garden
  */
 public class GardenManager {
+    private static final Log LOG = Log.get("GardenManager");
     private final CoaezUtility script;
     private final Map<GardenType, BaseGarden> gardens;
     private GardenType currentGarden;
@@ -34,6 +36,7 @@ public class GardenManager {
     public void registerGarden(BaseGarden garden) {
         if (garden != null) {
             gardens.put(garden.getGardenType(), garden);
+            garden.setRunListener(script.getGardenScheduler()::recordRun);
         }
     }
     
@@ -42,40 +45,46 @@ public class GardenManager {
      */
     public void executeCurrentGarden() {
         if (currentGarden == null) {
-            ScriptConsole.println("No garden selected, selecting next garden");
+            LOG.info("No garden selected, selecting next garden");
             selectNextGarden();
             return;
         }
 
         BaseGarden garden = gardens.get(currentGarden);
         if (garden != null) {
-            ScriptConsole.println("Executing garden: " + currentGarden.getDisplayName());
+            LOG.debug(() -> "Executing garden: " + currentGarden.getDisplayName());
             garden.execute();
             
             if (garden.isCompleted()) {
-                ScriptConsole.println("Garden completed: " + currentGarden.getDisplayName());
+                LOG.info(() -> "Garden completed: " + currentGarden.getDisplayName());
                 onGardenCompleted();
             } else if (garden.hasFailed()) {
-                ScriptConsole.println("Garden failed: " + currentGarden.getDisplayName());
+                LOG.info(() -> "Garden failed: " + currentGarden.getDisplayName());
                 onGardenFailed();
             }
         } else {
-            ScriptConsole.println("No implementation found for garden: " + currentGarden);
+            LOG.info(() -> "No implementation found for garden: " + currentGarden);
             currentState = GardenState.FAILED;
         }
     }
     
     /**
-     * Select the next garden to execute
+     * Select the selected garden expected to make the most juice value per hour
      */
     private void selectNextGarden() {
         if (selectedGardens.isEmpty()) {
-            ScriptConsole.println("No gardens selected for execution");
+            LOG.info("No gardens selected for execution");
             return;
         }
-        GardenType firstGarden = selectedGardens.iterator().next();
-        ScriptConsole.println("Repeating selected garden: " + firstGarden.getDisplayName());
-        switchToGarden(firstGarden);
+        GardenScheduler scheduler = script.getGardenScheduler();
+        GardenType next = scheduler.chooseNext(selectedGardens, Skills.THIEVING.getActualLevel());
+        if (next == null) {
+            LOG.info("Thieving level too low for the selected gardens");
+            return;
+        }
+        LOG.info(() -> String.format("Next garden: %s (%.1f juice/hr expected)",
+                next.getDisplayName(), scheduler.expectedJuicePerHour(next)));
+        switchToGarden(next);
     }
     
     /**
@@ -92,14 +101,14 @@ public class GardenManager {
             garden.reset();
         }
         
-        ScriptConsole.println("Switched to garden: " + gardenType.getDisplayName());
+        LOG.info(() -> "Switched to garden: " + gardenType.getDisplayName());
     }
     
     /**
      * Handle garden completion
      */
     private void onGardenCompleted() {
-        ScriptConsole.println("Completed garden: " + currentGarden.getDisplayName());
+        LOG.info(() -> "Completed garden: " + currentGarden.getDisplayName());
         currentState = GardenState.COMPLETED;
         
         // Mark garden as recently completed
@@ -117,7 +126,7 @@ public class GardenManager {
      * Handle garden failure
      */
     private void onGardenFailed() {
-        ScriptConsole.println("Failed garden: " + currentGarden.getDisplayName());
+        LOG.info(() -> "Failed garden: " + currentGarden.getDisplayName());
         currentState = GardenState.FAILED;
         
         // Reset current garden
@@ -145,7 +154,7 @@ public class GardenManager {
      */
     public void setSelectedGardens(Set<GardenType> selectedGardens) {
         this.selectedGardens = selectedGardens;
-        ScriptConsole.println("Selected gardens: " + selectedGardens);
+        LOG.info(() -> "Selected gardens: " + selectedGardens);
     }
     
     /**
@@ -195,6 +204,15 @@ public class GardenManager {
                            garden.getProgressPercentage());
     }
     
+    /**
+     * Close every garden's recorded run, used when the script is deactivated
+     */
+    public void abortRuns() {
+        for (BaseGarden garden : gardens.values()) {
+            garden.abortRun();
+        }
+    }
+    
     /**
      * Stop current garden execution
      */
@@ -208,7 +226,7 @@ public class GardenManager {
         
         currentGarden = null;
         currentState = GardenState.IDLE;
-        ScriptConsole.println("Stopped garden execution");
+        LOG.info("Stopped garden execution");
     }
     
     /**
@@ -221,7 +239,7 @@ public class GardenManager {
         
         currentGarden = null;
         currentState = GardenState.IDLE;
-        ScriptConsole.println("Reset all gardens");
+        LOG.info("Reset all gardens");
     }
     
     /**
@@ -0,0 +1,284 @@
+package net.botwithus.tasks.sorceressgarden;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import net.botwithus.rs3.game.Coordinate;
+import net.botwithus.tasks.sorceressgarden.GardenRunLog.Tick;
+import net.botwithus.tasks.sorceressgarden.gardens.AutumnGarden;
+import net.botwithus.tasks.sorceressgarden.gardens.SpringGarden;
+import net.botwithus.tasks.sorceressgarden.gardens.SummerGarden;
+import net.botwithus.tasks.sorceressgarden.gardens.WinterGarden;
+import net.botwithus.tasks.sorceressgarden.models.GardenRoute;
+import net.botwithus.tasks.sorceressgarden.models.GardenState;
+import net.botwithus.tasks.sorceressgarden.models.GardenType;
+import net.botwithus.tasks.sorceressgarden.models.GuardianRequirement;
+
+/**
+ * Replays recorded garden runs against a waypoint route and its guardian requirements without a game client.
+ *
+ * Guardian patrols don't react to the player, so the recorded guardian tiles are what the guardians would have
+ * done whatever route was taken. The simulator walks the garden's state machine over them: from the tick the
+ * recorded run started navigating, it waits at each waypoint until that waypoint's requirements are met on a
+ * recorded tick, walks to it at a fixed speed and reports the player caught if a guardian is on any tile the
+ * player passes through that tick. Each garden's route and requirements are static data (its ROUTE), so
+ * changes to them can be compared against the same recordings.
+ *
+ * Run from the command line with the directories or files to replay (the recorder's directory by default),
+ * optionally preceded by --garden NAME to only replay that garden. Each run is replayed against the route of
+ * the garden it was recorded in, and a summary per garden follows.
+ */
+public class GardenReplaySimulator {
+    public static final int DEFAULT_TILES_PER_TICK = 2;
+
+    public enum Result {
+        COMPLETED,
+        CAUGHT,
+        // The recording ended before the simulated run could finish
+        OUT_OF_DATA
+    }
+
+    public static final class Report {
+        private final Result result;
+        private final GardenState finalState;
+        private final int ticks;
+        private final int[] waitTicks;
+
+        Report(Result result, GardenState finalState, int ticks, int[] waitTicks) {
+            this.result = result;
+            this.finalState = finalState;
+            this.ticks = ticks;
+            this.waitTicks = waitTicks;
+        }
+
+        public Result getResult() {
+            return result;
+        }
+
+        public GardenState getFinalState() {
+            return finalState;
+        }
+
+        /**
+         * Ticks from the start of navigation to reaching the tree, or until the run ended
+         */
+        public int getTicks() {
+            return ticks;
+        }
+
+        public long getDurationMs() {
+            return ticks * PatrolModel.TICK_MS;
+        }
+
+        /**
+         * Ticks spent waiting for requirements at each waypoint
+         */
+        public int[] getWaitTicks() {
+            return waitTicks.clone();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder waits = new StringBuilder();
+            for (int i = 0; i < waitTicks.length; i++) {
+                waits.append(i == 0 ? "" : ",").append(waitTicks[i]);
+            }
+            return String.format("%s in %d ticks (%.1fs), state %s, waits [%s]",
+                    result, ticks, getDurationMs() / 1000.0, finalState, waits);
+        }
+    }
+
+    private final int tilesPerTick;
+
+    public GardenReplaySimulator() {
+        this(DEFAULT_TILES_PER_TICK);
+    }
+
+    /**
+     * @param tilesPerTick how far the player moves per tick, 1 walking and 2 running
+     */
+    public GardenReplaySimulator(int tilesPerTick) {
+        this.tilesPerTick = tilesPerTick;
+    }
+
+    /**
+     * Replay a log against a garden route
+     */
+    public Report simulate(GardenRunLog log, GardenRoute route) {
+        return simulate(log, route.getWaypoints(), route.getRequirements());
+    }
+
+    /**
+     * The scripted route of a garden
+     */
+    public static GardenRoute routeFor(GardenType gardenType) {
+        return switch (gardenType) {
+            case WINTER -> WinterGarden.ROUTE;
+            case SPRING -> SpringGarden.ROUTE;
+            case SUMMER -> SummerGarden.ROUTE;
+            case AUTUMN -> AutumnGarden.ROUTE;
+        };
+    }
+
+    /**
+     * Replay a log against a route
+     * @param requirements the requirements to wait for before walking to each waypoint, same order as route
+     */
+    public Report simulate(GardenRunLog log, List<Coordinate> route, List<List<GuardianRequirement>> requirements) {
+        List<Tick> ticks = log.getTicks();
+        int[] guardianIds = log.getGuardianIds();
+        int[] waitTicks = new int[route.size()];
+
+        int navigatingAt = Math.max(0, log.firstOffsetOf(GardenState.NAVIGATING));
+        int tick = 0;
+        while (tick < ticks.size() && ticks.get(tick).offsetMs < navigatingAt) {
+            tick++;
+        }
+        if (tick >= ticks.size()) {
+            return new Report(Result.OUT_OF_DATA, GardenState.ENTERING, 0, waitTicks);
+        }
+        int firstTick = tick;
+        int playerX = ticks.get(tick).playerX;
+        int playerY = ticks.get(tick).playerY;
+
+        for (int waypoint = 0; waypoint < route.size(); waypoint++) {
+            RequirementProgram program = RequirementProgram.compile(requirements.get(waypoint));
+            int waitStart = tick;
+            while (!requirementsMet(program, guardianIds, ticks, tick, playerX, playerY)) {
+                if (isCaught(ticks.get(tick), playerX, playerY)) {
+                    return new Report(Result.CAUGHT, GardenState.NAVIGATING, tick - firstTick, waitTicks);
+                }
+                if (++tick >= ticks.size()) {
+                    return new Report(Result.OUT_OF_DATA, GardenState.NAVIGATING, tick - firstTick, waitTicks);
+                }
+            }
+            waitTicks[waypoint] = tick - waitStart;
+
+            Coordinate target = route.get(waypoint);
+            while (playerX != target.getX() || playerY != target.getY()) {
+                if (++tick >= ticks.size()) {
+                    return new Report(Result.OUT_OF_DATA, GardenState.NAVIGATING, tick - firstTick, waitTicks);
+                }
+                // Every tile passed through this tick counts, not just the one the player lands on
+                for (int step = 0; step < tilesPerTick && (playerX != target.getX() || playerY != target.getY()); step++) {
+                    playerX += clamp(target.getX() - playerX, 1);
+                    playerY += clamp(target.getY() - playerY, 1);
+                    if (isCaught(ticks.get(tick), playerX, playerY)) {
+                        return new Report(Result.CAUGHT, GardenState.NAVIGATING, tick - firstTick, waitTicks);
+                    }
+                }
+            }
+        }
+        return new Report(Result.COMPLETED, GardenState.HARVESTING, tick - firstTick, waitTicks);
+    }
+
+    private static boolean requirementsMet(RequirementProgram program, int[] guardianIds, List<Tick> ticks, int tick,
+                                           int playerX, int playerY) {
+        Tick current = ticks.get(tick);
+        Tick previous = tick > 0 ? ticks.get(tick - 1) : null;
+        for (int i = 0; i < program.size(); i++) {
+            int g = indexOf(guardianIds, program.getGuardianId(i));
+            if (g == -1 || !current.present[g]) {
+                return false;
+            }
+            int dx = 0;
+            int dy = 0;
+            if (previous != null && previous.present[g]) {
+                dx = current.guardianXs[g] - previous.guardianXs[g];
+                dy = current.guardianYs[g] - previous.guardianYs[g];
+            }
+            if (!program.test(i, current.guardianXs[g], current.guardianYs[g], dx, dy, playerX, playerY)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same rule as GuardianTracker.isSafeToMove: a guardian on the player's tile
+     */
+    private static boolean isCaught(Tick tick, int playerX, int playerY) {
+        for (int g = 0; g < tick.present.length; g++) {
+            if (tick.present[g] && tick.guardianXs[g] == playerX && tick.guardianYs[g] == playerY) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int indexOf(int[] ids, int id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int clamp(int delta, int max) {
+        return Math.max(-max, Math.min(max, delta));
+    }
+
+    /**
+     * Replay each recorded run against its garden's route and print it next to the recorded outcome,
+     * then how many replays of each garden completed and how long they took on average
+     */
+    public static void main(String[] args) throws IOException {
+        GardenType onlyGarden = null;
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--garden") && i + 1 < args.length) {
+                onlyGarden = GardenType.valueOf(args[++i].toUpperCase(Locale.ROOT));
+            } else {
+                paths.add(args[i]);
+            }
+        }
+        if (paths.isEmpty()) {
+            paths.add(GardenRunRecorder.getRunDirectory().toString());
+        }
+        List<Path> files = new ArrayList<>();
+        for (String arg : paths) {
+            Path path = Paths.get(arg);
+            if (Files.isDirectory(path)) {
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(path, "*.grun")) {
+                    stream.forEach(files::add);
+                }
+            } else {
+                files.add(path);
+            }
+        }
+        files.sort(null);
+
+        GardenReplaySimulator simulator = new GardenReplaySimulator();
+        Map<GardenType, int[]> summary = new EnumMap<>(GardenType.class);
+        for (Path file : files) {
+            GardenRunLog log = GardenRunLog.read(file);
+            if (onlyGarden != null && log.getGardenType() != onlyGarden) {
+                continue;
+            }
+            Report report = simulator.simulate(log, routeFor(log.getGardenType()));
+            System.out.println(file.getFileName() + " (" + log.getGardenType() + "): recorded " + log.getOutcome()
+                    + " in " + log.getDurationMs() + "ms, replayed " + report);
+            // runs, completed, ticks of completed runs
+            int[] totals = summary.computeIfAbsent(log.getGardenType(), type -> new int[3]);
+            totals[0]++;
+            if (report.getResult() == Result.COMPLETED) {
+                totals[1]++;
+                totals[2] += report.getTicks();
+            }
+        }
+        for (Map.Entry<GardenType, int[]> entry : summary.entrySet()) {
+            int[] totals = entry.getValue();
+            System.out.printf("%s: %d/%d replays completed, %.1f ticks on average%n", entry.getKey(),
+                    totals[1], totals[0], totals[1] == 0 ? 0.0 : (double) totals[2] / totals[1]);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package net.botwithus.tasks.sorceressgarden;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import net.botwithus.tasks.sorceressgarden.models.GardenState;
+import net.botwithus.tasks.sorceressgarden.models.GardenType;
+
+/**
+ * One recorded garden run, as written by GardenRunRecorder.
+ *
+ * The file is gzipped DataOutput: a header with the garden, a base tile and the guardian ids, then tagged
+ * records. Coordinates are stored as short offsets from the base tile. Enums are stored by name (UTF) so
+ * reordering or adding constants doesn't change what older files mean; version 1 files stored ordinals.
+ * <pre>
+ * header:  int MAGIC, byte VERSION, UTF gardenType, long startedAt, int baseX, int baseY, byte plane,
+ *          byte guardianCount, int[guardianCount] guardianIds
+ * TICK:    byte 1, int offsetMs, short playerX, short playerY,
+ *          per guardian: byte present, [short x, short y if present]
+ * STATE:   byte 2, int offsetMs, UTF gardenState
+ * MET:     byte 3, int offsetMs, short waitIndex, int waitedMs
+ * OUTCOME: byte 4, int offsetMs, UTF outcome
+ * </pre>
+ */
+public class GardenRunLog {
+    static final int MAGIC = 0x4752554E;
+    static final int VERSION = 2;
+    private static final int VERSION_ORDINALS = 1;
+    static final int TAG_TICK = 1;
+    static final int TAG_STATE = 2;
+    static final int TAG_REQUIREMENTS_MET = 3;
+    static final int TAG_OUTCOME = 4;
+
+    public enum Outcome {
+        COMPLETED,
+        FAILED,
+        CAUGHT,
+        ABORTED
+    }
+
+    /**
+     * Positions of the player and guardians on one game tick. Guardians not seen on the tick have present[i] false.
+     */
+    public static final class Tick {
+        public final int offsetMs;
+        public final int playerX;
+        public final int playerY;
+        public final boolean[] present;
+        public final int[] guardianXs;
+        public final int[] guardianYs;
+
+        Tick(int offsetMs, int playerX, int playerY, boolean[] present, int[] guardianXs, int[] guardianYs) {
+            this.offsetMs = offsetMs;
+            this.playerX = playerX;
+            this.playerY = playerY;
+            this.present = present;
+            this.guardianXs = guardianXs;
+            this.guardianYs = guardianYs;
+        }
+    }
+
+    public static final class StateChange {
+        public final int offsetMs;
+        public final GardenState state;
+
+        StateChange(int offsetMs, GardenState state) {
+            this.offsetMs = offsetMs;
+            this.state = state;
+        }
+    }
+
+    public static final class RequirementsMet {
+        public final int offsetMs;
+        public final int waitIndex;
+        public final int waitedMs;
+
+        RequirementsMet(int offsetMs, int waitIndex, int waitedMs) {
+            this.offsetMs = offsetMs;
+            this.waitIndex = waitIndex;
+            this.waitedMs = waitedMs;
+        }
+    }
+
+    private final GardenType gardenType;
+    private final long startedAt;
+    private final int plane;
+    private final int[] guardianIds;
+    private final List<Tick> ticks = new ArrayList<>();
+    private final List<StateChange> stateChanges = new ArrayList<>();
+    private final List<RequirementsMet> requirementsMet = new ArrayList<>();
+    private Outcome outcome;
+    private int outcomeOffsetMs;
+
+    private GardenRunLog(GardenType gardenType, long startedAt, int plane, int[] guardianIds) {
+        this.gardenType = gardenType;
+        this.startedAt = startedAt;
+        this.plane = plane;
+        this.guardianIds = guardianIds;
+    }
+
+    public static GardenRunLog read(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in);
+        }
+    }
+
+    public static GardenRunLog read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(stream)));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a garden run log");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION && version != VERSION_ORDINALS) {
+            throw new IOException("Unsupported garden run log version " + version);
+        }
+        GardenType gardenType = readEnum(in, version, GardenType.class);
+        long startedAt = in.readLong();
+        int baseX = in.readInt();
+        int baseY = in.readInt();
+        int plane = in.readUnsignedByte();
+        int[] guardianIds = new int[in.readUnsignedByte()];
+        for (int i = 0; i < guardianIds.length; i++) {
+            guardianIds[i] = in.readInt();
+        }
+        GardenRunLog log = new GardenRunLog(gardenType, startedAt, plane, guardianIds);
+
+        // A run cut short (script stopped, client closed) simply ends without an outcome
+        try {
+            while (true) {
+                int tag = in.read();
+                if (tag == -1) {
+                    break;
+                }
+                int offsetMs = in.readInt();
+                switch (tag) {
+                    case TAG_TICK -> {
+                        int playerX = baseX + in.readShort();
+                        int playerY = baseY + in.readShort();
+                        boolean[] present = new boolean[guardianIds.length];
+                        int[] xs = new int[guardianIds.length];
+                        int[] ys = new int[guardianIds.length];
+                        for (int i = 0; i < guardianIds.length; i++) {
+                            present[i] = in.readBoolean();
+                            if (present[i]) {
+                                xs[i] = baseX + in.readShort();
+                                ys[i] = baseY + in.readShort();
+                            }
+                        }
+                        log.ticks.add(new Tick(offsetMs, playerX, playerY, present, xs, ys));
+                    }
+                    case TAG_STATE -> log.stateChanges.add(new StateChange(offsetMs, readEnum(in, version, GardenState.class)));
+                    case TAG_REQUIREMENTS_MET -> log.requirementsMet.add(new RequirementsMet(offsetMs, in.readShort(), in.readInt()));
+                    case TAG_OUTCOME -> {
+                        log.outcome = readEnum(in, version, Outcome.class);
+                        log.outcomeOffsetMs = offsetMs;
+                    }
+                    default -> throw new IOException("Unknown record tag " + tag);
+                }
+            }
+        } catch (EOFException e) {
+            // Truncated final record, keep what was read
+        }
+        return log;
+    }
+
+    private static <E extends Enum<E>> E readEnum(DataInputStream in, int version, Class<E> type) throws IOException {
+        if (version == VERSION_ORDINALS) {
+            int ordinal = in.readUnsignedByte();
+            E[] constants = type.getEnumConstants();
+            if (ordinal >= constants.length) {
+                throw new IOException("Unknown " + type.getSimpleName() + " ordinal " + ordinal);
+            }
+            return constants[ordinal];
+        }
+        String name = in.readUTF();
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown " + type.getSimpleName() + " " + name, e);
+        }
+    }
+
+    public GardenType getGardenType() {
+        return gardenType;
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    public int getPlane() {
+        return plane;
+    }
+
+    public int[] getGuardianIds() {
+        return guardianIds.clone();
+    }
+
+    public List<Tick> getTicks() {
+        return ticks;
+    }
+
+    public List<StateChange> getStateChanges() {
+        return stateChanges;
+    }
+
+    public List<RequirementsMet> getRequirementsMet() {
+        return requirementsMet;
+    }
+
+    /**
+     * @return how the run ended, or null if the log stops before the run did
+     */
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public int getDurationMs() {
+        if (outcome != null) {
+            return outcomeOffsetMs;
+        }
+        return ticks.isEmpty() ? 0 : ticks.get(ticks.size() - 1).offsetMs;
+    }
+
+    /**
+     * Offset of the first time the run entered a state, or -1
+     */
+    public int firstOffsetOf(GardenState state) {
+        for (StateChange change : stateChanges) {
+            if (change.state == state) {
+                return change.offsetMs;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GardenRunLog{garden=%s, ticks=%d, outcome=%s, duration=%dms}",
+                gardenType, ticks.size(), outcome, getDurationMs());
+    }
+}
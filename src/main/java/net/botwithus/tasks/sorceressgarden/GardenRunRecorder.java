@@ -0,0 +1,198 @@
+package net.botwithus.tasks.sorceressgarden;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.zip.GZIPOutputStream;
+
+import net.botwithus.Log;
+import net.botwithus.rs3.game.Client;
+import net.botwithus.rs3.game.Coordinate;
+import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
+import net.botwithus.tasks.sorceressgarden.GardenRunLog.Outcome;
+import net.botwithus.tasks.sorceressgarden.models.GardenState;
+import net.botwithus.tasks.sorceressgarden.models.GardenType;
+
+/**
+ * Writes each garden run to a GardenRunLog file: the player's and guardians' tiles once per game tick,
+ * state changes, when guardian requirements were met and how the run ended. The logs can be replayed
+ * offline with GardenReplaySimulator.
+ *
+ * Off by default; enabled from the Sorceress Garden tab. A write error stops recording for that run only.
+ */
+public class GardenRunRecorder {
+    private static final Log LOG = Log.get("GardenRunRecorder");
+    private static final Path RUN_DIRECTORY = Paths.get(System.getProperty("user.home"), "BotWithUs", "CoaezUtility", "garden-runs");
+    private static volatile boolean enabled;
+
+    private final GardenType gardenType;
+    private DataOutputStream out;
+    private Path file;
+    private long startedAt;
+    private long lastTickAt;
+    private int baseX;
+    private int baseY;
+    private int[] guardianIds;
+    private int waitIndex;
+    private final int[] position = new int[2];
+
+    public GardenRunRecorder(GardenType gardenType) {
+        this.gardenType = gardenType;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        GardenRunRecorder.enabled = enabled;
+    }
+
+    public static Path getRunDirectory() {
+        return RUN_DIRECTORY;
+    }
+
+    public boolean isRecording() {
+        return out != null;
+    }
+
+    /**
+     * Start a new run log. A run still open is closed as aborted.
+     * @param base tile the log's coordinates are stored relative to
+     */
+    public void begin(Coordinate base, int[] guardianIds) {
+        if (isRecording()) {
+            finish(Outcome.ABORTED);
+        }
+        if (!enabled || base == null) {
+            return;
+        }
+        this.startedAt = System.currentTimeMillis();
+        this.lastTickAt = 0;
+        this.baseX = base.getX();
+        this.baseY = base.getY();
+        this.guardianIds = guardianIds.clone();
+        this.waitIndex = 0;
+        try {
+            Files.createDirectories(RUN_DIRECTORY);
+            String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date(startedAt));
+            file = RUN_DIRECTORY.resolve(gardenType.name().toLowerCase() + "-" + stamp + ".grun");
+            out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(file))));
+            out.writeInt(GardenRunLog.MAGIC);
+            out.writeByte(GardenRunLog.VERSION);
+            out.writeUTF(gardenType.name());
+            out.writeLong(startedAt);
+            out.writeInt(baseX);
+            out.writeInt(baseY);
+            out.writeByte(base.getZ());
+            out.writeByte(this.guardianIds.length);
+            for (int id : this.guardianIds) {
+                out.writeInt(id);
+            }
+            LOG.debug(() -> "Recording " + gardenType.getDisplayName() + " run to " + file);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Record the player and guardian tiles, at most once per game tick. Called after every tracker update.
+     */
+    public void onGuardiansUpdated(GuardianTracker tracker, long now) {
+        if (!isRecording() || now - lastTickAt < PatrolModel.TICK_MS) {
+            return;
+        }
+        LocalPlayer player = Client.getLocalPlayer();
+        if (player == null) {
+            return;
+        }
+        lastTickAt = now;
+        Coordinate playerPosition = player.getCoordinate();
+        try {
+            out.writeByte(GardenRunLog.TAG_TICK);
+            out.writeInt(offset(now));
+            out.writeShort(playerPosition.getX() - baseX);
+            out.writeShort(playerPosition.getY() - baseY);
+            for (int id : guardianIds) {
+                boolean present = tracker.copyPosition(id, position);
+                out.writeBoolean(present);
+                if (present) {
+                    out.writeShort(position[0] - baseX);
+                    out.writeShort(position[1] - baseY);
+                }
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    public void recordState(GardenState state) {
+        if (!isRecording()) {
+            return;
+        }
+        try {
+            out.writeByte(GardenRunLog.TAG_STATE);
+            out.writeInt(offset(System.currentTimeMillis()));
+            out.writeUTF(state.name());
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Record that a set of guardian requirements was met after waiting waitedMs
+     */
+    public void recordRequirementsMet(long waitedMs) {
+        if (!isRecording()) {
+            return;
+        }
+        try {
+            out.writeByte(GardenRunLog.TAG_REQUIREMENTS_MET);
+            out.writeInt(offset(System.currentTimeMillis()));
+            out.writeShort(waitIndex++);
+            out.writeInt((int) waitedMs);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Write the outcome and close the log
+     */
+    public void finish(Outcome outcome) {
+        if (!isRecording()) {
+            return;
+        }
+        try {
+            out.writeByte(GardenRunLog.TAG_OUTCOME);
+            out.writeInt(offset(System.currentTimeMillis()));
+            out.writeUTF(outcome.name());
+            out.close();
+            Path written = file;
+            LOG.info(() -> "Recorded " + gardenType.getDisplayName() + " run (" + outcome + ") to " + written.getFileName());
+        } catch (IOException e) {
+            LOG.warn(() -> "Failed to finish run log " + file + ": " + e.getMessage());
+        }
+        out = null;
+    }
+
+    private int offset(long now) {
+        return (int) (now - startedAt);
+    }
+
+    private void fail(IOException e) {
+        LOG.warn(() -> "Stopped recording " + gardenType.getDisplayName() + " run: " + e.getMessage());
+        try {
+            if (out != null) {
+                out.close();
+            }
+        } catch (IOException ignored) {
+        }
+        out = null;
+    }
+}
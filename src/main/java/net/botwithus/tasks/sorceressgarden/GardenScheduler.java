@@ -0,0 +1,156 @@
+package net.botwithus.tasks.sorceressgarden;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.botwithus.Log;
+import net.botwithus.tasks.sorceressgarden.GardenRunLog.Outcome;
+import net.botwithus.tasks.sorceressgarden.models.GardenType;
+
+/**
+ * Picks the next garden to run from how each garden has actually gone this session.
+ *
+ * Every finished run records its outcome and duration. A garden's expected sq'irkjuice per hour is its success
+ * rate times one fruit per successful run, divided by its mean run time and the number of fruits per glass; its
+ * value is that juice priced at the XP Osman gives for it, since a glass of summer juice is worth far more than
+ * one of winter. Until a garden has some history its success rate is pulled towards PRIOR_SUCCESS
+ * and its run time defaults to DEFAULT_RUN_MS, and each selected garden is tried once before any is preferred.
+ *
+ * The juice tasks report what they squeeze and turn in so the GUI can show it next to the estimates.
+ */
+public class GardenScheduler {
+    private static final Log LOG = Log.get("GardenScheduler");
+
+    private static final double PRIOR_SUCCESS = 0.5;
+    private static final int PRIOR_RUNS = 2;
+    private static final long DEFAULT_RUN_MS = 90_000;
+    private static final double HOUR_MS = 3_600_000.0;
+
+    public static final class Stats {
+        private int attempts;
+        private int successes;
+        private int caught;
+        private long totalRunMs;
+        private int juiceMade;
+        private int juiceTurnedIn;
+
+        public int getAttempts() {
+            return attempts;
+        }
+
+        public int getSuccesses() {
+            return successes;
+        }
+
+        public int getCaught() {
+            return caught;
+        }
+
+        public int getJuiceMade() {
+            return juiceMade;
+        }
+
+        public int getJuiceTurnedIn() {
+            return juiceTurnedIn;
+        }
+
+        /**
+         * Success rate smoothed towards PRIOR_SUCCESS while there are few runs
+         */
+        public double getSuccessRate() {
+            return (successes + PRIOR_SUCCESS * PRIOR_RUNS) / (attempts + PRIOR_RUNS);
+        }
+
+        /**
+         * Mean duration of an attempt, successful or not
+         */
+        public long getMeanRunMs() {
+            return attempts == 0 ? DEFAULT_RUN_MS : totalRunMs / attempts;
+        }
+    }
+
+    private final Map<GardenType, Stats> stats = new EnumMap<>(GardenType.class);
+
+    public GardenScheduler() {
+        for (GardenType type : GardenType.values()) {
+            stats.put(type, new Stats());
+        }
+    }
+
+    /**
+     * Record a finished run. Aborted runs say nothing about the garden and are ignored.
+     */
+    public synchronized void recordRun(GardenType type, Outcome outcome, long durationMs) {
+        if (type == null || outcome == Outcome.ABORTED) {
+            return;
+        }
+        Stats s = stats.get(type);
+        s.attempts++;
+        s.totalRunMs += Math.max(0, durationMs);
+        if (outcome == Outcome.COMPLETED) {
+            s.successes++;
+        } else if (outcome == Outcome.CAUGHT) {
+            s.caught++;
+        }
+        LOG.debug(() -> type.getDisplayName() + " " + outcome + " in " + durationMs + "ms, now "
+                + String.format("%.1f", expectedJuicePerHour(type)) + " juice/hr");
+    }
+
+    public synchronized void recordJuiceMade(GardenType type, int amount) {
+        stats.get(type).juiceMade += amount;
+    }
+
+    public synchronized void recordJuiceTurnedIn(GardenType type, int amount) {
+        stats.get(type).juiceTurnedIn += amount;
+    }
+
+    public synchronized double expectedJuicePerHour(GardenType type) {
+        Stats s = stats.get(type);
+        double runsPerHour = HOUR_MS / Math.max(1, s.getMeanRunMs());
+        return s.getSuccessRate() * runsPerHour / type.getFruitsPerJuice();
+    }
+
+    public synchronized double expectedXpPerHour(GardenType type) {
+        return expectedJuicePerHour(type) * type.getJuiceXp();
+    }
+
+    /**
+     * Choose the garden to run next from the selected ones the player has the level for
+     * @return null if none of the selected gardens can be run
+     */
+    public synchronized GardenType chooseNext(Set<GardenType> selected, int thievingLevel) {
+        GardenType best = null;
+        double bestValue = -1;
+        for (GardenType type : selected) {
+            if (thievingLevel < type.getRequiredThievingLevel()) {
+                continue;
+            }
+            if (stats.get(type).attempts == 0) {
+                return type;
+            }
+            double value = expectedXpPerHour(type);
+            if (value > bestValue) {
+                best = type;
+                bestValue = value;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Garden types by juice value, most valuable first. The juice tasks squeeze and turn in in this order.
+     */
+    public List<GardenType> byValue() {
+        List<GardenType> types = new ArrayList<>(List.of(GardenType.values()));
+        types.sort(Comparator.comparingInt(GardenType::getJuiceXp).reversed());
+        return types;
+    }
+
+    public synchronized Stats getStats(GardenType type) {
+        return stats.get(type);
+    }
+}
@@ -1,19 +1,23 @@
 package net.botwithus.tasks.sorceressgarden;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
+import net.botwithus.Log;
 import net.botwithus.rs3.game.Area;
+import net.botwithus.rs3.game.Client;
 import net.botwithus.rs3.game.Coordinate;
-import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
 import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
+import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
 import net.botwithus.rs3.script.Execution;
-import net.botwithus.rs3.script.ScriptConsole;
 import net.botwithus.tasks.sorceressgarden.models.Guardian;
 import net.botwithus.tasks.sorceressgarden.models.GuardianPosition;
 import net.botwithus.tasks.sorceressgarden.models.GuardianRequirement;
@@ -23,23 +27,48 @@ import net.botwithus.tasks.sorceressgarden.models.NPCDirection.Direction;
  * Tracks guardian positions and movements in Sorceress's Garden
  */
 public class GuardianTracker {
+    private static final Log LOG = Log.get("GuardianTracker");
     private final CoaezUtility script;
     private final Map<Integer, Guardian> activeGuardians;
-    private final List<Coordinate> guardianPositions;
     private final double SAFE_DISTANCE = 1.0; 
     private final int UPDATE_INTERVAL = 100;
+    private static final int PREDICTION_HORIZON_TICKS = 100;
+    // Steps a learned patrol must have been confirmed for before its predictions are acted on
+    private static final int MIN_PATROL_CONFIRMATIONS = 8;
+    // Longest predictive sleep before positions are read again, so a wrong prediction costs a few ticks at most
+    private static final int MAX_PREDICTED_SLEEP_TICKS = 3;
+    // Below this an inferred direction is treated as not moving at all
+    private static final double MIN_DIRECTION_CONFIDENCE = 0.5;
     private long lastUpdateTime;
-    private final Map<Integer, Coordinate> previousPositions = new ConcurrentHashMap<>();
+
+    // Tracked guardians live in slots; positions are kept in primitive buffers indexed by slot
+    // and an npc id is mapped to its slot through slotById (offset by minGuardianId)
+    private int[] slotIds = new int[0];
+    private int[] xs = new int[0];
+    private int[] ys = new int[0];
+    private int[] planes = new int[0];
+    private boolean[] hasPosition = new boolean[0];
+    private MovementTracker[] motions = new MovementTracker[0];
+    private final MovementTracker.HeadingTable headings = new MovementTracker.HeadingTable();
+    private final OccupancyGrid grid = new OccupancyGrid();
+    private boolean[] seenThisPass = new boolean[0];
+    private int minGuardianId;
+    private int[] slotById = new int[0];
+    // Learned patrols outlive the guardians' tracking so a garden only has to learn them once
+    private final Map<Integer, PatrolModel> patrolModels = new HashMap<>();
+    private PatrolModel[] patrols = new PatrolModel[0];
+    private final int[] predicted = new int[2];
+    private final int[] predictedBefore = new int[2];
+    private GardenRunRecorder runRecorder;
     
     public GuardianTracker(CoaezUtility script) {
         this.script = script;
         this.activeGuardians = new ConcurrentHashMap<>();
-        this.guardianPositions = new ArrayList<>();
         this.lastUpdateTime = 0;
     }
     
     /**
-     * Update guardian positions and states
+     * Update guardian positions and states with a single NPC query over the garden area
      */
     public void updateGuardianPositions(Area gardenArea) {
         long currentTime = System.currentTimeMillis();
@@ -47,58 +76,305 @@ public class GuardianTracker {
             return;
         }
         
-        guardianPositions.clear();
+        int slotCount = slotIds.length;
+        for (int slot = 0; slot < slotCount; slot++) {
+            seenThisPass[slot] = false;
+        }
         
-        for (Guardian guardian : activeGuardians.values()) {
-            Coordinate oldPosition = guardian.getCurrentPosition();
-            updateGuardian(guardian, gardenArea);
-            if (guardian.getCurrentPosition() != null) {
-                guardianPositions.add(guardian.getCurrentPosition());
-                // Track previous position for movement direction
-                if (oldPosition != null) {
-                    previousPositions.put(guardian.getId(), oldPosition);
-                }
+        for (Npc npc : GameQueries.npcs().inside(gardenArea).results()) {
+            int slot = slotOf(npc.getId());
+            if (slot == -1 || seenThisPass[slot]) {
+                continue;
+            }
+            seenThisPass[slot] = true;
+            Coordinate position = npc.getServerCoordinate();
+            if (position != null) {
+                updateSlot(slot, position, npc.getDirection1(), npc.getDirection2(), currentTime);
+            }
+        }
+        
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (!seenThisPass[slot]) {
+                int guardianId = slotIds[slot];
+                LOG.debug(() -> "Guardian " + guardianId + " not found in game world");
             }
         }
         
         int removedCount = 0;
         for (Map.Entry<Integer, Guardian> entry : activeGuardians.entrySet()) {
             if (!entry.getValue().isActive()) {
-                ScriptConsole.println("Removing inactive guardian: " + entry.getKey());
+                LOG.info(() -> "Removing inactive guardian: " + entry.getKey());
                 removedCount++;
             }
         }
-        activeGuardians.entrySet().removeIf(entry -> !entry.getValue().isActive());
         
         if (removedCount > 0) {
-            ScriptConsole.println("Removed " + removedCount + " inactive guardians");
+            activeGuardians.entrySet().removeIf(entry -> !entry.getValue().isActive());
+            rebuildSlots();
+            int removed = removedCount;
+            LOG.info(() -> "Removed " + removed + " inactive guardians");
         }
         
-        ScriptConsole.println("Updated " + activeGuardians.size() + " active guardians");
+        rebuildGrid(currentTime);
+        LOG.debug(() -> "Updated " + activeGuardians.size() + " active guardians");
         lastUpdateTime = currentTime;
+        if (runRecorder != null) {
+            runRecorder.onGuardiansUpdated(this, currentTime);
+        }
     }
     
     /**
-     * Update a specific guardian's position and state
+     * Store a guardian's new position and facing
      */
-    private void updateGuardian(Guardian guardian, Area gardenArea) {
-        Npc npc = NpcQuery.newQuery()
-            .byType(guardian.getId())
-            .inside(gardenArea)
-            .results()
-            .first();
-            
-        if (npc != null) {
-            Coordinate oldPosition = guardian.getCurrentPosition();
-            guardian.setCurrentPosition(npc.getServerCoordinate());
-            
-            if (oldPosition != null && oldPosition.distanceTo(npc.getServerCoordinate()) > 2.0) {
-                ScriptConsole.println("Guardian " + guardian.getId() + " moved from " + oldPosition + 
-                    " to " + npc.getServerCoordinate());
+    private void updateSlot(int slot, Coordinate position, double facing1, double facing2, long now) {
+        int x = position.getX();
+        int y = position.getY();
+        PatrolModel patrol = patrols[slot];
+        boolean wasLearned = patrol.isLearned();
+        patrol.observe(now, x, y);
+        if (!wasLearned && patrol.isLearned()) {
+            LOG.info(() -> "Learned patrol of guardian " + patrol.getGuardianId() + ": " + patrol.getPeriod() + " tick cycle");
+        }
+        motions[slot].observe(now, x, y, facing1, facing2);
+        Guardian guardian = activeGuardians.get(slotIds[slot]);
+        if (hasPosition[slot]) {
+            int dx = x - xs[slot];
+            int dy = y - ys[slot];
+            if (dx * dx + dy * dy > 4) {
+                int oldX = xs[slot];
+                int oldY = ys[slot];
+                LOG.debug(() -> "Guardian " + slotIds[slot] + " moved from (" + oldX + ", " + oldY + ") to " + position);
+            }
+        }
+        boolean moved = !hasPosition[slot] || xs[slot] != x || ys[slot] != y || planes[slot] != position.getZ();
+        xs[slot] = x;
+        ys[slot] = y;
+        planes[slot] = position.getZ();
+        hasPosition[slot] = true;
+        if (guardian != null) {
+            // Only hand the guardian a new Coordinate when it actually moved
+            if (moved) {
+                guardian.setCurrentPosition(position);
+            } else {
+                guardian.markSeen();
+            }
+        }
+    }
+    
+    /**
+     * Mark every tracked guardian's tile, and the tiles ahead of it when its direction is known, in the grid
+     */
+    private void rebuildGrid(long now) {
+        grid.clear();
+        for (int slot = 0; slot < slotIds.length; slot++) {
+            if (!hasPosition[slot]) {
+                continue;
+            }
+            MovementTracker motion = motions[slot];
+            Direction moving = motion.getConfidence(now) >= MIN_DIRECTION_CONFIDENCE ? motion.getDirection() : null;
+            grid.addGuardian(xs[slot], ys[slot], moving);
+        }
+    }
+    
+    private int slotOf(int guardianId) {
+        int index = guardianId - minGuardianId;
+        return index >= 0 && index < slotById.length ? slotById[index] : -1;
+    }
+    
+    /**
+     * Rebuild the slot buffers and id index after guardians are added or removed
+     */
+    private void rebuildSlots() {
+        int[] ids = activeGuardians.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        int[] oldIds = slotIds;
+        int[] oldXs = xs, oldYs = ys, oldPlanes = planes;
+        boolean[] oldHasPosition = hasPosition;
+        MovementTracker[] oldMotions = motions;
+        int oldMin = minGuardianId;
+        int[] oldSlotById = slotById;
+        
+        int count = ids.length;
+        slotIds = ids;
+        xs = new int[count];
+        ys = new int[count];
+        planes = new int[count];
+        hasPosition = new boolean[count];
+        motions = new MovementTracker[count];
+        seenThisPass = new boolean[count];
+        patrols = new PatrolModel[count];
+        minGuardianId = count > 0 ? ids[0] : 0;
+        slotById = new int[count > 0 ? ids[count - 1] - minGuardianId + 1 : 0];
+        Arrays.fill(slotById, -1);
+        
+        for (int slot = 0; slot < count; slot++) {
+            int id = ids[slot];
+            slotById[id - minGuardianId] = slot;
+            patrols[slot] = patrolModels.computeIfAbsent(id, PatrolModel::new);
+            int oldIndex = id - oldMin;
+            int oldSlot = oldIndex >= 0 && oldIndex < oldSlotById.length ? oldSlotById[oldIndex] : -1;
+            if (oldSlot != -1 && oldIds[oldSlot] == id) {
+                xs[slot] = oldXs[oldSlot];
+                ys[slot] = oldYs[oldSlot];
+                planes[slot] = oldPlanes[oldSlot];
+                hasPosition[slot] = oldHasPosition[oldSlot];
+                motions[slot] = oldMotions[oldSlot];
+            } else {
+                motions[slot] = new MovementTracker(headings);
+                Coordinate initial = activeGuardians.get(id).getCurrentPosition();
+                if (initial != null) {
+                    xs[slot] = initial.getX();
+                    ys[slot] = initial.getY();
+                    planes[slot] = initial.getZ();
+                    hasPosition[slot] = true;
+                }
+            }
+        }
+        rebuildGrid(System.currentTimeMillis());
+    }
+    
+    /**
+     * Copy a guardian's tile if it was seen on the last update
+     * @param out receives {x, y}
+     */
+    public boolean copyPosition(int guardianId, int[] out) {
+        int slot = slotOf(guardianId);
+        if (slot == -1 || !seenThisPass[slot] || !hasPosition[slot]) {
+            return false;
+        }
+        out[0] = xs[slot];
+        out[1] = ys[slot];
+        return true;
+    }
+    
+    public void setRunRecorder(GardenRunRecorder runRecorder) {
+        this.runRecorder = runRecorder;
+    }
+    
+    /**
+     * The direction a guardian is inferred to be moving in, or null if it isn't tracked or hasn't moved yet
+     */
+    public Direction getMovingDirection(int guardianId) {
+        int slot = slotOf(guardianId);
+        return slot == -1 ? null : motions[slot].getDirection();
+    }
+    
+    /**
+     * Confidence in getMovingDirection, from 1 right after a step down to 0
+     */
+    public double getDirectionConfidence(int guardianId) {
+        int slot = slotOf(guardianId);
+        return slot == -1 ? 0 : motions[slot].getConfidence(System.currentTimeMillis());
+    }
+    
+    private boolean isMoving(int guardianId, Direction required) {
+        int slot = slotOf(guardianId);
+        return slot != -1 && motions[slot].isMoving(required, MIN_DIRECTION_CONFIDENCE, System.currentTimeMillis());
+    }
+    
+    /**
+     * Where a guardian is predicted to be ticksAhead game ticks from now
+     * @return the predicted tile, or null if the guardian's patrol hasn't been learned yet
+     */
+    public Coordinate predictPosition(int guardianId, int ticksAhead) {
+        int slot = slotOf(guardianId);
+        if (slot == -1 || !patrols[slot].predict(ticksAhead, System.currentTimeMillis(), predicted)) {
+            return null;
+        }
+        return new Coordinate(predicted[0], predicted[1], planes[slot]);
+    }
+    
+    /**
+     * Whether every guardian currently in the garden has a learned patrol that has been confirmed for
+     * at least minConfirmations steps, i.e. whether predictions can be planned around
+     */
+    public boolean isPatrolPredictionConfident(int minConfirmations) {
+        boolean anySeen = false;
+        for (int slot = 0; slot < slotIds.length; slot++) {
+            if (!hasPosition[slot] || !activeGuardians.get(slotIds[slot]).isActive()) {
+                continue;
+            }
+            anySeen = true;
+            PatrolModel patrol = patrols[slot];
+            if (!patrol.isLearned() || patrol.getConfirmations() < minConfirmations) {
+                return false;
             }
-        } else {
-            ScriptConsole.println("Guardian " + guardian.getId() + " not found in game world");
         }
+        return anySeen;
+    }
+    
+    /**
+     * Predicted tiles of every guardian with a learned patrol ticksAhead game ticks from now
+     * @return how many tiles were written to xsOut/ysOut
+     */
+    public int predictGuardianTiles(int ticksAhead, int[] xsOut, int[] ysOut) {
+        long now = System.currentTimeMillis();
+        int count = 0;
+        for (int slot = 0; slot < slotIds.length && count < xsOut.length; slot++) {
+            if (hasPosition[slot] && patrols[slot].predict(ticksAhead, now, predicted)) {
+                xsOut[count] = predicted[0];
+                ysOut[count] = predicted[1];
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Learned patrols, including those of guardians no longer tracked
+     */
+    public Collection<PatrolModel> getPatrolModels() {
+        return patrolModels.values();
+    }
+    
+    /**
+     * Earliest tick within the horizon at which every requirement is predicted to be met
+     * @return ticks from now, or -1 if it can't be predicted (a patrol isn't learned and confirmed yet) or never happens
+     */
+    public int predictTicksUntilRequirementsMet(List<GuardianRequirement> guardianRequirements, int horizonTicks) {
+        return predictTicksUntilMet(RequirementProgram.compile(guardianRequirements), horizonTicks, 0, 0);
+    }
+    
+    private int predictTicksUntilMet(RequirementProgram program, int horizonTicks, int playerX, int playerY) {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < program.size(); i++) {
+            int slot = slotOf(program.getGuardianId(i));
+            if (slot == -1 || !patrols[slot].isLearned()
+                    || patrols[slot].getConfirmations() < MIN_PATROL_CONFIRMATIONS) {
+                return -1;
+            }
+        }
+        for (int tick = 0; tick <= horizonTicks; tick++) {
+            boolean allMet = true;
+            for (int i = 0; i < program.size(); i++) {
+                PatrolModel patrol = patrols[slotOf(program.getGuardianId(i))];
+                patrol.predict(tick, now, predicted);
+                patrol.predict(tick - 1, now, predictedBefore);
+                if (!program.test(i, predicted[0], predicted[1],
+                        predicted[0] - predictedBefore[0], predicted[1] - predictedBefore[1], playerX, playerY)) {
+                    allMet = false;
+                    break;
+                }
+            }
+            if (allMet) {
+                return tick;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * How long until the tick ticksAhead from now starts, judged by the guardians' own step timing
+     */
+    private long millisUntilPredictedTick(RequirementProgram program, int ticksAhead) {
+        long now = System.currentTimeMillis();
+        long earliest = Long.MAX_VALUE;
+        for (int i = 0; i < program.size(); i++) {
+            int slot = slotOf(program.getGuardianId(i));
+            if (slot != -1) {
+                earliest = Math.min(earliest, patrols[slot].millisUntilTick(ticksAhead, now));
+            }
+        }
+        return earliest == Long.MAX_VALUE ? 0 : earliest;
     }
     
     /**
@@ -107,7 +383,8 @@ public class GuardianTracker {
     public void addGuardian(int guardianId, String guardianName, Coordinate initialPosition) {
         Guardian guardian = new Guardian(guardianId, guardianName, initialPosition);
         activeGuardians.put(guardianId, guardian);
-        ScriptConsole.println("Added guardian " + guardianId + " (" + guardianName + ") to tracking at " + initialPosition);
+        rebuildSlots();
+        LOG.info(() -> "Added guardian " + guardianId + " (" + guardianName + ") to tracking at " + initialPosition);
     }
     
     /**
@@ -115,14 +392,14 @@ public class GuardianTracker {
      */
     public void removeGuardian(int guardianId) {
         activeGuardians.remove(guardianId);
+        rebuildSlots();
     }
     
     /**
      * Check if a guardian is at a specific position
      */
     public boolean isGuardianAtPosition(Coordinate position) {
-        return guardianPositions.stream()
-            .anyMatch(pos -> pos.distanceTo(position) < SAFE_DISTANCE);
+        return isAnyGuardianWithin(position, SAFE_DISTANCE);
     }
     
     /**
@@ -130,17 +407,41 @@ public class GuardianTracker {
      */
     public boolean isSafeToMove(Coordinate targetPosition) {
         if (targetPosition == null) return false;
-        
-        for (Guardian guardian : activeGuardians.values()) {
-            if (guardian.getCurrentPosition() != null) {
-                double distance = guardian.getCurrentPosition().distanceTo(targetPosition);
-                if (distance < SAFE_DISTANCE) {
-                    return false;
-                }
+        return !isAnyGuardianWithin(targetPosition, SAFE_DISTANCE);
+    }
+    
+    /**
+     * Check that no guardian is on a tile or heading into it within the next few ticks
+     */
+    public boolean isOutOfDangerCones(Coordinate targetPosition) {
+        if (targetPosition == null) return false;
+        int x = targetPosition.getX();
+        int y = targetPosition.getY();
+        if (grid.contains(x, y)) {
+            return !grid.isDangerous(x, y);
+        }
+        return !isAnyGuardianWithin(targetPosition, SAFE_DISTANCE);
+    }
+    
+    private boolean isAnyGuardianWithin(Coordinate position, double distance) {
+        int x = position.getX();
+        int y = position.getY();
+        // The grid marks exactly the guardians' own tiles, which is what anything under one tile means
+        if (distance <= 1.0 && grid.contains(x, y)) {
+            return grid.isOccupied(x, y);
+        }
+        double limit = distance * distance;
+        for (int slot = 0; slot < slotIds.length; slot++) {
+            if (!hasPosition[slot]) {
+                continue;
+            }
+            int dx = xs[slot] - x;
+            int dy = ys[slot] - y;
+            if (dx * dx + dy * dy < limit) {
+                return true;
             }
         }
-        
-        return true;
+        return false;
     }
     
     /**
@@ -192,24 +493,8 @@ public class GuardianTracker {
             }
             
             if (guardianPosition.getMovingDirection() != null) {
-                Coordinate prev = previousPositions.get(guardian.getId());
-                Coordinate curr = guardian.getCurrentPosition();
-                if (prev != null && curr != null) {
-                    int dx = curr.getX() - prev.getX();
-                    int dy = curr.getY() - prev.getY();
-                    Direction required = guardianPosition.getMovingDirection();
-                    boolean movingCorrect = false;
-                    switch (required) {
-                        case NORTH -> movingCorrect = (dy > 0);
-                        case SOUTH -> movingCorrect = (dy < 0);
-                        case EAST -> movingCorrect = (dx > 0);
-                        case WEST -> movingCorrect = (dx < 0);
-                        default -> {
-                        }
-                    }
-                    if (movingCorrect) {
-                        return true;
-                    }
+                if (isMoving(guardian.getId(), guardianPosition.getMovingDirection())) {
+                    return true;
                 }
             } else {
                 return true;
@@ -226,8 +511,8 @@ public class GuardianTracker {
      */
     public boolean waitForGuardianPositions(List<GuardianPosition> guardianPositions, long timeoutMs, Area gardenArea) {
         long startTime = System.currentTimeMillis();
-        ScriptConsole.println("Starting to wait for " + guardianPositions.size() + " guardians to reach their positions");
-        ScriptConsole.println("Active guardians in tracking: " + activeGuardians.keySet());
+        LOG.info(() -> "Starting to wait for " + guardianPositions.size() + " guardians to reach their positions");
+        LOG.info(() -> "Active guardians in tracking: " + activeGuardians.keySet());
         
         while (System.currentTimeMillis() - startTime < timeoutMs) {
             updateGuardianPositions(gardenArea);
@@ -236,24 +521,24 @@ public class GuardianTracker {
             for (GuardianPosition guardianPosition : guardianPositions) {
                 Guardian guardian = activeGuardians.get(guardianPosition.getGuardianId());
                 if (guardian == null) {
-                    ScriptConsole.println("Guardian " + guardianPosition.getGuardianId() + " not found in active guardians");
-                    ScriptConsole.println("Available guardians: " + activeGuardians.keySet());
+                    LOG.debug(() -> "Guardian " + guardianPosition.getGuardianId() + " not found in active guardians");
+                    LOG.debug(() -> "Available guardians: " + activeGuardians.keySet());
                     allGuardiansInPosition = false;
                     break;
                 }
                 
                 // Check position
                 if (guardian.getCurrentPosition() == null) {
-                    ScriptConsole.println("Guardian " + guardianPosition.getGuardianId() + " position is null");
+                    LOG.debug(() -> "Guardian " + guardianPosition.getGuardianId() + " position is null");
                     allGuardiansInPosition = false;
                     break;
                 }
                 
                 double distance = guardian.getCurrentPosition().distanceTo(guardianPosition.getPosition());
-                ScriptConsole.println("Guardian " + guardianPosition.getGuardianId() + 
+                LOG.debug(() -> "Guardian " + guardianPosition.getGuardianId() + 
                     " distance check: " + String.format("%.2f", distance) + " (max: 1.0)");
                 if (distance > 1.0) {
-                    ScriptConsole.println("Guardian " + guardianPosition.getGuardianId() + 
+                    LOG.debug(() -> "Guardian " + guardianPosition.getGuardianId() + 
                         " at " + guardian.getCurrentPosition() + 
                         " but needs to be at " + guardianPosition.getPosition() + 
                         " (distance: " + String.format("%.2f", distance) + ")");
@@ -263,145 +548,139 @@ public class GuardianTracker {
                 
                 // Check movement direction if required
                 if (guardianPosition.getMovingDirection() != null) {
-                    Coordinate prev = previousPositions.get(guardian.getId());
-                    Coordinate curr = guardian.getCurrentPosition();
-                    if (prev != null && curr != null) {
-                        int dx = curr.getX() - prev.getX();
-                        int dy = curr.getY() - prev.getY();
-                        Direction required = guardianPosition.getMovingDirection();
-                        boolean movingCorrect = false;
-                        switch (required) {
-                            case NORTH -> movingCorrect = (dy > 0);
-                            case SOUTH -> movingCorrect = (dy < 0);
-                            case EAST -> movingCorrect = (dx > 0);
-                            case WEST -> movingCorrect = (dx < 0);
-                            default -> {
-                            }
-                        }
-                        if (!movingCorrect) {
-                            ScriptConsole.println("Guardian " + guardianPosition.getGuardianId() + 
-                                " is not moving " + required + " (dx=" + dx + ", dy=" + dy + ")");
-                            allGuardiansInPosition = false;
-                            break;
-                        }
-                        ScriptConsole.println("Guardian " + guardianPosition.getGuardianId() + 
-                            " is moving " + required + " ✓");
-                    } else {
-                        ScriptConsole.println("Guardian " + guardianPosition.getGuardianId() + 
-                            " movement direction check failed - missing previous position");
+                    Direction required = guardianPosition.getMovingDirection();
+                    if (!isMoving(guardian.getId(), required)) {
+                        Direction actual = getMovingDirection(guardian.getId());
+                        double confidence = getDirectionConfidence(guardian.getId());
+                        LOG.debug(() -> "Guardian " + guardianPosition.getGuardianId() + 
+                            " is not moving " + required + " (inferred " + actual + ", confidence "
+                            + String.format("%.2f", confidence) + ")");
                         allGuardiansInPosition = false;
                         break;
                     }
+                    LOG.debug(() -> "Guardian " + guardianPosition.getGuardianId() + 
+                        " is moving " + required + " ✓");
                 }
                 
-                ScriptConsole.println("Guardian " + guardianPosition.getGuardianId() + 
+                LOG.debug(() -> "Guardian " + guardianPosition.getGuardianId() + 
                     " is in correct position ✓");
             }
             
             if (allGuardiansInPosition) {
-                ScriptConsole.println("All guardians are in position! Proceeding...");
+                LOG.info("All guardians are in position! Proceeding...");
                 return true;
             }
             
             long elapsed = System.currentTimeMillis() - startTime;
             if (elapsed % 2000 < 50) {
-                ScriptConsole.println("Still waiting for guardians... (" + (elapsed / 1000) + "s elapsed)");
+                LOG.info(() -> "Still waiting for guardians... (" + (elapsed / 1000) + "s elapsed)");
             }
             
             Execution.delay(100);
         }
         
-        ScriptConsole.println("Timeout waiting for guardians to reach positions after " + (timeoutMs / 1000) + " seconds");
+        LOG.warn(() -> "Timeout waiting for guardians to reach positions after " + (timeoutMs / 1000) + " seconds");
         return false;
     }
     
     /**
-     * Wait for multiple guardians to meet their requirements (exact positions or avoid positions)
+     * Wait for multiple guardians to meet their requirements (exact positions or avoid positions).
+     * The requirements are compiled once per wait and each one is only logged when it flips between met and unmet.
      */
     public boolean waitForGuardianRequirements(List<GuardianRequirement> guardianRequirements, long timeoutMs, Area gardenArea) {
         long startTime = System.currentTimeMillis();
-        ScriptConsole.println("Starting to wait for " + guardianRequirements.size() + " guardians to reach their positions");
-        ScriptConsole.println("Active guardians in tracking: " + activeGuardians.keySet());
+        LOG.info(() -> "Starting to wait for " + guardianRequirements.size() + " guardians to reach their positions");
+        LOG.info(() -> "Active guardians in tracking: " + activeGuardians.keySet());
+        
+        RequirementProgram program = RequirementProgram.compile(guardianRequirements);
+        int count = program.size();
+        // 0 = not checked yet, 1 = met, -1 = unmet
+        int[] lastState = new int[count];
         
         while (System.currentTimeMillis() - startTime < timeoutMs) {
             updateGuardianPositions(gardenArea);
             
-            Map<Integer, List<String>> guardianLogs = new java.util.HashMap<>();
-            boolean allGuardiansInPosition = true;
-            for (GuardianRequirement guardianRequirement : guardianRequirements) {
-                Guardian guardian = activeGuardians.get(guardianRequirement.getGuardianId());
-                if (guardian == null) {
-                    guardianLogs.computeIfAbsent(guardianRequirement.getGuardianId(), k -> new java.util.ArrayList<>())
-                        .add("Guardian not found in active guardians");
-                    allGuardiansInPosition = false;
-                    continue;
+            int playerX = 0;
+            int playerY = 0;
+            if (program.usesPlayer()) {
+                LocalPlayer player = Client.getLocalPlayer();
+                if (player != null) {
+                    playerX = player.getCoordinate().getX();
+                    playerY = player.getCoordinate().getY();
                 }
-                StringBuilder log = new StringBuilder();
-                log.append("[Guardian ").append(guardianRequirement.getGuardianId()).append("] ");
+            }
+            
+            boolean allGuardiansInPosition = true;
+            for (int i = 0; i < count; i++) {
+                int guardianId = program.getGuardianId(i);
+                int slot = slotOf(guardianId);
+                boolean present = slot != -1 && hasPosition[slot];
                 boolean met = false;
-                switch (guardianRequirement.getType()) {
-                    case EXACT_POSITION -> {
-                        double distance = guardian.getCurrentPosition().distanceTo(guardianRequirement.getExactPosition());
-                        met = distance <= guardianRequirement.getTolerance();
-                        log.append("REQUIRE: at ").append(guardianRequirement.getExactPosition())
-                           .append(" | ACTUAL: ").append(guardian.getCurrentPosition())
-                           .append(" | MET: ").append(met ? "YES" : "NO");
-                    }
-                    case MOVING_DIRECTION -> {
-                        Coordinate prev = previousPositions.get(guardian.getId());
-                        Coordinate curr = guardian.getCurrentPosition();
-                        int dx = curr.getX() - prev.getX();
-                        int dy = curr.getY() - prev.getY();
-                        switch (guardianRequirement.getMovingDirection()) {
-                            case NORTH -> met = (dy > 0);
-                            case SOUTH -> met = (dy < 0);
-                            case EAST  -> met = (dx > 0);
-                            case WEST  -> met = (dx < 0);
-                        }
-                        log.append("REQUIRE: moving ").append(guardianRequirement.getMovingDirection())
-                           .append(" | ACTUAL: dx=").append(dx).append(", dy=").append(dy)
-                           .append(" | MET: ").append(met ? "YES" : "NO");
+                int dx = 0;
+                int dy = 0;
+                if (present) {
+                    MovementTracker motion = motions[slot];
+                    if (motion.getDirection() != null
+                            && motion.getConfidence(System.currentTimeMillis()) >= MIN_DIRECTION_CONFIDENCE) {
+                        dx = MovementTracker.stepX(motion.getDirection());
+                        dy = MovementTracker.stepY(motion.getDirection());
                     }
-                    case AVOID_POSITIONS -> {
-                        boolean isAtAvoidPosition = false;
-                        for (Coordinate avoidPos : guardianRequirement.getAvoidPositions()) {
-                            double distance = guardian.getCurrentPosition().distanceTo(avoidPos);
-                            if (distance <= guardianRequirement.getTolerance()) {
-                                isAtAvoidPosition = true;
-                                break;
-                            }
-                        }
-                        met = !isAtAvoidPosition;
-                        log.append("REQUIRE: avoid ").append(guardianRequirement.getAvoidPositions())
-                           .append(" | ACTUAL: ").append(guardian.getCurrentPosition())
-                           .append(" | MET: ").append(met ? "YES" : "NO");
-                    }
-                    default -> {}
+                    met = program.test(i, xs[slot], ys[slot], dx, dy, playerX, playerY);
                 }
-                guardianLogs.computeIfAbsent(guardianRequirement.getGuardianId(), k -> new java.util.ArrayList<>()).add(log.toString());
-                if (!met) allGuardiansInPosition = false;
-            }
-            for (var entry : guardianLogs.entrySet()) {
-                ScriptConsole.println("Guardian " + entry.getKey() + ":");
-                for (String log : entry.getValue()) {
-                    ScriptConsole.println("  " + log);
+                if (!met) {
+                    allGuardiansInPosition = false;
+                }
+                
+                int state = met ? 1 : -1;
+                if (state != lastState[i]) {
+                    lastState[i] = state;
+                    int index = i;
+                    boolean nowMet = met;
+                    if (!present) {
+                        LOG.debug(() -> "[Guardian " + guardianId + "] not found in active guardians");
+                    } else {
+                        int x = xs[slot];
+                        int y = ys[slot];
+                        int stepX = dx;
+                        int stepY = dy;
+                        LOG.debug(() -> "[Guardian " + guardianId + "] REQUIRE: " + program.describe(index)
+                            + " | ACTUAL: (" + x + ", " + y + ") dx=" + stepX + ", dy=" + stepY
+                            + " | MET: " + (nowMet ? "YES" : "NO"));
+                    }
                 }
             }
 
             if (allGuardiansInPosition) {
-                ScriptConsole.println("All guardian requirements met! Proceeding...");
+                LOG.info("All guardian requirements met! Proceeding...");
+                if (runRecorder != null) {
+                    runRecorder.recordRequirementsMet(System.currentTimeMillis() - startTime);
+                }
                 return true;
             }
             
             long elapsed = System.currentTimeMillis() - startTime;
             if (elapsed % 2000 < 50) {
-                ScriptConsole.println("Still waiting for guardian requirements... (" + (elapsed / 1000) + "s elapsed)");
+                LOG.info(() -> "Still waiting for guardian requirements... (" + (elapsed / 1000) + "s elapsed)");
+            }
+            
+            // With every patrol learned and confirmed, sleep towards the tick before the requirements should be
+            // met instead of polling, a few ticks at a time so positions are checked against the prediction
+            int ticksUntilMet = predictTicksUntilMet(program, PREDICTION_HORIZON_TICKS, playerX, playerY);
+            if (ticksUntilMet > 1) {
+                int sleepTicks = Math.min(ticksUntilMet - 1, MAX_PREDICTED_SLEEP_TICKS);
+                long sleepMs = Math.min(millisUntilPredictedTick(program, sleepTicks),
+                        timeoutMs - (System.currentTimeMillis() - startTime));
+                if (sleepMs > 100) {
+                    LOG.debug(() -> "Requirements predicted in " + ticksUntilMet + " ticks, sleeping " + sleepMs + "ms");
+                    Execution.delay(sleepMs);
+                    continue;
+                }
             }
             
             Execution.delay(100);
         }
         
-        ScriptConsole.println("Timeout waiting for guardian requirements after " + (timeoutMs / 1000) + " seconds");
+        LOG.warn(() -> "Timeout waiting for guardian requirements after " + (timeoutMs / 1000) + " seconds");
         return false;
     }
     
@@ -429,7 +708,13 @@ public class GuardianTracker {
      * Get guardian positions
      */
     public List<Coordinate> getGuardianPositions() {
-        return new ArrayList<>(guardianPositions);
+        List<Coordinate> positions = new ArrayList<>();
+        for (int slot = 0; slot < slotIds.length; slot++) {
+            if (hasPosition[slot]) {
+                positions.add(new Coordinate(xs[slot], ys[slot], planes[slot]));
+            }
+        }
+        return positions;
     }
     
     /**
@@ -463,7 +748,7 @@ public class GuardianTracker {
      */
     public void clear() {
         activeGuardians.clear();
-        guardianPositions.clear();
+        rebuildSlots();
     }
 
     public Guardian getGuardianById(int guardianId) {
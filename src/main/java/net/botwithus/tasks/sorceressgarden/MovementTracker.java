@@ -0,0 +1,211 @@
+package net.botwithus.tasks.sorceressgarden;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import net.botwithus.tasks.sorceressgarden.models.NPCDirection.Direction;
+
+/**
+ * Infers which of the 8 directions a guardian is moving in, with a confidence between 0 and 1.
+ *
+ * The tracker polls several times per game tick, so most samples see a guardian that hasn't moved since the
+ * previous one. Only a sample that differs from the previous one changes the direction; the others leave
+ * the last step's direction in place while its confidence decays.
+ *
+ * A guardian that turns on the spot doesn't step at all, so the facing reported by Npc.getDirection1/2 is
+ * used as well. Its units aren't relied on: every step teaches a shared HeadingTable which facing values go
+ * with which step direction, and a stationary guardian whose facing changes takes the direction that facing
+ * was last seen walking in. Guardians step every tick while they patrol, so a direction keeps its full
+ * confidence for one game tick, then fades to nothing over the next.
+ */
+public class MovementTracker {
+    // A step longer than this means samples were missed and the direction is only a guess
+    private static final int MAX_STEP = 2;
+    private static final double TURN_CONFIDENCE = 0.9;
+    private static final double SKIPPED_STEP_CONFIDENCE = 0.5;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * Facing values seen while guardians stepped in each direction
+     */
+    public static final class HeadingTable {
+        private final Map<Long, int[]> votes = new HashMap<>();
+
+        void learn(double heading, Direction direction) {
+            votes.computeIfAbsent(key(heading), k -> new int[DIRECTIONS.length])[direction.ordinal()]++;
+        }
+
+        /**
+         * Most common step direction for a facing, or null if it has never been seen stepping
+         * @param share receives the fraction of votes the returned direction has
+         */
+        Direction lookup(double heading, double[] share) {
+            int[] counts = votes.get(key(heading));
+            if (counts == null) {
+                return null;
+            }
+            int best = 0;
+            int total = 0;
+            for (int d = 0; d < counts.length; d++) {
+                total += counts[d];
+                if (counts[d] > counts[best]) {
+                    best = d;
+                }
+            }
+            share[0] = (double) counts[best] / total;
+            return DIRECTIONS[best];
+        }
+
+        public int size() {
+            return votes.size();
+        }
+
+        private static long key(double heading) {
+            // Fine enough to keep the 8 walking facings apart whether they come as radians or game units
+            return Math.round(heading * 1000);
+        }
+    }
+
+    private final HeadingTable headings;
+    private boolean observed;
+    private int lastX;
+    private int lastY;
+    private double lastFacing1;
+    private double lastFacing2;
+    private final double[] share = new double[1];
+
+    private Direction direction;
+    private double baseConfidence;
+    private long directionAt;
+
+    public MovementTracker(HeadingTable headings) {
+        this.headings = headings;
+    }
+
+    /**
+     * Record a sample. Called on every tracker update, moved or not.
+     * @param facing1 Npc.getDirection1()
+     * @param facing2 Npc.getDirection2()
+     */
+    public void observe(long timeMs, int x, int y, double facing1, double facing2) {
+        boolean first = !observed;
+        int dx = x - lastX;
+        int dy = y - lastY;
+        boolean turnedOnSpot = facing1 != lastFacing1 || facing2 != lastFacing2;
+        observed = true;
+        lastX = x;
+        lastY = y;
+        lastFacing1 = facing1;
+        lastFacing2 = facing2;
+        if (first) {
+            return;
+        }
+
+        if (dx != 0 || dy != 0) {
+            Direction stepped = fromStep(dx, dy);
+            boolean skipped = Math.abs(dx) > MAX_STEP || Math.abs(dy) > MAX_STEP;
+            if (!skipped) {
+                headings.learn(facing1, stepped);
+                headings.learn(facing2, stepped);
+            }
+            set(stepped, skipped ? SKIPPED_STEP_CONFIDENCE : 1.0, timeMs);
+            return;
+        }
+
+        if (turnedOnSpot) {
+            Direction turned = headings.lookup(facing1, share);
+            if (turned == null) {
+                turned = headings.lookup(facing2, share);
+            }
+            if (turned != null) {
+                set(turned, TURN_CONFIDENCE * share[0], timeMs);
+            } else if (direction != null) {
+                // Turned to a facing never seen walking, the old direction is probably wrong
+                set(direction, getConfidence(timeMs) / 2, timeMs);
+            }
+        }
+    }
+
+    /**
+     * @return the inferred direction, or null if the guardian hasn't moved or turned yet
+     */
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public double getConfidence(long nowMs) {
+        if (direction == null) {
+            return 0;
+        }
+        long elapsedMs = Math.max(0, nowMs - directionAt);
+        if (elapsedMs <= PatrolModel.TICK_MS) {
+            return baseConfidence;
+        }
+        // No step for a whole tick: the guardian has likely stopped, fade out by the end of the next
+        return Math.max(0, baseConfidence * (2 - (double) elapsedMs / PatrolModel.TICK_MS));
+    }
+
+    /**
+     * Whether the guardian is moving in the given direction with at least minConfidence. Moving north-east
+     * counts as moving north and east as well, the same rule RequirementProgram uses.
+     */
+    public boolean isMoving(Direction required, double minConfidence, long nowMs) {
+        if (direction == null || getConfidence(nowMs) < minConfidence) {
+            return false;
+        }
+        int mask = RequirementProgram.movementMask(stepX(direction), stepY(direction));
+        int requiredMask = 1 << required.ordinal();
+        return (mask & requiredMask) == requiredMask;
+    }
+
+    /**
+     * Tile the guardian is on, or Integer.MIN_VALUE before the first sample
+     */
+    public int getX() {
+        return observed ? lastX : Integer.MIN_VALUE;
+    }
+
+    public int getY() {
+        return observed ? lastY : Integer.MIN_VALUE;
+    }
+
+    public void reset() {
+        observed = false;
+        direction = null;
+        baseConfidence = 0;
+    }
+
+    private void set(Direction direction, double confidence, long timeMs) {
+        this.direction = direction;
+        this.baseConfidence = confidence;
+        this.directionAt = timeMs;
+    }
+
+    public static Direction fromStep(int dx, int dy) {
+        int sx = Integer.signum(dx);
+        int sy = Integer.signum(dy);
+        if (sy > 0) {
+            return sx > 0 ? Direction.NORTH_EAST : sx < 0 ? Direction.NORTH_WEST : Direction.NORTH;
+        }
+        if (sy < 0) {
+            return sx > 0 ? Direction.SOUTH_EAST : sx < 0 ? Direction.SOUTH_WEST : Direction.SOUTH;
+        }
+        return sx > 0 ? Direction.EAST : sx < 0 ? Direction.WEST : null;
+    }
+
+    public static int stepX(Direction direction) {
+        return switch (direction) {
+            case EAST, NORTH_EAST, SOUTH_EAST -> 1;
+            case WEST, NORTH_WEST, SOUTH_WEST -> -1;
+            default -> 0;
+        };
+    }
+
+    public static int stepY(Direction direction) {
+        return switch (direction) {
+            case NORTH, NORTH_EAST, NORTH_WEST -> 1;
+            case SOUTH, SOUTH_EAST, SOUTH_WEST -> -1;
+            default -> 0;
+        };
+    }
+}
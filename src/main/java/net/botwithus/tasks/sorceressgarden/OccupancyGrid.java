@@ -0,0 +1,89 @@
+package net.botwithus.tasks.sorceressgarden;
+
+import java.util.Arrays;
+
+import net.botwithus.tasks.sorceressgarden.models.NPCDirection.Direction;
+
+/**
+ * Bitset of the tiles guardians stand on and the tiles just ahead of them, rebuilt once per tracker update
+ * so safety checks are a single bit read.
+ *
+ * The grid is a SIZE x SIZE window with one long per row, anchored on the first guardian seen; a garden is
+ * far smaller than the window. Tiles outside it report contains false and callers fall back to checking the
+ * guardians directly.
+ *
+ * A danger cone runs CONE_LENGTH tiles in the direction a guardian is moving and widens by one tile either
+ * side every two tiles, so a tile in it is one the guardian reaches within a few ticks.
+ */
+public class OccupancyGrid {
+    static final int SIZE = 64;
+    private static final int CONE_LENGTH = 3;
+
+    private final long[] occupied = new long[SIZE];
+    private final long[] danger = new long[SIZE];
+    private int baseX;
+    private int baseY;
+    private boolean anchored;
+
+    /**
+     * Start a rebuild. The window stays where the first guardian ever added anchored it.
+     */
+    void clear() {
+        Arrays.fill(occupied, 0);
+        Arrays.fill(danger, 0);
+    }
+
+    void addGuardian(int x, int y, Direction moving) {
+        if (!anchored) {
+            baseX = x - SIZE / 2;
+            baseY = y - SIZE / 2;
+            anchored = true;
+        }
+        set(occupied, x, y);
+        set(danger, x, y);
+        if (moving == null) {
+            return;
+        }
+        int stepX = MovementTracker.stepX(moving);
+        int stepY = MovementTracker.stepY(moving);
+        for (int k = 1; k <= CONE_LENGTH; k++) {
+            int centreX = x + stepX * k;
+            int centreY = y + stepY * k;
+            int spread = k / 2;
+            for (int side = -spread; side <= spread; side++) {
+                // Widen perpendicular to the direction of travel
+                set(danger, centreX - stepY * side, centreY + stepX * side);
+            }
+        }
+    }
+
+    public boolean contains(int x, int y) {
+        int gx = x - baseX;
+        int gy = y - baseY;
+        return anchored && gx >= 0 && gy >= 0 && gx < SIZE && gy < SIZE;
+    }
+
+    /**
+     * Whether a guardian stands on the tile. Only meaningful when contains(x, y).
+     */
+    public boolean isOccupied(int x, int y) {
+        return get(occupied, x, y);
+    }
+
+    /**
+     * Whether a guardian stands on the tile or is heading into it
+     */
+    public boolean isDangerous(int x, int y) {
+        return get(danger, x, y);
+    }
+
+    private void set(long[] rows, int x, int y) {
+        if (contains(x, y)) {
+            rows[y - baseY] |= 1L << (x - baseX);
+        }
+    }
+
+    private boolean get(long[] rows, int x, int y) {
+        return contains(x, y) && (rows[y - baseY] & (1L << (x - baseX))) != 0;
+    }
+}
@@ -1,29 +1,42 @@
 package net.botwithus.tasks.sorceressgarden;
 
+import java.util.List;
+
 import net.botwithus.CoaezUtility;
+import net.botwithus.Log;
 import net.botwithus.rs3.game.Area;
 import net.botwithus.rs3.game.Client;
 import net.botwithus.rs3.game.Coordinate;
 import net.botwithus.rs3.game.movement.Movement;
 import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
 import net.botwithus.rs3.script.Execution;
-import net.botwithus.rs3.script.ScriptConsole;
 import net.botwithus.tasks.sorceressgarden.models.Waypoint;
 
 /**
  * Handles movement between waypoints in Sorceress's Garden
  */
 public class PathNavigator {
+    private static final Log LOG = Log.get("PathNavigator");
     private final CoaezUtility script;
     private final GuardianTracker guardianTracker;
     private final double MOVEMENT_THRESHOLD = 2.0; 
     private final long MAX_WAIT_TIME = 30000;
+    // How far behind its tick schedule a planned route may fall before it no longer matches the guardians
+    private static final long ROUTE_SCHEDULE_SLACK_MS = PatrolModel.TICK_MS / 2;
+    private SafePathPlanner pathPlanner;
     
     public PathNavigator(CoaezUtility script, GuardianTracker guardianTracker) {
         this.script = script;
         this.guardianTracker = guardianTracker;
     }
     
+    /**
+     * Planner that is taught the tiles the player walks over
+     */
+    public void setPathPlanner(SafePathPlanner pathPlanner) {
+        this.pathPlanner = pathPlanner;
+    }
+    
     /**
      * Navigate to a specific waypoint
      */
@@ -40,7 +53,7 @@ public class PathNavigator {
             return true;
         }
         
-        ScriptConsole.println("Moving to waypoint: " + waypoint.getDescription() + " at " + targetPosition);
+        LOG.info(() -> "Moving to waypoint: " + waypoint.getDescription() + " at " + targetPosition);
         return moveToPosition(targetPosition, gardenArea);
     }
     
@@ -67,6 +80,9 @@ public class PathNavigator {
             () -> Client.getLocalPlayer().getCoordinate().equals(targetPosition),
             () -> {
                 guardianTracker.updateGuardianPositions(gardenArea);
+                if (pathPlanner != null) {
+                    pathPlanner.recordPlayerPosition(Client.getLocalPlayer().getCoordinate());
+                }
                 return false;
             },
             5000
@@ -74,6 +90,49 @@ public class PathNavigator {
         return true;
     }
     
+    /**
+     * Walk a planned route one tile per game tick. Tile i has to be reached by tick i of the plan, give or
+     * take ROUTE_SCHEDULE_SLACK_MS; a player running late would meet the guardians somewhere else than planned.
+     * @param route the tile to stand on at each tick, starting with the current tile
+     * @return false if a guardian is on or next to the next tile or the player fell behind the plan,
+     * so the route should be planned again
+     */
+    public boolean followRoute(List<Coordinate> route, Area gardenArea) {
+        long routeStart = System.currentTimeMillis();
+        for (int i = 1; i < route.size(); i++) {
+            if (!script.isActive()) return false;
+            Coordinate next = route.get(i);
+            guardianTracker.updateGuardianPositions(gardenArea);
+            if (!guardianTracker.isSafeToMove(next)) {
+                LOG.info(() -> "Guardian blocking planned tile " + next + ", replanning");
+                return false;
+            }
+            if (!next.equals(route.get(i - 1))) {
+                Movement.walkTo(next.getX(), next.getY(), false);
+                Execution.delayUntil(PatrolModel.TICK_MS + 300, () -> Client.getLocalPlayer().getCoordinate().equals(next));
+                LocalPlayer player = Client.getLocalPlayer();
+                if (player == null || !player.getCoordinate().equals(next)) {
+                    LOG.info(() -> "Did not reach planned tile " + next + ", replanning");
+                    return false;
+                }
+                if (pathPlanner != null) {
+                    pathPlanner.recordPlayerPosition(next);
+                }
+            }
+            long due = routeStart + i * PatrolModel.TICK_MS;
+            long late = System.currentTimeMillis() - due;
+            if (late > ROUTE_SCHEDULE_SLACK_MS) {
+                int step = i;
+                LOG.info(() -> "Reached step " + step + " of planned route " + late + "ms late, replanning");
+                return false;
+            }
+            if (late < 0) {
+                Execution.delay(-late);
+            }
+        }
+        return true;
+    }
+    
     /**
      * Check if player is at a specific position
      */
@@ -91,20 +150,20 @@ public class PathNavigator {
         int waitTime = waypoint.getWaitTime();
         if (waitTime <= 0) return true;
         
-        ScriptConsole.println("Waiting at waypoint: " + waypoint.getDescription() + " for " + waitTime + "ms");
+        LOG.info(() -> "Waiting at waypoint: " + waypoint.getDescription() + " for " + waitTime + "ms");
         
         long startTime = System.currentTimeMillis();
         while (System.currentTimeMillis() - startTime < waitTime) {
             LocalPlayer player = Client.getLocalPlayer();
             if (player != null && !isAtPosition(player.getCoordinate(), waypoint.getPosition())) {
-                ScriptConsole.println("Moved away from waypoint while waiting");
+                LOG.info("Moved away from waypoint while waiting");
                 return false;
             }
             
             guardianTracker.updateGuardianPositions(gardenArea);
             
             if (!guardianTracker.isSafeToMove(waypoint.getPosition())) {
-                ScriptConsole.println("Guardian approaching, stopping wait");
+                LOG.info("Guardian approaching, stopping wait");
                 return false;
             }
             
@@ -121,15 +180,15 @@ public class PathNavigator {
         if (waypoints == null || waypoints.isEmpty()) return false;
         
         for (Waypoint waypoint : waypoints) {
-            ScriptConsole.println("Navigating to waypoint: " + waypoint.getDescription());
+            LOG.info(() -> "Navigating to waypoint: " + waypoint.getDescription());
             
             if (!navigateToWaypoint(waypoint, gardenArea)) {    
-                ScriptConsole.println("Failed to reach waypoint: " + waypoint.getDescription());
+                LOG.info(() -> "Failed to reach waypoint: " + waypoint.getDescription());
                 return false;
             }
             
             if (!waitAtWaypoint(waypoint, gardenArea)) {
-                ScriptConsole.println("Failed to wait at waypoint: " + waypoint.getDescription());
+                LOG.info(() -> "Failed to wait at waypoint: " + waypoint.getDescription());
                 return false;
             }
             
@@ -145,8 +204,8 @@ public class PathNavigator {
     public boolean canMoveTo(Coordinate targetPosition) {
         if (targetPosition == null) return false;
         
-        // Check if guardians are blocking the path
-        return guardianTracker.isSafeToMove(targetPosition);
+        // Check if guardians are on the tile or walking into it
+        return guardianTracker.isOutOfDangerCones(targetPosition);
     }
     
     /**
@@ -0,0 +1,269 @@
+package net.botwithus.tasks.sorceressgarden;
+
+import net.botwithus.TickSnapshot;
+
+/**
+ * Learns a guardian's patrol loop and predicts where it will be a number of game ticks ahead.
+ *
+ * Guardian patrols are fixed loops, so the tile the guardian stands on each game tick is recorded until
+ * the last stretch of the history repeats the stretch before it. That repeat gives the cycle length and
+ * the tiles of one full loop; afterwards every observation is checked against the prediction and the
+ * phase is re-anchored (or the cycle forgotten) when the guardian goes off script.
+ *
+ * Ticks are counted from the guardian's own steps rather than the wall clock: a step that arrives n game
+ * cycles after the previous one adds n - 1 ticks of standing still, which keeps the history stable even
+ * though updates arrive at an uneven rate.
+ */
+public class PatrolModel {
+    static final long TICK_MS = TickSnapshot.GAME_CYCLE_MS;
+    private static final int MAX_HISTORY = 256;
+    private static final int MIN_PERIOD = 4;
+    // If the guardian was not observed for this long the history can't be trusted to be contiguous
+    private static final long MAX_OBSERVATION_GAP_MS = 2 * TICK_MS;
+    private static final int MAX_MISMATCHES = 3;
+
+    private final int guardianId;
+
+    private final int[] historyX = new int[MAX_HISTORY];
+    private final int[] historyY = new int[MAX_HISTORY];
+    private int historyLength;
+    // Tick number of the last history entry
+    private long lastTick;
+    private long lastStepAt;
+    private long lastObservedAt;
+
+    private int[] cycleX;
+    private int[] cycleY;
+    private int period;
+    // Tick number at which the guardian stands on cycle[0]
+    private long anchorTick;
+    private int mismatches;
+    // Steps in a row that landed where the cycle said they would
+    private int confirmations;
+
+    public PatrolModel(int guardianId) {
+        this.guardianId = guardianId;
+    }
+
+    /**
+     * Record where the guardian was seen. Called on every tracker update, moved or not.
+     */
+    public void observe(long timeMs, int x, int y) {
+        if (historyLength == 0 || timeMs - lastObservedAt > MAX_OBSERVATION_GAP_MS) {
+            restartHistory(timeMs, x, y);
+            return;
+        }
+        lastObservedAt = timeMs;
+        int last = historyLength - 1;
+        if (historyX[last] == x && historyY[last] == y) {
+            return;
+        }
+
+        long ticks = Math.max(1, Math.round((timeMs - lastStepAt) / (double) TICK_MS));
+        for (long i = 1; i < ticks; i++) {
+            append(historyX[last], historyY[last]);
+        }
+        append(x, y);
+        lastStepAt = timeMs;
+
+        if (period > 0) {
+            verify();
+        } else {
+            learn();
+        }
+    }
+
+    public int getGuardianId() {
+        return guardianId;
+    }
+
+    public boolean isLearned() {
+        return period > 0;
+    }
+
+    /**
+     * @return the cycle length in ticks, or 0 if no cycle has been learned
+     */
+    public int getPeriod() {
+        return period;
+    }
+
+    /**
+     * @return how many steps in a row matched the prediction, a measure of how far the cycle can be trusted
+     */
+    public int getConfirmations() {
+        return confirmations;
+    }
+
+    public int getCycleX(int index) {
+        return cycleX[index];
+    }
+
+    public int getCycleY(int index) {
+        return cycleY[index];
+    }
+
+    /**
+     * @return the index into the cycle of the guardian's current tile, or -1 if no cycle has been learned
+     */
+    public int getPhase(long nowMs) {
+        return period > 0 ? cycleIndex(currentTick(nowMs)) : -1;
+    }
+
+    /**
+     * Predicted tile ticksAhead game ticks from now
+     * @param out receives {x, y}
+     * @return false if no cycle has been learned
+     */
+    public boolean predict(int ticksAhead, long nowMs, int[] out) {
+        if (period == 0) {
+            return false;
+        }
+        int index = cycleIndex(currentTick(nowMs) + ticksAhead);
+        out[0] = cycleX[index];
+        out[1] = cycleY[index];
+        return true;
+    }
+
+    /**
+     * @return how long until the tick ticksAhead from now starts
+     */
+    public long millisUntilTick(int ticksAhead, long nowMs) {
+        long tick = currentTick(nowMs) + ticksAhead;
+        return Math.max(0, lastStepAt + (tick - lastTick) * TICK_MS - nowMs);
+    }
+
+    /**
+     * Forget the history and any learned cycle
+     */
+    public void reset() {
+        historyLength = 0;
+        forgetCycle();
+    }
+
+    private long currentTick(long nowMs) {
+        return lastTick + Math.max(0, (nowMs - lastStepAt) / TICK_MS);
+    }
+
+    private int cycleIndex(long tick) {
+        return (int) Math.floorMod(tick - anchorTick, (long) period);
+    }
+
+    private void restartHistory(long timeMs, int x, int y) {
+        lastTick = 0;
+        historyX[0] = x;
+        historyY[0] = y;
+        historyLength = 1;
+        lastStepAt = timeMs;
+        lastObservedAt = timeMs;
+        if (period > 0) {
+            // Tick numbering starts again, so find where in the known cycle the guardian is
+            reanchor();
+        }
+    }
+
+    private void append(int x, int y) {
+        if (historyLength == MAX_HISTORY) {
+            int keep = MAX_HISTORY / 2;
+            System.arraycopy(historyX, MAX_HISTORY - keep, historyX, 0, keep);
+            System.arraycopy(historyY, MAX_HISTORY - keep, historyY, 0, keep);
+            historyLength = keep;
+        }
+        historyX[historyLength] = x;
+        historyY[historyLength] = y;
+        historyLength++;
+        lastTick++;
+    }
+
+    /**
+     * Look for the shortest period where the last full loop of the history repeats the loop before it
+     */
+    private void learn() {
+        for (int p = MIN_PERIOD; p * 2 <= historyLength; p++) {
+            if (repeats(p) && hasMovement(p)) {
+                period = p;
+                cycleX = new int[p];
+                cycleY = new int[p];
+                int start = historyLength - p;
+                for (int i = 0; i < p; i++) {
+                    cycleX[i] = historyX[start + i];
+                    cycleY[i] = historyY[start + i];
+                }
+                anchorTick = lastTick - (p - 1);
+                mismatches = 0;
+                return;
+            }
+        }
+    }
+
+    private boolean repeats(int p) {
+        for (int i = historyLength - p; i < historyLength; i++) {
+            if (historyX[i] != historyX[i - p] || historyY[i] != historyY[i - p]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasMovement(int p) {
+        int start = historyLength - p;
+        for (int i = start + 1; i < historyLength; i++) {
+            if (historyX[i] != historyX[start] || historyY[i] != historyY[start]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void verify() {
+        int index = cycleIndex(lastTick);
+        int last = historyLength - 1;
+        if (cycleX[index] == historyX[last] && cycleY[index] == historyY[last]) {
+            mismatches = 0;
+            confirmations++;
+            return;
+        }
+        confirmations = 0;
+        if (reanchor()) {
+            return;
+        }
+        if (++mismatches > MAX_MISMATCHES) {
+            forgetCycle();
+            learn();
+        }
+    }
+
+    /**
+     * Find the phase that explains the most recent history, checking as many ticks as are known up to a full loop
+     */
+    private boolean reanchor() {
+        int window = Math.min(historyLength, period);
+        int last = historyLength - 1;
+        for (int offset = 0; offset < period; offset++) {
+            boolean matches = true;
+            for (int back = 0; back < window && matches; back++) {
+                int index = Math.floorMod(offset - back, period);
+                matches = cycleX[index] == historyX[last - back] && cycleY[index] == historyY[last - back];
+            }
+            if (matches) {
+                anchorTick = lastTick - offset;
+                mismatches = 0;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void forgetCycle() {
+        period = 0;
+        confirmations = 0;
+        cycleX = null;
+        cycleY = null;
+        mismatches = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PatrolModel{guardianId=%d, period=%d, history=%d}", guardianId, period, historyLength);
+    }
+}
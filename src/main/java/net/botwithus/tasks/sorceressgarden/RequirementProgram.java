@@ -0,0 +1,213 @@
+package net.botwithus.tasks.sorceressgarden;
+
+import java.util.List;
+
+import net.botwithus.rs3.game.Coordinate;
+import net.botwithus.tasks.sorceressgarden.models.GuardianPosition;
+import net.botwithus.tasks.sorceressgarden.models.GuardianRequirement;
+import net.botwithus.tasks.sorceressgarden.models.NPCDirection.Direction;
+
+/**
+ * A list of GuardianRequirements compiled into flat arrays so they can be checked every update without
+ * allocating or looking at the requirement objects again.
+ *
+ * Positions become int coordinates compared by squared distance, and directions become bitmasks: a step is
+ * turned into the mask of every direction it counts as moving in (a north-east step is NORTH, EAST and
+ * NORTH_EAST), and a direction requirement is met when its bits are all set.
+ */
+public final class RequirementProgram {
+    private static final int OP_EXACT = 0;
+    private static final int OP_ANY_OF = 1;
+    private static final int OP_AVOID = 2;
+    private static final int OP_MIN_DISTANCE = 3;
+    private static final int OP_MOVING = 4;
+
+    private final int count;
+    private final int[] op;
+    private final int[] guardianIds;
+    private final double[] limitSq;
+    // Position lists live in one shared table, each requirement owning [posStart, posEnd)
+    private final int[] posStart;
+    private final int[] posEnd;
+    private final int[] posX;
+    private final int[] posY;
+    private final int[] posMask;
+    private final int[] directionMask;
+    private final boolean[] negate;
+    // MIN_DISTANCE measured from the player rather than a fixed position
+    private final boolean[] fromPlayer;
+    private final boolean usesPlayer;
+    private final String[] descriptions;
+
+    private RequirementProgram(List<GuardianRequirement> requirements) {
+        count = requirements.size();
+        op = new int[count];
+        guardianIds = new int[count];
+        limitSq = new double[count];
+        posStart = new int[count];
+        posEnd = new int[count];
+        directionMask = new int[count];
+        negate = new boolean[count];
+        fromPlayer = new boolean[count];
+        descriptions = new String[count];
+
+        int positions = 0;
+        for (GuardianRequirement requirement : requirements) {
+            positions += switch (requirement.getType()) {
+                case EXACT_POSITION, MIN_DISTANCE -> 1;
+                case MULTIPLE_POSITIONS -> requirement.getValidPositions().size();
+                case AVOID_POSITIONS -> requirement.getAvoidPositions().size();
+                default -> 0;
+            };
+        }
+        posX = new int[positions];
+        posY = new int[positions];
+        posMask = new int[positions];
+
+        int next = 0;
+        boolean anyFromPlayer = false;
+        for (int i = 0; i < count; i++) {
+            GuardianRequirement requirement = requirements.get(i);
+            guardianIds[i] = requirement.getGuardianId();
+            limitSq[i] = requirement.getTolerance() * requirement.getTolerance();
+            posStart[i] = next;
+            switch (requirement.getType()) {
+                case EXACT_POSITION -> {
+                    op[i] = OP_EXACT;
+                    next = addPosition(next, requirement.getExactPosition(), null);
+                    descriptions[i] = "at " + requirement.getExactPosition();
+                }
+                case MULTIPLE_POSITIONS -> {
+                    op[i] = OP_ANY_OF;
+                    for (GuardianPosition position : requirement.getValidPositions()) {
+                        next = addPosition(next, position.getPosition(), position.getMovingDirection());
+                    }
+                    descriptions[i] = "at any of " + requirement.getValidPositions().size() + " positions";
+                }
+                case AVOID_POSITIONS -> {
+                    op[i] = OP_AVOID;
+                    for (Coordinate position : requirement.getAvoidPositions()) {
+                        next = addPosition(next, position, null);
+                    }
+                    descriptions[i] = "avoid " + requirement.getAvoidPositions();
+                }
+                case MIN_DISTANCE -> {
+                    op[i] = OP_MIN_DISTANCE;
+                    double minDistance = requirement.getMinDistance();
+                    limitSq[i] = minDistance * minDistance;
+                    fromPlayer[i] = requirement.getExactPosition() == null;
+                    anyFromPlayer |= fromPlayer[i];
+                    if (!fromPlayer[i]) {
+                        next = addPosition(next, requirement.getExactPosition(), null);
+                    }
+                    descriptions[i] = "at least " + minDistance + " tiles from "
+                            + (fromPlayer[i] ? "the player" : requirement.getExactPosition());
+                }
+                case MOVING_DIRECTION -> {
+                    op[i] = OP_MOVING;
+                    directionMask[i] = mask(requirement.getMovingDirection());
+                    negate[i] = requirement.isAvoidDirection();
+                    descriptions[i] = (negate[i] ? "not moving " : "moving ") + requirement.getMovingDirection();
+                }
+            }
+            posEnd[i] = next;
+        }
+        usesPlayer = anyFromPlayer;
+    }
+
+    public static RequirementProgram compile(List<GuardianRequirement> requirements) {
+        return new RequirementProgram(requirements);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int getGuardianId(int index) {
+        return guardianIds[index];
+    }
+
+    /**
+     * Whether any requirement needs the player's position
+     */
+    public boolean usesPlayer() {
+        return usesPlayer;
+    }
+
+    public String describe(int index) {
+        return descriptions[index];
+    }
+
+    /**
+     * Check one requirement against a guardian's tile and its last step
+     */
+    public boolean test(int index, int x, int y, int dx, int dy, int playerX, int playerY) {
+        switch (op[index]) {
+            case OP_EXACT -> {
+                return nearAny(index, x, y, 0);
+            }
+            case OP_ANY_OF -> {
+                return nearAny(index, x, y, movementMask(dx, dy));
+            }
+            case OP_AVOID -> {
+                return !nearAny(index, x, y, 0);
+            }
+            case OP_MIN_DISTANCE -> {
+                int refX = fromPlayer[index] ? playerX : posX[posStart[index]];
+                int refY = fromPlayer[index] ? playerY : posY[posStart[index]];
+                return distanceSq(x, y, refX, refY) >= limitSq[index];
+            }
+            case OP_MOVING -> {
+                int required = directionMask[index];
+                boolean moving = required != 0 && (movementMask(dx, dy) & required) == required;
+                return moving != negate[index];
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Mask of every direction a step counts as moving in
+     */
+    public static int movementMask(int dx, int dy) {
+        int mask = 0;
+        if (dy > 0) mask |= mask(Direction.NORTH);
+        if (dy < 0) mask |= mask(Direction.SOUTH);
+        if (dx > 0) mask |= mask(Direction.EAST);
+        if (dx < 0) mask |= mask(Direction.WEST);
+        if (dy > 0 && dx > 0) mask |= mask(Direction.NORTH_EAST);
+        if (dy > 0 && dx < 0) mask |= mask(Direction.NORTH_WEST);
+        if (dy < 0 && dx > 0) mask |= mask(Direction.SOUTH_EAST);
+        if (dy < 0 && dx < 0) mask |= mask(Direction.SOUTH_WEST);
+        return mask;
+    }
+
+    private boolean nearAny(int index, int x, int y, int moveMask) {
+        for (int p = posStart[index]; p < posEnd[index]; p++) {
+            if (distanceSq(x, y, posX[p], posY[p]) <= limitSq[index]
+                    && (posMask[p] & moveMask) == posMask[p]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int addPosition(int next, Coordinate position, Direction direction) {
+        posX[next] = position.getX();
+        posY[next] = position.getY();
+        posMask[next] = mask(direction);
+        return next + 1;
+    }
+
+    private static int mask(Direction direction) {
+        return direction == null ? 0 : 1 << direction.ordinal();
+    }
+
+    private static int distanceSq(int x, int y, int otherX, int otherY) {
+        int dx = otherX - x;
+        int dy = otherY - y;
+        return dx * dx + dy * dy;
+    }
+}
@@ -0,0 +1,252 @@
+package net.botwithus.tasks.sorceressgarden;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import net.botwithus.Log;
+import net.botwithus.rs3.game.Area;
+import net.botwithus.rs3.game.Coordinate;
+
+/**
+ * Plans the fastest route through a garden around the guardians' predicted patrols.
+ *
+ * Runs A* over (tile, game tick) states: each tick the player can stand still or take a step it has seen
+ * taken, and a state is unusable when a guardian is predicted within DANGER_RADIUS of the tile on that tick.
+ * There is no collision data for the maze and two known tiles can have a hedge between them, so steps come
+ * from observed moves only: consecutive tiles of the player and of the guardians' learned patrols. A move of
+ * two tiles in a straight line, as when running, counts as two steps through the tile between; other jumps
+ * are ignored. Diagonal steps also need both tiles beside them known, as the game won't cut a corner past a
+ * wall. The map grows every run.
+ *
+ * Planning is only attempted while every guardian's patrol is learned and confirmed; otherwise plan returns
+ * null and the garden walks its scripted waypoints.
+ */
+public class SafePathPlanner {
+    private static final Log LOG = Log.get("SafePathPlanner");
+
+    private static final int HORIZON_TICKS = 100;
+    private static final int DANGER_RADIUS = 1;
+    private static final int MIN_CONFIRMATIONS = 8;
+    private static final int[] STEP_X = {0, 0, 1, 1, 1, 0, -1, -1, -1};
+    private static final int[] STEP_Y = {0, 1, 1, 0, -1, -1, -1, 0, 1};
+
+    private final GuardianTracker guardianTracker;
+    private final Area gardenArea;
+    // Known tiles, each with a bit per entry of STEP_X/STEP_Y that has been seen taken from it
+    private final Map<Integer, Integer> moves = new HashMap<>();
+    private boolean hasLastPlayerTile;
+    private int lastPlayerX;
+    private int lastPlayerY;
+
+    public SafePathPlanner(GuardianTracker guardianTracker, Area gardenArea) {
+        this.guardianTracker = guardianTracker;
+        this.gardenArea = gardenArea;
+    }
+
+    /**
+     * Remember where the player is, and the step from where it was last seen if that step is unambiguous
+     */
+    public void recordPlayerPosition(Coordinate position) {
+        if (position == null || !gardenArea.contains(position)) {
+            hasLastPlayerTile = false;
+            return;
+        }
+        int x = position.getX();
+        int y = position.getY();
+        moves.putIfAbsent(pack(x, y), 0);
+        if (hasLastPlayerTile) {
+            recordTransition(lastPlayerX, lastPlayerY, x, y);
+        }
+        hasLastPlayerTile = true;
+        lastPlayerX = x;
+        lastPlayerY = y;
+    }
+
+    public int getKnownTileCount() {
+        return moves.size();
+    }
+
+    public boolean isConfident() {
+        return guardianTracker.isPatrolPredictionConfident(MIN_CONFIRMATIONS);
+    }
+
+    /**
+     * @return the tile to stand on at each tick from now (index 0 is the start), or null if prediction
+     * isn't trusted yet or no safe route exists within the horizon
+     */
+    public List<Coordinate> plan(Coordinate start, Coordinate goal) {
+        if (start == null || goal == null || !isConfident()) {
+            return null;
+        }
+        learnPatrolSteps();
+        recordPlayerPosition(start);
+        if (moves.getOrDefault(pack(start.getX(), start.getY()), 0) == 0 || !moves.containsKey(pack(goal.getX(), goal.getY()))) {
+            return null;
+        }
+
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (int key : moves.keySet()) {
+            minX = Math.min(minX, unpackX(key));
+            maxX = Math.max(maxX, unpackX(key));
+            minY = Math.min(minY, unpackY(key));
+            maxY = Math.max(maxY, unpackY(key));
+        }
+        int width = maxX - minX + 1;
+        int height = maxY - minY + 1;
+        int tiles = width * height;
+        boolean[] open = new boolean[tiles];
+        int[] tileMoves = new int[tiles];
+        for (Map.Entry<Integer, Integer> entry : moves.entrySet()) {
+            int tile = (unpackX(entry.getKey()) - minX) * height + unpackY(entry.getKey()) - minY;
+            open[tile] = true;
+            tileMoves[tile] = entry.getValue();
+        }
+
+        int guardianCount = guardianTracker.getActiveGuardians().size();
+        int[] guardianXs = new int[guardianCount];
+        int[] guardianYs = new int[guardianCount];
+        boolean[] danger = new boolean[(HORIZON_TICKS + 1) * tiles];
+        for (int tick = 0; tick <= HORIZON_TICKS; tick++) {
+            int count = guardianTracker.predictGuardianTiles(tick, guardianXs, guardianYs);
+            for (int g = 0; g < count; g++) {
+                for (int x = guardianXs[g] - DANGER_RADIUS; x <= guardianXs[g] + DANGER_RADIUS; x++) {
+                    for (int y = guardianYs[g] - DANGER_RADIUS; y <= guardianYs[g] + DANGER_RADIUS; y++) {
+                        if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                            danger[tick * tiles + (x - minX) * height + y - minY] = true;
+                        }
+                    }
+                }
+            }
+        }
+
+        int startTile = (start.getX() - minX) * height + start.getY() - minY;
+        int goalX = goal.getX() - minX;
+        int goalY = goal.getY() - minY;
+        int[] parent = new int[(HORIZON_TICKS + 1) * tiles];
+        Arrays.fill(parent, -1);
+        boolean[] closed = new boolean[parent.length];
+        // Queue entries pack f-score above the state index; states are tick * tiles + tile
+        PriorityQueue<Long> queue = new PriorityQueue<>();
+        parent[startTile] = startTile;
+        queue.add(((long) heuristic(start.getX() - minX, start.getY() - minY, goalX, goalY) << 32) | startTile);
+
+        int found = -1;
+        while (!queue.isEmpty()) {
+            int state = (int) (queue.poll() & 0xFFFFFFFFL);
+            if (closed[state]) {
+                continue;
+            }
+            closed[state] = true;
+            int tick = state / tiles;
+            int tile = state % tiles;
+            int x = tile / height;
+            int y = tile % height;
+            if (x == goalX && y == goalY) {
+                found = state;
+                break;
+            }
+            if (tick == HORIZON_TICKS) {
+                continue;
+            }
+            for (int move = 0; move < STEP_X.length; move++) {
+                // Standing still is always possible, any other step has to have been seen taken
+                if (move != 0 && (tileMoves[tile] & (1 << move)) == 0) {
+                    continue;
+                }
+                int nx = x + STEP_X[move];
+                int ny = y + STEP_Y[move];
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height || !open[nx * height + ny]) {
+                    continue;
+                }
+                // Only cut a corner when both tiles beside it are known to be open
+                if (STEP_X[move] != 0 && STEP_Y[move] != 0
+                        && (!open[nx * height + y] || !open[x * height + ny])) {
+                    continue;
+                }
+                int next = (tick + 1) * tiles + nx * height + ny;
+                if (closed[next] || danger[next] || parent[next] != -1) {
+                    continue;
+                }
+                parent[next] = state;
+                long f = tick + 1 + heuristic(nx, ny, goalX, goalY);
+                queue.add((f << 32) | next);
+            }
+        }
+
+        if (found == -1) {
+            LOG.debug(() -> "No safe route from " + start + " to " + goal + " within " + HORIZON_TICKS + " ticks");
+            return null;
+        }
+
+        List<Coordinate> route = new ArrayList<>();
+        for (int state = found; ; state = parent[state]) {
+            int tile = state % tiles;
+            route.add(0, new Coordinate(tile / height + minX, tile % height + minY, start.getZ()));
+            if (state == startTile) {
+                break;
+            }
+        }
+        LOG.info(() -> "Planned route to " + goal + " in " + (route.size() - 1) + " ticks over " + moves.size() + " known tiles");
+        return route;
+    }
+
+    private void learnPatrolSteps() {
+        for (PatrolModel patrol : guardianTracker.getPatrolModels()) {
+            int period = patrol.getPeriod();
+            for (int i = 0; i < period; i++) {
+                int next = (i + 1) % period;
+                recordTransition(patrol.getCycleX(i), patrol.getCycleY(i), patrol.getCycleX(next), patrol.getCycleY(next));
+            }
+        }
+    }
+
+    /**
+     * Record a move between two consecutively seen tiles as steps both ways. A straight two-tile move goes
+     * through the tile between; any other longer move can't be pinned down and is dropped.
+     */
+    private void recordTransition(int fromX, int fromY, int toX, int toY) {
+        int dx = toX - fromX;
+        int dy = toY - fromY;
+        int distance = Math.max(Math.abs(dx), Math.abs(dy));
+        if (distance == 1) {
+            recordStep(fromX, fromY, toX, toY);
+        } else if (distance == 2 && (dx == 0 || dy == 0 || Math.abs(dx) == Math.abs(dy))) {
+            int midX = fromX + dx / 2;
+            int midY = fromY + dy / 2;
+            recordStep(fromX, fromY, midX, midY);
+            recordStep(midX, midY, toX, toY);
+        }
+    }
+
+    private void recordStep(int fromX, int fromY, int toX, int toY) {
+        int dx = toX - fromX;
+        int dy = toY - fromY;
+        for (int move = 1; move < STEP_X.length; move++) {
+            if (STEP_X[move] == dx && STEP_Y[move] == dy) {
+                moves.merge(pack(fromX, fromY), 1 << move, (a, b) -> a | b);
+            } else if (STEP_X[move] == -dx && STEP_Y[move] == -dy) {
+                moves.merge(pack(toX, toY), 1 << move, (a, b) -> a | b);
+            }
+        }
+    }
+
+    private static int heuristic(int x, int y, int goalX, int goalY) {
+        return Math.max(Math.abs(goalX - x), Math.abs(goalY - y));
+    }
+
+    private static int pack(int x, int y) {
+        return (x << 16) | (y & 0xFFFF);
+    }
+
+    private static int unpackX(int key) {
+        return key >>> 16;
+    }
+
+    private static int unpackY(int key) {
+        return key & 0xFFFF;
+    }
+}
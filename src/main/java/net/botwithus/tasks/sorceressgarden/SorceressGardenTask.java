@@ -4,6 +4,8 @@ import java.util.HashSet;
 import java.util.Set;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
+import net.botwithus.Log;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.rs3.game.Area;
 import net.botwithus.rs3.game.Client;
@@ -11,14 +13,11 @@ import net.botwithus.rs3.game.Coordinate;
 import net.botwithus.rs3.game.inventories.Bank;
 import net.botwithus.rs3.game.movement.Movement;
 import net.botwithus.rs3.game.movement.NavPath;
-import net.botwithus.rs3.game.queries.builders.characters.NpcQuery;
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.characters.npc.Npc;
 import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
 import net.botwithus.rs3.script.Execution;
-import net.botwithus.rs3.script.ScriptConsole;
 import net.botwithus.tasks.Task;
 import net.botwithus.tasks.sorceressgarden.gardens.AutumnGarden;
 import net.botwithus.tasks.sorceressgarden.gardens.BaseGarden;
@@ -31,6 +30,7 @@ import net.botwithus.tasks.sorceressgarden.models.GardenType;
  * Main task coordinator for Sorceress's Garden minigame
  */
 public class SorceressGardenTask implements Task {
+    private static final Log LOG = Log.get("SorceressGarden");
     private final CoaezUtility script;
     private final GardenManager gardenManager;
     private final GuardianTracker guardianTracker;
@@ -64,31 +64,31 @@ public class SorceressGardenTask implements Task {
     @Override
     public void execute() {        
         try {
-            ScriptConsole.println("Executing Sorceress Garden task...");
+            LOG.debug("Executing Sorceress Garden task...");
             
             if (selectedGardens.isEmpty()) {
-                ScriptConsole.println("No gardens selected, waiting for selection");
+                LOG.info("No gardens selected, waiting for selection");
                 return;
             }
 
             if (Backpack.isFull()) {
-                ScriptConsole.println("Backpack is full, banking at Shantay-pass");
+                LOG.info("Backpack is full, banking at Shantay-pass");
                 handleBankingAndReturn();
                 return;
             }
 
-            ScriptConsole.println("Checking if we're in Sorceress's Garden central area or the garden itself...");
+            LOG.info("Checking if we're in Sorceress's Garden central area or the garden itself...");
             if (!isInSorceressGarden() && (!isInWinterGarden() && !isInSpringGarden() && !isInAutumnGarden() && !isInSummerGarden())) {
-                ScriptConsole.println("Not in Sorceress's Garden central area or gardens, teleporting...");
+                LOG.info("Not in Sorceress's Garden central area or gardens, teleporting...");
                 teleportToGarden();
                 return;
             }
             
-            ScriptConsole.println("In Sorceress's Garden central area, executing garden logic...");
+            LOG.info("In Sorceress's Garden central area, executing garden logic...");
             gardenManager.executeCurrentGarden();
             
         } catch (Exception e) {
-            ScriptConsole.println("Error in Sorceress Garden task: " + e.getMessage());
+            LOG.info(() -> "Error in Sorceress Garden task: " + e.getMessage());
             e.printStackTrace();
         }
     }
@@ -99,12 +99,12 @@ public class SorceressGardenTask implements Task {
     private boolean isInSorceressGarden() {
         LocalPlayer player = Client.getLocalPlayer();
         if (player == null) {
-            ScriptConsole.println("Player is null, cannot check location");
+            LOG.info("Player is null, cannot check location");
             return false;
         }
         
         boolean inCentralArea = CENTRAL_GARDEN_AREA.contains(player.getCoordinate());
-        ScriptConsole.println("Player position: " + player.getCoordinate() + ", In central garden area: " + inCentralArea);
+        LOG.info(() -> "Player position: " + player.getCoordinate() + ", In central garden area: " + inCentralArea);
         
         return inCentralArea;
     }
@@ -112,12 +112,12 @@ public class SorceressGardenTask implements Task {
     private boolean isInWinterGarden() {
         LocalPlayer player = Client.getLocalPlayer();
         if (player == null) {
-            ScriptConsole.println("Player is null, cannot check location");
+            LOG.info("Player is null, cannot check location");
             return false;
         }
 
         boolean inWinterGarden = WINTER_GARDEN_AREA.contains(player.getCoordinate());
-        ScriptConsole.println("Player position: " + player.getCoordinate() + ", In winter garden area: " + inWinterGarden);
+        LOG.info(() -> "Player position: " + player.getCoordinate() + ", In winter garden area: " + inWinterGarden);
         
         return inWinterGarden;
     }
@@ -125,12 +125,12 @@ public class SorceressGardenTask implements Task {
     private boolean isInSpringGarden() {
         LocalPlayer player = Client.getLocalPlayer();
         if (player == null) {
-            ScriptConsole.println("Player is null, cannot check location");
+            LOG.info("Player is null, cannot check location");
             return false;
         }
 
         boolean inSpringGarden = SPRING_GARDEN_AREA.contains(player.getCoordinate());
-        ScriptConsole.println("Player position: " + player.getCoordinate() + ", In spring garden area: " + inSpringGarden);
+        LOG.info(() -> "Player position: " + player.getCoordinate() + ", In spring garden area: " + inSpringGarden);
         
         return inSpringGarden;
     }
@@ -138,12 +138,12 @@ public class SorceressGardenTask implements Task {
     private boolean isInAutumnGarden() {
         LocalPlayer player = Client.getLocalPlayer();
         if (player == null) {
-            ScriptConsole.println("Player is null, cannot check location");
+            LOG.info("Player is null, cannot check location");
             return false;
         }
 
         boolean inAutumnGarden = AUTUMN_GARDEN_AREA.contains(player.getCoordinate());
-        ScriptConsole.println("Player position: " + player.getCoordinate() + ", In autumn garden area: " + inAutumnGarden);
+        LOG.info(() -> "Player position: " + player.getCoordinate() + ", In autumn garden area: " + inAutumnGarden);
         
         return inAutumnGarden;
     }
@@ -151,12 +151,12 @@ public class SorceressGardenTask implements Task {
     private boolean isInSummerGarden() {
         LocalPlayer player = Client.getLocalPlayer();
         if (player == null) {
-            ScriptConsole.println("Player is null, cannot check location");
+            LOG.info("Player is null, cannot check location");
             return false;
         }
 
         boolean inSummerGarden = SUMMER_GARDEN_AREA.contains(player.getCoordinate());
-        ScriptConsole.println("Player position: " + player.getCoordinate() + ", In summer garden area: " + inSummerGarden);
+        LOG.info(() -> "Player position: " + player.getCoordinate() + ", In summer garden area: " + inSummerGarden);
         
         return inSummerGarden;
     }
@@ -165,40 +165,40 @@ public class SorceressGardenTask implements Task {
      * Teleport to the Sorceress's Garden (via apprentice only)
      */
     private void teleportToGarden() {
-        ScriptConsole.println("Teleporting to Sorceress's Garden");
+        LOG.info("Teleporting to Sorceress's Garden");
         
         if(Backpack.contains("Broomstick")) {
-            ScriptConsole.println("Using broomstick to teleport to Sorceress's Garden");
+            LOG.info("Using broomstick to teleport to Sorceress's Garden");
             Backpack.interact("Broomstick", "Teleport");
             Execution.delayUntil(8000,() -> isInSorceressGarden());
             return;
         } else {
-            ScriptConsole.println("No broomstick found, moving to apprentice...");
+            LOG.info("No broomstick found, moving to apprentice...");
         }
 
         if (!isInApprenticeArea()) {
-            ScriptConsole.println("Not in apprentice area, navigating to apprentice...");
+            LOG.info("Not in apprentice area, navigating to apprentice...");
             navigateToApprentice();
             return;
         }
 
-        EntityResultSet<Npc> apprenticeResults = NpcQuery.newQuery()
+        EntityResultSet<Npc> apprenticeResults = GameQueries.npcs()
             .name("Apprentice")
             .option("Teleport")
             .results();
 
         if (!apprenticeResults.isEmpty()) {
-            ScriptConsole.println("Using apprentice to teleport to Sorceress's Garden");
+            LOG.info("Using apprentice to teleport to Sorceress's Garden");
             apprenticeResults.nearest().interact("Teleport");
 
             Execution.delayUntil(8000,() -> isInSorceressGarden());
 
             if (isInSorceressGarden()) {
-                ScriptConsole.println("Successfully teleported to Sorceress's Garden central area");
+                LOG.info("Successfully teleported to Sorceress's Garden central area");
                 return;
             }
         } else {
-            ScriptConsole.println("Could not find apprentice to teleport");
+            LOG.info("Could not find apprentice to teleport");
         }
     }
 
@@ -210,7 +210,7 @@ public class SorceressGardenTask implements Task {
         if (player == null) return;
 
         if(isInSorceressGarden()) {
-            EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery().name("Fountain").option("Drink-from").results();
+            EntityResultSet<SceneObject> results = GameQueries.sceneObjects().name("Fountain").option("Drink-from").results();
             if(!results.isEmpty()) {
                 results.nearest().interact("Drink-from");
                 Execution.delayUntil(5000, () -> !isInSorceressGarden());
@@ -218,28 +218,28 @@ public class SorceressGardenTask implements Task {
         }
 
         if (!isInAlKharidBank()) {
-            ScriptConsole.println("Navigating to Shantay-pass bank...");
+            LOG.info("Navigating to Shantay-pass bank...");
             navigateToAlKharidBank();
             return;
         }
 
-        ScriptConsole.println("At Shantay-pass bank...");
+        LOG.info("At Shantay-pass bank...");
         if(!Bank.isOpen() && Backpack.isFull()) {
-            EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery().name("Shantay chest").option("Open").results();
+            EntityResultSet<SceneObject> results = GameQueries.sceneObjects().name("Shantay chest").option("Open").results();
             if(!results.isEmpty()) {
                 results.nearest().interact("Open");
                 Execution.delayUntil(5000, () -> Bank.isOpen());
                 return;
             }
         } else {
-            ScriptConsole.println("Bank is open");
+            LOG.info("Bank is open");
             Bank.depositAll();
             Execution.delayUntil(5000, () -> !Backpack.isFull());
             return;
         }
 
         if (!isInApprenticeArea()) {
-            ScriptConsole.println("Banking done, navigating to apprentice...");
+            LOG.info("Banking done, navigating to apprentice...");
             navigateToApprentice();
         }
     }
@@ -260,18 +260,18 @@ public class SorceressGardenTask implements Task {
         if (path != null) {
             Movement.traverse(path);
         } else {
-            ScriptConsole.println("No path found to Shantay-pass bank");
+            LOG.info("No path found to Shantay-pass bank");
         }
     }
 
     private void navigateToApprentice() {
-        ScriptConsole.println("Navigating to apprentice area...");
+        LOG.info("Navigating to apprentice area...");
         Coordinate target = APPRENTICE_AREA.getRandomWalkableCoordinate();
         NavPath path = NavPath.resolve(target, Movement.DISABLE_TELEPORTS);
         if (path != null) {
             Movement.traverse(path);
         } else {
-            ScriptConsole.println("No path found to apprentice area");
+            LOG.info("No path found to apprentice area");
         }
     }
     
@@ -281,7 +281,7 @@ public class SorceressGardenTask implements Task {
     public void setSelectedGardens(Set<GardenType> selectedGardens) {
         this.selectedGardens = new HashSet<>(selectedGardens);
         gardenManager.setSelectedGardens(this.selectedGardens);
-        ScriptConsole.println("Updated selected gardens: " + this.selectedGardens);
+        LOG.info(() -> "Updated selected gardens: " + this.selectedGardens);
     }
     
     
@@ -290,7 +290,14 @@ public class SorceressGardenTask implements Task {
      */
     public void stop() {
         gardenManager.stop();
-        ScriptConsole.println("Stopped Sorceress Garden task");
+        LOG.info("Stopped Sorceress Garden task");
+    }
+
+    /**
+     * Close any garden run being recorded when the script is deactivated, so its log isn't left truncated
+     */
+    public void onDeactivation() {
+        gardenManager.abortRuns();
     }
 
     /**
@@ -347,7 +354,7 @@ public class SorceressGardenTask implements Task {
      */
     public void reset() {
         gardenManager.reset();
-        ScriptConsole.println("Reset all gardens");
+        LOG.info("Reset all gardens");
     }
     
     /**
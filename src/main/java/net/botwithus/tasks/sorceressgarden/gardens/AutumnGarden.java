@@ -1,20 +1,20 @@
 package net.botwithus.tasks.sorceressgarden.gardens;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.rs3.game.Area;
 import net.botwithus.rs3.game.Client;
 import net.botwithus.rs3.game.Coordinate;
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
 import net.botwithus.rs3.script.Execution;
 import net.botwithus.rs3.script.ScriptConsole;
+import net.botwithus.tasks.sorceressgarden.models.GardenRoute;
 import net.botwithus.tasks.sorceressgarden.models.GardenState;
 import net.botwithus.tasks.sorceressgarden.models.GardenType;
 import net.botwithus.tasks.sorceressgarden.models.GuardianRequirement;
@@ -105,6 +105,24 @@ public class AutumnGarden extends BaseGarden {
         }),
     };
 
+    public static final GardenRoute ROUTE = new GardenRoute(
+        List.of(
+            WAYPOINT_1,
+            WAYPOINT_2,
+            WAYPOINT_3,
+            WAYPOINT_4,
+            WAYPOINT_5,
+            WAYPOINT_6,
+            WAYPOINT_7),
+        List.of(
+            GUARDIAN_REQUIREMENTS_WAYPOINT_1,
+            GUARDIAN_REQUIREMENTS_WAYPOINT_2,
+            GUARDIAN_REQUIREMENTS_WAYPOINT_3,
+            GUARDIAN_REQUIREMENTS_WAYPOINT_4,
+            GUARDIAN_REQUIREMENTS_WAYPOINT_5,
+            GUARDIAN_REQUIREMENTS_WAYPOINT_6,
+            GUARDIAN_REQUIREMENTS_WAYPOINT_7));
+
     public AutumnGarden(CoaezUtility script) {
         super(script, GardenType.AUTUMN, AUTUMN_DOOR_ID, AUTUMN_START, AUTUMN_TREE, AUTUMN_GUARDIAN_IDS, AUTUMN_GARDEN_AREA);
     }
@@ -125,7 +143,7 @@ public class AutumnGarden extends BaseGarden {
     @Override
     protected boolean enterGarden() {
         ScriptConsole.println("Attempting to enter Autumn Garden through door ID: " + AUTUMN_DOOR_ID);
-        EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery().id(AUTUMN_DOOR_ID).option("Open").hidden(false).results();
+        EntityResultSet<SceneObject> results = GameQueries.sceneObjects().id(AUTUMN_DOOR_ID).option("Open").hidden(false).results();
         if (!results.isEmpty()) {
             results.nearest().interact("Open");
         } else {
@@ -139,7 +157,9 @@ public class AutumnGarden extends BaseGarden {
         ScriptConsole.println("Navigating to Autumn Garden tree with guardian tracking");
         List<Waypoint> waypoints = getWaypoints();
         if (waypoints.isEmpty()) return false;
-        for (int i = 0; i < waypoints.size(); i++) {
+        int resumeFrom = navigateWithPlanner(waypoints);
+        if (resumeFrom >= waypoints.size()) return true;
+        for (int i = resumeFrom; i < waypoints.size(); i++) {
             if(!script.isActive()) break;
             if(!isInAutumnGardenArea()) break;
             Waypoint waypoint = waypoints.get(i);
@@ -163,7 +183,7 @@ public class AutumnGarden extends BaseGarden {
     @Override
     protected boolean harvestFruit() {
         ScriptConsole.println("Harvesting Autumn sq'irk fruit");
-        EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery().name("Sq'irk tree").option("Pick-fruit").results();
+        EntityResultSet<SceneObject> results = GameQueries.sceneObjects().name("Sq'irk tree").option("Pick-fruit").results();
         if (!results.isEmpty()) {
             results.nearest().interact("Pick-fruit");
         }
@@ -266,21 +286,9 @@ public class AutumnGarden extends BaseGarden {
         return guardianRequirements.length;
     }
 
+    @Override
     public List<GuardianRequirement> getGuardianRequirementsForWaypoint(int waypointIndex) {
-        GuardianRequirement[] guardianRequirements;
-        switch (waypointIndex) {
-            case 1 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_1;
-            case 2 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_2;
-            case 3 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_3;
-            case 4 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_4;
-            case 5 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_5;
-            case 6 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_6;
-            case 7 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_7;
-            default -> {
-                return new ArrayList<>();
-            }
-        }
-        return Arrays.asList(guardianRequirements);
+        return ROUTE.getRequirements(waypointIndex);
     }
 
     private boolean isInAutumnGardenArea() {
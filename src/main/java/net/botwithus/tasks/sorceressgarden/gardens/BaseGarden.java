@@ -1,5 +1,6 @@
 package net.botwithus.tasks.sorceressgarden.gardens;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -10,11 +11,15 @@ import net.botwithus.rs3.game.Coordinate;
 import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
 import net.botwithus.rs3.script.Execution;
 import net.botwithus.rs3.script.ScriptConsole;
+import net.botwithus.tasks.sorceressgarden.GardenRunLog;
+import net.botwithus.tasks.sorceressgarden.GardenRunRecorder;
 import net.botwithus.tasks.sorceressgarden.GuardianTracker;
 import net.botwithus.tasks.sorceressgarden.PathNavigator;
+import net.botwithus.tasks.sorceressgarden.SafePathPlanner;
 import net.botwithus.tasks.sorceressgarden.models.GardenPath;
 import net.botwithus.tasks.sorceressgarden.models.GardenState;
 import net.botwithus.tasks.sorceressgarden.models.GardenType;
+import net.botwithus.tasks.sorceressgarden.models.GuardianRequirement;
 import net.botwithus.tasks.sorceressgarden.models.Waypoint;
 
 /**
@@ -24,6 +29,8 @@ public abstract class BaseGarden {
     protected final CoaezUtility script;
     protected final GuardianTracker guardianTracker;
     protected final PathNavigator pathNavigator;
+    protected final SafePathPlanner pathPlanner;
+    protected final GardenRunRecorder runRecorder;
     
     protected final GardenType gardenType;
     protected final int doorId;
@@ -39,6 +46,16 @@ public abstract class BaseGarden {
     protected boolean isStopped;
     protected long lastCompletionTime;
     protected static final long COMPLETION_COOLDOWN = 60000;
+    private static final int MAX_ROUTE_ATTEMPTS = 3;
+    private RunListener runListener;
+    private long runStartedAt;
+
+    /**
+     * Told how each run ended and how long it took
+     */
+    public interface RunListener {
+        void onRunFinished(GardenType gardenType, GardenRunLog.Outcome outcome, long durationMs);
+    }
     
     public BaseGarden(CoaezUtility script, GardenType gardenType, int doorId, 
                      Coordinate startPosition, Coordinate treePosition, int[] guardianIds, Area gardenArea) {
@@ -52,6 +69,10 @@ public abstract class BaseGarden {
         
         this.guardianTracker = new GuardianTracker(script);
         this.pathNavigator = new PathNavigator(script, guardianTracker);
+        this.pathPlanner = new SafePathPlanner(guardianTracker, gardenArea);
+        this.pathNavigator.setPathPlanner(pathPlanner);
+        this.runRecorder = new GardenRunRecorder(gardenType);
+        this.guardianTracker.setRunRecorder(runRecorder);
         this.currentState = GardenState.IDLE;
         this.isCompleted = false;
         this.hasFailed = false;
@@ -71,12 +92,18 @@ public abstract class BaseGarden {
         if (player == null || !gardenArea.contains(player.getCoordinate())) {
             if (currentState == GardenState.NAVIGATING || currentState == GardenState.HARVESTING || currentState == GardenState.RETURNING) {
                 ScriptConsole.println("[FAILSAFE] Player is no longer in " + gardenType.getDisplayName() + " area (caught/teleported out). Resetting run.");
+                finishRun(GardenRunLog.Outcome.CAUGHT);
                 reset();
             }
         }
+        GardenState previousState = currentState;
         try {
             switch (currentState) {
-                case IDLE -> currentState = GardenState.ENTERING;
+                case IDLE -> {
+                    currentState = GardenState.ENTERING;
+                    runStartedAt = System.currentTimeMillis();
+                    runRecorder.begin(startPosition, guardianIds.stream().mapToInt(Integer::intValue).toArray());
+                }
                     
                 case ENTERING -> {
                     if (enterGarden()) {
@@ -116,6 +143,36 @@ public abstract class BaseGarden {
             currentState = GardenState.FAILED;
             hasFailed = true;
         }
+        if (currentState != previousState) {
+            runRecorder.recordState(currentState);
+            if (currentState == GardenState.COMPLETED) {
+                finishRun(GardenRunLog.Outcome.COMPLETED);
+            } else if (currentState == GardenState.FAILED) {
+                finishRun(GardenRunLog.Outcome.FAILED);
+            }
+        }
+    }
+
+    public void setRunListener(RunListener runListener) {
+        this.runListener = runListener;
+    }
+
+    /**
+     * Close the run being recorded, if any, as aborted. The state change that would finish it as completed or
+     * failed never comes once the garden is stopped, reset or the script is deactivated.
+     */
+    public void abortRun() {
+        if (runRecorder.isRecording()) {
+            finishRun(GardenRunLog.Outcome.ABORTED);
+        }
+    }
+
+    private void finishRun(GardenRunLog.Outcome outcome) {
+        runRecorder.finish(outcome);
+        if (runListener != null && runStartedAt != 0) {
+            runListener.onRunFinished(gardenType, outcome, System.currentTimeMillis() - runStartedAt);
+        }
+        runStartedAt = 0;
     }
     
     /**
@@ -161,8 +218,72 @@ public abstract class BaseGarden {
         if (gardenPath == null) return false;
         
         guardianTracker.updateGuardianPositions(gardenArea);
+        List<Waypoint> waypoints = gardenPath.getWaypoints();
+        int resumeFrom = navigateWithPlanner(waypoints);
+        if (resumeFrom >= waypoints.size()) return true;
         
-        return pathNavigator.navigatePath(gardenPath.getWaypoints(), gardenArea);
+        return pathNavigator.navigatePath(waypoints.subList(resumeFrom, waypoints.size()), gardenArea);
+    }
+    
+    /**
+     * Walk to the last waypoint along a route planned around the predicted guardian patrols.
+     * When the patrols aren't trusted yet or no route is found, the caller walks its scripted waypoints
+     * instead, starting from the one this returns.
+     * @return waypoints.size() if the tree was reached, 0 if the player wasn't moved, otherwise the index
+     * of the scripted waypoint nearest the player, where a route abandoned part way should be continued
+     */
+    protected int navigateWithPlanner(List<Waypoint> waypoints) {
+        if (waypoints.isEmpty() || !pathPlanner.isConfident()) {
+            return 0;
+        }
+        Coordinate goal = waypoints.get(waypoints.size() - 1).getPosition();
+        boolean moved = false;
+        for (int attempt = 0; attempt < MAX_ROUTE_ATTEMPTS; attempt++) {
+            if (!script.isActive()) break;
+            guardianTracker.updateGuardianPositions(gardenArea);
+            LocalPlayer player = Client.getLocalPlayer();
+            if (player == null || !gardenArea.contains(player.getCoordinate())) {
+                break;
+            }
+            List<Coordinate> route = pathPlanner.plan(player.getCoordinate(), goal);
+            if (route == null) {
+                break;
+            }
+            if (pathNavigator.followRoute(route, gardenArea)) {
+                ScriptConsole.println("Reached " + gardenType.getDisplayName() + " tree along planned route");
+                return waypoints.size();
+            }
+            moved = true;
+        }
+        if (!moved) {
+            ScriptConsole.println("No planned route in " + gardenType.getDisplayName() + ", using scripted waypoints");
+            return 0;
+        }
+        int resumeFrom = nearestWaypoint(waypoints);
+        ScriptConsole.println("Planned route in " + gardenType.getDisplayName() + " abandoned, continuing from waypoint " + (resumeFrom + 1));
+        return resumeFrom;
+    }
+    
+    /**
+     * Index of the waypoint closest to the player, or 0 if the player can't be found
+     */
+    protected int nearestWaypoint(List<Waypoint> waypoints) {
+        LocalPlayer player = Client.getLocalPlayer();
+        if (player == null) {
+            return 0;
+        }
+        Coordinate position = player.getCoordinate();
+        int nearest = 0;
+        double nearestDistance = Double.MAX_VALUE;
+        for (int i = 0; i < waypoints.size(); i++) {
+            double distance = position.distanceTo(waypoints.get(i).getPosition());
+            // Ties go to the later waypoint, the player is further along the maze
+            if (distance <= nearestDistance) {
+                nearest = i;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
     }
     
     /**
@@ -189,6 +310,13 @@ public abstract class BaseGarden {
      */
     protected abstract List<Waypoint> getWaypoints();
     
+    /**
+     * Guardian requirements to wait for before walking to a waypoint (1-based), none by default
+     */
+    public List<GuardianRequirement> getGuardianRequirementsForWaypoint(int waypointIndex) {
+        return new ArrayList<>();
+    }
+    
     /**
      * Check if guardian is safe at a waypoint - to be implemented by subclasses
      */
@@ -243,6 +371,7 @@ public abstract class BaseGarden {
     }
     
     public void reset() {
+        abortRun();
         currentState = GardenState.IDLE;
         isCompleted = false;
         hasFailed = false;
@@ -265,6 +394,7 @@ public abstract class BaseGarden {
     }
     
     public void stop() {
+        abortRun();
         isStopped = true;
         currentState = GardenState.IDLE;
     }
@@ -1,20 +1,20 @@
 package net.botwithus.tasks.sorceressgarden.gardens;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.rs3.game.Area;
 import net.botwithus.rs3.game.Client;
 import net.botwithus.rs3.game.Coordinate;
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
 import net.botwithus.rs3.script.Execution;
 import net.botwithus.rs3.script.ScriptConsole;
+import net.botwithus.tasks.sorceressgarden.models.GardenRoute;
 import net.botwithus.tasks.sorceressgarden.models.GardenState;
 import net.botwithus.tasks.sorceressgarden.models.GardenType;
 import net.botwithus.tasks.sorceressgarden.models.GuardianRequirement;
@@ -92,6 +92,28 @@ public class SummerGarden extends BaseGarden {
     };
 
 
+    public static final GardenRoute ROUTE = new GardenRoute(
+        List.of(
+            WAYPOINT_1,
+            WAYPOINT_2,
+            WAYPOINT_3,
+            WAYPOINT_4,
+            WAYPOINT_5,
+            WAYPOINT_6,
+            WAYPOINT_7,
+            WAYPOINT_8,
+            WAYPOINT_9),
+        List.of(
+            GUARDIAN_REQUIREMENTS_WAYPOINT_1,
+            GUARDIAN_REQUIREMENTS_WAYPOINT_2,
+            GUARDIAN_REQUIREMENTS_WAYPOINT_3,
+            GUARDIAN_REQUIREMENTS_WAYPOINT_4,
+            GUARDIAN_REQUIREMENTS_WAYPOINT_5,
+            GUARDIAN_REQUIREMENTS_WAYPOINT_6,
+            GUARDIAN_REQUIREMENTS_WAYPOINT_7,
+            GUARDIAN_REQUIREMENTS_WAYPOINT_8,
+            GUARDIAN_REQUIREMENTS_WAYPOINT_9));
+
     public SummerGarden(CoaezUtility script) {
         super(script, GardenType.SUMMER, SUMMER_DOOR_ID, SUMMER_START, SUMMER_TREE, SUMMER_GUARDIAN_IDS, SUMMER_GARDEN_AREA);
     }
@@ -114,7 +136,7 @@ public class SummerGarden extends BaseGarden {
     @Override
     protected boolean enterGarden() {
         ScriptConsole.println("Attempting to enter Summer Garden through door ID: " + SUMMER_DOOR_ID);
-        EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery().id(SUMMER_DOOR_ID).option("Open").hidden(false).results();
+        EntityResultSet<SceneObject> results = GameQueries.sceneObjects().id(SUMMER_DOOR_ID).option("Open").hidden(false).results();
         if (!results.isEmpty()) {
             results.nearest().interact("Open");
         } else {
@@ -128,7 +150,9 @@ public class SummerGarden extends BaseGarden {
         ScriptConsole.println("Navigating to Summer Garden tree with guardian tracking");
         List<Waypoint> waypoints = getWaypoints();
         if (waypoints.isEmpty()) return false;
-        for (int i = 0; i < waypoints.size(); i++) {
+        int resumeFrom = navigateWithPlanner(waypoints);
+        if (resumeFrom >= waypoints.size()) return true;
+        for (int i = resumeFrom; i < waypoints.size(); i++) {
             if(!script.isActive()) break;
             if(!isInSummerGardenArea()) break;
             Waypoint waypoint = waypoints.get(i);
@@ -152,7 +176,7 @@ public class SummerGarden extends BaseGarden {
     @Override
     protected boolean harvestFruit() {
         ScriptConsole.println("Harvesting Summer sq'irk fruit");
-        EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery().name("Sq'irk tree").option("Pick-fruit").results();
+        EntityResultSet<SceneObject> results = GameQueries.sceneObjects().name("Sq'irk tree").option("Pick-fruit").results();
         if (!results.isEmpty()) {
             results.nearest().interact("Pick-fruit");
         }
@@ -259,23 +283,9 @@ public class SummerGarden extends BaseGarden {
         return guardianRequirements.length;
     }
 
+    @Override
     public List<GuardianRequirement> getGuardianRequirementsForWaypoint(int waypointIndex) {
-        GuardianRequirement[] guardianRequirements;
-        switch (waypointIndex) {
-            case 1 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_1;
-            case 2 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_2;
-            case 3 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_3;
-            case 4 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_4;
-            case 5 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_5;
-            case 6 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_6;
-            case 7 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_7;
-            case 8 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_8;
-            case 9 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_9;
-            default -> {
-                return new ArrayList<>();
-            }
-        }
-        return Arrays.asList(guardianRequirements);
+        return ROUTE.getRequirements(waypointIndex);
     }
 
     private boolean isInSummerGardenArea() {
@@ -1,20 +1,20 @@
 package net.botwithus.tasks.sorceressgarden.gardens;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import net.botwithus.CoaezUtility;
+import net.botwithus.GameQueries;
 import net.botwithus.api.game.hud.inventories.Backpack;
 import net.botwithus.rs3.game.Area;
 import net.botwithus.rs3.game.Client;
 import net.botwithus.rs3.game.Coordinate;
-import net.botwithus.rs3.game.queries.builders.objects.SceneObjectQuery;
 import net.botwithus.rs3.game.queries.results.EntityResultSet;
 import net.botwithus.rs3.game.scene.entities.characters.player.LocalPlayer;
 import net.botwithus.rs3.game.scene.entities.object.SceneObject;
 import net.botwithus.rs3.script.Execution;
 import net.botwithus.rs3.script.ScriptConsole;
+import net.botwithus.tasks.sorceressgarden.models.GardenRoute;
 import net.botwithus.tasks.sorceressgarden.models.GardenState;
 import net.botwithus.tasks.sorceressgarden.models.GardenType;
 import net.botwithus.tasks.sorceressgarden.models.GuardianRequirement;
@@ -103,6 +103,20 @@ public class WinterGarden extends BaseGarden {
         new GuardianRequirement(5558, 4.0)
     };
     
+    public static final GardenRoute ROUTE = new GardenRoute(
+        List.of(
+            WAYPOINT_1,
+            WAYPOINT_2,
+            WAYPOINT_3,
+            WAYPOINT_4,
+            WAYPOINT_5),
+        List.of(
+            GUARDIAN_REQUIREMENTS_WAYPOINT_1,
+            GUARDIAN_REQUIREMENTS_WAYPOINT_2,
+            GUARDIAN_REQUIREMENTS_WAYPOINT_3,
+            GUARDIAN_REQUIREMENTS_WAYPOINT_4,
+            GUARDIAN_REQUIREMENTS_WAYPOINT_5));
+
     public WinterGarden(CoaezUtility script) {
         super(script, GardenType.WINTER, WINTER_DOOR_ID, WINTER_START, WINTER_TREE, WINTER_GUARDIAN_IDS, WINTER_GARDEN_AREA);
     }
@@ -121,7 +135,7 @@ public class WinterGarden extends BaseGarden {
     @Override
     protected boolean enterGarden() {
         ScriptConsole.println("Attempting to enter Winter Garden through door ID: " + WINTER_DOOR_ID);
-        EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery().id(WINTER_DOOR_ID).option("Open").hidden(false).results();
+        EntityResultSet<SceneObject> results = GameQueries.sceneObjects().id(WINTER_DOOR_ID).option("Open").hidden(false).results();
         if (!results.isEmpty()) {
             results.nearest().interact("Open");
            
@@ -137,8 +151,10 @@ public class WinterGarden extends BaseGarden {
         
         List<Waypoint> waypoints = getWaypoints();
         if (waypoints.isEmpty()) return false;
+        int resumeFrom = navigateWithPlanner(waypoints);
+        if (resumeFrom >= waypoints.size()) return true;
         
-        for (int i = 0; i < waypoints.size(); i++) {
+        for (int i = resumeFrom; i < waypoints.size(); i++) {
             if(!script.isActive()) break;
             if(!isInWinterGardenArea()) break;
 
@@ -167,7 +183,7 @@ public class WinterGarden extends BaseGarden {
     @Override
     protected boolean harvestFruit() {
         ScriptConsole.println("Harvesting Winter sq'irk fruit");
-        EntityResultSet<SceneObject> results = SceneObjectQuery.newQuery().name("Sq'irk tree").option("Pick-fruit").results();
+        EntityResultSet<SceneObject> results = GameQueries.sceneObjects().name("Sq'irk tree").option("Pick-fruit").results();
         if (!results.isEmpty()) {
             results.nearest().interact("Pick-fruit");
         }
@@ -302,19 +318,9 @@ public class WinterGarden extends BaseGarden {
     /**
      * Get all guardian requirements for a specific waypoint
      */
+    @Override
     public List<GuardianRequirement> getGuardianRequirementsForWaypoint(int waypointIndex) {
-        GuardianRequirement[] guardianRequirements;
-        switch (waypointIndex) {
-            case 1 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_1;
-            case 2 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_2;
-            case 3 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_3;
-            case 4 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_4;
-            case 5 -> guardianRequirements = GUARDIAN_REQUIREMENTS_WAYPOINT_5;
-            default -> {
-                return new ArrayList<>();
-            }
-        }
-        return Arrays.asList(guardianRequirements);
+        return ROUTE.getRequirements(waypointIndex);
     }
     
     /**
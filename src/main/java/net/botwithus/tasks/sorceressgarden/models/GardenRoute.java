@@ -0,0 +1,55 @@
+package net.botwithus.tasks.sorceressgarden.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import net.botwithus.rs3.game.Coordinate;
+
+/**
+ * A garden's scripted waypoints and the guardian requirements to wait for before walking to each, as plain data.
+ * Each garden keeps one as a static constant, so runs can be replayed against it without a game client.
+ * Where a garden picks between neighbouring tiles for a waypoint at runtime, the route holds the base tile.
+ */
+public final class GardenRoute {
+    private final List<Coordinate> waypoints;
+    private final List<List<GuardianRequirement>> requirements;
+
+    /**
+     * @param requirements requirements for each waypoint, same order as waypoints
+     */
+    public GardenRoute(List<Coordinate> waypoints, List<GuardianRequirement[]> requirements) {
+        if (waypoints.size() != requirements.size()) {
+            throw new IllegalArgumentException("Expected requirements for each of " + waypoints.size() + " waypoints");
+        }
+        this.waypoints = List.copyOf(waypoints);
+        List<List<GuardianRequirement>> lists = new ArrayList<>(requirements.size());
+        for (GuardianRequirement[] waypointRequirements : requirements) {
+            lists.add(Collections.unmodifiableList(Arrays.asList(waypointRequirements)));
+        }
+        this.requirements = Collections.unmodifiableList(lists);
+    }
+
+    public List<Coordinate> getWaypoints() {
+        return waypoints;
+    }
+
+    /**
+     * Requirements of every waypoint, same order as getWaypoints
+     */
+    public List<List<GuardianRequirement>> getRequirements() {
+        return requirements;
+    }
+
+    /**
+     * @param waypointIndex 1-based, as the gardens number their waypoints
+     * @return the requirements, or an empty list for an unknown waypoint
+     */
+    public List<GuardianRequirement> getRequirements(int waypointIndex) {
+        if (waypointIndex < 1 || waypointIndex > requirements.size()) {
+            return new ArrayList<>();
+        }
+        return requirements.get(waypointIndex - 1);
+    }
+}
@@ -4,19 +4,25 @@ package net.botwithus.tasks.sorceressgarden.models;
  * Enum representing the four seasonal gardens in Sorceress's Garden
  */
 public enum GardenType {
-    WINTER("Winter Garden", 1, 5),
-    SPRING("Spring Garden", 25, 4),
-    SUMMER("Summer Garden", 65, 2),
-    AUTUMN("Autumn Garden", 45, 3);
+    WINTER("Winter Garden", 1, 5, "Winter sq'irk", "Winter sq'irkjuice", 350),
+    SPRING("Spring Garden", 25, 4, "Spring sq'irk", "Spring sq'irkjuice", 1350),
+    SUMMER("Summer Garden", 65, 2, "Summer sq'irk", "Summer sq'irkjuice", 3000),
+    AUTUMN("Autumn Garden", 45, 3, "Autumn sq'irk", "Autumn sq'irkjuice", 2350);
     
     private final String displayName;
     private final int requiredThievingLevel;
     private final int fruitsPerJuice;
+    private final String fruitName;
+    private final String juiceName;
+    private final int juiceXp;
     
-    GardenType(String displayName, int requiredThievingLevel, int fruitsPerJuice) {
+    GardenType(String displayName, int requiredThievingLevel, int fruitsPerJuice, String fruitName, String juiceName, int juiceXp) {
         this.displayName = displayName;
         this.requiredThievingLevel = requiredThievingLevel;
         this.fruitsPerJuice = fruitsPerJuice;
+        this.fruitName = fruitName;
+        this.juiceName = juiceName;
+        this.juiceXp = juiceXp;
     }
     
     public String getDisplayName() {
@@ -31,8 +37,23 @@ public enum GardenType {
         return fruitsPerJuice;
     }
     
+    public String getFruitName() {
+        return fruitName;
+    }
+    
+    public String getJuiceName() {
+        return juiceName;
+    }
+    
+    /**
+     * Thieving XP Osman gives for a glass of this garden's juice
+     */
+    public int getJuiceXp() {
+        return juiceXp;
+    }
+    
     @Override
     public String toString() {
         return displayName;
     }
-} 
\ No newline at end of file
+}
@@ -35,6 +35,13 @@ public class Guardian {
         this.lastUpdateTime = System.currentTimeMillis();
     }
     
+    /**
+     * Record that the guardian was seen this update without it having moved
+     */
+    public void markSeen() {
+        this.lastUpdateTime = System.currentTimeMillis();
+    }
+    
     public long getLastUpdateTime() {
         return lastUpdateTime;
     }